@@ -1,31 +1,102 @@
 package com.splendor.project.config;
 
+import com.splendor.project.domain.game.codec.GameSessionRedisSerializer;
 import com.splendor.project.domain.game.entity.GameSession;
+import com.splendor.project.domain.game.repository.GameStateInvalidation;
+import com.splendor.project.domain.game.repository.GameStateInvalidationListener;
+import com.splendor.project.domain.game.service.GameStaticDataLoader;
+import com.splendor.project.global.cluster.BroadcastBridge;
+import com.splendor.project.global.cluster.NodeIdentity;
+import com.splendor.project.global.cluster.RoomActionForwarder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+/**
+ * Redis 저장소 설정. splendor.store=memory 이면 프로세스 내 저장소(InMemory*Repository)를 사용하므로 등록하지 않습니다.
+ */
 @Configuration
+@ConditionalOnProperty(name = "splendor.store", havingValue = "redis", matchIfMissing = true)
 public class RedisConfig {
 
     /**
-     * GameSession 객체를 JSON으로 직렬화하여 Redis에 저장하는 Template 설정
+     * GameSession 객체를 바이너리로 직렬화하여 Redis에 저장하는 Template 설정
      */
     @Bean
-    public RedisTemplate<String, GameSession> gameSessionRedisTemplate(RedisConnectionFactory connectionFactory) {
+    public RedisTemplate<String, GameSession> gameSessionRedisTemplate(RedisConnectionFactory connectionFactory,
+                                                                       GameStaticDataLoader staticDataLoader) {
         RedisTemplate<String, GameSession> template = new RedisTemplate<>();
         template.setConnectionFactory(connectionFactory);
 
         // Key는 String으로 저장 (예: "game:1")
         template.setKeySerializer(new StringRedisSerializer());
 
-        // Value는 JSON으로 저장 (GameSession 객체 통째로)
-        // GenericJackson2JsonRedisSerializer를 사용하면 객체 타입 정보를 포함하여 저장/복원
-        template.setValueSerializer(new GenericJackson2JsonRedisSerializer());
+        // Value는 버전이 붙은 바이너리 포맷으로 저장 (카드는 카탈로그 id만 기록)
+        template.setValueSerializer(new GameSessionRedisSerializer(staticDataLoader));
 
         return template;
     }
+
+    /**
+     * GameStateCodec으로 인코딩된 게임 상태(byte[])를 그대로 저장하는 Template 설정
+     */
+    @Bean
+    public RedisTemplate<String, byte[]> gameStateRedisTemplate(RedisConnectionFactory connectionFactory) {
+        RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+
+        // Key는 String으로 저장 (예: "game-state:1"), Hash 필드(state, pending)도 String
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(RedisSerializer.byteArray());
+        template.setHashKeySerializer(new StringRedisSerializer());
+        template.setHashValueSerializer(RedisSerializer.byteArray());
+
+        return template;
+    }
+
+    /**
+     * 논블로킹 액션 경로(splendor.game.pipeline=reactive)에서 게임 상태 스크립트를 실행하는 Template 설정
+     */
+    @Bean
+    @ConditionalOnProperty(name = "splendor.game.pipeline", havingValue = "reactive")
+    public ReactiveRedisTemplate<String, byte[]> reactiveGameStateRedisTemplate(ReactiveRedisConnectionFactory connectionFactory) {
+        RedisSerializationContext<String, byte[]> serializationContext = RedisSerializationContext
+                .<String, byte[]>newSerializationContext(new StringRedisSerializer())
+                .value(RedisSerializer.byteArray())
+                .hashKey(new StringRedisSerializer())
+                .hashValue(RedisSerializer.byteArray())
+                .build();
+        return new ReactiveRedisTemplate<>(connectionFactory, serializationContext);
+    }
+
+    /**
+     * 다른 노드의 게임 상태 변경 알림(game-state-invalidation)을 받아 로컬 캐시를 무효화하는 구독 설정
+     * 방 소유 노드 샤딩을 켜면 이 노드로 전달된 방 액션(room-actions:{노드 id})도 구독합니다.
+     * 브로드캐스트 브리지를 켜면 다른 노드의 /topic 메시지 배치(room-broadcast)도 구독합니다.
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                       GameStateInvalidationListener invalidationListener,
+                                                                       ObjectProvider<RoomActionForwarder> roomActionForwarder,
+                                                                       ObjectProvider<BroadcastBridge> broadcastBridge,
+                                                                       NodeIdentity nodeIdentity) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(invalidationListener, new ChannelTopic(GameStateInvalidation.CHANNEL));
+        roomActionForwarder.ifAvailable(forwarder ->
+                container.addMessageListener(forwarder, new ChannelTopic(RoomActionForwarder.channelOf(nodeIdentity.getId()))));
+        broadcastBridge.ifAvailable(bridge ->
+                container.addMessageListener(bridge, new ChannelTopic(BroadcastBridge.CHANNEL)));
+        return container;
+    }
 }
@@ -1,19 +1,72 @@
 package com.splendor.project.config;
 
+import com.splendor.project.domain.game.codec.GameWireCodec;
+import com.splendor.project.global.cluster.BroadcastBridge;
+import com.splendor.project.global.cluster.RoomActionForwarder;
+import com.splendor.project.global.drain.DrainingActionGuard;
+import com.splendor.project.global.drain.WebSocketSessionRegistry;
+import com.splendor.project.global.ratelimit.InboundRateLimiter;
+import com.splendor.project.global.wire.BinaryWireMessageConverter;
+import com.splendor.project.global.wire.WireFormatNegotiator;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.messaging.converter.MessageConverter;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+
+import java.util.List;
 
 @Configuration
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    // spring.threads.virtual.enabled=true 이면 STOMP 수신/발신 채널도 가상 스레드에서 처리 (기본: 크기가 정해진 플랫폼 스레드 풀)
+    private final boolean virtualThreads;
+    // splendor.cluster.sharding.enabled=true 이면 다른 노드가 소유한 방의 액션을 소유 노드로 전달
+    private final ObjectProvider<RoomActionForwarder> roomActionForwarder;
+    // splendor.broadcast.bridge.enabled=true 이면 /topic 메시지를 다른 노드의 구독자에게도 전달
+    private final ObjectProvider<BroadcastBridge> broadcastBridge;
+    // splendor.ratelimit.enabled=false 가 아니면 자주 보내는 게임 메시지를 세션/방 단위로 제한
+    private final ObjectProvider<InboundRateLimiter> inboundRateLimiter;
+    // 노드 drain 때 연결된 세션을 닫기 위해 세션 목록을 유지
+    private final WebSocketSessionRegistry sessionRegistry;
+    // 노드 drain을 시작하면 이 노드에서 처리할 방 액션을 받지 않음
+    private final DrainingActionGuard drainingActionGuard;
+    // CONNECT에서 바이너리 본문을 고른 세션에는 GameWireCodec 포맷으로 보냄 (기본 JSON)
+    private final WireFormatNegotiator wireFormatNegotiator;
+    private final GameWireCodec gameWireCodec;
+
+    public WebSocketConfig(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+                           ObjectProvider<RoomActionForwarder> roomActionForwarder,
+                           ObjectProvider<BroadcastBridge> broadcastBridge,
+                           ObjectProvider<InboundRateLimiter> inboundRateLimiter,
+                           WebSocketSessionRegistry sessionRegistry,
+                           DrainingActionGuard drainingActionGuard,
+                           WireFormatNegotiator wireFormatNegotiator,
+                           GameWireCodec gameWireCodec) {
+        this.virtualThreads = virtualThreads;
+        this.roomActionForwarder = roomActionForwarder;
+        this.broadcastBridge = broadcastBridge;
+        this.inboundRateLimiter = inboundRateLimiter;
+        this.sessionRegistry = sessionRegistry;
+        this.drainingActionGuard = drainingActionGuard;
+        this.wireFormatNegotiator = wireFormatNegotiator;
+        this.gameWireCodec = gameWireCodec;
+    }
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
         // 클라이언트가 구독할 때 사용하는 접두사 (서버 -> 클라이언트 메시지)
-        config.enableSimpleBroker("/topic");
+        // /queue는 세션 하나에만 보내는 user destination용 (/user/queue/... 구독 -> /queue/...-user{세션 id})
+        config.enableSimpleBroker("/topic", "/queue");
+        // 로컬 구독자는 simple broker가 바로 처리하고, 브리지는 같은 메시지를 방 단위로 모아 다른 노드에 발행
+        broadcastBridge.ifAvailable(config.configureBrokerChannel()::interceptors);
         // 클라이언트가 서버로 메시지를 보낼 때 사용하는 접두사 (클라이언트 -> 서버 액션)
         config.setApplicationDestinationPrefixes("/app");
     }
@@ -23,4 +76,38 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         // 클라이언트가 연결할 STOMP 엔드포인트
         registry.addEndpoint("/ws-connect").setAllowedOriginPatterns("*");
     }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.addDecoratorFactory(sessionRegistry);
+    }
+
+    @Override
+    public boolean configureMessageConverters(List<MessageConverter> messageConverters) {
+        // 바이너리로 보낼 때만 변환하고, 나머지는 기본 컨버터(JSON 등)가 처리
+        messageConverters.add(new BinaryWireMessageConverter(gameWireCodec, wireFormatNegotiator));
+        return true;
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        // 제한을 먼저 적용해, 넘친 메시지는 소유 노드로 전달하지도 않음
+        inboundRateLimiter.ifAvailable(registration::interceptors);
+        registration.interceptors(wireFormatNegotiator);
+        roomActionForwarder.ifAvailable(registration::interceptors);
+        // 전달 뒤에 적용해, drain 중에도 다른 노드가 소유한 방의 액션은 그 노드로 전달
+        registration.interceptors(drainingActionGuard);
+        if (virtualThreads) {
+            // 메시지마다 가상 스레드 하나. Redis 응답을 기다리는 동안 캐리어 스레드를 놓아주므로 풀 크기 조정이 필요 없음
+            registration.executor(new VirtualThreadTaskExecutor("stomp-inbound-"));
+        }
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.interceptors(wireFormatNegotiator);
+        if (virtualThreads) {
+            registration.executor(new VirtualThreadTaskExecutor("stomp-outbound-"));
+        }
+    }
 }
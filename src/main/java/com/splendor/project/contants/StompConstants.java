@@ -7,6 +7,12 @@ public final class StompConstants {
 
     public static final String TOPIC_ROOM_SPECIFIC_PREFIX = "/topic/rooms/";
 
+    // 클라이언트가 붙이는 액션 id (재전송된 같은 액션을 한 번만 처리하기 위한 STOMP 헤더, 선택)
+    public static final String ACTION_ID_HEADER = "action-id";
+
+    // 클라이언트가 CONNECT에 붙이는 받을 본문 포맷 (WireFormat.BINARY 이면 바이너리, 없으면 JSON)
+    public static final String ACCEPT_CONTENT_TYPE_HEADER = "accept-content-type";
+
 
 
 
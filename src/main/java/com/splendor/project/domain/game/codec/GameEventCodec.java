@@ -0,0 +1,85 @@
+package com.splendor.project.domain.game.codec;
+
+import com.splendor.project.domain.data.GemType;
+import com.splendor.project.domain.game.event.GameEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * GameEvent <-> 바이너리 변환기. 이벤트 로그에 한 건씩 저장되므로 몇 바이트 수준으로 유지합니다.
+ *
+ * [포맷 버전(1byte)][이벤트 타입(1byte)][좌석(varint)][타입별 본문]
+ * - TOKENS_TAKEN    : 보석 개수 맵
+ * - CARD_PURCHASED  : 카드(카탈로그 id) + 지불 보석 개수 맵
+ * - TOKEN_DISCARDED : 보석 ordinal(1byte)
+ * - TURN_ENDED      : 없음
+ */
+@Component
+@RequiredArgsConstructor
+public class GameEventCodec {
+
+    public static final int FORMAT_VERSION = 1;
+
+    private static final int TOKENS_TAKEN = 1;
+    private static final int CARD_PURCHASED = 2;
+    private static final int TOKEN_DISCARDED = 3;
+    private static final int TURN_ENDED = 4;
+
+    private static final GemType[] GEMS = GemType.values();
+
+    private final GameStateCodec gameStateCodec;
+
+    public byte[] encode(GameEvent event) {
+        BinaryWriter writer = new BinaryWriter(16);
+        writer.writeByte(FORMAT_VERSION);
+
+        switch (event) {
+            case GameEvent.TokensTaken tokensTaken -> {
+                writeHeader(writer, TOKENS_TAKEN, event);
+                GameStateCodec.writeGemCounts(writer, tokensTaken.tokens());
+            }
+            case GameEvent.CardPurchased cardPurchased -> {
+                writeHeader(writer, CARD_PURCHASED, event);
+                gameStateCodec.writeCard(writer, cardPurchased.card());
+                GameStateCodec.writeGemCounts(writer, cardPurchased.payment());
+            }
+            case GameEvent.TokenDiscarded tokenDiscarded -> {
+                writeHeader(writer, TOKEN_DISCARDED, event);
+                writer.writeByte(tokenDiscarded.gem().ordinal());
+            }
+            case GameEvent.TurnEnded turnEnded -> writeHeader(writer, TURN_ENDED, event);
+        }
+        return writer.toByteArray();
+    }
+
+    public GameEvent decode(byte[] bytes) {
+        BinaryReader reader = new BinaryReader(bytes);
+        int version = reader.readByte();
+        if (version != FORMAT_VERSION) {
+            throw new IllegalStateException("지원하지 않는 게임 이벤트 포맷 버전입니다: " + version);
+        }
+
+        int type = reader.readByte();
+        int seat = reader.readUnsignedVarInt();
+        return switch (type) {
+            case TOKENS_TAKEN -> new GameEvent.TokensTaken(seat, gemCounts(reader));
+            case CARD_PURCHASED -> new GameEvent.CardPurchased(seat, gameStateCodec.readCard(reader), gemCounts(reader));
+            case TOKEN_DISCARDED -> new GameEvent.TokenDiscarded(seat, GEMS[reader.readByte()]);
+            case TURN_ENDED -> new GameEvent.TurnEnded(seat);
+            default -> throw new IllegalStateException("알 수 없는 게임 이벤트 타입입니다: " + type);
+        };
+    }
+
+    private void writeHeader(BinaryWriter writer, int type, GameEvent event) {
+        writer.writeByte(type);
+        writer.writeUnsignedVarInt(event.seat());
+    }
+
+    private Map<GemType, Integer> gemCounts(BinaryReader reader) {
+        Map<GemType, Integer> counts = GameStateCodec.readGemCounts(reader);
+        return counts == null ? new EnumMap<>(GemType.class) : counts;
+    }
+}
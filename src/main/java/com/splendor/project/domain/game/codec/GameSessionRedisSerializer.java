@@ -0,0 +1,154 @@
+package com.splendor.project.domain.game.codec;
+
+import com.splendor.project.domain.data.entity.StaticCard;
+import com.splendor.project.domain.game.entity.GameSession;
+import com.splendor.project.domain.game.entity.GemType;
+import com.splendor.project.domain.game.entity.PlayerState;
+import com.splendor.project.domain.game.service.GameStaticDataLoader;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * GameSession 전용 바이너리 RedisSerializer. (기존 GenericJackson2JsonRedisSerializer 대체)
+ * 구매한 카드는 카탈로그 id로만 기록합니다.
+ */
+@RequiredArgsConstructor
+public class GameSessionRedisSerializer implements RedisSerializer<GameSession> {
+
+    public static final int FORMAT_VERSION = 1;
+
+    private static final GemType[] GEMS = GemType.values();
+    private static final int CATALOG_CARD = 1;
+    private static final int INLINE_CARD = 0;
+
+    private final GameStaticDataLoader staticDataLoader;
+
+    @Override
+    public byte[] serialize(GameSession gameSession) throws SerializationException {
+        if (gameSession == null) {
+            return null;
+        }
+        BinaryWriter writer = new BinaryWriter(128);
+        writer.writeByte(FORMAT_VERSION);
+        writer.writeVarLong(gameSession.getRoomId() == null ? -1 : gameSession.getRoomId());
+        writer.writeString(gameSession.getCurrentPlayerId());
+
+        writer.writeUnsignedVarInt(gameSession.getPlayers().size());
+        for (PlayerState player : gameSession.getPlayers().values()) {
+            writer.writeString(player.getPlayerId());
+            writer.writeString(player.getNickname());
+            writeTokens(writer, player.getTokens());
+
+            writer.writeUnsignedVarInt(player.getPurchasedCards().size());
+            for (StaticCard card : player.getPurchasedCards()) {
+                writeCard(writer, card);
+            }
+        }
+        return writer.toByteArray();
+    }
+
+    @Override
+    public GameSession deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        BinaryReader reader = new BinaryReader(bytes);
+        int version = reader.readByte();
+        if (version != FORMAT_VERSION) {
+            throw new SerializationException("지원하지 않는 GameSession 포맷 버전입니다: " + version);
+        }
+
+        long roomId = reader.readVarLong();
+        GameSession gameSession = new GameSession(roomId < 0 ? null : roomId);
+        gameSession.setCurrentPlayerId(reader.readString());
+
+        int playerCount = reader.readUnsignedVarInt();
+        for (int i = 0; i < playerCount; i++) {
+            String playerId = reader.readString();
+            String nickname = reader.readString();
+            Map<GemType, Integer> tokens = readTokens(reader);
+
+            int cardCount = reader.readUnsignedVarInt();
+            List<StaticCard> purchasedCards = new ArrayList<>(cardCount);
+            for (int c = 0; c < cardCount; c++) {
+                purchasedCards.add(readCard(reader));
+            }
+            gameSession.addPlayer(new PlayerState(playerId, nickname, tokens, purchasedCards));
+        }
+        return gameSession;
+    }
+
+    private void writeTokens(BinaryWriter writer, Map<GemType, Integer> tokens) {
+        writer.writeUnsignedVarInt(tokens.size());
+        for (Map.Entry<GemType, Integer> entry : tokens.entrySet()) {
+            writer.writeByte(entry.getKey().ordinal());
+            writer.writeVarInt(entry.getValue());
+        }
+    }
+
+    private Map<GemType, Integer> readTokens(BinaryReader reader) {
+        int size = reader.readUnsignedVarInt();
+        Map<GemType, Integer> tokens = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            tokens.put(GEMS[reader.readByte()], reader.readVarInt());
+        }
+        return tokens;
+    }
+
+    private void writeCard(BinaryWriter writer, StaticCard card) {
+        if (isCatalogCard(card)) {
+            writer.writeByte(CATALOG_CARD);
+            writer.writeUnsignedVarInt(card.getId().intValue());
+            return;
+        }
+        writer.writeByte(INLINE_CARD);
+        writer.writeVarLong(card.getId() == null ? -1 : card.getId());
+        writer.writeVarInt(card.getLevel());
+        writer.writeVarInt(card.getPoints());
+        writer.writeString(card.getBonusGem());
+        writer.writeVarInt(card.getCostRuby());
+        writer.writeVarInt(card.getCostSapphire());
+        writer.writeVarInt(card.getCostEmerald());
+        writer.writeVarInt(card.getCostOnyx());
+        writer.writeVarInt(card.getCostDiamond());
+    }
+
+    private StaticCard readCard(BinaryReader reader) {
+        if (reader.readByte() == CATALOG_CARD) {
+            int cardId = reader.readUnsignedVarInt();
+            // 카탈로그 카드(domain.data.StaticCard)는 이 파일이 쓰는 JPA 엔티티와 이름이 같아 타입을 추론으로 받음
+            var catalogCard = staticDataLoader.getCard(cardId);
+            if (catalogCard == null) {
+                throw new IllegalStateException("카탈로그에 없는 카드 id 입니다: " + cardId);
+            }
+            return new StaticCard((long) catalogCard.id(), catalogCard.level(), catalogCard.points(), catalogCard.bonusGem().name(),
+                    catalogCard.costRuby(), catalogCard.costSapphire(), catalogCard.costEmerald(), catalogCard.costOnyx(), catalogCard.costDiamond());
+        }
+        long id = reader.readVarLong();
+        return new StaticCard(id < 0 ? null : id, reader.readVarInt(), reader.readVarInt(), reader.readString(),
+                reader.readVarInt(), reader.readVarInt(), reader.readVarInt(), reader.readVarInt(), reader.readVarInt());
+    }
+
+    // JPA 카드 엔티티가 카탈로그 카드와 완전히 같을 때만 id 참조로 기록
+    private boolean isCatalogCard(StaticCard card) {
+        if (card.getId() == null || card.getId() <= 0 || card.getId() > Integer.MAX_VALUE) {
+            return false;
+        }
+        var catalogCard = staticDataLoader.getCard(card.getId().intValue());
+        return catalogCard != null
+                && catalogCard.level() == card.getLevel()
+                && catalogCard.points() == card.getPoints()
+                && catalogCard.bonusGem().name().equals(card.getBonusGem())
+                && catalogCard.costDiamond() == card.getCostDiamond()
+                && catalogCard.costSapphire() == card.getCostSapphire()
+                && catalogCard.costEmerald() == card.getCostEmerald()
+                && catalogCard.costRuby() == card.getCostRuby()
+                && catalogCard.costOnyx() == card.getCostOnyx();
+    }
+}
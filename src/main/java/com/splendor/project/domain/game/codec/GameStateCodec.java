@@ -0,0 +1,563 @@
+package com.splendor.project.domain.game.codec;
+
+import com.splendor.project.domain.data.GemType;
+import com.splendor.project.domain.data.StaticCard;
+import com.splendor.project.domain.data.StaticNoble;
+import com.splendor.project.domain.game.dto.response.BoardStateDto;
+import com.splendor.project.domain.game.dto.response.GamePlayerDto;
+import com.splendor.project.domain.game.dto.response.GameStateDto;
+import com.splendor.project.domain.game.dto.response.PendingTurnDto;
+import com.splendor.project.domain.game.dto.response.PlayerStateDto;
+import com.splendor.project.domain.game.entity.GameStatus;
+import com.splendor.project.domain.game.service.GameStaticDataLoader;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import static com.splendor.project.domain.game.codec.GameStateSections.*;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * GameStateDto <-> 버전이 붙은 바이너리 포맷 변환기.
+ *
+ * - 카드/귀족은 GameStaticDataLoader 카탈로그 id로만 기록 (카탈로그와 다르면 전체 필드를 inline 기록)
+ * - 보석 개수 맵은 존재 여부 비트마스크 + varint
+ * - currentPlayer / winner / startingPlayerId 는 플레이어 좌석(인덱스)으로 기록
+ *
+ * 포맷 버전
+ * - 1: 최초 포맷
+ * - 2: gameId 다음에 상태 version(varlong) 추가 (1 포맷은 version 0으로 읽음)
+ *
+ * 스냅샷은 encodeSections()로 구역(GameStateSections)별로 나누어 기록할 수 있으며, 구역마다 앞에 포맷 버전이 붙습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class GameStateCodec {
+
+    public static final int FORMAT_VERSION = 2;
+    private static final int MIN_FORMAT_VERSION = 1;
+    // 구역별 스냅샷은 포맷 2부터 도입
+    private static final int MIN_SECTION_FORMAT_VERSION = 2;
+
+    private static final GemType[] GEMS = GemType.values();
+    private static final GameStatus[] STATUSES = GameStatus.values();
+
+    static final int NULL_MARKER = 0xFF;
+    static final int INLINE_MARKER = 0xFE;
+    private static final int INLINE_ID = 0;
+
+    // 구역별 스냅샷의 Redis Hash 필드 이름
+    public static final String META_SECTION = "meta";
+    public static final String BOARD_SECTION = "board";
+    public static final String TOKENS_SECTION = "tokens";
+    private static final String PLAYER_SECTION_PREFIX = "player:";
+
+    private final GameStaticDataLoader staticDataLoader;
+
+    public byte[] encode(GameStateDto gameStateDto) {
+        BinaryWriter writer = new BinaryWriter(256);
+        writer.writeByte(FORMAT_VERSION);
+        writeGameState(writer, gameStateDto);
+        return writer.toByteArray();
+    }
+
+    public GameStateDto decode(byte[] bytes) {
+        BinaryReader reader = new BinaryReader(bytes);
+        int version = reader.readByte();
+        if (version < MIN_FORMAT_VERSION || version > FORMAT_VERSION) {
+            throw new IllegalStateException("지원하지 않는 게임 상태 포맷 버전입니다: " + version);
+        }
+        return readGameState(reader, version);
+    }
+
+    // 턴의 임시 선택 상태는 게임 상태와 별도 필드로 저장되므로 따로 인코딩
+    public byte[] encodePendingTurn(PendingTurnDto pendingTurn) {
+        BinaryWriter writer = new BinaryWriter(32);
+        writer.writeByte(FORMAT_VERSION);
+        writer.writeVarLong(pendingTurn.getRoomId() == null ? -1 : pendingTurn.getRoomId());
+        writer.writeString(pendingTurn.getPlayerId());
+        writeGemCounts(writer, pendingTurn.getTokensToTake());
+        writer.writeUnsignedVarInt(pendingTurn.getCardIdToBuy() == null ? 0 : pendingTurn.getCardIdToBuy() + 1);
+        return writer.toByteArray();
+    }
+
+    public PendingTurnDto decodePendingTurn(byte[] bytes) {
+        BinaryReader reader = new BinaryReader(bytes);
+        int version = reader.readByte();
+        if (version < MIN_FORMAT_VERSION || version > FORMAT_VERSION) {
+            throw new IllegalStateException("지원하지 않는 선택 상태 포맷 버전입니다: " + version);
+        }
+        long roomId = reader.readVarLong();
+        String playerId = reader.readString();
+        Map<GemType, Integer> tokensToTake = readGemCounts(reader);
+        int cardId = reader.readUnsignedVarInt();
+        return new PendingTurnDto(roomId < 0 ? null : roomId, playerId,
+                tokensToTake == null ? new EnumMap<>(GemType.class) : tokensToTake,
+                cardId == 0 ? null : cardId - 1);
+    }
+
+    // =================================================================
+    // 구역별 스냅샷
+    // =================================================================
+
+    /**
+     * sections에 포함된 구역만 인코딩합니다. (Hash 필드 이름 -> 값)
+     * 플레이어 구역은 좌석마다 "player:{seat}" 필드로 기록됩니다.
+     */
+    public Map<String, byte[]> encodeSections(GameStateDto gameStateDto, int sections) {
+        Map<String, byte[]> encoded = new LinkedHashMap<>();
+        List<PlayerStateDto> players = gameStateDto.getPlayerStateDto();
+
+        if (contains(sections, META)) {
+            BinaryWriter writer = sectionWriter(32);
+            writer.writeVarLong(gameStateDto.getGameId() == null ? -1 : gameStateDto.getGameId());
+            writer.writeByte(gameStateDto.getGameStatus() == null ? NULL_MARKER : gameStateDto.getGameStatus().ordinal());
+            writer.writeByte(gameStateDto.isFinalRound() ? 1 : 0);
+            writer.writeUnsignedVarInt(players == null ? 0 : players.size() + 1);
+            writePlayerRef(writer, players, gameStateDto.getCurrentPlayer());
+            writePlayerRef(writer, players, gameStateDto.getWinner());
+            writePlayerIdRef(writer, players, gameStateDto.getStartingPlayerId());
+            encoded.put(META_SECTION, writer.toByteArray());
+        }
+
+        BoardStateDto board = gameStateDto.getBoardStateDto();
+        if (contains(sections, BOARD)) {
+            BinaryWriter writer = sectionWriter(128);
+            writer.writeByte(board == null ? 0 : 1);
+            if (board != null) {
+                writeCardsAndNobles(writer, board);
+            }
+            encoded.put(BOARD_SECTION, writer.toByteArray());
+        }
+        if (contains(sections, TOKENS)) {
+            BinaryWriter writer = sectionWriter(16);
+            writeGemCounts(writer, board == null ? null : board.getAvailableTokens());
+            encoded.put(TOKENS_SECTION, writer.toByteArray());
+        }
+
+        if (players != null) {
+            for (int seat = 0; seat < players.size(); seat++) {
+                if (contains(sections, player(seat))) {
+                    BinaryWriter writer = sectionWriter(48);
+                    writePlayer(writer, players.get(seat));
+                    encoded.put(playerSection(seat), writer.toByteArray());
+                }
+            }
+        }
+        return encoded;
+    }
+
+    /**
+     * 모든 구역이 기록된 Hash 필드로부터 게임 상태를 복원합니다.
+     * 구역마다 기록 시점이 다르므로 version은 담지 않으며, 호출한 쪽에서 스냅샷 version을 설정해야 합니다.
+     */
+    public GameStateDto decodeSections(Map<String, byte[]> sections) {
+        GameStateDto gameStateDto = new GameStateDto();
+
+        BinaryReader meta = sectionReader(sections, META_SECTION);
+        long gameId = meta.readVarLong();
+        gameStateDto.setGameId(gameId < 0 ? null : gameId);
+        int status = meta.readByte();
+        gameStateDto.setGameStatus(status == NULL_MARKER ? null : STATUSES[status]);
+        gameStateDto.setFinalRound(meta.readByte() == 1);
+
+        int playerCount = meta.readUnsignedVarInt();
+        List<PlayerStateDto> players = null;
+        if (playerCount > 0) {
+            players = new ArrayList<>(playerCount - 1);
+            for (int seat = 0; seat < playerCount - 1; seat++) {
+                players.add(readPlayer(sectionReader(sections, playerSection(seat))));
+            }
+        }
+        gameStateDto.setPlayerStateDto(players);
+
+        gameStateDto.setCurrentPlayer(readPlayerRef(meta, players));
+        gameStateDto.setWinner(readPlayerRef(meta, players));
+        gameStateDto.setStartingPlayerId(readPlayerIdRef(meta, players));
+
+        BinaryReader board = sectionReader(sections, BOARD_SECTION);
+        if (board.readByte() == 1) {
+            BoardStateDto boardStateDto = readCardsAndNobles(board);
+            boardStateDto.setAvailableTokens(readGemCounts(sectionReader(sections, TOKENS_SECTION)));
+            gameStateDto.setBoardStateDto(boardStateDto);
+        }
+        return gameStateDto;
+    }
+
+    public static String playerSection(int seat) {
+        return PLAYER_SECTION_PREFIX + seat;
+    }
+
+    private BinaryWriter sectionWriter(int initialCapacity) {
+        BinaryWriter writer = new BinaryWriter(initialCapacity);
+        writer.writeByte(FORMAT_VERSION);
+        return writer;
+    }
+
+    private BinaryReader sectionReader(Map<String, byte[]> sections, String field) {
+        byte[] bytes = sections.get(field);
+        if (bytes == null) {
+            throw new IllegalStateException("스냅샷 구역이 없습니다: " + field);
+        }
+        BinaryReader reader = new BinaryReader(bytes);
+        int version = reader.readByte();
+        if (version < MIN_SECTION_FORMAT_VERSION || version > FORMAT_VERSION) {
+            throw new IllegalStateException("지원하지 않는 스냅샷 구역 포맷 버전입니다: " + version);
+        }
+        return reader;
+    }
+
+    // =================================================================
+    // 게임 상태
+    // =================================================================
+
+    void writeGameState(BinaryWriter writer, GameStateDto gameStateDto) {
+        List<PlayerStateDto> players = gameStateDto.getPlayerStateDto();
+
+        writer.writeVarLong(gameStateDto.getGameId() == null ? -1 : gameStateDto.getGameId());
+        writer.writeVarLong(gameStateDto.getVersion());
+        writer.writeByte(gameStateDto.getGameStatus() == null ? NULL_MARKER : gameStateDto.getGameStatus().ordinal());
+        writer.writeByte(gameStateDto.isFinalRound() ? 1 : 0);
+
+        if (players == null) {
+            writer.writeUnsignedVarInt(0);
+        } else {
+            writer.writeUnsignedVarInt(players.size() + 1);
+            for (PlayerStateDto player : players) {
+                writePlayer(writer, player);
+            }
+        }
+
+        writePlayerRef(writer, players, gameStateDto.getCurrentPlayer());
+        writePlayerRef(writer, players, gameStateDto.getWinner());
+        writePlayerIdRef(writer, players, gameStateDto.getStartingPlayerId());
+
+        writeBoard(writer, gameStateDto.getBoardStateDto());
+    }
+
+    GameStateDto readGameState(BinaryReader reader, int formatVersion) {
+        GameStateDto gameStateDto = new GameStateDto();
+
+        long gameId = reader.readVarLong();
+        gameStateDto.setGameId(gameId < 0 ? null : gameId);
+        if (formatVersion >= 2) {
+            gameStateDto.setVersion(reader.readVarLong());
+        }
+        int status = reader.readByte();
+        gameStateDto.setGameStatus(status == NULL_MARKER ? null : STATUSES[status]);
+        gameStateDto.setFinalRound(reader.readByte() == 1);
+
+        int playerCount = reader.readUnsignedVarInt();
+        List<PlayerStateDto> players = null;
+        if (playerCount > 0) {
+            players = new ArrayList<>(playerCount - 1);
+            for (int i = 0; i < playerCount - 1; i++) {
+                players.add(readPlayer(reader));
+            }
+        }
+        gameStateDto.setPlayerStateDto(players);
+
+        gameStateDto.setCurrentPlayer(readPlayerRef(reader, players));
+        gameStateDto.setWinner(readPlayerRef(reader, players));
+        gameStateDto.setStartingPlayerId(readPlayerIdRef(reader, players));
+
+        gameStateDto.setBoardStateDto(readBoard(reader));
+        return gameStateDto;
+    }
+
+    // =================================================================
+    // 플레이어
+    // =================================================================
+
+    void writePlayer(BinaryWriter writer, PlayerStateDto player) {
+        GamePlayerDto gamePlayer = player.getPlayer();
+        writer.writeByte(gamePlayer == null ? 0 : 1);
+        if (gamePlayer != null) {
+            writer.writeString(gamePlayer.getPlayerName());
+            writer.writeString(gamePlayer.getPlayerId());
+        }
+        writer.writeVarInt(player.getScore());
+        writeGemCounts(writer, player.getTokens());
+        writeGemCounts(writer, player.getBonuses());
+        writer.writeVarInt(player.getPurchasedCardCount());
+        writer.writeVarInt(player.getNobleCount());
+        writer.writeVarInt(player.getTurnOrder());
+    }
+
+    PlayerStateDto readPlayer(BinaryReader reader) {
+        GamePlayerDto gamePlayer = null;
+        if (reader.readByte() == 1) {
+            gamePlayer = new GamePlayerDto(reader.readString(), reader.readString());
+        }
+        int score = reader.readVarInt();
+        Map<GemType, Integer> tokens = readGemCounts(reader);
+        Map<GemType, Integer> bonuses = readGemCounts(reader);
+        int purchasedCardCount = reader.readVarInt();
+        int nobleCount = reader.readVarInt();
+        int turnOrder = reader.readVarInt();
+        return new PlayerStateDto(gamePlayer, score, tokens, bonuses, purchasedCardCount, nobleCount, turnOrder);
+    }
+
+    // 좌석 인덱스로 기록하고, 목록에 없는 플레이어만 inline 기록
+    private void writePlayerRef(BinaryWriter writer, List<PlayerStateDto> players, GamePlayerDto gamePlayer) {
+        if (gamePlayer == null) {
+            writer.writeByte(NULL_MARKER);
+            return;
+        }
+        int seat = seatOf(players, gamePlayer.getPlayerId());
+        if (seat >= 0 && gamePlayer.equals(players.get(seat).getPlayer())) {
+            writer.writeByte(seat);
+            return;
+        }
+        writer.writeByte(INLINE_MARKER);
+        writer.writeString(gamePlayer.getPlayerName());
+        writer.writeString(gamePlayer.getPlayerId());
+    }
+
+    private GamePlayerDto readPlayerRef(BinaryReader reader, List<PlayerStateDto> players) {
+        int seat = reader.readByte();
+        if (seat == NULL_MARKER) {
+            return null;
+        }
+        if (seat == INLINE_MARKER) {
+            return new GamePlayerDto(reader.readString(), reader.readString());
+        }
+        GamePlayerDto seated = players.get(seat).getPlayer();
+        // 상태 간 공유 참조를 피하기 위해 복사본을 반환
+        return new GamePlayerDto(seated.getPlayerName(), seated.getPlayerId());
+    }
+
+    private void writePlayerIdRef(BinaryWriter writer, List<PlayerStateDto> players, String playerId) {
+        if (playerId == null) {
+            writer.writeByte(NULL_MARKER);
+            return;
+        }
+        int seat = seatOf(players, playerId);
+        if (seat >= 0) {
+            writer.writeByte(seat);
+            return;
+        }
+        writer.writeByte(INLINE_MARKER);
+        writer.writeString(playerId);
+    }
+
+    private String readPlayerIdRef(BinaryReader reader, List<PlayerStateDto> players) {
+        int seat = reader.readByte();
+        if (seat == NULL_MARKER) {
+            return null;
+        }
+        if (seat == INLINE_MARKER) {
+            return reader.readString();
+        }
+        return players.get(seat).getPlayer().getPlayerId();
+    }
+
+    private int seatOf(List<PlayerStateDto> players, String playerId) {
+        if (players == null || playerId == null || players.size() >= INLINE_MARKER) {
+            return -1;
+        }
+        for (int i = 0; i < players.size(); i++) {
+            GamePlayerDto seated = players.get(i).getPlayer();
+            if (seated != null && playerId.equals(seated.getPlayerId())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // =================================================================
+    // 보드
+    // =================================================================
+
+    void writeBoard(BinaryWriter writer, BoardStateDto board) {
+        if (board == null) {
+            writer.writeByte(0);
+            return;
+        }
+        writer.writeByte(1);
+        writeCardsAndNobles(writer, board);
+        writeGemCounts(writer, board.getAvailableTokens());
+    }
+
+    BoardStateDto readBoard(BinaryReader reader) {
+        if (reader.readByte() == 0) {
+            return null;
+        }
+        BoardStateDto board = readCardsAndNobles(reader);
+        board.setAvailableTokens(readGemCounts(reader));
+        return board;
+    }
+
+    private void writeCardsAndNobles(BinaryWriter writer, BoardStateDto board) {
+        List<List<StaticCard>> cards = board.getCards();
+        if (cards == null) {
+            writer.writeUnsignedVarInt(0);
+        } else {
+            writer.writeUnsignedVarInt(cards.size() + 1);
+            for (List<StaticCard> levelCards : cards) {
+                writeCards(writer, levelCards);
+            }
+        }
+
+        List<StaticNoble> nobles = board.getNobles();
+        if (nobles == null) {
+            writer.writeUnsignedVarInt(0);
+        } else {
+            writer.writeUnsignedVarInt(nobles.size() + 1);
+            for (StaticNoble noble : nobles) {
+                writeNoble(writer, noble);
+            }
+        }
+    }
+
+    // 남은 토큰은 비워 둔 보드를 반환 (호출한 쪽에서 채움)
+    private BoardStateDto readCardsAndNobles(BinaryReader reader) {
+        int levelCount = reader.readUnsignedVarInt();
+        List<List<StaticCard>> cards = null;
+        if (levelCount > 0) {
+            cards = new ArrayList<>(levelCount - 1);
+            for (int i = 0; i < levelCount - 1; i++) {
+                cards.add(readCards(reader));
+            }
+        }
+
+        int nobleCount = reader.readUnsignedVarInt();
+        List<StaticNoble> nobles = null;
+        if (nobleCount > 0) {
+            nobles = new ArrayList<>(nobleCount - 1);
+            for (int i = 0; i < nobleCount - 1; i++) {
+                nobles.add(readNoble(reader));
+            }
+        }
+
+        return new BoardStateDto(cards, nobles, null);
+    }
+
+    void writeCards(BinaryWriter writer, List<StaticCard> cards) {
+        if (cards == null) {
+            writer.writeUnsignedVarInt(0);
+            return;
+        }
+        writer.writeUnsignedVarInt(cards.size() + 1);
+        for (StaticCard card : cards) {
+            writeCard(writer, card);
+        }
+    }
+
+    List<StaticCard> readCards(BinaryReader reader) {
+        int count = reader.readUnsignedVarInt();
+        if (count == 0) {
+            return null;
+        }
+        List<StaticCard> cards = new ArrayList<>(count - 1);
+        for (int i = 0; i < count - 1; i++) {
+            cards.add(readCard(reader));
+        }
+        return cards;
+    }
+
+    // 카탈로그와 동일한 카드는 id만, 그렇지 않으면 0 + 전체 필드
+    void writeCard(BinaryWriter writer, StaticCard card) {
+        if (card.id() > INLINE_ID && card.equals(staticDataLoader.getCard(card.id()))) {
+            writer.writeUnsignedVarInt(card.id());
+            return;
+        }
+        writer.writeUnsignedVarInt(INLINE_ID);
+        writer.writeVarInt(card.id());
+        writer.writeVarInt(card.level());
+        writer.writeVarInt(card.points());
+        writer.writeByte(card.bonusGem() == null ? NULL_MARKER : card.bonusGem().ordinal());
+        writer.writeVarInt(card.costDiamond());
+        writer.writeVarInt(card.costSapphire());
+        writer.writeVarInt(card.costEmerald());
+        writer.writeVarInt(card.costRuby());
+        writer.writeVarInt(card.costOnyx());
+    }
+
+    StaticCard readCard(BinaryReader reader) {
+        int id = reader.readUnsignedVarInt();
+        if (id != INLINE_ID) {
+            StaticCard card = staticDataLoader.getCard(id);
+            if (card == null) {
+                throw new IllegalStateException("카탈로그에 없는 카드 id 입니다: " + id);
+            }
+            return card;
+        }
+        int cardId = reader.readVarInt();
+        int level = reader.readVarInt();
+        int points = reader.readVarInt();
+        int bonus = reader.readByte();
+        return new StaticCard(cardId, level, points, bonus == NULL_MARKER ? null : GEMS[bonus],
+                reader.readVarInt(), reader.readVarInt(), reader.readVarInt(), reader.readVarInt(), reader.readVarInt());
+    }
+
+    void writeNoble(BinaryWriter writer, StaticNoble noble) {
+        if (noble.id() > INLINE_ID && noble.equals(staticDataLoader.getNoble(noble.id()))) {
+            writer.writeUnsignedVarInt(noble.id());
+            return;
+        }
+        writer.writeUnsignedVarInt(INLINE_ID);
+        writer.writeVarInt(noble.id());
+        writer.writeVarInt(noble.points());
+        writer.writeVarInt(noble.costDiamond());
+        writer.writeVarInt(noble.costSapphire());
+        writer.writeVarInt(noble.costEmerald());
+        writer.writeVarInt(noble.costRuby());
+        writer.writeVarInt(noble.costOnyx());
+    }
+
+    StaticNoble readNoble(BinaryReader reader) {
+        int id = reader.readUnsignedVarInt();
+        if (id != INLINE_ID) {
+            StaticNoble noble = staticDataLoader.getNoble(id);
+            if (noble == null) {
+                throw new IllegalStateException("카탈로그에 없는 귀족 타일 id 입니다: " + id);
+            }
+            return noble;
+        }
+        return new StaticNoble(reader.readVarInt(), reader.readVarInt(),
+                reader.readVarInt(), reader.readVarInt(), reader.readVarInt(), reader.readVarInt(), reader.readVarInt());
+    }
+
+    // =================================================================
+    // 보석 개수 맵: [존재 비트마스크(1byte)] + 존재하는 보석만 varint
+    // =================================================================
+
+    public static void writeGemCounts(BinaryWriter writer, Map<GemType, Integer> counts) {
+        if (counts == null) {
+            writer.writeByte(NULL_MARKER);
+            return;
+        }
+        int mask = 0;
+        for (GemType gem : GEMS) {
+            if (counts.get(gem) != null) {
+                mask |= 1 << gem.ordinal();
+            }
+        }
+        writer.writeByte(mask);
+        for (GemType gem : GEMS) {
+            Integer count = counts.get(gem);
+            if (count != null) {
+                writer.writeVarInt(count);
+            }
+        }
+    }
+
+    public static Map<GemType, Integer> readGemCounts(BinaryReader reader) {
+        int mask = reader.readByte();
+        if (mask == NULL_MARKER) {
+            return null;
+        }
+        Map<GemType, Integer> counts = new EnumMap<>(GemType.class);
+        for (GemType gem : GEMS) {
+            if ((mask & (1 << gem.ordinal())) != 0) {
+                counts.put(gem, reader.readVarInt());
+            }
+        }
+        return counts;
+    }
+}
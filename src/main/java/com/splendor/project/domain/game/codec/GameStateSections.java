@@ -0,0 +1,31 @@
+package com.splendor.project.domain.game.codec;
+
+/**
+ * 스냅샷을 나누어 저장하는 구역의 비트마스크.
+ * 이벤트가 바꾼 구역만 dirty로 표시해 두었다가 스냅샷 때 해당 구역만 다시 기록합니다.
+ *
+ * - META   : 현재 플레이어, 게임 상태, 최종 라운드 여부, 승자
+ * - BOARD  : 보드 카드 / 귀족 목록
+ * - TOKENS : 보드의 남은 토큰
+ * - PLAYER : 좌석별 플레이어 상태 (좌석마다 비트 하나)
+ */
+public final class GameStateSections {
+
+    public static final int META = 1;
+    public static final int BOARD = 1 << 1;
+    public static final int TOKENS = 1 << 2;
+    public static final int ALL = -1;
+
+    private static final int PLAYER_SHIFT = 3;
+
+    private GameStateSections() {
+    }
+
+    public static int player(int seat) {
+        return 1 << (PLAYER_SHIFT + seat);
+    }
+
+    public static boolean contains(int sections, int section) {
+        return (sections & section) != 0;
+    }
+}
@@ -0,0 +1,530 @@
+package com.splendor.project.domain.game.codec;
+
+import com.splendor.project.domain.data.GemType;
+import com.splendor.project.domain.data.StaticCard;
+import com.splendor.project.domain.data.StaticNoble;
+import com.splendor.project.domain.game.dto.response.GamePlayerDto;
+import com.splendor.project.domain.game.dto.response.GameStateDeltaDto;
+import com.splendor.project.domain.game.dto.response.GameStateDto;
+import com.splendor.project.domain.game.dto.response.PlayerStateDeltaDto;
+import com.splendor.project.domain.game.dto.response.ResponseTokenDto;
+import com.splendor.project.domain.game.dto.response.SelectionActivityDto;
+import com.splendor.project.domain.game.dto.response.SelectionCardStateDto;
+import com.splendor.project.domain.game.dto.response.WebSocketResponse;
+import com.splendor.project.domain.game.entity.GameStatus;
+import com.splendor.project.domain.player.dto.PlayerDto;
+import com.splendor.project.domain.room.dto.response.ResponseRoomDto;
+import com.splendor.project.domain.room.dto.response.ResponseRoomsDto;
+import com.splendor.project.domain.room.entity.RoomStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.splendor.project.domain.game.codec.GameStateCodec.NULL_MARKER;
+
+/**
+ * STOMP 메시지 본문의 바이너리 포맷 (클라이언트가 CONNECT에서 고른 경우, JSON 대신 사용)
+ *
+ * [포맷 버전(1byte)] + 값. 값은 [타입 태그(1byte)] + 타입별 필드입니다.
+ * - GameStateDto는 GameStateCodec과 같은 레이아웃 (카드/귀족은 카탈로그 id, 플레이어 참조는 좌석)
+ * - GameStateDeltaDto는 있는 필드의 비트마스크 + 해당 필드만 (카탈로그 id 목록 포함)
+ * - 보석 개수 맵은 존재 비트마스크 + varint. delta의 보석 맵은 바뀐 보석 비트마스크 + 없어진 보석 비트마스크 + 값
+ *
+ * 스키마가 없는 본문은 supports()가 false이며 JSON으로 보냅니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class GameWireCodec {
+
+    public static final int FORMAT_VERSION = 1;
+
+    private static final int NULL = 0;
+    private static final int RESPONSE = 1;
+    private static final int GAME_STATE = 2;
+    private static final int GAME_STATE_DELTA = 3;
+    private static final int TOKENS = 4;
+    private static final int CARD_SELECTION = 5;
+    private static final int INTEGER = 6;
+    private static final int ROOMS = 7;
+    private static final int ROOM = 8;
+    private static final int SELECTION_ACTIVITY = 9;
+
+    // WebSocketResponse.status (목록에 없는 값은 OTHER_STATUS + 문자열)
+    private static final List<String> STATUSES = List.of("SUCCESS", "ERROR", "QUEUED", "RECONNECT");
+    private static final int OTHER_STATUS = 0xFF;
+
+    private static final Set<Class<?>> TYPES = Set.of(WebSocketResponse.class, GameStateDto.class, GameStateDeltaDto.class,
+            ResponseTokenDto.class, SelectionCardStateDto.class, Integer.class, ResponseRoomDto.class,
+            SelectionActivityDto.class);
+
+    private static final GemType[] GEMS = GemType.values();
+    private static final GameStatus[] GAME_STATUSES = GameStatus.values();
+    private static final RoomStatus[] ROOM_STATUSES = RoomStatus.values();
+    private static final GameStateDeltaDto.Type[] DELTA_TYPES = GameStateDeltaDto.Type.values();
+    private static final SelectionActivityDto.Kind[] SELECTION_KINDS = SelectionActivityDto.Kind.values();
+
+    private final GameStateCodec gameStateCodec;
+
+    /**
+     * 본문 전체(WebSocketResponse의 data, 방 목록의 원소 포함)를 바이너리로 쓸 수 있는지
+     */
+    public boolean supports(Object value) {
+        if (value == null) {
+            return true;
+        }
+        if (value instanceof WebSocketResponse<?> response) {
+            return supports(response.getData());
+        }
+        if (value instanceof List<?> list) {
+            return list.stream().allMatch(ResponseRoomsDto.class::isInstance);
+        }
+        return TYPES.contains(value.getClass());
+    }
+
+    // 디코딩 대상 타입 (메시지 컨버터의 fromMessage)
+    public boolean supports(Class<?> type) {
+        return TYPES.contains(type) || List.class.isAssignableFrom(type);
+    }
+
+    public byte[] encode(Object value) {
+        BinaryWriter writer = new BinaryWriter(256);
+        writer.writeByte(FORMAT_VERSION);
+        writeValue(writer, value);
+        return writer.toByteArray();
+    }
+
+    public Object decode(byte[] bytes) {
+        BinaryReader reader = new BinaryReader(bytes);
+        int version = reader.readByte();
+        if (version != FORMAT_VERSION) {
+            throw new IllegalStateException("지원하지 않는 메시지 포맷 버전입니다: " + version);
+        }
+        return readValue(reader);
+    }
+
+    // =================================================================
+    // 값 (타입 태그 + 필드)
+    // =================================================================
+
+    private void writeValue(BinaryWriter writer, Object value) {
+        switch (value) {
+            case null -> writer.writeByte(NULL);
+            case WebSocketResponse<?> response -> {
+                writer.writeByte(RESPONSE);
+                int status = STATUSES.indexOf(response.getStatus());
+                writer.writeByte(status < 0 ? OTHER_STATUS : status);
+                if (status < 0) {
+                    writer.writeString(response.getStatus());
+                }
+                writer.writeString(response.getMessage());
+                writeValue(writer, response.getData());
+            }
+            case GameStateDto gameStateDto -> {
+                writer.writeByte(GAME_STATE);
+                gameStateCodec.writeGameState(writer, gameStateDto);
+            }
+            case GameStateDeltaDto delta -> {
+                writer.writeByte(GAME_STATE_DELTA);
+                writeDelta(writer, delta);
+            }
+            case ResponseTokenDto tokens -> {
+                writer.writeByte(TOKENS);
+                GameStateCodec.writeGemCounts(writer, tokens.getToken());
+            }
+            case SelectionCardStateDto selection -> {
+                writer.writeByte(CARD_SELECTION);
+                writer.writeVarLong(selection.getRoomId() == null ? -1 : selection.getRoomId());
+                writer.writeString(selection.getPlayerId());
+                writer.writeUnsignedVarInt(selection.getCardIdToBuy() == null ? 0 : selection.getCardIdToBuy() + 1);
+            }
+            case SelectionActivityDto activity -> {
+                writer.writeByte(SELECTION_ACTIVITY);
+                writer.writeString(activity.getPlayerId());
+                writer.writeByte(activity.getKind() == null ? NULL_MARKER : activity.getKind().ordinal());
+                writer.writeVarInt(activity.getSelections());
+            }
+            case Integer number -> {
+                writer.writeByte(INTEGER);
+                writer.writeVarInt(number);
+            }
+            case List<?> rooms -> {
+                writer.writeByte(ROOMS);
+                writer.writeUnsignedVarInt(rooms.size());
+                for (Object room : rooms) {
+                    ResponseRoomsDto dto = (ResponseRoomsDto) room;
+                    writeRoom(writer, dto.getRoomName(), dto.getRoomId(), dto.getRoomStatus(), dto.getHostName(),
+                            dto.getPlayerCount(), dto.getPlayers());
+                }
+            }
+            case ResponseRoomDto room -> {
+                writer.writeByte(ROOM);
+                writeRoom(writer, room.getRoomName(), room.getRoomId(), room.getRoomStatus(), room.getHostName(),
+                        room.getPlayerCount(), room.getPlayers());
+                writer.writeString(room.getPlayerId());
+            }
+            default -> throw new IllegalArgumentException("바이너리 스키마가 없는 본문입니다: " + value.getClass().getName());
+        }
+    }
+
+    private Object readValue(BinaryReader reader) {
+        int tag = reader.readByte();
+        return switch (tag) {
+            case NULL -> null;
+            case RESPONSE -> {
+                int status = reader.readByte();
+                String statusName = status == OTHER_STATUS ? reader.readString() : STATUSES.get(status);
+                String message = reader.readString();
+                yield new WebSocketResponse<>(statusName, readValue(reader), message);
+            }
+            case GAME_STATE -> gameStateCodec.readGameState(reader, GameStateCodec.FORMAT_VERSION);
+            case GAME_STATE_DELTA -> readDelta(reader);
+            case TOKENS -> new ResponseTokenDto(GameStateCodec.readGemCounts(reader));
+            case CARD_SELECTION -> {
+                long roomId = reader.readVarLong();
+                String playerId = reader.readString();
+                int cardId = reader.readUnsignedVarInt();
+                yield new SelectionCardStateDto(roomId < 0 ? null : roomId, playerId, cardId == 0 ? null : cardId - 1);
+            }
+            case SELECTION_ACTIVITY -> {
+                String playerId = reader.readString();
+                int kind = reader.readByte();
+                yield new SelectionActivityDto(playerId, kind == NULL_MARKER ? null : SELECTION_KINDS[kind], reader.readVarInt());
+            }
+            case INTEGER -> reader.readVarInt();
+            case ROOMS -> {
+                int count = reader.readUnsignedVarInt();
+                List<ResponseRoomsDto> rooms = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    rooms.add(new ResponseRoomsDto(reader.readString(), readNullableLong(reader), readRoomStatus(reader),
+                            reader.readString(), reader.readVarInt(), readRoomPlayers(reader)));
+                }
+                yield rooms;
+            }
+            case ROOM -> new ResponseRoomDto(reader.readString(), readNullableLong(reader), readRoomStatus(reader),
+                    reader.readString(), reader.readVarInt(), readRoomPlayers(reader), reader.readString());
+            default -> throw new IllegalStateException("알 수 없는 메시지 타입입니다: " + tag);
+        };
+    }
+
+    // =================================================================
+    // GameStateDeltaDto: [type][gameId][version][baseVersion][필드 비트마스크] + 있는 필드
+    // =================================================================
+
+    private static final int SNAPSHOT_FIELD = 1;
+    private static final int AVAILABLE_TOKENS_FIELD = 1 << 1;
+    private static final int CARDS_FIELD = 1 << 2;
+    private static final int NOBLES_FIELD = 1 << 3;
+    private static final int PLAYERS_FIELD = 1 << 4;
+    private static final int CURRENT_PLAYER_FIELD = 1 << 5;
+    private static final int GAME_STATUS_FIELD = 1 << 6;
+    private static final int WINNER_FIELD = 1 << 7;
+    private static final int FINAL_ROUND_FIELD = 1 << 8;
+    private static final int CATALOG_VERSION_FIELD = 1 << 9;
+    private static final int CARD_IDS_FIELD = 1 << 10;
+    private static final int NOBLE_IDS_FIELD = 1 << 11;
+
+    private void writeDelta(BinaryWriter writer, GameStateDeltaDto delta) {
+        writer.writeByte(delta.getType().ordinal());
+        writer.writeVarLong(delta.getGameId() == null ? -1 : delta.getGameId());
+        writer.writeVarLong(delta.getVersion());
+        writer.writeVarLong(delta.getBaseVersion() == null ? -1 : delta.getBaseVersion());
+
+        int fields = (delta.getSnapshot() != null ? SNAPSHOT_FIELD : 0)
+                | (delta.getAvailableTokens() != null ? AVAILABLE_TOKENS_FIELD : 0)
+                | (delta.getCards() != null ? CARDS_FIELD : 0)
+                | (delta.getNobles() != null ? NOBLES_FIELD : 0)
+                | (delta.getPlayers() != null ? PLAYERS_FIELD : 0)
+                | (delta.getCurrentPlayer() != null ? CURRENT_PLAYER_FIELD : 0)
+                | (delta.getGameStatus() != null ? GAME_STATUS_FIELD : 0)
+                | (delta.getWinner() != null ? WINNER_FIELD : 0)
+                | (delta.getFinalRound() != null ? FINAL_ROUND_FIELD : 0)
+                | (delta.getCatalogVersion() != null ? CATALOG_VERSION_FIELD : 0)
+                | (delta.getCardIds() != null ? CARD_IDS_FIELD : 0)
+                | (delta.getNobleIds() != null ? NOBLE_IDS_FIELD : 0);
+        writer.writeUnsignedVarInt(fields);
+
+        if (delta.getSnapshot() != null) {
+            gameStateCodec.writeGameState(writer, delta.getSnapshot());
+        }
+        if (delta.getAvailableTokens() != null) {
+            writeGemChanges(writer, delta.getAvailableTokens());
+        }
+        if (delta.getCards() != null) {
+            writer.writeUnsignedVarInt(delta.getCards().size());
+            delta.getCards().forEach((level, row) -> {
+                writer.writeUnsignedVarInt(level);
+                gameStateCodec.writeCards(writer, row);
+            });
+        }
+        if (delta.getNobles() != null) {
+            writer.writeUnsignedVarInt(delta.getNobles().size());
+            for (StaticNoble noble : delta.getNobles()) {
+                gameStateCodec.writeNoble(writer, noble);
+            }
+        }
+        if (delta.getPlayers() != null) {
+            writer.writeUnsignedVarInt(delta.getPlayers().size());
+            for (PlayerStateDeltaDto player : delta.getPlayers()) {
+                writePlayerDelta(writer, player);
+            }
+        }
+        if (delta.getCurrentPlayer() != null) {
+            writeGamePlayer(writer, delta.getCurrentPlayer());
+        }
+        if (delta.getGameStatus() != null) {
+            writer.writeByte(delta.getGameStatus().ordinal());
+        }
+        if (delta.getWinner() != null) {
+            writeGamePlayer(writer, delta.getWinner());
+        }
+        if (delta.getFinalRound() != null) {
+            writer.writeByte(delta.getFinalRound() ? 1 : 0);
+        }
+        if (delta.getCatalogVersion() != null) {
+            writer.writeString(delta.getCatalogVersion());
+        }
+        if (delta.getCardIds() != null) {
+            writer.writeUnsignedVarInt(delta.getCardIds().size());
+            delta.getCardIds().forEach((level, ids) -> {
+                writer.writeUnsignedVarInt(level);
+                writeIds(writer, ids);
+            });
+        }
+        if (delta.getNobleIds() != null) {
+            writeIds(writer, delta.getNobleIds());
+        }
+    }
+
+    private GameStateDeltaDto readDelta(BinaryReader reader) {
+        GameStateDeltaDto delta = new GameStateDeltaDto();
+        delta.setType(DELTA_TYPES[reader.readByte()]);
+        delta.setGameId(readNullableLong(reader));
+        delta.setVersion(reader.readVarLong());
+        delta.setBaseVersion(readNullableLong(reader));
+
+        int fields = reader.readUnsignedVarInt();
+        if ((fields & SNAPSHOT_FIELD) != 0) {
+            delta.setSnapshot(gameStateCodec.readGameState(reader, GameStateCodec.FORMAT_VERSION));
+        }
+        if ((fields & AVAILABLE_TOKENS_FIELD) != 0) {
+            delta.setAvailableTokens(readGemChanges(reader));
+        }
+        if ((fields & CARDS_FIELD) != 0) {
+            int count = reader.readUnsignedVarInt();
+            Map<Integer, List<StaticCard>> cards = new HashMap<>();
+            for (int i = 0; i < count; i++) {
+                int level = reader.readUnsignedVarInt();
+                cards.put(level, gameStateCodec.readCards(reader));
+            }
+            delta.setCards(cards);
+        }
+        if ((fields & NOBLES_FIELD) != 0) {
+            int count = reader.readUnsignedVarInt();
+            List<StaticNoble> nobles = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                nobles.add(gameStateCodec.readNoble(reader));
+            }
+            delta.setNobles(nobles);
+        }
+        if ((fields & PLAYERS_FIELD) != 0) {
+            int count = reader.readUnsignedVarInt();
+            List<PlayerStateDeltaDto> players = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                players.add(readPlayerDelta(reader));
+            }
+            delta.setPlayers(players);
+        }
+        if ((fields & CURRENT_PLAYER_FIELD) != 0) {
+            delta.setCurrentPlayer(readGamePlayer(reader));
+        }
+        if ((fields & GAME_STATUS_FIELD) != 0) {
+            delta.setGameStatus(GAME_STATUSES[reader.readByte()]);
+        }
+        if ((fields & WINNER_FIELD) != 0) {
+            delta.setWinner(readGamePlayer(reader));
+        }
+        if ((fields & FINAL_ROUND_FIELD) != 0) {
+            delta.setFinalRound(reader.readByte() == 1);
+        }
+        if ((fields & CATALOG_VERSION_FIELD) != 0) {
+            delta.setCatalogVersion(reader.readString());
+        }
+        if ((fields & CARD_IDS_FIELD) != 0) {
+            int count = reader.readUnsignedVarInt();
+            Map<Integer, List<Integer>> cardIds = new HashMap<>();
+            for (int i = 0; i < count; i++) {
+                int level = reader.readUnsignedVarInt();
+                cardIds.put(level, readIds(reader));
+            }
+            delta.setCardIds(cardIds);
+        }
+        if ((fields & NOBLE_IDS_FIELD) != 0) {
+            delta.setNobleIds(readIds(reader));
+        }
+        return delta;
+    }
+
+    // 플레이어 변경분: [좌석][필드 비트마스크] + 있는 필드
+    private static final int SCORE_FIELD = 1;
+    private static final int TOKENS_FIELD = 1 << 1;
+    private static final int BONUSES_FIELD = 1 << 2;
+    private static final int PURCHASED_CARD_COUNT_FIELD = 1 << 3;
+    private static final int NOBLE_COUNT_FIELD = 1 << 4;
+
+    private void writePlayerDelta(BinaryWriter writer, PlayerStateDeltaDto player) {
+        writer.writeUnsignedVarInt(player.getSeat());
+        int fields = (player.getScore() != null ? SCORE_FIELD : 0)
+                | (player.getTokens() != null ? TOKENS_FIELD : 0)
+                | (player.getBonuses() != null ? BONUSES_FIELD : 0)
+                | (player.getPurchasedCardCount() != null ? PURCHASED_CARD_COUNT_FIELD : 0)
+                | (player.getNobleCount() != null ? NOBLE_COUNT_FIELD : 0);
+        writer.writeByte(fields);
+        if (player.getScore() != null) {
+            writer.writeVarInt(player.getScore());
+        }
+        if (player.getTokens() != null) {
+            writeGemChanges(writer, player.getTokens());
+        }
+        if (player.getBonuses() != null) {
+            writeGemChanges(writer, player.getBonuses());
+        }
+        if (player.getPurchasedCardCount() != null) {
+            writer.writeVarInt(player.getPurchasedCardCount());
+        }
+        if (player.getNobleCount() != null) {
+            writer.writeVarInt(player.getNobleCount());
+        }
+    }
+
+    private PlayerStateDeltaDto readPlayerDelta(BinaryReader reader) {
+        PlayerStateDeltaDto player = new PlayerStateDeltaDto(reader.readUnsignedVarInt());
+        int fields = reader.readByte();
+        if ((fields & SCORE_FIELD) != 0) {
+            player.setScore(reader.readVarInt());
+        }
+        if ((fields & TOKENS_FIELD) != 0) {
+            player.setTokens(readGemChanges(reader));
+        }
+        if ((fields & BONUSES_FIELD) != 0) {
+            player.setBonuses(readGemChanges(reader));
+        }
+        if ((fields & PURCHASED_CARD_COUNT_FIELD) != 0) {
+            player.setPurchasedCardCount(reader.readVarInt());
+        }
+        if ((fields & NOBLE_COUNT_FIELD) != 0) {
+            player.setNobleCount(reader.readVarInt());
+        }
+        return player;
+    }
+
+    // 바뀐 보석 맵: [바뀐 보석 비트마스크][없어진 보석 비트마스크] + 남아 있는 보석의 값
+    private static void writeGemChanges(BinaryWriter writer, Map<GemType, Integer> changes) {
+        int changed = 0;
+        int removed = 0;
+        for (GemType gem : GEMS) {
+            if (changes.containsKey(gem)) {
+                changed |= 1 << gem.ordinal();
+                if (changes.get(gem) == null) {
+                    removed |= 1 << gem.ordinal();
+                }
+            }
+        }
+        writer.writeByte(changed);
+        writer.writeByte(removed);
+        for (GemType gem : GEMS) {
+            Integer count = changes.get(gem);
+            if (count != null) {
+                writer.writeVarInt(count);
+            }
+        }
+    }
+
+    private static Map<GemType, Integer> readGemChanges(BinaryReader reader) {
+        int changed = reader.readByte();
+        int removed = reader.readByte();
+        Map<GemType, Integer> changes = new EnumMap<>(GemType.class);
+        for (GemType gem : GEMS) {
+            int bit = 1 << gem.ordinal();
+            if ((changed & bit) != 0) {
+                changes.put(gem, (removed & bit) != 0 ? null : reader.readVarInt());
+            }
+        }
+        return changes;
+    }
+
+    // =================================================================
+    // 공통 필드
+    // =================================================================
+
+    private static void writeGamePlayer(BinaryWriter writer, GamePlayerDto player) {
+        writer.writeString(player.getPlayerName());
+        writer.writeString(player.getPlayerId());
+    }
+
+    private static GamePlayerDto readGamePlayer(BinaryReader reader) {
+        return new GamePlayerDto(reader.readString(), reader.readString());
+    }
+
+    private static void writeRoom(BinaryWriter writer, String roomName, Long roomId, RoomStatus roomStatus,
+                                  String hostName, int playerCount, List<PlayerDto> players) {
+        writer.writeString(roomName);
+        writer.writeVarLong(roomId == null ? -1 : roomId);
+        writer.writeByte(roomStatus == null ? NULL_MARKER : roomStatus.ordinal());
+        writer.writeString(hostName);
+        writer.writeVarInt(playerCount);
+        if (players == null) {
+            writer.writeUnsignedVarInt(0);
+            return;
+        }
+        writer.writeUnsignedVarInt(players.size() + 1);
+        for (PlayerDto player : players) {
+            writer.writeString(player.getNickname());
+            writer.writeByte(player.isReady() ? 1 : 0);
+        }
+    }
+
+    // 카탈로그 id 목록: [개수] + id
+    private static void writeIds(BinaryWriter writer, List<Integer> ids) {
+        writer.writeUnsignedVarInt(ids.size());
+        for (int id : ids) {
+            writer.writeUnsignedVarInt(id);
+        }
+    }
+
+    private static List<Integer> readIds(BinaryReader reader) {
+        int count = reader.readUnsignedVarInt();
+        List<Integer> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ids.add(reader.readUnsignedVarInt());
+        }
+        return ids;
+    }
+
+    private static RoomStatus readRoomStatus(BinaryReader reader) {
+        int status = reader.readByte();
+        return status == NULL_MARKER ? null : ROOM_STATUSES[status];
+    }
+
+    private static List<PlayerDto> readRoomPlayers(BinaryReader reader) {
+        int count = reader.readUnsignedVarInt();
+        if (count == 0) {
+            return null;
+        }
+        List<PlayerDto> players = new ArrayList<>(count - 1);
+        for (int i = 0; i < count - 1; i++) {
+            players.add(new PlayerDto(reader.readString(), reader.readByte() == 1));
+        }
+        return players;
+    }
+
+    private static Long readNullableLong(BinaryReader reader) {
+        long value = reader.readVarLong();
+        return value < 0 ? null : value;
+    }
+}
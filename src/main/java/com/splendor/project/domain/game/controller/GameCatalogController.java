@@ -0,0 +1,34 @@
+package com.splendor.project.domain.game.controller;
+
+import com.splendor.project.domain.game.dto.response.GameCatalogDto;
+import com.splendor.project.domain.game.service.GameStaticDataLoader;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+
+/**
+ * 카드/귀족 카탈로그. 시작할 때 한 번 만든 정적 데이터라 버전(ETag)이 바뀌지 않는 한 클라이언트는 캐시한 카탈로그를 씁니다.
+ * If-None-Match가 현재 버전과 같으면 본문 없이 304로 응답합니다.
+ */
+@RestController
+@RequiredArgsConstructor
+public class GameCatalogController {
+
+    private static final Duration MAX_AGE = Duration.ofDays(1);
+
+    private final GameStaticDataLoader staticDataLoader;
+
+    @GetMapping("/api/catalog")
+    public ResponseEntity<GameCatalogDto> catalog() {
+        GameCatalogDto catalog = new GameCatalogDto(staticDataLoader.getCatalogVersion(),
+                staticDataLoader.getAllCards(), staticDataLoader.getAllNobles());
+        return ResponseEntity.ok()
+                .eTag(catalog.getVersion())
+                .cacheControl(CacheControl.maxAge(MAX_AGE).cachePublic())
+                .body(catalog);
+    }
+}
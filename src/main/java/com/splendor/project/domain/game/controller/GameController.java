@@ -1,5 +1,6 @@
 package com.splendor.project.domain.game.controller;
 
+import com.splendor.project.contants.StompConstants;
 import com.splendor.project.domain.data.GemType;
 import com.splendor.project.domain.game.dto.request.DiscardTokenRequestDto;
 import com.splendor.project.domain.game.dto.request.SelectCardRequestDto;
@@ -7,34 +8,70 @@ import com.splendor.project.domain.game.dto.request.SelectTokenRequestDto;
 import com.splendor.project.domain.game.dto.response.*;
 
 import com.splendor.project.domain.game.dto.request.ChoicePlayerDto;
+import com.splendor.project.domain.game.executor.GameStartAdmission;
+import com.splendor.project.domain.game.executor.RoomActionDeduplicator;
+import com.splendor.project.domain.game.executor.RoomActionDeduplicator.ActionKey;
+import com.splendor.project.domain.game.executor.RoomActionExecutor;
 import com.splendor.project.domain.game.service.PlayGameService;
+import com.splendor.project.exception.ErrorCode;
 import com.splendor.project.exception.GameLogicException;
+import com.splendor.project.global.broadcast.FrameBroadcaster;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.stereotype.Controller;
 
 import java.util.Map;
 import java.util.NoSuchElementException;
-
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 게임 액션 STOMP 핸들러. 방 상태를 바꾸는 액션은 수신 스레드에서 바로 처리하지 않고
+ * RoomActionExecutor의 방 mailbox에 넣어, 같은 방의 액션이 도착 순서대로 하나씩 처리되게 합니다.
+ * 클라이언트가 action-id 헤더를 붙이면, 같은 방에서 같은 목적지/보낸 쪽이 이미 성공한 action-id의 재전송은 실행하지 않습니다.
+ * 선택 응답은 처음 결과로 다시 응답하고, 방 topic으로 발행하는 게임 화면(토큰 버리기, 턴 종료)은 다시 발행하지 않습니다.
+ * splendor.game.pipeline=reactive 이면 대신 ReactiveGameController가 등록됩니다.
+ */
 @Controller
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "splendor.game.pipeline", havingValue = "blocking", matchIfMissing = true)
 public class GameController {
 
-    private final SimpMessagingTemplate messagingTemplate;
+    private final FrameBroadcaster frameBroadcaster;
     private final PlayGameService playGameService;
+    private final RoomActionExecutor roomActionExecutor;
+    private final GameStartAdmission gameStartAdmission;
+    private final RoomActionDeduplicator roomActionDeduplicator;
+    private final GameScreenBroadcaster gameScreenBroadcaster;
+    private final SelectionFeedback selectionFeedback;
 
     @MessageMapping("/game-screen/{roomId}")
     public void gameStartMessage(@DestinationVariable Long roomId) {
-        System.out.println("roomId = " + roomId);
         String specificRoomTopic = "/topic/game-screen/" + roomId;
-        try {
-            GameStateDto gameStateDto = playGameService.gameStart(roomId);
-            messagingTemplate.convertAndSend(specificRoomTopic, WebSocketResponse.success(gameStateDto));
-        } catch (NoSuchElementException | IllegalStateException e) {
-            messagingTemplate.convertAndSend(specificRoomTopic, WebSocketResponse.error(e.getMessage()));
+        // 게임 시작은 GameStartAdmission이 동시 실행 수를 제한하고, 차례가 되면 방 mailbox에서 실행
+        GameStartAdmission.Admission admission = gameStartAdmission.submit(roomId, () -> {
+            try {
+                GameStateDto gameStateDto = playGameService.gameStart(roomId);
+                gameScreenBroadcaster.publishStart(roomId, gameStateDto);
+            } catch (GameLogicException | NoSuchElementException | IllegalStateException e) {
+                frameBroadcaster.publish(specificRoomTopic, WebSocketResponse.error(e.getMessage()));
+            }
+        }, () -> frameBroadcaster.publish(specificRoomTopic, WebSocketResponse.error(ErrorCode.GAME_START_REJECTED.getMessage())));
+
+        switch (admission.status()) {
+            case QUEUED -> frameBroadcaster.publish(specificRoomTopic,
+                    WebSocketResponse.queued(admission.position(), ErrorCode.GAME_START_QUEUED.getMessage()));
+            case REJECTED -> frameBroadcaster.publish(specificRoomTopic,
+                    WebSocketResponse.error(ErrorCode.GAME_START_REJECTED.getMessage()));
+            case DRAINING -> frameBroadcaster.publish(specificRoomTopic,
+                    WebSocketResponse.reconnect(ErrorCode.NODE_DRAINING.getMessage()));
+            default -> {
+            }
         }
     }
 
@@ -42,64 +79,97 @@ public class GameController {
     public void gameChoiceMessage(@Payload ChoicePlayerDto choicePlayerDto, @DestinationVariable Long roomId){
         String specificRoomTopic = "/topic/game-choice-screen/" + roomId;
         SelectedPlayer selectedPlayer = new SelectedPlayer(choicePlayerDto.getSplendorAction());
-        messagingTemplate.convertAndSend(specificRoomTopic ,selectedPlayer);
+        frameBroadcaster.publish(specificRoomTopic ,selectedPlayer);
 
     }
 
     // --- 토큰 선택/취소 (selectToken) ---
     @MessageMapping("/game-select-token/{roomId}")
-    public void selectTokenMessage(@Payload SelectTokenRequestDto request, @DestinationVariable Long roomId) {
-        System.out.println("request = " + request);
-        String specificRoomTopic = "/topic/game-select-token/" + roomId;
-        try {
-            ResponseTokenDto responseTokenDto = playGameService.selectToken(request);
-            messagingTemplate.convertAndSend(specificRoomTopic, WebSocketResponse.success(responseTokenDto));
-        } catch (IllegalArgumentException | IllegalStateException | NoSuchElementException e) {
-            messagingTemplate.convertAndSend(specificRoomTopic, WebSocketResponse.error(e.getMessage()));
-        }
+    public void selectTokenMessage(@Payload SelectTokenRequestDto request, @DestinationVariable Long roomId,
+                                   @Header(name = StompConstants.ACTION_ID_HEADER, required = false) String actionId,
+                                   @Header(name = SimpMessageHeaderAccessor.SESSION_ID_HEADER, required = false) String sessionId) {
+        // 선택 결과는 SelectionFeedback이 보낸 세션(또는 방 topic)으로 발행
+        roomActionExecutor.execute(roomId, () -> {
+            try {
+                ActionKey key = ActionKey.of("/game-select-token", request.getPlayerId(), actionId);
+                ResponseTokenDto responseTokenDto = once(roomId, key, () -> playGameService.selectToken(request));
+                selectionFeedback.token(roomId, sessionId, request.getPlayerId(), WebSocketResponse.success(responseTokenDto));
+            } catch (GameLogicException | IllegalArgumentException | IllegalStateException | NoSuchElementException e) {
+                selectionFeedback.token(roomId, sessionId, request.getPlayerId(), WebSocketResponse.error(e.getMessage()));
+            }
+        });
     }
 
     // --- 토큰 버리기 (discardToken) ---
     @MessageMapping("/game-discard-token/{roomId}")
-    public void discardTokenMessage(@Payload DiscardTokenRequestDto request, @DestinationVariable Long roomId) {
+    public void discardTokenMessage(@Payload DiscardTokenRequestDto request, @DestinationVariable Long roomId,
+                                    @Header(name = StompConstants.ACTION_ID_HEADER, required = false) String actionId) {
         String gameScreenTopic = "/topic/game-screen/" + roomId;
-        try {
-            GameStateDto gameStateDto = playGameService.discardToken(request);
-
-            messagingTemplate.convertAndSend(gameScreenTopic, WebSocketResponse.success(gameStateDto));
-        } catch (IllegalArgumentException | IllegalStateException | NoSuchElementException e) {
-            messagingTemplate.convertAndSend(gameScreenTopic, WebSocketResponse.error(e.getMessage()));
-
-        }
+        roomActionExecutor.execute(roomId, () -> {
+            try {
+                ActionKey key = ActionKey.of("/game-discard-token", request.getPlayerId(), actionId);
+                firstTime(roomId, key, () -> playGameService.discardToken(request))
+                        .ifPresent(gameStateDto -> gameScreenBroadcaster.publish(roomId, gameStateDto));
+            } catch (GameLogicException | IllegalArgumentException | IllegalStateException | NoSuchElementException e) {
+                frameBroadcaster.publish(gameScreenTopic, WebSocketResponse.error(e.getMessage()));
+
+            }
+        });
     }
 
     // --- 카드 선택/취소 (selectCard) ---
     @MessageMapping("/game-select-card/{roomId}")
-    public void selectCardMessage(@Payload SelectCardRequestDto request, @DestinationVariable Long roomId) {
-        String specificRoomTopic = "/topic/game-select-card/" + roomId;
-        try {
-            SelectionCardStateDto selectionState = playGameService.selectCard(request);
-
-            messagingTemplate.convertAndSend(specificRoomTopic, WebSocketResponse.success(selectionState));
-
-        } catch (GameLogicException e) {
-            messagingTemplate.convertAndSend(specificRoomTopic, WebSocketResponse.error(e.getMessage()));
-
-        } catch (NoSuchElementException | IllegalStateException e) {
-            messagingTemplate.convertAndSend(specificRoomTopic, WebSocketResponse.error(e.getMessage()));
-        }
+    public void selectCardMessage(@Payload SelectCardRequestDto request, @DestinationVariable Long roomId,
+                                  @Header(name = StompConstants.ACTION_ID_HEADER, required = false) String actionId,
+                                  @Header(name = SimpMessageHeaderAccessor.SESSION_ID_HEADER, required = false) String sessionId) {
+        roomActionExecutor.execute(roomId, () -> {
+            try {
+                ActionKey key = ActionKey.of("/game-select-card", request.getPlayerId(), actionId);
+                SelectionCardStateDto selectionState = once(roomId, key, () -> playGameService.selectCard(request));
+
+                selectionFeedback.card(roomId, sessionId, request.getPlayerId(), WebSocketResponse.success(selectionState));
+
+            } catch (GameLogicException | IllegalArgumentException | IllegalStateException | NoSuchElementException e) {
+                selectionFeedback.card(roomId, sessionId, request.getPlayerId(), WebSocketResponse.error(e.getMessage()));
+            }
+        });
     }
 
     // --- 턴 종료 (endTurn) ---
     @MessageMapping("/game-end-turn/{roomId}")
-    public void endTurnMessage(@DestinationVariable Long roomId) {
+    public void endTurnMessage(@DestinationVariable Long roomId,
+                               @Header(name = StompConstants.ACTION_ID_HEADER, required = false) String actionId,
+                               @Header(name = SimpMessageHeaderAccessor.SESSION_ID_HEADER, required = false) String sessionId) {
         String gameScreenTopic = "/topic/game-screen/" + roomId;
-        try {
-            GameStateDto gameStateDto = playGameService.endTurn(roomId);
+        roomActionExecutor.execute(roomId, () -> {
+            try {
+                // 턴 종료 요청에는 플레이어 id가 없어 보낸 세션으로 구분
+                ActionKey key = ActionKey.of("/game-end-turn", sessionId, actionId);
+                firstTime(roomId, key, () -> playGameService.endTurn(roomId))
+                        .ifPresent(gameStateDto -> gameScreenBroadcaster.publish(roomId, gameStateDto));
+            } catch (GameLogicException | IllegalArgumentException | IllegalStateException | NoSuchElementException e) {
+                frameBroadcaster.publish(gameScreenTopic, WebSocketResponse.error(e.getMessage()));
+            }
+        });
+    }
+
+    // 방 mailbox 안에서 호출: 이미 성공한 액션이면 처음 결과를, 아니면 실행한 결과를 기억해서 반환
+    private <T> T once(Long roomId, ActionKey key, Supplier<T> action) {
+        return roomActionDeduplicator.<T>find(roomId, key).orElseGet(() -> {
+            T result = action.get();
+            roomActionDeduplicator.remember(roomId, key, result);
+            return result;
+        });
+    }
 
-            messagingTemplate.convertAndSend(gameScreenTopic, WebSocketResponse.success(gameStateDto));
-        } catch (IllegalArgumentException | IllegalStateException | NoSuchElementException e) {
-            messagingTemplate.convertAndSend(gameScreenTopic, WebSocketResponse.error(e.getMessage()));
+    // 방 topic으로 발행하는 액션용: 이미 성공한 액션이면 비어 있음
+    // (처음 결과를 방 전체에 다시 발행하면 그 사이 진행된 화면이 되돌아가므로 발행하지 않음. 클라이언트는 /app/game-snapshot으로 맞춤)
+    private <T> Optional<T> firstTime(Long roomId, ActionKey key, Supplier<T> action) {
+        if (roomActionDeduplicator.find(roomId, key).isPresent()) {
+            return Optional.empty();
         }
+        T result = action.get();
+        roomActionDeduplicator.remember(roomId, key, result);
+        return Optional.of(result);
     }
-}
\ No newline at end of file
+}
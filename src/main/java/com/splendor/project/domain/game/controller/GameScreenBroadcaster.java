@@ -0,0 +1,184 @@
+package com.splendor.project.domain.game.controller;
+
+import com.splendor.project.domain.game.dto.response.GameStateDeltaDto;
+import com.splendor.project.domain.game.dto.response.GameStateDto;
+import com.splendor.project.domain.game.dto.response.WebSocketResponse;
+import com.splendor.project.domain.game.entity.GameStatus;
+import com.splendor.project.domain.game.logic.GameStateDeltas;
+import com.splendor.project.domain.game.service.GameStaticDataLoader;
+import com.splendor.project.global.broadcast.FrameBroadcaster;
+import io.micrometer.core.instrument.Counter;
+import com.splendor.project.global.cluster.RoomOwnershipChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * /topic/game-screen/{roomId} 발행.
+ *
+ * splendor.broadcast.delta.enabled=true 이면 방마다 마지막으로 발행한 상태를 기억해 두고, 다음 발행부터는 바뀐 필드만 담은
+ * DELTA(GameStateDeltaDto)를 보냅니다. 기준 상태가 없으면(게임 시작 이후 처음 발행 등) SNAPSHOT으로 보냅니다.
+ * 이미 발행한 version 이하의 상태는 방에 보내지 않습니다. (그 사이 진행된 화면이 되돌아감)
+ * 끄면 이전처럼 GameStateDto 전체를 보냅니다.
+ *
+ * splendor.broadcast.catalog-refs.enabled=true 이면 SNAPSHOT/DELTA 메시지의 카드와 귀족 타일을 카탈로그 id로만 보냅니다.
+ * 클라이언트는 GET /api/catalog 로 받은 카탈로그(메시지의 catalogVersion)로 복원합니다. (GameStateDto 전체를 보내는 방식에는 적용하지 않음)
+ *
+ * 같은 방의 발행은 방 mailbox 안에서 이뤄지므로 version 순서대로 나갑니다.
+ * 순서가 바뀌거나 메시지가 유실되면 클라이언트가 baseVersion으로 알아채고 /app/game-snapshot/{roomId} 로 스냅샷을 다시 받습니다.
+ *
+ * 기준 상태는 노드 메모리에 있으므로 DELTA는 방마다 발행하는 노드가 하나일 때만 씁니다.
+ * (splendor.store=memory 단일 노드 또는 splendor.cluster.sharding.enabled=true)
+ * Redis 저장소를 여러 노드가 공유하면서 샤딩이 꺼져 있으면 delta.enabled=true여도 GameStateDto 전체를 보냅니다.
+ * 샤딩 중 소유 노드가 바뀐 방의 기준 상태는 버리고, 다시 소유하게 되면 SNAPSHOT부터 보냅니다.
+ */
+@Slf4j
+@Component
+public class GameScreenBroadcaster {
+
+    private final FrameBroadcaster frameBroadcaster;
+    private final boolean deltaEnabled;
+    private final boolean catalogRefs;
+    private final GameStaticDataLoader staticDataLoader;
+    private final long idleTimeoutNanos;
+
+    // 방 ID -> 마지막으로 발행한 상태 (복사본)
+    private final ConcurrentMap<Long, Published> lastPublished = new ConcurrentHashMap<>();
+
+    private final Counter fullCounter;
+    private final Counter snapshotCounter;
+    private final Counter deltaCounter;
+    private final Counter staleCounter;
+
+    @Autowired
+    public GameScreenBroadcaster(FrameBroadcaster frameBroadcaster,
+                                 @Value("${splendor.broadcast.delta.enabled:false}") boolean deltaEnabled,
+                                 @Value("${splendor.broadcast.delta.idle-timeout:PT30M}") Duration idleTimeout,
+                                 @Value("${splendor.broadcast.catalog-refs.enabled:false}") boolean catalogRefs,
+                                 @Value("${splendor.store:redis}") String store,
+                                 @Value("${splendor.cluster.sharding.enabled:false}") boolean shardingEnabled,
+                                 GameStaticDataLoader staticDataLoader,
+                                 MeterRegistry meterRegistry) {
+        this(frameBroadcaster, deltaEnabled && singlePublisher(store, shardingEnabled), idleTimeout, catalogRefs,
+                staticDataLoader, meterRegistry);
+    }
+
+    public GameScreenBroadcaster(FrameBroadcaster frameBroadcaster, boolean deltaEnabled, Duration idleTimeout,
+                                 boolean catalogRefs, GameStaticDataLoader staticDataLoader, MeterRegistry meterRegistry) {
+        this.frameBroadcaster = frameBroadcaster;
+        this.deltaEnabled = deltaEnabled;
+        this.catalogRefs = catalogRefs;
+        this.staticDataLoader = staticDataLoader;
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+        this.fullCounter = meterRegistry.counter("splendor.broadcast.game-screen", "type", "full");
+        this.snapshotCounter = meterRegistry.counter("splendor.broadcast.game-screen", "type", "snapshot");
+        this.deltaCounter = meterRegistry.counter("splendor.broadcast.game-screen", "type", "delta");
+        this.staleCounter = meterRegistry.counter("splendor.broadcast.game-screen.stale");
+    }
+
+    /**
+     * 게임 시작: 항상 SNAPSHOT을 보내고, 이후 DELTA의 기준으로 삼습니다.
+     */
+    public void publishStart(Long roomId, GameStateDto gameStateDto) {
+        if (!deltaEnabled) {
+            publishFull(roomId, gameStateDto);
+            return;
+        }
+        lastPublished.put(roomId, new Published(GameStateDeltas.copyOf(gameStateDto), System.nanoTime()));
+        send(roomId, GameStateDeltas.snapshot(gameStateDto));
+    }
+
+    /**
+     * 액션(토큰 버리기, 턴 종료) 이후 상태 발행. 게임이 끝나면 기억해 둔 상태를 지웁니다.
+     */
+    public void publish(Long roomId, GameStateDto gameStateDto) {
+        if (!deltaEnabled) {
+            publishFull(roomId, gameStateDto);
+            return;
+        }
+
+        GameStateDeltaDto[] message = new GameStateDeltaDto[1];
+        lastPublished.compute(roomId, (id, previous) -> {
+            if (previous != null && previous.state().getVersion() >= gameStateDto.getVersion()) {
+                // 이미 발행한 version 이하: 기준 상태는 그대로 두고 발행하지 않음
+                return previous;
+            }
+            message[0] = GameStateDeltas.diff(previous == null ? null : previous.state(), gameStateDto);
+            if (gameStateDto.getGameStatus() == GameStatus.GAME_OVER) {
+                return null;
+            }
+            return new Published(GameStateDeltas.copyOf(gameStateDto), System.nanoTime());
+        });
+        if (message[0] == null) {
+            staleCounter.increment();
+            log.debug("이미 발행한 version 이하의 게임 화면은 발행하지 않습니다 roomId={}, version={}", roomId, gameStateDto.getVersion());
+            return;
+        }
+        send(roomId, message[0]);
+    }
+
+    /**
+     * 게임 화면 스냅샷 요청(/app/game-snapshot/{roomId})의 응답. 발행하는 메시지와 같은 형식(카탈로그 id 포함)으로 만듭니다.
+     */
+    public GameStateDeltaDto snapshot(GameStateDto gameStateDto) {
+        return withCatalogRefs(GameStateDeltas.snapshot(gameStateDto));
+    }
+
+    public int trackedRooms() {
+        return lastPublished.size();
+    }
+
+    // idle-timeout 동안 발행이 없었던 방의 기준 상태 정리 (버려진 게임)
+    @Scheduled(fixedDelayString = "${splendor.broadcast.delta.sweep-interval-ms:60000}")
+    public void evictIdleRooms() {
+        long now = System.nanoTime();
+        lastPublished.entrySet().removeIf(entry -> now - entry.getValue().publishedAt() > idleTimeoutNanos);
+    }
+
+    /**
+     * 이 노드가 더 이상 소유하지 않는 방의 기준 상태를 버립니다. (새 소유 노드가 발행하는 동안 기준 상태가 낡음)
+     */
+    @EventListener
+    public void onOwnershipChanged(RoomOwnershipChangedEvent event) {
+        lastPublished.keySet().removeIf(roomId -> !event.ownership().isLocal(roomId));
+    }
+
+    // 방마다 발행하는 노드가 하나인지: 프로세스 내 저장소(단일 노드)이거나 방 액션이 소유 노드로 모이는 경우
+    private static boolean singlePublisher(String store, boolean shardingEnabled) {
+        boolean single = "memory".equals(store) || shardingEnabled;
+        if (!single) {
+            log.warn("splendor.broadcast.delta.enabled=true 이지만 Redis 저장소를 샤딩 없이 공유하므로 DELTA를 쓰지 않습니다. "
+                    + "(splendor.cluster.sharding.enabled=true 필요)");
+        }
+        return single;
+    }
+
+    private void publishFull(Long roomId, GameStateDto gameStateDto) {
+        fullCounter.increment();
+        frameBroadcaster.publish(topicOf(roomId), WebSocketResponse.success(gameStateDto));
+    }
+
+    private void send(Long roomId, GameStateDeltaDto message) {
+        (message.getType() == GameStateDeltaDto.Type.DELTA ? deltaCounter : snapshotCounter).increment();
+        frameBroadcaster.publish(topicOf(roomId), WebSocketResponse.success(withCatalogRefs(message)));
+    }
+
+    private GameStateDeltaDto withCatalogRefs(GameStateDeltaDto message) {
+        return catalogRefs ? GameStateDeltas.toCatalogRefs(message, staticDataLoader.getCatalogVersion()) : message;
+    }
+
+    private static String topicOf(Long roomId) {
+        return "/topic/game-screen/" + roomId;
+    }
+
+    private record Published(GameStateDto state, long publishedAt) {
+    }
+}
@@ -0,0 +1,45 @@
+package com.splendor.project.domain.game.controller;
+
+import com.splendor.project.domain.game.dto.response.GameStateDeltaDto;
+import com.splendor.project.domain.game.dto.response.GameStateDto;
+import com.splendor.project.domain.game.dto.response.WebSocketResponse;
+import com.splendor.project.domain.game.repository.GameStateCache;
+import com.splendor.project.domain.game.repository.ReactiveGameStateRepository;
+import com.splendor.project.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
+import org.springframework.stereotype.Controller;
+import reactor.core.publisher.Mono;
+
+/**
+ * 게임 화면 스냅샷 요청. 클라이언트가 /app/game-snapshot/{roomId} 를 구독하면 현재 상태를 SNAPSHOT으로 해당 세션에만 응답합니다.
+ * 게임 화면에 처음 들어왔을 때와 DELTA의 baseVersion이 맞지 않을 때(메시지 유실) 사용합니다.
+ *
+ * 상태는 액션을 커밋하는 쪽과 같은 곳에서 읽습니다. splendor.game.pipeline=reactive 이면 액션이 GameStateCache를 거치지 않고
+ * Redis에 바로 커밋되므로 ReactiveGameStateRepository에서, 아니면 GameStateCache에서 읽습니다.
+ */
+@Controller
+@RequiredArgsConstructor
+public class GameSnapshotController {
+
+    private final GameStateCache gameStateCache;
+    private final ObjectProvider<ReactiveGameStateRepository> reactiveGameStateRepository;
+    private final GameScreenBroadcaster gameScreenBroadcaster;
+
+    @SubscribeMapping("/game-snapshot/{roomId}")
+    public Mono<WebSocketResponse<GameStateDeltaDto>> snapshot(@DestinationVariable Long roomId) {
+        return findState(roomId)
+                .map(gameStateDto -> WebSocketResponse.success(gameScreenBroadcaster.snapshot(gameStateDto)))
+                .defaultIfEmpty(WebSocketResponse.error(ErrorCode.ROOM_NOT_FOUND.getMessage()));
+    }
+
+    private Mono<GameStateDto> findState(Long roomId) {
+        ReactiveGameStateRepository repository = reactiveGameStateRepository.getIfAvailable();
+        if (repository != null) {
+            return repository.findById(roomId);
+        }
+        return Mono.fromSupplier(() -> gameStateCache.findById(roomId).orElse(null));
+    }
+}
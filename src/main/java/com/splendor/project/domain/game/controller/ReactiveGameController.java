@@ -0,0 +1,150 @@
+package com.splendor.project.domain.game.controller;
+
+import com.splendor.project.contants.StompConstants;
+import com.splendor.project.domain.game.dto.request.ChoicePlayerDto;
+import com.splendor.project.domain.game.dto.request.DiscardTokenRequestDto;
+import com.splendor.project.domain.game.dto.request.SelectCardRequestDto;
+import com.splendor.project.domain.game.dto.request.SelectTokenRequestDto;
+import com.splendor.project.domain.game.dto.response.GameStateDto;
+import com.splendor.project.domain.game.dto.response.SelectedPlayer;
+import com.splendor.project.domain.game.dto.response.WebSocketResponse;
+import com.splendor.project.domain.game.executor.GameStartAdmission;
+import com.splendor.project.domain.game.executor.ReactiveRoomActionPipeline;
+import com.splendor.project.domain.game.executor.RoomActionDeduplicator;
+import com.splendor.project.domain.game.executor.RoomActionDeduplicator.ActionKey;
+import com.splendor.project.domain.game.service.PlayGameService;
+import com.splendor.project.domain.game.service.ReactivePlayGameService;
+import com.splendor.project.exception.ErrorCode;
+import com.splendor.project.exception.GameLogicException;
+import com.splendor.project.global.broadcast.FrameBroadcaster;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.stereotype.Controller;
+import reactor.core.publisher.Mono;
+
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 게임 액션 STOMP 핸들러의 논블로킹 버전. (splendor.game.pipeline=reactive)
+ *
+ * 수신 스레드는 액션을 ReactiveRoomActionPipeline에 넣고 바로 돌아갑니다.
+ * 검증 -> Redis 커밋 -> 방 topic 발행이 하나의 Mono로 이어지며, 처리량을 넘는 액션은 SERVER_BUSY 에러로 응답합니다.
+ */
+@Slf4j
+@Controller
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "splendor.game.pipeline", havingValue = "reactive")
+public class ReactiveGameController {
+
+    private final FrameBroadcaster frameBroadcaster;
+    private final PlayGameService playGameService;
+    private final ReactivePlayGameService reactivePlayGameService;
+    private final ReactiveRoomActionPipeline reactiveRoomActionPipeline;
+    private final GameStartAdmission gameStartAdmission;
+    private final RoomActionDeduplicator roomActionDeduplicator;
+    private final GameScreenBroadcaster gameScreenBroadcaster;
+    private final SelectionFeedback selectionFeedback;
+
+    @MessageMapping("/game-screen/{roomId}")
+    public void gameStartMessage(@DestinationVariable Long roomId) {
+        String specificRoomTopic = "/topic/game-screen/" + roomId;
+        // 게임 시작은 RDB(JPA) 조회가 있어 논블로킹 경로 대신 GameStartAdmission을 거쳐 방 mailbox 워커에서 실행
+        GameStartAdmission.Admission admission = gameStartAdmission.submit(roomId, () -> {
+            try {
+                GameStateDto gameStateDto = playGameService.gameStart(roomId);
+                gameScreenBroadcaster.publishStart(roomId, gameStateDto);
+            } catch (GameLogicException | NoSuchElementException | IllegalStateException e) {
+                frameBroadcaster.publish(specificRoomTopic, WebSocketResponse.error(e.getMessage()));
+            }
+        }, () -> frameBroadcaster.publish(specificRoomTopic, WebSocketResponse.error(ErrorCode.GAME_START_REJECTED.getMessage())));
+
+        switch (admission.status()) {
+            case QUEUED -> frameBroadcaster.publish(specificRoomTopic,
+                    WebSocketResponse.queued(admission.position(), ErrorCode.GAME_START_QUEUED.getMessage()));
+            case REJECTED -> frameBroadcaster.publish(specificRoomTopic,
+                    WebSocketResponse.error(ErrorCode.GAME_START_REJECTED.getMessage()));
+            case DRAINING -> frameBroadcaster.publish(specificRoomTopic,
+                    WebSocketResponse.reconnect(ErrorCode.NODE_DRAINING.getMessage()));
+            default -> {
+            }
+        }
+    }
+
+    @MessageMapping("/game-choice-screen/{roomId}")
+    public void gameChoiceMessage(@Payload ChoicePlayerDto choicePlayerDto, @DestinationVariable Long roomId) {
+        String specificRoomTopic = "/topic/game-choice-screen/" + roomId;
+        frameBroadcaster.publish(specificRoomTopic, new SelectedPlayer(choicePlayerDto.getSplendorAction()));
+    }
+
+    @MessageMapping("/game-select-token/{roomId}")
+    public void selectTokenMessage(@Payload SelectTokenRequestDto request, @DestinationVariable Long roomId,
+                                   @Header(name = StompConstants.ACTION_ID_HEADER, required = false) String actionId,
+                                   @Header(name = SimpMessageHeaderAccessor.SESSION_ID_HEADER, required = false) String sessionId) {
+        // 선택 결과와 에러는 SelectionFeedback이 보낸 세션(또는 방 topic)으로 발행
+        reply(roomId, ActionKey.of("/game-select-token", request.getPlayerId(), actionId), true,
+                () -> reactivePlayGameService.selectToken(request),
+                result -> selectionFeedback.token(roomId, sessionId, request.getPlayerId(), WebSocketResponse.success(result)),
+                error -> selectionFeedback.token(roomId, sessionId, request.getPlayerId(), error));
+    }
+
+    @MessageMapping("/game-discard-token/{roomId}")
+    public void discardTokenMessage(@Payload DiscardTokenRequestDto request, @DestinationVariable Long roomId,
+                                    @Header(name = StompConstants.ACTION_ID_HEADER, required = false) String actionId) {
+        reply(roomId, ActionKey.of("/game-discard-token", request.getPlayerId(), actionId), "/topic/game-screen/" + roomId,
+                () -> reactivePlayGameService.discardToken(request),
+                gameStateDto -> gameScreenBroadcaster.publish(roomId, gameStateDto));
+    }
+
+    @MessageMapping("/game-select-card/{roomId}")
+    public void selectCardMessage(@Payload SelectCardRequestDto request, @DestinationVariable Long roomId,
+                                  @Header(name = StompConstants.ACTION_ID_HEADER, required = false) String actionId,
+                                  @Header(name = SimpMessageHeaderAccessor.SESSION_ID_HEADER, required = false) String sessionId) {
+        reply(roomId, ActionKey.of("/game-select-card", request.getPlayerId(), actionId), true,
+                () -> reactivePlayGameService.selectCard(request),
+                result -> selectionFeedback.card(roomId, sessionId, request.getPlayerId(), WebSocketResponse.success(result)),
+                error -> selectionFeedback.card(roomId, sessionId, request.getPlayerId(), error));
+    }
+
+    @MessageMapping("/game-end-turn/{roomId}")
+    public void endTurnMessage(@DestinationVariable Long roomId,
+                               @Header(name = StompConstants.ACTION_ID_HEADER, required = false) String actionId,
+                               @Header(name = SimpMessageHeaderAccessor.SESSION_ID_HEADER, required = false) String sessionId) {
+        // 턴 종료 요청에는 플레이어 id가 없어 보낸 세션으로 구분
+        reply(roomId, ActionKey.of("/game-end-turn", sessionId, actionId), "/topic/game-screen/" + roomId,
+                () -> reactivePlayGameService.endTurn(roomId),
+                gameStateDto -> gameScreenBroadcaster.publish(roomId, gameStateDto));
+    }
+
+    // 성공 결과는 onSuccess로, 에러 메시지는 방 topic으로 발행 (게임 화면은 GameScreenBroadcaster가 DELTA/SNAPSHOT으로 발행)
+    // 이미 성공한 액션은 다시 발행하지 않음 (처음 결과를 방 전체에 다시 보내면 그 사이 진행된 화면이 되돌아감)
+    private <T> void reply(Long roomId, ActionKey key, String topic, Supplier<Mono<T>> action, Consumer<T> onSuccess) {
+        reply(roomId, key, false, action, onSuccess, error -> frameBroadcaster.publish(topic, error));
+    }
+
+    // 방 mailbox에서 액션을 실행하고 결과는 onSuccess, 에러 응답은 onError로 발행
+    // 이미 성공한 액션이면 실행하지 않고, replayDuplicate면 처음 결과로 응답
+    private <T> void reply(Long roomId, ActionKey key, boolean replayDuplicate, Supplier<Mono<T>> action,
+                           Consumer<T> onSuccess, Consumer<WebSocketResponse<T>> onError) {
+        reactiveRoomActionPipeline.submit(roomId, () -> roomActionDeduplicator.<T>find(roomId, key)
+                        .map(result -> replayDuplicate ? Mono.just(result) : Mono.<T>empty())
+                        .orElseGet(() -> action.get().doOnNext(result -> roomActionDeduplicator.remember(roomId, key, result))))
+                .subscribe(
+                        onSuccess,
+                        e -> {
+                            if (e instanceof GameLogicException || e instanceof IllegalArgumentException
+                                    || e instanceof IllegalStateException || e instanceof NoSuchElementException) {
+                                onError.accept(WebSocketResponse.error(e.getMessage()));
+                            } else {
+                                log.error("방 액션 처리 실패 roomId={}", roomId, e);
+                            }
+                        });
+    }
+}
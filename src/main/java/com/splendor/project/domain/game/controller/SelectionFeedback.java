@@ -0,0 +1,106 @@
+package com.splendor.project.domain.game.controller;
+
+import com.splendor.project.domain.game.dto.response.ResponseTokenDto;
+import com.splendor.project.domain.game.dto.response.SelectionActivityDto;
+import com.splendor.project.domain.game.dto.response.SelectionCardStateDto;
+import com.splendor.project.domain.game.dto.response.WebSocketResponse;
+import com.splendor.project.global.broadcast.FrameBroadcaster;
+import com.splendor.project.global.cluster.RoomActionForwarder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 턴 중 선택(토큰 선택/취소, 카드 선택/취소) 결과 발행.
+ *
+ * splendor.game.selection.private.enabled=true 이면 선택 결과와 에러는 액션을 보낸 세션에만
+ * /user/queue/game-select-token, /user/queue/game-select-card 로 보냅니다.
+ * 같은 방의 다른 플레이어에게는 /topic/game-selecting/{roomId} 로 "고르는 중" 요약(SelectionActivityDto)만 보내며,
+ * 요약은 방마다 마지막 것만 남겨 두었다가 summary-interval-ms 마다 한 번 발행합니다. (클릭마다 방 전체로 보내지 않음)
+ * 끄면 이전처럼 결과를 방 topic(/topic/game-select-token/{roomId}, /topic/game-select-card/{roomId})으로 보냅니다.
+ *
+ * 다른 노드에서 전달된 액션(RoomActionForwarder)은 보낸 세션이 이 노드에 없으므로 켜져 있어도 방 topic으로 보냅니다.
+ */
+@Component
+public class SelectionFeedback {
+
+    static final String TOKEN_QUEUE = "/queue/game-select-token";
+    static final String CARD_QUEUE = "/queue/game-select-card";
+
+    private final FrameBroadcaster frameBroadcaster;
+    private final boolean privateEnabled;
+
+    // 방 ID -> 아직 발행하지 않은 마지막 요약
+    private final ConcurrentMap<Long, SelectionActivityDto> pendingSummaries = new ConcurrentHashMap<>();
+
+    private final Counter privateCounter;
+    private final Counter roomCounter;
+    private final Counter summaryCounter;
+
+    public SelectionFeedback(FrameBroadcaster frameBroadcaster,
+                             @Value("${splendor.game.selection.private.enabled:false}") boolean privateEnabled,
+                             MeterRegistry meterRegistry) {
+        this.frameBroadcaster = frameBroadcaster;
+        this.privateEnabled = privateEnabled;
+        this.privateCounter = meterRegistry.counter("splendor.game.selection", "route", "private");
+        this.roomCounter = meterRegistry.counter("splendor.game.selection", "route", "room");
+        this.summaryCounter = meterRegistry.counter("splendor.game.selection.summaries");
+    }
+
+    public void token(Long roomId, String sessionId, String playerId, WebSocketResponse<ResponseTokenDto> response) {
+        ResponseTokenDto tokens = response.getData();
+        int selections = tokens == null || tokens.getToken() == null ? 0
+                : tokens.getToken().values().stream().mapToInt(count -> count == null ? 0 : count).sum();
+        send(roomId, sessionId, TOKEN_QUEUE, "/topic/game-select-token/" + roomId, response,
+                new SelectionActivityDto(playerId, SelectionActivityDto.Kind.TOKEN, selections));
+    }
+
+    public void card(Long roomId, String sessionId, String playerId, WebSocketResponse<SelectionCardStateDto> response) {
+        SelectionCardStateDto selection = response.getData();
+        int selections = selection == null || selection.getCardIdToBuy() == null ? 0 : 1;
+        send(roomId, sessionId, CARD_QUEUE, "/topic/game-select-card/" + roomId, response,
+                new SelectionActivityDto(playerId, SelectionActivityDto.Kind.CARD, selections));
+    }
+
+    public int pendingRooms() {
+        return pendingSummaries.size();
+    }
+
+    // 쌓인 요약을 방마다 하나씩 발행 (발행 중에 들어온 요약은 다음 주기에)
+    @Scheduled(fixedDelayString = "${splendor.game.selection.summary-interval-ms:200}")
+    public void flushSummaries() {
+        for (Long roomId : pendingSummaries.keySet()) {
+            SelectionActivityDto summary = pendingSummaries.remove(roomId);
+            if (summary != null) {
+                summaryCounter.increment();
+                frameBroadcaster.publish("/topic/game-selecting/" + roomId, WebSocketResponse.success(summary));
+            }
+        }
+    }
+
+    private void send(Long roomId, String sessionId, String queue, String roomTopic, WebSocketResponse<?> response,
+                      SelectionActivityDto summary) {
+        if (!privateEnabled) {
+            roomCounter.increment();
+            frameBroadcaster.publish(roomTopic, response);
+            return;
+        }
+
+        if (sessionId == null || RoomActionForwarder.isForwardedSession(sessionId)) {
+            roomCounter.increment();
+            frameBroadcaster.publish(roomTopic, response);
+        } else {
+            privateCounter.increment();
+            frameBroadcaster.publishToSession(sessionId, queue, response);
+        }
+        // 에러 응답은 보낸 플레이어만 알면 되므로 요약하지 않음
+        if (response.getData() != null) {
+            pendingSummaries.put(roomId, summary);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.splendor.project.domain.game.dto.response;
+
+import com.splendor.project.domain.data.StaticCard;
+import com.splendor.project.domain.data.StaticNoble;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 카드/귀족 카탈로그 (GET /api/catalog). 게임 화면 메시지가 id로만 보내는 카드/귀족을 클라이언트가 복원할 때 사용합니다.
+ */
+@Data
+@AllArgsConstructor
+public class GameCatalogDto {
+
+    // GameStaticDataLoader.catalogVersion (게임 화면 메시지의 catalogVersion과 같은 값)
+    private String version;
+
+    private List<StaticCard> cards;
+    private List<StaticNoble> nobles;
+}
@@ -0,0 +1,72 @@
+package com.splendor.project.domain.game.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.splendor.project.domain.data.GemType;
+import com.splendor.project.domain.data.StaticCard;
+import com.splendor.project.domain.data.StaticNoble;
+import com.splendor.project.domain.game.entity.GameStatus;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * /topic/game-screen/{roomId} 로 발행하는 게임 화면 메시지. (splendor.broadcast.delta.enabled=true)
+ *
+ * SNAPSHOT은 snapshot에 전체 상태를, DELTA는 직전 메시지(baseVersion) 이후 바뀐 필드만 담습니다. 바뀌지 않은 필드는 null (JSON에서 생략)
+ * version은 방별 순서 번호(게임 상태 version)입니다. 클라이언트는
+ * - version이 가진 상태의 version 이하면 무시하고
+ * - baseVersion이 가진 상태의 version과 다르면(중간 메시지 유실) /app/game-snapshot/{roomId} 를 구독해 스냅샷을 다시 받습니다.
+ *
+ * splendor.broadcast.catalog-refs.enabled=true 이면 카드/귀족을 cards, nobles 대신 cardIds, nobleIds로 보내고
+ * SNAPSHOT의 보드에서도 카드/귀족을 빼 cardIds(모든 레벨), nobleIds로 보냅니다. 클라이언트는 catalogVersion의 카탈로그로 복원합니다.
+ */
+@Data
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class GameStateDeltaDto {
+
+    public enum Type {
+        SNAPSHOT,
+        DELTA
+    }
+
+    private Type type;
+    private Long gameId;
+
+    // 방별 순서 번호 (이 메시지를 적용한 뒤의 상태 version)
+    private long version;
+
+    // DELTA를 적용할 수 있는 상태 version (SNAPSHOT이면 null)
+    private Long baseVersion;
+
+    // SNAPSHOT일 때 전체 상태
+    private GameStateDto snapshot;
+
+    // 바뀐 보석만. 값이 null이면 해당 보석이 없어짐
+    private Map<GemType, Integer> availableTokens;
+
+    // 바뀐 레벨의 카드 줄 (레벨 인덱스 -> 카드 목록 전체)
+    private Map<Integer, List<StaticCard>> cards;
+
+    // 귀족 타일이 바뀌었을 때만 전체 목록
+    private List<StaticNoble> nobles;
+
+    // 카드/귀족을 id로 보낼 때 사용한 카탈로그 버전 (GET /api/catalog 의 ETag)
+    private String catalogVersion;
+
+    // cards 대신 (레벨 인덱스 -> 카드 id 목록)
+    private Map<Integer, List<Integer>> cardIds;
+
+    // nobles 대신 귀족 타일 id 목록
+    private List<Integer> nobleIds;
+
+    // 바뀐 플레이어만
+    private List<PlayerStateDeltaDto> players;
+
+    private GamePlayerDto currentPlayer;
+    private GameStatus gameStatus;
+    private GamePlayerDto winner;
+    private Boolean finalRound;
+}
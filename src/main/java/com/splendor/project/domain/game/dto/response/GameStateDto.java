@@ -1,10 +1,11 @@
 package com.splendor.project.domain.game.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.splendor.project.domain.game.entity.GameStatus;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
-import org.springframework.data.redis.core.RedisHash;
 
 import java.io.Serializable;
 import java.util.List;
@@ -12,13 +13,12 @@ import java.util.List;
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
-@RedisHash("game")
 public class GameStateDto implements Serializable {
 
     private BoardStateDto boardStateDto;
     private List<PlayerStateDto> playerStateDto;
 
-    @org.springframework.data.annotation.Id // Redis Key의 Suffix로 사용 (예: 방 ID가 1이라면 Redis Key는 game:1)
+    // Redis Key의 Suffix로 사용 (예: 방 ID가 1이라면 Redis Key는 game-state:1)
     private Long gameId;
 
     private GamePlayerDto currentPlayer;
@@ -34,4 +34,22 @@ public class GameStateDto implements Serializable {
 
     // 게임 시작 플레이어 ID (최종 턴 종료 시점 파악을 위함)
     private String startingPlayerId; // gameStart 시 players.get(0).getPlayerId()로 초기화
+
+    // 상태 버전 = 지금까지 쌓인 이벤트 수. 저장 시 compare-and-set 기준으로 사용
+    private long version = 0L;
+
+    // 현재 턴의 커밋 전 선택 상태 (토큰/카드). 게임 상태와 함께 읽고 커밋 시 함께 정리되며, 클라이언트에는 보내지 않음
+    @JsonIgnore
+    private PendingTurnDto pendingTurn;
+
+    // 마지막 스냅샷 이후 변경된 구역 (GameStateSections 비트마스크). 다음 스냅샷에서 이 구역만 다시 기록
+    @JsonIgnore
+    @EqualsAndHashCode.Exclude
+    private int dirtySections;
+
+    public GameStateDto(BoardStateDto boardStateDto, List<PlayerStateDto> playerStateDto, Long gameId,
+                        GamePlayerDto currentPlayer, GameStatus gameStatus, GamePlayerDto winner,
+                        boolean isFinalRound, String startingPlayerId) {
+        this(boardStateDto, playerStateDto, gameId, currentPlayer, gameStatus, winner, isFinalRound, startingPlayerId, 0L, null, 0);
+    }
 }
@@ -0,0 +1,45 @@
+package com.splendor.project.domain.game.dto.response;
+
+import com.splendor.project.domain.data.GemType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 현재 턴에서 아직 커밋되지 않은 선택 상태 (토큰 선택 + 카드 선택).
+ * 게임 상태와 같은 Redis 키(game-state:{roomId})의 pending 필드에 함께 저장됩니다.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PendingTurnDto implements Serializable {
+
+    private Long roomId;
+
+    // 선택 중인 턴 플레이어의 ID
+    private String playerId;
+
+    // 현재까지 선택된 토큰 목록 및 수량. 예: {DIAMOND: 1, SAPPHIRE: 1}
+    private Map<GemType, Integer> tokensToTake = new HashMap<>();
+
+    // 현재 선택된 카드의 ID. null이면 선택된 카드 없음.
+    private Integer cardIdToBuy;
+
+    // 턴 플레이어 초기화 시 사용
+    public PendingTurnDto(Long roomId, String playerId) {
+        this.roomId = roomId;
+        this.playerId = playerId;
+    }
+
+    public boolean hasSelectedTokens() {
+        return tokensToTake.values().stream().mapToInt(Integer::intValue).sum() > 0;
+    }
+
+    public boolean hasSelectedCard() {
+        return cardIdToBuy != null;
+    }
+}
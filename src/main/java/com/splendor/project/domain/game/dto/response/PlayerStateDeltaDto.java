@@ -0,0 +1,40 @@
+package com.splendor.project.domain.game.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.splendor.project.domain.data.GemType;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * GameStateDeltaDto 안의 플레이어 변경분. 바뀌지 않은 필드는 null (JSON에서 생략)
+ */
+@Data
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PlayerStateDeltaDto {
+
+    // 플레이어 좌석 인덱스 (GameStateDto.playerStateDto의 순서)
+    private int seat;
+
+    private Integer score;
+
+    // 바뀐 보석만. 값이 null이면 해당 보석이 없어짐
+    private Map<GemType, Integer> tokens;
+    private Map<GemType, Integer> bonuses;
+
+    private Integer purchasedCardCount;
+    private Integer nobleCount;
+
+    public PlayerStateDeltaDto(int seat) {
+        this.seat = seat;
+    }
+
+    // 바뀐 필드가 없는지 (없으면 GameStateDeltaDto에 넣지 않음)
+    @JsonIgnore
+    public boolean isEmpty() {
+        return score == null && tokens == null && bonuses == null && purchasedCardCount == null && nobleCount == null;
+    }
+}
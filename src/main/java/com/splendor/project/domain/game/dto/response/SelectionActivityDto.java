@@ -0,0 +1,26 @@
+package com.splendor.project.domain.game.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 다른 플레이어가 고르는 중이라는 요약 (/topic/game-selecting/{roomId})
+ * 선택 내용은 담지 않고, 누가 무엇을 몇 개 골랐는지만 담습니다.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class SelectionActivityDto {
+
+    public enum Kind {
+        TOKEN, CARD
+    }
+
+    private String playerId;
+
+    private Kind kind;
+
+    // 현재 골라 둔 토큰 수 (카드는 선택했으면 1, 취소했으면 0)
+    private int selections;
+}
@@ -3,17 +3,14 @@ package com.splendor.project.domain.game.dto.response;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.springframework.data.redis.core.RedisHash;
 
 import java.io.Serializable;
 
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
-@RedisHash("cardSelection") // Redis Key: cardSelection:{roomId}
 public class SelectionCardStateDto implements Serializable {
 
-    @org.springframework.data.annotation.Id
     private Long roomId;
 
     private String playerId;
@@ -25,4 +22,4 @@ public class SelectionCardStateDto implements Serializable {
         this.roomId = roomId;
         this.playerId = playerId;
     }
-}
\ No newline at end of file
+}
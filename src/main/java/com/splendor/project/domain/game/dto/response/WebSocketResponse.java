@@ -10,7 +10,7 @@ import java.io.Serializable;
 @AllArgsConstructor
 public class WebSocketResponse<T> implements Serializable {
 
-    // "SUCCESS" 또는 "ERROR"
+    // "SUCCESS", "ERROR", "QUEUED"(게임 시작 대기 중) 또는 "RECONNECT"(노드 drain, 다시 연결 필요)
     private String status;
 
     // 성공 시 전달할 실제 데이터 DTO (예: GameStateDto, Map<GemType, Integer>)
@@ -30,4 +30,14 @@ public class WebSocketResponse<T> implements Serializable {
     public static <T> WebSocketResponse<T> error(String message) {
         return new WebSocketResponse<>("ERROR", null , message);
     }
+
+    // 대기 응답 생성 (대기 순서 포함)
+    public static WebSocketResponse<Integer> queued(int position, String message) {
+        return new WebSocketResponse<>("QUEUED", position, message);
+    }
+
+    // 재연결 안내 생성 (노드 drain)
+    public static <T> WebSocketResponse<T> reconnect(String message) {
+        return new WebSocketResponse<>("RECONNECT", null, message);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,32 @@
+package com.splendor.project.domain.game.event;
+
+import com.splendor.project.domain.data.GemType;
+import com.splendor.project.domain.data.StaticCard;
+
+import java.util.Map;
+
+/**
+ * 방마다 순서대로 쌓이는 게임 행동 이벤트. (append-only 로그)
+ * 이벤트에는 검증이 끝난 결과(지불 토큰 등)만 담고, 상태 변경은 GameEventApplier가 담당합니다.
+ * 플레이어는 좌석(playerStateDto 인덱스)으로 가리킵니다.
+ */
+public sealed interface GameEvent {
+
+    int seat();
+
+    // 토큰 획득 (턴 종료 시 커밋)
+    record TokensTaken(int seat, Map<GemType, Integer> tokens) implements GameEvent {
+    }
+
+    // 카드 구매 (payment: 황금 토큰을 포함한 실제 지불 토큰)
+    record CardPurchased(int seat, StaticCard card, Map<GemType, Integer> payment) implements GameEvent {
+    }
+
+    // 10개 초과 토큰 버리기
+    record TokenDiscarded(int seat, GemType gem) implements GameEvent {
+    }
+
+    // 턴 종료 (최종 라운드/게임 종료 판정과 다음 플레이어 결정은 상태로부터 계산)
+    record TurnEnded(int seat) implements GameEvent {
+    }
+}
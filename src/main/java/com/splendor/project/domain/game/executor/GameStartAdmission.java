@@ -0,0 +1,255 @@
+package com.splendor.project.domain.game.executor;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 게임 시작(gameStart) admission 제어.
+ *
+ * 게임 시작은 RDB 조회, 덱 셔플, 초기 상태 저장까지 무거운 작업이라 여러 방이 한꺼번에 시작하면
+ * 진행 중인 게임의 액션까지 RoomActionExecutor 워커를 기다리게 됩니다.
+ *
+ * - 동시에 실행되는 게임 시작은 max-concurrent개로 제한하고, 나머지는 도착 순서대로 대기열에 둡니다.
+ * - 대기열이 queue-capacity를 넘거나 max-wait보다 오래 기다린 요청은 버립니다. (클라이언트가 다시 시도)
+ * - 진행 중인 게임 액션이 priority-backlog개 이상 밀려 있으면 새 게임 시작을 꺼내지 않습니다.
+ * - 같은 방의 시작 요청이 대기 중이거나 실행 중이면 다시 넣지 않습니다.
+ * - 노드를 drain하면(stopAccepting) 새 게임 시작을 받지 않습니다.
+ */
+@Slf4j
+@Component
+public class GameStartAdmission {
+
+    public enum Status {
+        // 바로 실행
+        STARTED,
+        // 대기열에 들어감
+        QUEUED,
+        // 같은 방의 시작 요청이 이미 대기 중이거나 실행 중
+        DUPLICATE,
+        // 대기열이 가득 차 버림
+        REJECTED,
+        // 노드를 drain 중이라 받지 않음 (다른 노드에서 다시 시도)
+        DRAINING
+    }
+
+    /**
+     * @param position QUEUED일 때 대기 순서 (1부터), 그 외에는 0
+     */
+    public record Admission(Status status, int position) {
+    }
+
+    private final RoomActionExecutor roomActionExecutor;
+    private final int maxConcurrent;
+    private final int queueCapacity;
+    private final long maxWaitNanos;
+    private final int priorityBacklog;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Queue<PendingStart> queue = new ArrayDeque<>();
+    private final Set<Long> admittedRooms = new HashSet<>();
+    private int running;
+    private boolean accepting = true;
+
+    private final ScheduledExecutorService ticker;
+
+    private final Counter rejectedFullCounter;
+    private final Counter rejectedExpiredCounter;
+    private final Timer waitTimer;
+
+    @Autowired
+    public GameStartAdmission(RoomActionExecutor roomActionExecutor,
+                              @Value("${splendor.game.start.max-concurrent:4}") int maxConcurrent,
+                              @Value("${splendor.game.start.queue-capacity:500}") int queueCapacity,
+                              @Value("${splendor.game.start.max-wait:PT30S}") Duration maxWait,
+                              @Value("${splendor.game.start.priority-backlog:1000}") int priorityBacklog,
+                              MeterRegistry meterRegistry) {
+        this.roomActionExecutor = roomActionExecutor;
+        this.maxConcurrent = maxConcurrent;
+        this.queueCapacity = queueCapacity;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.priorityBacklog = priorityBacklog;
+
+        this.rejectedFullCounter = meterRegistry.counter("splendor.game.start.rejected", "reason", "full");
+        this.rejectedExpiredCounter = meterRegistry.counter("splendor.game.start.rejected", "reason", "expired");
+        this.waitTimer = Timer.builder("splendor.game.start.wait")
+                .description("게임 시작 요청이 대기열에서 기다린 시간")
+                .register(meterRegistry);
+        Gauge.builder("splendor.game.start.queued", this, GameStartAdmission::queued)
+                .description("대기 중인 게임 시작 요청 수")
+                .register(meterRegistry);
+
+        // 진행 중인 게임의 backlog가 줄었거나 대기 시간이 지난 요청을 정리하기 위해 주기적으로 대기열을 확인
+        this.ticker = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("game-start-admission").daemon().factory());
+        ticker.scheduleWithFixedDelay(this::tick, 20, 20, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 게임 시작을 요청합니다. 실행은 RoomActionExecutor의 방 mailbox에서 이뤄집니다.
+     *
+     * @param start   게임 시작과 결과 발행
+     * @param onShed  max-wait 동안 실행되지 못하고 버려졌을 때 실행 (재시도 안내 발행)
+     */
+    public Admission submit(Long roomId, Runnable start, Runnable onShed) {
+        PendingStart pendingStart = new PendingStart(roomId, start, onShed, System.nanoTime());
+        Admission admission;
+        lock.lock();
+        try {
+            if (!accepting) {
+                return new Admission(Status.DRAINING, 0);
+            }
+            if (!admittedRooms.add(roomId)) {
+                return new Admission(Status.DUPLICATE, 0);
+            }
+            if (queue.isEmpty() && canDispatch()) {
+                running++;
+                admission = new Admission(Status.STARTED, 0);
+            } else if (queue.size() >= queueCapacity) {
+                admittedRooms.remove(roomId);
+                rejectedFullCounter.increment();
+                return new Admission(Status.REJECTED, 0);
+            } else {
+                queue.add(pendingStart);
+                return new Admission(Status.QUEUED, queue.size());
+            }
+        } finally {
+            lock.unlock();
+        }
+        dispatch(pendingStart);
+        return admission;
+    }
+
+    /**
+     * 새 게임 시작을 더 받지 않고, 대기 중인 요청은 버립니다. (각 요청의 onShed 실행)
+     * 이미 실행 중인 게임 시작은 끝까지 실행됩니다.
+     */
+    public void stopAccepting() {
+        List<PendingStart> shed;
+        lock.lock();
+        try {
+            accepting = false;
+            shed = new ArrayList<>(queue);
+            queue.clear();
+            shed.forEach(pendingStart -> admittedRooms.remove(pendingStart.roomId()));
+        } finally {
+            lock.unlock();
+        }
+        for (PendingStart pendingStart : shed) {
+            runSafely(pendingStart.roomId(), pendingStart.onShed());
+        }
+    }
+
+    public int queued() {
+        lock.lock();
+        try {
+            return queue.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int running() {
+        lock.lock();
+        try {
+            return running;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        ticker.shutdown();
+    }
+
+    // 대기열에서 실행할 수 있는 만큼 꺼내고, 오래 기다린 요청은 버림
+    void tick() {
+        List<PendingStart> expired = new ArrayList<>();
+        List<PendingStart> ready = new ArrayList<>();
+        lock.lock();
+        try {
+            long now = System.nanoTime();
+            for (Iterator<PendingStart> it = queue.iterator(); it.hasNext(); ) {
+                PendingStart pendingStart = it.next();
+                if (now - pendingStart.enqueuedAt() > maxWaitNanos) {
+                    it.remove();
+                    admittedRooms.remove(pendingStart.roomId());
+                    expired.add(pendingStart);
+                }
+            }
+            while (!queue.isEmpty() && canDispatch()) {
+                running++;
+                ready.add(queue.poll());
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        for (PendingStart pendingStart : expired) {
+            rejectedExpiredCounter.increment();
+            runSafely(pendingStart.roomId(), pendingStart.onShed());
+        }
+        for (PendingStart pendingStart : ready) {
+            waitTimer.record(System.nanoTime() - pendingStart.enqueuedAt(), TimeUnit.NANOSECONDS);
+            dispatch(pendingStart);
+        }
+    }
+
+    // lock 안에서 호출
+    private boolean canDispatch() {
+        return running < maxConcurrent && roomActionExecutor.backlog() < priorityBacklog;
+    }
+
+    private void dispatch(PendingStart pendingStart) {
+        roomActionExecutor.submit(pendingStart.roomId(), () -> {
+            pendingStart.start().run();
+            return null;
+        }).whenComplete((result, e) -> {
+            if (e != null) {
+                log.error("게임 시작 처리 실패 roomId={}", pendingStart.roomId(), e);
+            }
+            finish(pendingStart.roomId());
+        });
+    }
+
+    private void finish(Long roomId) {
+        lock.lock();
+        try {
+            running--;
+            admittedRooms.remove(roomId);
+        } finally {
+            lock.unlock();
+        }
+        tick();
+    }
+
+    private static void runSafely(Long roomId, Runnable action) {
+        try {
+            action.run();
+        } catch (RuntimeException e) {
+            log.warn("게임 시작 대기 취소 알림 실패 roomId={}", roomId, e);
+        }
+    }
+
+    private record PendingStart(Long roomId, Runnable start, Runnable onShed, long enqueuedAt) {
+    }
+}
@@ -0,0 +1,131 @@
+package com.splendor.project.domain.game.executor;
+
+import com.splendor.project.exception.ErrorCode;
+import com.splendor.project.exception.GameLogicException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * RoomActionExecutor의 논블로킹 버전. (splendor.game.pipeline=reactive)
+ *
+ * - 같은 방의 액션은 도착 순서대로 하나씩 실행됩니다. 앞 액션의 Mono가 끝나야 다음 액션을 구독합니다.
+ * - 액션은 Redis 응답을 기다리는 동안 스레드를 붙잡지 않으므로, 적은 수의 스레드(parallel scheduler)로 많은 방을 동시에 처리합니다.
+ * - 진행 중인 액션(대기 포함)이 max-in-flight를 넘으면 큐에 쌓지 않고 바로 SERVER_BUSY로 거절합니다. (명시적 backpressure)
+ * - 한 액션이 action-timeout 안에 끝나지 않으면 실패시키고 다음 액션으로 넘어갑니다. (Redis 장애 시 방이 멈추지 않도록)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "splendor.game.pipeline", havingValue = "reactive")
+public class ReactiveRoomActionPipeline {
+
+    private final int maxInFlight;
+    private final Duration actionTimeout;
+    private final Scheduler scheduler = Schedulers.parallel();
+
+    private final Map<Long, Mailbox> mailboxes = new ConcurrentHashMap<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final Counter rejectedCounter;
+
+    public ReactiveRoomActionPipeline(@Value("${splendor.game.reactive.max-in-flight:10000}") int maxInFlight,
+                                      @Value("${splendor.game.reactive.action-timeout:PT5S}") Duration actionTimeout,
+                                      MeterRegistry meterRegistry) {
+        this.maxInFlight = maxInFlight;
+        this.actionTimeout = actionTimeout;
+
+        this.rejectedCounter = Counter.builder("splendor.game.reactive.rejected")
+                .description("max-in-flight를 넘어 거절된 액션 수")
+                .register(meterRegistry);
+        Gauge.builder("splendor.game.reactive.in-flight", inFlight, AtomicInteger::get)
+                .description("대기 중이거나 실행 중인 액션 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 방의 mailbox에 액션을 넣습니다. 반환된 Mono는 액션의 결과로 완료되며, 구독하지 않아도 액션은 실행됩니다.
+     */
+    public <T> Mono<T> submit(Long roomId, Supplier<Mono<T>> action) {
+        if (inFlight.incrementAndGet() > maxInFlight) {
+            inFlight.decrementAndGet();
+            rejectedCounter.increment();
+            return Mono.error(new GameLogicException(ErrorCode.SERVER_BUSY));
+        }
+
+        Sinks.One<T> result = Sinks.one();
+        // 추가와 정리(마지막 액션 종료 시 제거)가 같은 방에서 엇갈리지 않도록 compute 안에서 넣음
+        Mailbox mailbox = mailboxes.compute(roomId, (id, existing) -> {
+            Mailbox target = existing != null ? existing : new Mailbox(id);
+            target.queue.add(() -> run(target, action, result));
+            return target;
+        });
+        runIfIdle(mailbox);
+        return result.asMono();
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    private void runIfIdle(Mailbox mailbox) {
+        if (mailbox.running.compareAndSet(false, true)) {
+            Runnable task = mailbox.queue.poll();
+            if (task != null) {
+                task.run();
+                return;
+            }
+            mailbox.running.set(false);
+            if (!mailbox.queue.isEmpty()) {
+                runIfIdle(mailbox);
+                return;
+            }
+            // 그 사이 새 액션이 들어왔다면 compute 순서상 queue가 비어 있지 않으므로 제거되지 않음
+            mailboxes.computeIfPresent(mailbox.roomId, (id, current) ->
+                    current == mailbox && mailbox.queue.isEmpty() && !mailbox.running.get() ? null : current);
+        }
+    }
+
+    private <T> void run(Mailbox mailbox, Supplier<Mono<T>> action, Sinks.One<T> result) {
+        // subscribeOn: 동기적으로 끝나는 액션이 이어져도 호출 스택이 쌓이지 않도록 매 액션을 scheduler에서 시작
+        Mono.defer(action)
+                .timeout(actionTimeout)
+                .subscribeOn(scheduler)
+                .doFinally(signal -> {
+                    inFlight.decrementAndGet();
+                    mailbox.running.set(false);
+                    runIfIdle(mailbox);
+                })
+                .subscribe(
+                        value -> result.tryEmitValue(value),
+                        result::tryEmitError,
+                        result::tryEmitEmpty);
+    }
+
+    private static final class Mailbox {
+        private final Long roomId;
+        private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+        // 액션이 실행 중이면 true (한 방은 동시에 하나의 액션만 실행)
+        private final AtomicBoolean running = new AtomicBoolean();
+
+        private Mailbox(Long roomId) {
+            this.roomId = roomId;
+        }
+    }
+}
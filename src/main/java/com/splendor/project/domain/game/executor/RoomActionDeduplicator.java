@@ -0,0 +1,112 @@
+package com.splendor.project.domain.game.executor;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 클라이언트 action-id 기준 방별 중복 제거 창.
+ *
+ * - 성공한 액션의 결과를 방마다 최근 window-size개까지 ActionKey(목적지, 보낸 쪽, action-id)로 기억합니다.
+ *   같은 action-id라도 목적지나 보낸 쪽이 다르면 다른 액션입니다. (플레이어마다 따로 세는 id, 다른 목적지의 결과 재사용 방지)
+ * - 같은 키로 다시 온 액션은 실행하지 않습니다(Redis를 거치지 않음). 기억한 결과를 어떻게 쓸지는 컨트롤러가 정합니다.
+ *   (endTurn 재전송이 다음 플레이어의 턴까지 넘기는 문제)
+ * - 실패한 액션은 기억하지 않으므로 같은 action-id로 다시 시도할 수 있습니다.
+ * - 방 mailbox 안에서 호출되지만, 방 창 하나를 여러 스레드가 번갈아 쓰므로 창 단위로 동기화합니다.
+ * - idle-timeout 동안 쓰지 않은 방의 창은 정리합니다.
+ */
+@Component
+public class RoomActionDeduplicator {
+
+    private final int windowSize;
+    private final Duration idleTimeout;
+    private final Map<Long, Window> windows = new ConcurrentHashMap<>();
+    private final Counter duplicateCounter;
+
+    public RoomActionDeduplicator(@Value("${splendor.game.dedupe.window-size:32}") int windowSize,
+                                  @Value("${splendor.game.dedupe.idle-timeout:PT10M}") Duration idleTimeout,
+                                  MeterRegistry meterRegistry) {
+        this.windowSize = windowSize;
+        this.idleTimeout = idleTimeout;
+        this.duplicateCounter = meterRegistry.counter("splendor.game.action.duplicates");
+        Gauge.builder("splendor.game.dedupe.rooms", windows, Map::size)
+                .description("action-id 중복 제거 창을 가진 방 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 중복 판단 기준.
+     *
+     * @param destination 액션 목적지 (예: /game-end-turn)
+     * @param sender      보낸 플레이어 id. 요청에 플레이어가 없는 액션은 STOMP 세션 id
+     */
+    public record ActionKey(String destination, String sender, String actionId) {
+
+        // action-id가 없으면 null (중복 제거하지 않음)
+        public static ActionKey of(String destination, String sender, String actionId) {
+            return actionId == null ? null : new ActionKey(destination, sender, actionId);
+        }
+    }
+
+    /**
+     * 같은 방에서 이미 성공한 액션이면 그 결과를 돌려줍니다. key가 없으면(action-id 없음) 항상 비어 있습니다.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Optional<T> find(Long roomId, ActionKey key) {
+        if (key == null) {
+            return Optional.empty();
+        }
+        Window window = windows.get(roomId);
+        Object result = window == null ? null : window.get(key);
+        if (result != null) {
+            duplicateCounter.increment();
+        }
+        return Optional.ofNullable((T) result);
+    }
+
+    public void remember(Long roomId, ActionKey key, Object result) {
+        if (key == null || result == null) {
+            return;
+        }
+        windows.computeIfAbsent(roomId, id -> new Window(windowSize)).put(key, result);
+    }
+
+    @Scheduled(fixedDelayString = "${splendor.game.dedupe.sweep-interval-ms:60000}")
+    public void sweep() {
+        long idleThreshold = System.nanoTime() - idleTimeout.toNanos();
+        windows.values().removeIf(window -> window.lastAccess - idleThreshold < 0);
+    }
+
+    private static final class Window {
+        private final LinkedHashMap<ActionKey, Object> results;
+        private volatile long lastAccess = System.nanoTime();
+
+        private Window(int capacity) {
+            this.results = new LinkedHashMap<>(capacity * 2) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<ActionKey, Object> eldest) {
+                    return size() > capacity;
+                }
+            };
+        }
+
+        private synchronized Object get(ActionKey key) {
+            lastAccess = System.nanoTime();
+            return results.get(key);
+        }
+
+        private synchronized void put(ActionKey key, Object result) {
+            lastAccess = System.nanoTime();
+            results.put(key, result);
+        }
+    }
+}
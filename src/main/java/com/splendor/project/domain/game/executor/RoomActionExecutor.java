@@ -0,0 +1,161 @@
+package com.splendor.project.domain.game.executor;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 방(roomId) 단위 mailbox 실행기.
+ *
+ * - 같은 방의 액션은 제출된 순서대로 한 번에 하나씩 실행됩니다. (selectToken과 endTurn이 섞이지 않음)
+ * - 다른 방의 액션은 공용 워커 스레드에서 병렬로 실행되며, 전역 락은 없습니다.
+ * - 한 방이 워커를 독점하지 않도록 batch-size개를 실행하면 워커 큐 뒤로 다시 예약합니다.
+ * - 비어 있는 mailbox는 바로 정리합니다. (방 수만큼 메모리를 잡아두지 않음)
+ * - spring.threads.virtual.enabled=true 이면 워커 풀 대신 mailbox drain마다 가상 스레드를 씁니다.
+ *   직렬화는 mailbox가 보장하므로 동시에 처리 중인 방 수는 Redis 응답 대기와 관계없이 늘어날 수 있습니다.
+ */
+@Slf4j
+@Component
+public class RoomActionExecutor {
+
+    private final ExecutorService workers;
+    private final int batchSize;
+
+    private final Map<Long, Mailbox> mailboxes = new ConcurrentHashMap<>();
+    // 제출되었지만 아직 끝나지 않은 액션 수 (대기 + 실행 중)
+    private final AtomicInteger backlog = new AtomicInteger();
+
+    private final Timer queueWaitTimer;
+
+    public RoomActionExecutor(int threads, int batchSize, MeterRegistry meterRegistry) {
+        this(threads, batchSize, false, meterRegistry);
+    }
+
+    @Autowired
+    public RoomActionExecutor(@Value("${splendor.game.executor.threads:0}") int threads,
+                              @Value("${splendor.game.executor.batch-size:16}") int batchSize,
+                              @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+                              MeterRegistry meterRegistry) {
+        int workerCount = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.workers = virtualThreads
+                ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("room-action-", 0).factory())
+                : Executors.newFixedThreadPool(workerCount, Thread.ofPlatform().name("room-action-", 0).factory());
+        this.batchSize = batchSize;
+
+        this.queueWaitTimer = Timer.builder("splendor.game.executor.queue.wait")
+                .description("액션이 mailbox에 들어간 뒤 실행되기까지 기다린 시간")
+                .register(meterRegistry);
+        Gauge.builder("splendor.game.executor.rooms", mailboxes, Map::size)
+                .description("실행 대기 중이거나 실행 중인 방 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 방의 mailbox에 액션을 넣습니다. 반환된 future는 액션의 결과(또는 예외)로 완료됩니다.
+     */
+    public <T> CompletableFuture<T> submit(Long roomId, Supplier<T> action) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        long enqueuedAt = System.nanoTime();
+        Runnable task = () -> {
+            queueWaitTimer.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+            try {
+                future.complete(action.get());
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            } finally {
+                backlog.decrementAndGet();
+            }
+        };
+        backlog.incrementAndGet();
+
+        // 추가와 정리(drain 종료 시 제거)가 같은 방에서 엇갈리지 않도록 compute 안에서 넣음
+        Mailbox mailbox = mailboxes.compute(roomId, (id, existing) -> {
+            Mailbox target = existing != null ? existing : new Mailbox(id);
+            target.queue.add(task);
+            return target;
+        });
+        scheduleIfIdle(mailbox);
+        return future;
+    }
+
+    /**
+     * 결과가 필요 없는 액션 (STOMP 핸들러). 처리되지 않은 예외는 로그로 남깁니다.
+     */
+    public void execute(Long roomId, Runnable action) {
+        submit(roomId, () -> {
+            action.run();
+            return null;
+        }).exceptionally(e -> {
+            log.error("방 액션 처리 실패 roomId={}", roomId, e);
+            return null;
+        });
+    }
+
+    /**
+     * 제출되었지만 아직 끝나지 않은 액션 수. 게임 시작 admission이 진행 중인 게임을 우선하는 기준으로 씁니다.
+     */
+    public int backlog() {
+        return backlog.get();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        workers.shutdown();
+        if (!workers.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("처리되지 않은 방 액션을 남기고 종료합니다 rooms={}", mailboxes.size());
+        }
+    }
+
+    private void scheduleIfIdle(Mailbox mailbox) {
+        if (mailbox.scheduled.compareAndSet(false, true)) {
+            workers.execute(() -> drain(mailbox));
+        }
+    }
+
+    private void drain(Mailbox mailbox) {
+        for (int i = 0; i < batchSize; i++) {
+            Runnable task = mailbox.queue.poll();
+            if (task == null) {
+                break;
+            }
+            task.run();
+        }
+
+        mailbox.scheduled.set(false);
+        if (!mailbox.queue.isEmpty()) {
+            scheduleIfIdle(mailbox);
+            return;
+        }
+        // 그 사이 새 액션이 들어왔다면 compute 순서상 queue가 비어 있지 않으므로 제거되지 않음
+        mailboxes.computeIfPresent(mailbox.roomId, (id, current) ->
+                current == mailbox && mailbox.queue.isEmpty() && !mailbox.scheduled.get() ? null : current);
+    }
+
+    private static final class Mailbox {
+        private final Long roomId;
+        private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+        // 워커에 예약되었거나 실행 중이면 true (한 방은 동시에 하나의 워커에서만 실행)
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        private Mailbox(Long roomId) {
+            this.roomId = roomId;
+        }
+    }
+}
@@ -0,0 +1,322 @@
+package com.splendor.project.domain.game.journal;
+
+import com.splendor.project.domain.game.codec.BinaryReader;
+import com.splendor.project.domain.game.codec.BinaryWriter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * 노드 로컬 append-only 저널. 프로세스 내 저장소(splendor.store=memory)가 커밋한 턴을 기록해 두었다가 재시작 시 재생합니다.
+ *
+ * - 세그먼트 파일(journal-{순번}.log)을 메모리 매핑해 순서대로 이어 씁니다. 다 차면 다음 세그먼트로 넘어갑니다.
+ * - 레코드: [본문 길이(int)][CRC32(int)][타입(1byte)][roomId(varlong)][version(varlong)][payload 수(varint)][payload...]
+ *   길이 0은 세그먼트의 끝이고, 길이/CRC가 맞지 않는 레코드(기록 도중 중단)부터는 읽지 않습니다.
+ * - 디스크 동기화(force)는 append마다 하지 않고 sync-interval 마다 모아서 합니다. (group commit)
+ *   따라서 장애 시 마지막 sync 이후 최대 sync-interval 만큼의 커밋은 잃을 수 있습니다.
+ *   sync는 전용 스레드에서 실행합니다. (@Scheduled 공용 스레드 하나를 다른 작업과 나눠 쓰면 force가 밀려 유실 구간이 늘어남)
+ * - checkpoint: 새 세그먼트에 살아 있는 방의 전체 상태를 기록한 뒤 이전 세그먼트를 삭제합니다.
+ * - append는 방 액션 스레드(가상 스레드일 수 있음)에서 호출되므로 synchronized 대신 ReentrantLock으로 보호합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "splendor.journal.enabled", havingValue = "true")
+public class GameJournal {
+
+    private static final String SEGMENT_PREFIX = "journal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final int HEADER_BYTES = 8;
+    private static final JournalRecord.Type[] TYPES = JournalRecord.Type.values();
+
+    private final Path directory;
+    private final int segmentBytes;
+
+    private final Counter appendCounter;
+    private final Counter appendBytesCounter;
+    private final Timer syncTimer;
+
+    private final ScheduledExecutorService syncer;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private long segmentSequence;
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private boolean unsynced;
+
+    public GameJournal(Path directory, int segmentBytes, MeterRegistry meterRegistry) {
+        this(directory, segmentBytes, 10, meterRegistry);
+    }
+
+    @Autowired
+    public GameJournal(@Value("${splendor.journal.dir:journal}") Path directory,
+                       @Value("${splendor.journal.segment-bytes:67108864}") int segmentBytes,
+                       @Value("${splendor.journal.sync-interval-ms:10}") long syncIntervalMillis,
+                       MeterRegistry meterRegistry) {
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+
+        this.appendCounter = meterRegistry.counter("splendor.journal.appends");
+        this.appendBytesCounter = meterRegistry.counter("splendor.journal.append.bytes");
+        this.syncTimer = Timer.builder("splendor.journal.sync")
+                .description("group commit 한 번에 걸린 시간")
+                .register(meterRegistry);
+
+        try {
+            Files.createDirectories(directory);
+            List<Path> segments = segments();
+            segmentSequence = segments.isEmpty() ? 0 : sequenceOf(segments.get(segments.size() - 1));
+        } catch (IOException e) {
+            throw new UncheckedIOException("저널 디렉터리를 열 수 없습니다: " + directory, e);
+        }
+
+        this.syncer = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("game-journal-sync").daemon().factory());
+        syncer.scheduleWithFixedDelay(this::syncSafely, syncIntervalMillis, syncIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    // deadline: 게임 생성 후 max-lifetime이 끝나는 시각 (epoch millis). 재시작 후에도 같은 시각에 만료되도록 함께 기록
+    public void appendCreated(Long roomId, long version, byte[] state, long deadline) {
+        BinaryWriter writer = new BinaryWriter(10);
+        writer.writeVarLong(deadline);
+        append(new JournalRecord(JournalRecord.Type.CREATED, roomId, version, List.of(state, writer.toByteArray())));
+    }
+
+    public void appendEvents(Long roomId, long expectedVersion, List<byte[]> events) {
+        append(new JournalRecord(JournalRecord.Type.EVENTS, roomId, expectedVersion, events));
+    }
+
+    public void appendDeleted(Long roomId, long expectedVersion, List<byte[]> events) {
+        append(new JournalRecord(JournalRecord.Type.DELETED, roomId, expectedVersion, events));
+    }
+
+    public void append(JournalRecord record) {
+        byte[] body = encode(record);
+        int recordBytes = HEADER_BYTES + body.length;
+        if (recordBytes > segmentBytes - Integer.BYTES) {
+            throw new IllegalStateException("저널 레코드가 세그먼트 크기보다 큽니다: " + recordBytes);
+        }
+        CRC32 crc = new CRC32();
+        crc.update(body);
+
+        lock.lock();
+        try {
+            // 세그먼트 끝을 알리는 길이 0 자리(int)를 항상 남겨 둠
+            if (buffer == null || buffer.remaining() < recordBytes + Integer.BYTES) {
+                openNextSegment();
+            }
+            buffer.putInt(body.length);
+            buffer.putInt((int) crc.getValue());
+            buffer.put(body);
+            unsynced = true;
+        } finally {
+            lock.unlock();
+        }
+
+        appendCounter.increment();
+        appendBytesCounter.increment(recordBytes);
+    }
+
+    /**
+     * 마지막 sync 이후 기록된 레코드를 디스크에 반영합니다. (group commit)
+     */
+    public void sync() {
+        MappedByteBuffer unsyncedBuffer;
+        lock.lock();
+        try {
+            if (!unsynced || buffer == null) {
+                return;
+            }
+            unsyncedBuffer = buffer;
+            unsynced = false;
+        } finally {
+            lock.unlock();
+        }
+        // force 중에도 append는 계속 진행 (다음 sync에서 반영)
+        long start = System.nanoTime();
+        unsyncedBuffer.force();
+        syncTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 모든 세그먼트의 레코드를 기록 순서대로 전달합니다. 손상된 레코드를 만나면 그 세그먼트의 나머지는 건너뜁니다.
+     */
+    public void replay(Consumer<JournalRecord> consumer) {
+        lock.lock();
+        try {
+            for (Path segment : segments()) {
+                if (channel != null && sequenceOf(segment) == segmentSequence) {
+                    buffer.force(); // 현재 쓰고 있는 세그먼트도 읽을 수 있도록
+                }
+                readSegment(segment, consumer);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 새 세그먼트를 열고 순번을 돌려줍니다. 호출한 쪽은 살아 있는 방의 CREATED 레코드를 모두 기록한 뒤
+     * finishCheckpoint(순번)를 호출해 이전 세그먼트를 삭제합니다.
+     */
+    public long startCheckpoint() {
+        lock.lock();
+        try {
+            openNextSegment();
+            return segmentSequence;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void finishCheckpoint(long checkpointSequence) {
+        lock.lock();
+        try {
+            sync();
+            for (Path segment : segments()) {
+                if (sequenceOf(segment) < checkpointSequence) {
+                    try {
+                        Files.deleteIfExists(segment);
+                    } catch (IOException e) {
+                        log.warn("이전 저널 세그먼트 삭제 실패 {}", segment, e);
+                    }
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        syncer.shutdown();
+        close();
+    }
+
+    public void close() {
+        lock.lock();
+        try {
+            if (channel == null) {
+                return;
+            }
+            sync();
+            try {
+                channel.close();
+            } catch (IOException e) {
+                log.warn("저널 세그먼트 닫기 실패", e);
+            }
+            channel = null;
+            buffer = null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void syncSafely() {
+        try {
+            sync();
+        } catch (RuntimeException e) {
+            log.warn("저널 sync 실패", e);
+        }
+    }
+
+    private void openNextSegment() {
+        close();
+        segmentSequence++;
+        Path segment = directory.resolve(String.format("%s%012d%s", SEGMENT_PREFIX, segmentSequence, SEGMENT_SUFFIX));
+        try {
+            channel = FileChannel.open(segment, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException("저널 세그먼트를 만들 수 없습니다: " + segment, e);
+        }
+    }
+
+    private void readSegment(Path segment, Consumer<JournalRecord> consumer) {
+        try (FileChannel reader = FileChannel.open(segment, StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = reader.map(FileChannel.MapMode.READ_ONLY, 0, reader.size());
+            while (mapped.remaining() >= HEADER_BYTES) {
+                int length = mapped.getInt();
+                if (length <= 0 || length > mapped.remaining() - Integer.BYTES) {
+                    return;
+                }
+                int checksum = mapped.getInt();
+                byte[] body = new byte[length];
+                mapped.get(body);
+
+                CRC32 crc = new CRC32();
+                crc.update(body);
+                if ((int) crc.getValue() != checksum) {
+                    log.warn("손상된 저널 레코드 이후를 건너뜁니다 segment={} position={}", segment, mapped.position());
+                    return;
+                }
+                consumer.accept(decode(body));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("저널 세그먼트를 읽을 수 없습니다: " + segment, e);
+        }
+    }
+
+    private List<Path> segments() {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> {
+                        String name = path.getFileName().toString();
+                        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("저널 디렉터리를 읽을 수 없습니다: " + directory, e);
+        }
+    }
+
+    private static long sequenceOf(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private static byte[] encode(JournalRecord record) {
+        int payloadBytes = record.payload().stream().mapToInt(bytes -> bytes.length + 2).sum();
+        BinaryWriter writer = new BinaryWriter(24 + payloadBytes);
+        writer.writeByte(record.type().ordinal());
+        writer.writeVarLong(record.roomId());
+        writer.writeVarLong(record.version());
+        writer.writeUnsignedVarInt(record.payload().size());
+        record.payload().forEach(writer::writeBytes);
+        return writer.toByteArray();
+    }
+
+    private static JournalRecord decode(byte[] body) {
+        BinaryReader reader = new BinaryReader(body);
+        JournalRecord.Type type = TYPES[reader.readByte()];
+        long roomId = reader.readVarLong();
+        long version = reader.readVarLong();
+        int count = reader.readUnsignedVarInt();
+        List<byte[]> payload = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            payload.add(reader.readBytes());
+        }
+        return new JournalRecord(type, roomId, version, payload);
+    }
+}
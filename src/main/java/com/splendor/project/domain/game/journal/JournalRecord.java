@@ -0,0 +1,31 @@
+package com.splendor.project.domain.game.journal;
+
+import com.splendor.project.domain.game.codec.BinaryReader;
+
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * 저널 레코드 한 건.
+ *
+ * - CREATED : 게임 상태 전체 (payload = GameStateCodec.encode 결과, 게임의 deadline(epoch millis, varlong). version은 상태의 version)
+ * - EVENTS  : 커밋된 이벤트 (payload = GameEventCodec.encode 결과들, version은 커밋 전 version)
+ * - DELETED : 게임 종료/삭제 (payload = 마지막 이벤트들, version은 커밋 전 version)
+ */
+public record JournalRecord(Type type, long roomId, long version, List<byte[]> payload) {
+
+    public enum Type {
+        CREATED, EVENTS, DELETED
+    }
+
+    /**
+     * CREATED 레코드에 기록된 게임 생성 후 max-lifetime이 끝나는 시각 (epoch millis).
+     * deadline을 기록하기 전 버전이 남긴 레코드면 비어 있습니다.
+     */
+    public OptionalLong deadline() {
+        if (type != Type.CREATED || payload.size() < 2) {
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(new BinaryReader(payload.get(1)).readVarLong());
+    }
+}
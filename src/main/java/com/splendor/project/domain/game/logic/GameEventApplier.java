@@ -0,0 +1,222 @@
+package com.splendor.project.domain.game.logic;
+
+import com.splendor.project.domain.data.GemType;
+import com.splendor.project.domain.data.StaticCard;
+import com.splendor.project.domain.game.codec.GameStateSections;
+import com.splendor.project.domain.game.dto.response.BoardStateDto;
+import com.splendor.project.domain.game.dto.response.GamePlayerDto;
+import com.splendor.project.domain.game.dto.response.GameStateDto;
+import com.splendor.project.domain.game.dto.response.PlayerStateDto;
+import com.splendor.project.domain.game.entity.GameStatus;
+import com.splendor.project.domain.game.event.GameEvent;
+import com.splendor.project.exception.ErrorCode;
+import com.splendor.project.exception.GameLogicException;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 게임 이벤트를 게임 상태에 반영하는 유일한 경로.
+ * PlayGameService(실시간 처리)와 이벤트 로그 재생(스냅샷 + 이후 이벤트)이 모두 이 클래스를 사용하므로 두 결과는 항상 같습니다.
+ * 검증은 이벤트를 만들기 전에 끝나 있어야 하며, 여기서는 상태만 변경합니다.
+ */
+public class GameEventApplier {
+
+    public static void apply(GameStateDto gameStateDto, GameEvent event) {
+        PlayerStateDto playerState = gameStateDto.getPlayerStateDto().get(event.seat());
+        gameStateDto.setDirtySections(gameStateDto.getDirtySections() | changedSections(event));
+
+        switch (event) {
+            case GameEvent.TokensTaken tokensTaken -> {
+                updateBoardTokens(tokensTaken.tokens(), gameStateDto.getBoardStateDto().getAvailableTokens());
+                updatePlayerTokens(tokensTaken.tokens(), playerState.getTokens());
+            }
+            case GameEvent.CardPurchased cardPurchased -> {
+                updatePlayerStateAfterPurchase(playerState, cardPurchased.card(), cardPurchased.payment());
+                updateBoardStateAfterPurchase(gameStateDto.getBoardStateDto(), cardPurchased.card(), cardPurchased.payment());
+                // 카드 카운트 업데이트
+                playerState.setPurchasedCardCount(playerState.getPurchasedCardCount() + 1);
+            }
+            case GameEvent.TokenDiscarded tokenDiscarded -> discardToken(gameStateDto, playerState, tokenDiscarded.gem());
+            case GameEvent.TurnEnded turnEnded -> endTurn(gameStateDto);
+        }
+    }
+
+    /**
+     * 스냅샷에 이후 이벤트를 순서대로 적용합니다. version은 적용한 이벤트 수만큼 증가합니다.
+     */
+    public static GameStateDto replay(GameStateDto snapshot, List<GameEvent> events) {
+        for (GameEvent event : events) {
+            apply(snapshot, event);
+        }
+        snapshot.setVersion(snapshot.getVersion() + events.size());
+        return snapshot;
+    }
+
+    // 이벤트가 변경하는 스냅샷 구역
+    public static int changedSections(GameEvent event) {
+        return switch (event) {
+            case GameEvent.TokensTaken tokensTaken -> GameStateSections.TOKENS | GameStateSections.player(tokensTaken.seat());
+            case GameEvent.CardPurchased cardPurchased ->
+                    GameStateSections.BOARD | GameStateSections.TOKENS | GameStateSections.player(cardPurchased.seat());
+            case GameEvent.TokenDiscarded tokenDiscarded -> GameStateSections.TOKENS | GameStateSections.player(tokenDiscarded.seat());
+            case GameEvent.TurnEnded turnEnded -> GameStateSections.META;
+        };
+    }
+
+    // 플레이어 ID -> 좌석 인덱스
+    public static int seatOf(GameStateDto gameStateDto, String playerId) {
+        List<PlayerStateDto> players = gameStateDto.getPlayerStateDto();
+        for (int i = 0; i < players.size(); i++) {
+            if (players.get(i).getPlayer().getPlayerId().equals(playerId)) {
+                return i;
+            }
+        }
+        throw new GameLogicException(ErrorCode.PLAYER_NOT_FOUND);
+    }
+
+    // 플레이어 토큰을 보드로 회수
+    private static void discardToken(GameStateDto gameStateDto, PlayerStateDto playerState, GemType tokenToDiscard) {
+        Map<GemType, Integer> playerTokens = playerState.getTokens();
+        Map<GemType, Integer> boardTokens = gameStateDto.getBoardStateDto().getAvailableTokens();
+
+        // 플레이어 토큰 감소 (버림)
+        playerTokens.put(tokenToDiscard, playerTokens.getOrDefault(tokenToDiscard, 0) - 1);
+        if (playerTokens.get(tokenToDiscard) == 0) {
+            playerTokens.remove(tokenToDiscard);
+        }
+
+        // 보드 토큰 증가 (보드로 회수)
+        boardTokens.put(tokenToDiscard, boardTokens.getOrDefault(tokenToDiscard, 0) + 1);
+    }
+
+    private static void endTurn(GameStateDto gameStateDto) {
+        // 1. 점수 체크 및 최종 라운드 시작 플래그 설정 (점수 15점 이상 체크)
+        checkGameEndCondition(gameStateDto);
+
+        // 2. 다음 플레이어로 턴 변경 로직 (항상 실행되어야 함)
+        advanceTurn(gameStateDto);
+
+        // 3. 게임 종료 조건 확인 (턴을 받은 플레이어(currentPlayer)가 시작 플레이어인지 확인)
+        if (gameStateDto.isFinalRound() && isCurrentPlayerStartingPlayer(gameStateDto)) {
+            // 최종 상태 DTO에 결과 기록
+            gameStateDto.setGameStatus(GameStatus.GAME_OVER);
+            gameStateDto.setWinner(determineWinner(gameStateDto));
+        }
+    }
+
+    // 턴을 다음 플레이어로 넘기는 공통 로직
+    private static void advanceTurn(GameStateDto gameStateDto) {
+        List<PlayerStateDto> players = gameStateDto.getPlayerStateDto();
+        GamePlayerDto currentPlayer = gameStateDto.getCurrentPlayer();
+
+        int currentIndex = seatOf(gameStateDto, currentPlayer.getPlayerId());
+        int nextIndex = (currentIndex + 1) % players.size();
+        GamePlayerDto nextPlayer = players.get(nextIndex).getPlayer();
+
+        gameStateDto.setCurrentPlayer(nextPlayer);
+    }
+
+    // 카드 구매 후 플레이어 상태 업데이트
+    private static void updatePlayerStateAfterPurchase(
+            PlayerStateDto playerState, StaticCard card, Map<GemType, Integer> payment) {
+
+        Map<GemType, Integer> playerTokens = playerState.getTokens();
+        for (Map.Entry<GemType, Integer> entry : payment.entrySet()) {
+            GemType gem = entry.getKey();
+            int paidCount = entry.getValue();
+            playerTokens.put(gem, playerTokens.getOrDefault(gem, 0) - paidCount);
+            if (playerTokens.get(gem) <= 0) {
+                playerTokens.remove(gem);
+            }
+        }
+
+        Map<GemType, Integer> playerBonuses = playerState.getBonuses();
+        playerBonuses.merge(card.bonusGem(), 1, Integer::sum);
+
+        playerState.setScore(playerState.getScore() + card.points());
+    }
+
+    // 카드 구매 후 보드 상태 업데이트
+    private static void updateBoardStateAfterPurchase(
+            BoardStateDto boardState, StaticCard purchasedCard, Map<GemType, Integer> returnedTokens) {
+
+        Map<GemType, Integer> availableTokens = boardState.getAvailableTokens();
+        for (Map.Entry<GemType, Integer> entry : returnedTokens.entrySet()) {
+            availableTokens.merge(entry.getKey(), entry.getValue(), Integer::sum);
+        }
+
+        List<List<StaticCard>> cardsByLevel = boardState.getCards();
+        int levelIndex = purchasedCard.level() - 1;
+
+        if (levelIndex >= 0 && levelIndex < cardsByLevel.size()) {
+            List<StaticCard> levelCards = cardsByLevel.get(levelIndex);
+
+            boolean removed = levelCards.remove(purchasedCard);
+
+            if (removed) {
+                // TODO: 덱에서 새 카드를 뽑아와 levelCards에 추가하는 **보충** 로직 구현 필요
+            }
+        }
+    }
+
+    // 보드 토큰 업데이트 (감소)
+    private static void updateBoardTokens(Map<GemType, Integer> tokensToTake, Map<GemType, Integer> availableTokens) {
+        for (Map.Entry<GemType, Integer> entry : tokensToTake.entrySet()) {
+            GemType gemType = entry.getKey();
+            int count = entry.getValue();
+            availableTokens.put(gemType, availableTokens.getOrDefault(gemType, 0) - count);
+        }
+    }
+
+    // 플레이어 토큰 업데이트 (증가)
+    private static void updatePlayerTokens(Map<GemType, Integer> tokensToTake, Map<GemType, Integer> playerTokens) {
+        for (Map.Entry<GemType, Integer> entry : tokensToTake.entrySet()) {
+            GemType gemType = entry.getKey();
+            int count = entry.getValue();
+            playerTokens.put(gemType, playerTokens.getOrDefault(gemType, 0) + count);
+        }
+    }
+
+    // 턴을 받은 플레이어(currentPlayer)가 시작 플레이어인지 확인
+    private static boolean isCurrentPlayerStartingPlayer(GameStateDto gameStateDto) {
+        return gameStateDto.getCurrentPlayer().getPlayerId().equals(gameStateDto.getStartingPlayerId());
+    }
+
+    // 점수 15점 이상 달성 시 isFinalRound 플래그 설정
+    private static void checkGameEndCondition(GameStateDto gameStateDto) {
+        if (gameStateDto.isFinalRound()) {
+            return; // 이미 최종 라운드가 시작됨
+        }
+
+        boolean scoreMet = gameStateDto.getPlayerStateDto().stream()
+                .anyMatch(playerState -> playerState.getScore() >= 15);
+
+        if (scoreMet) {
+            gameStateDto.setFinalRound(true);
+        }
+    }
+
+    // 최종 승자 결정 로직 (규칙 5, 6 반영)
+    private static GamePlayerDto determineWinner(GameStateDto gameStateDto) {
+        List<PlayerStateDto> players = gameStateDto.getPlayerStateDto();
+
+        Optional<PlayerStateDto> winnerState = players.stream()
+                .max(Comparator
+                        // 1. 점수가 높은 사람 (규칙 5)
+                        .comparing(PlayerStateDto::getScore)
+                        // 2. 개발 카드 수가 더 적은 사람 (규칙 6-1)
+                        .thenComparing(player -> player.getPurchasedCardCount() * -1) // * -1을 곱하여 '적은' 사람이 높은 순위가 되도록 반전
+                        // 3. 귀족 카드를 더 많이 가지고 있는 사람 (규칙 6-2)
+                        .thenComparing(PlayerStateDto::getNobleCount)
+                        // 4. 남은 보석 토큰의 수가 더 많은 사람 (규칙 6-3)
+                        .thenComparing(player -> player.getTokens().values().stream().mapToInt(Integer::intValue).sum())
+                        // 5. 후공 플레이어의 승리 (턴 순서 인덱스가 더 큰 사람) (규칙 6-4)
+                        .thenComparing(PlayerStateDto::getTurnOrder)
+                );
+
+        return winnerState.map(PlayerStateDto::getPlayer).orElse(null);
+    }
+}
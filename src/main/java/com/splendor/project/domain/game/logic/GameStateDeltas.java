@@ -0,0 +1,180 @@
+package com.splendor.project.domain.game.logic;
+
+import com.splendor.project.domain.data.GemType;
+import com.splendor.project.domain.data.StaticCard;
+import com.splendor.project.domain.data.StaticNoble;
+import com.splendor.project.domain.game.dto.response.BoardStateDto;
+import com.splendor.project.domain.game.dto.response.GameStateDeltaDto;
+import com.splendor.project.domain.game.dto.response.GameStateDto;
+import com.splendor.project.domain.game.dto.response.PlayerStateDeltaDto;
+import com.splendor.project.domain.game.dto.response.PlayerStateDto;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 게임 화면 메시지(GameStateDeltaDto) 생성과 적용.
+ *
+ * diff는 서버가 직전에 발행한 상태와 이번 상태를 비교해 바뀐 필드만 담습니다.
+ * 클라이언트의 적용 과정은 테스트 코드의 GameScreenClient에 기준 구현이 있습니다.
+ */
+public class GameStateDeltas {
+
+    public static GameStateDeltaDto snapshot(GameStateDto state) {
+        GameStateDeltaDto snapshot = new GameStateDeltaDto();
+        snapshot.setType(GameStateDeltaDto.Type.SNAPSHOT);
+        snapshot.setGameId(state.getGameId());
+        snapshot.setVersion(state.getVersion());
+        snapshot.setSnapshot(state);
+        return snapshot;
+    }
+
+    /**
+     * previous 이후 바뀐 필드만 담은 DELTA. previous가 없거나 이어지지 않는 상태면 SNAPSHOT을 반환합니다.
+     */
+    public static GameStateDeltaDto diff(GameStateDto previous, GameStateDto current) {
+        if (previous == null
+                || !Objects.equals(previous.getGameId(), current.getGameId())
+                || previous.getVersion() >= current.getVersion()
+                || previous.getPlayerStateDto().size() != current.getPlayerStateDto().size()) {
+            return snapshot(current);
+        }
+
+        GameStateDeltaDto delta = new GameStateDeltaDto();
+        delta.setType(GameStateDeltaDto.Type.DELTA);
+        delta.setGameId(current.getGameId());
+        delta.setVersion(current.getVersion());
+        delta.setBaseVersion(previous.getVersion());
+
+        // 1. 보드
+        BoardStateDto before = previous.getBoardStateDto();
+        BoardStateDto after = current.getBoardStateDto();
+        delta.setAvailableTokens(changedEntries(before.getAvailableTokens(), after.getAvailableTokens()));
+
+        Map<Integer, List<StaticCard>> cards = new HashMap<>();
+        for (int level = 0; level < after.getCards().size(); level++) {
+            List<StaticCard> row = after.getCards().get(level);
+            if (level >= before.getCards().size() || !before.getCards().get(level).equals(row)) {
+                cards.put(level, new ArrayList<>(row));
+            }
+        }
+        delta.setCards(cards.isEmpty() ? null : cards);
+
+        if (!Objects.equals(before.getNobles(), after.getNobles())) {
+            delta.setNobles(new ArrayList<>(after.getNobles()));
+        }
+
+        // 2. 플레이어
+        List<PlayerStateDeltaDto> players = new ArrayList<>();
+        for (int seat = 0; seat < current.getPlayerStateDto().size(); seat++) {
+            PlayerStateDeltaDto playerDelta = diffPlayer(seat, previous.getPlayerStateDto().get(seat), current.getPlayerStateDto().get(seat));
+            if (!playerDelta.isEmpty()) {
+                players.add(playerDelta);
+            }
+        }
+        delta.setPlayers(players.isEmpty() ? null : players);
+
+        // 3. 턴/종료 정보
+        if (!Objects.equals(previous.getCurrentPlayer(), current.getCurrentPlayer())) {
+            delta.setCurrentPlayer(current.getCurrentPlayer());
+        }
+        if (previous.getGameStatus() != current.getGameStatus()) {
+            delta.setGameStatus(current.getGameStatus());
+        }
+        if (!Objects.equals(previous.getWinner(), current.getWinner())) {
+            delta.setWinner(current.getWinner());
+        }
+        if (previous.isFinalRound() != current.isFinalRound()) {
+            delta.setFinalRound(current.isFinalRound());
+        }
+        return delta;
+    }
+
+    /**
+     * 메시지의 카드/귀족을 카탈로그 id로 바꿉니다. (splendor.broadcast.catalog-refs.enabled=true)
+     * message는 새로 만든 메시지여야 하며 그대로 바꿔 반환합니다. SNAPSHOT의 상태는 발행 중인 상태이므로 복사본의 보드만 바꿉니다.
+     */
+    public static GameStateDeltaDto toCatalogRefs(GameStateDeltaDto message, String catalogVersion) {
+        message.setCatalogVersion(catalogVersion);
+        if (message.getSnapshot() != null) {
+            GameStateDto snapshot = copyOf(message.getSnapshot());
+            BoardStateDto board = snapshot.getBoardStateDto();
+            Map<Integer, List<StaticCard>> rows = new HashMap<>();
+            for (int level = 0; level < board.getCards().size(); level++) {
+                rows.put(level, board.getCards().get(level));
+            }
+            message.setCards(rows);
+            message.setNobles(board.getNobles());
+            snapshot.setBoardStateDto(new BoardStateDto(null, null, board.getAvailableTokens()));
+            message.setSnapshot(snapshot);
+        }
+        if (message.getCards() != null) {
+            Map<Integer, List<Integer>> cardIds = new HashMap<>();
+            message.getCards().forEach((level, row) -> cardIds.put(level, row.stream().map(StaticCard::id).toList()));
+            message.setCardIds(cardIds);
+            message.setCards(null);
+        }
+        if (message.getNobles() != null) {
+            message.setNobleIds(message.getNobles().stream().map(StaticNoble::id).toList());
+            message.setNobles(null);
+        }
+        return message;
+    }
+
+    /**
+     * 발행한 상태를 기억해 두기 위한 복사본. 발행한 상태 객체는 호출자(와 중복 제거 창)가 계속 들고 있으므로 참조를 보관하지 않습니다.
+     * 카드/귀족은 불변(record)이라 목록만 복사합니다.
+     */
+    public static GameStateDto copyOf(GameStateDto state) {
+        BoardStateDto board = state.getBoardStateDto();
+        List<List<StaticCard>> cards = new ArrayList<>();
+        board.getCards().forEach(row -> cards.add(new ArrayList<>(row)));
+        BoardStateDto boardCopy = new BoardStateDto(cards, new ArrayList<>(board.getNobles()), new HashMap<>(board.getAvailableTokens()));
+
+        List<PlayerStateDto> players = new ArrayList<>();
+        for (PlayerStateDto player : state.getPlayerStateDto()) {
+            players.add(new PlayerStateDto(player.getPlayer(), player.getScore(), new HashMap<>(player.getTokens()),
+                    new HashMap<>(player.getBonuses()), player.getPurchasedCardCount(), player.getNobleCount(), player.getTurnOrder()));
+        }
+
+        GameStateDto copy = new GameStateDto(boardCopy, players, state.getGameId(), state.getCurrentPlayer(),
+                state.getGameStatus(), state.getWinner(), state.isFinalRound(), state.getStartingPlayerId());
+        copy.setVersion(state.getVersion());
+        return copy;
+    }
+
+    private static PlayerStateDeltaDto diffPlayer(int seat, PlayerStateDto before, PlayerStateDto after) {
+        PlayerStateDeltaDto delta = new PlayerStateDeltaDto(seat);
+        if (before.getScore() != after.getScore()) {
+            delta.setScore(after.getScore());
+        }
+        delta.setTokens(changedEntries(before.getTokens(), after.getTokens()));
+        delta.setBonuses(changedEntries(before.getBonuses(), after.getBonuses()));
+        if (before.getPurchasedCardCount() != after.getPurchasedCardCount()) {
+            delta.setPurchasedCardCount(after.getPurchasedCardCount());
+        }
+        if (before.getNobleCount() != after.getNobleCount()) {
+            delta.setNobleCount(after.getNobleCount());
+        }
+        return delta;
+    }
+
+    // 바뀐 보석만 (없어진 보석은 null 값). 바뀐 것이 없으면 null
+    private static Map<GemType, Integer> changedEntries(Map<GemType, Integer> before, Map<GemType, Integer> after) {
+        Map<GemType, Integer> changed = new HashMap<>();
+        Set<GemType> gems = new HashSet<>(before.keySet());
+        gems.addAll(after.keySet());
+        for (GemType gem : gems) {
+            Integer value = after.get(gem);
+            if (!Objects.equals(before.get(gem), value)) {
+                changed.put(gem, value);
+            }
+        }
+        return changed.isEmpty() ? null : changed;
+    }
+}
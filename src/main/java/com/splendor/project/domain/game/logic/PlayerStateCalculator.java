@@ -11,6 +11,9 @@ import java.util.Map;
 
 public class PlayerStateCalculator {
 
+    // GemType.values()는 호출마다 배열을 복사하므로 한 번만 만들어 둠
+    private static final GemType[] GEM_TYPES = GemType.values();
+
     /**
      * 플레이어의 현재 토큰과 보너스를 고려하여 카드를 구매할 수 있는지 검증하고, 지불 토큰을 계산합니다.
      *
@@ -23,37 +26,23 @@ public class PlayerStateCalculator {
         Map<GemType, Integer> requiredPayment = new HashMap<>();
         int totalGoldTokenNeeded = 0;
 
-        for (GemType gem : GemType.values()) {
+        for (GemType gem : GEM_TYPES) {
             if (gem == GemType.GOLD) continue;
 
-            int cost = getCardCost(card, gem);
-            if (cost == 0) continue;
-
             // 1. 보너스(할인) 적용 후 순수하게 토큰으로 지불해야 할 금액
             int bonus = playerStateDto.getBonuses().getOrDefault(gem, 0);
-            int netCost = Math.max(0, cost - bonus);
+            int netCost = Math.max(0, getCardCost(card, gem) - bonus);
 
             if (netCost == 0) continue; // 보너스로 모두 충당 가능
 
-            // 2. 일반 토큰 잔액 확인
-            int currentTokens = playerStateDto.getTokens().getOrDefault(gem, 0);
-
-            if (currentTokens < netCost) {
-                // 3. 일반 토큰이 부족하면 황금 토큰으로 대체할 수 있는지 확인
-                int neededFromGold = netCost - currentTokens;
-                totalGoldTokenNeeded += neededFromGold;
-                requiredPayment.put(gem, currentTokens); // 가진 일반 토큰 모두 지불
-            } else {
-                // 4. 일반 토큰으로 충분하면 일반 토큰만 지불
-                requiredPayment.put(gem, netCost);
-            }
+            // 2. 가진 일반 토큰으로 최대한 지불하고, 모자라는 만큼은 황금 토큰으로 대체
+            int paidTokens = Math.min(netCost, playerStateDto.getTokens().getOrDefault(gem, 0));
+            requiredPayment.put(gem, paidTokens);
+            totalGoldTokenNeeded += netCost - paidTokens;
         }
 
-        // 5. 최종 황금 토큰 사용 가능 여부 검증
-        int availableGold = playerStateDto.getTokens().getOrDefault(GemType.GOLD, 0);
-
-        if (availableGold < totalGoldTokenNeeded) {
-            // 1. 검증 실패: 황금 토큰까지 부족하면 예외 발생
+        // 3. 황금 토큰까지 부족하면 예외 발생
+        if (playerStateDto.getTokens().getOrDefault(GemType.GOLD, 0) < totalGoldTokenNeeded) {
             throw new GameLogicException(ErrorCode.NOT_ENOUGH_TOKENS);
         }
 
@@ -0,0 +1,204 @@
+package com.splendor.project.domain.game.repository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.DataType;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 방치된 방 키를 주기적으로 정리합니다. (Redis 메모리 상한 유지)
+ *
+ * - selectedToken:* / cardSelection:* 와 그 인덱스 Set, game:* Hash : 예전 @RedisHash 엔티티가 남긴 키. 더 이상 읽는 곳이 없으므로 삭제
+ * - game:* / game-state:* / game-events:* 중 만료 시간이 없는 키 : idle-timeout 뒤 만료되도록 TTL 설정
+ * 삭제한 키 수와 MEMORY USAGE로 잰 회수 바이트는 splendor.store.reaper.* 메트릭과 로그로 남깁니다.
+ *
+ * SCAN은 방 키 접두사로만 매치하고, 한 페이지(scan-count개)의 TYPE/TTL과 DEL/EXPIRE는 각각 파이프라인 하나로 보냅니다.
+ * (키마다 왕복하지 않도록) 인덱스 키(selectedToken, cardSelection, game)는 SCAN 없이 바로 확인합니다.
+ * 정리는 전용 스레드에서 실행합니다. (@Scheduled 공용 스레드에서 오래 돌면 클러스터 heartbeat 같은 다른 작업이 밀림)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "splendor.store", havingValue = "redis", matchIfMissing = true)
+public class GameKeyReaper {
+
+    private static final List<String> LEGACY_SELECTION_KEYS = List.of("selectedToken", "cardSelection");
+    private static final String LEGACY_GAME_INDEX_KEY = "game";
+    private static final String GAME_KEY_PREFIX = "game:";
+    private static final List<String> ROOM_KEY_PREFIXES = List.of(GAME_KEY_PREFIX, "game-state:", "game-events:");
+    private static final List<String> INDEX_KEYS = List.of("selectedToken", "cardSelection", LEGACY_GAME_INDEX_KEY);
+    // game[:-]* 는 game:*, game-state:*, game-events:* 를 SCAN 한 번으로 매치
+    private static final List<String> SCAN_PATTERNS = List.of("selectedToken:*", "cardSelection:*", "game[:-]*");
+
+    private final RedisTemplate<String, byte[]> gameStateRedisTemplate;
+    private final Duration idleTimeout;
+    private final int scanCount;
+    private final ScheduledExecutorService reaper;
+
+    private final Counter deletedCounter;
+    private final Counter expiredCounter;
+    private final Counter reclaimedBytesCounter;
+
+    enum Action {
+        DELETE, EXPIRE, KEEP
+    }
+
+    public GameKeyReaper(RedisTemplate<String, byte[]> gameStateRedisTemplate,
+                         MeterRegistry meterRegistry,
+                         @Value("${splendor.store.idle-timeout:PT1H}") Duration idleTimeout,
+                         @Value("${splendor.store.reaper.scan-count:500}") int scanCount,
+                         @Value("${splendor.store.reaper.interval-ms:300000}") long intervalMillis) {
+        this.gameStateRedisTemplate = gameStateRedisTemplate;
+        this.idleTimeout = idleTimeout;
+        this.scanCount = scanCount;
+
+        this.deletedCounter = meterRegistry.counter("splendor.store.reaper.keys", "action", "deleted");
+        this.expiredCounter = meterRegistry.counter("splendor.store.reaper.keys", "action", "expired");
+        this.reclaimedBytesCounter = meterRegistry.counter("splendor.store.reaper.reclaimed.bytes");
+
+        this.reaper = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("game-key-reaper").daemon().factory());
+        reaper.scheduleWithFixedDelay(this::reapSafely, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public void reap() {
+        long[] totals = new long[3]; // 삭제 키 수, TTL 설정 키 수, 회수 바이트
+        gameStateRedisTemplate.execute((RedisCallback<Void>) connection -> {
+            reapPage(connection, INDEX_KEYS.stream().map(key -> key.getBytes(StandardCharsets.UTF_8)).toList(), totals);
+            for (String pattern : SCAN_PATTERNS) {
+                ScanOptions options = ScanOptions.scanOptions().match(pattern).count(scanCount).build();
+                try (Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+                    List<byte[]> page = new ArrayList<>(scanCount);
+                    while (cursor.hasNext()) {
+                        page.add(cursor.next());
+                        if (page.size() >= scanCount) {
+                            reapPage(connection, page, totals);
+                            page.clear();
+                        }
+                    }
+                    reapPage(connection, page, totals);
+                }
+            }
+            return null;
+        });
+
+        if (totals[0] > 0 || totals[1] > 0) {
+            log.info("방치된 게임 키 정리: 삭제 {}개 ({} bytes 회수), TTL 설정 {}개", totals[0], totals[2], totals[1]);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        reaper.shutdownNow();
+    }
+
+    private void reapSafely() {
+        try {
+            reap();
+        } catch (RuntimeException e) {
+            log.warn("방치된 게임 키 정리 실패", e);
+        }
+    }
+
+    // 키 묶음의 TYPE/TTL을 파이프라인 하나로 읽고, 삭제/TTL 설정도 파이프라인 하나로 보냄
+    private void reapPage(RedisConnection connection, List<byte[]> rawKeys, long[] totals) {
+        if (rawKeys.isEmpty()) {
+            return;
+        }
+
+        connection.openPipeline();
+        for (byte[] rawKey : rawKeys) {
+            connection.keyCommands().type(rawKey);
+            connection.keyCommands().ttl(rawKey);
+        }
+        List<Object> described = connection.closePipeline();
+
+        List<byte[]> toDelete = new ArrayList<>();
+        List<byte[]> toExpire = new ArrayList<>();
+        for (int i = 0; i < rawKeys.size(); i++) {
+            byte[] rawKey = rawKeys.get(i);
+            DataType type = described.get(2 * i) instanceof DataType dataType ? dataType : null;
+            Long ttl = described.get(2 * i + 1) instanceof Long seconds ? seconds : null;
+            switch (classify(new String(rawKey, StandardCharsets.UTF_8), type, ttl)) {
+                case DELETE -> toDelete.add(rawKey);
+                case EXPIRE -> toExpire.add(rawKey);
+                case KEEP -> {
+                }
+            }
+        }
+        if (toDelete.isEmpty() && toExpire.isEmpty()) {
+            return;
+        }
+
+        connection.openPipeline();
+        for (byte[] rawKey : toDelete) {
+            memoryUsage(connection, rawKey);
+            connection.keyCommands().del(rawKey);
+        }
+        for (byte[] rawKey : toExpire) {
+            connection.keyCommands().expire(rawKey, idleTimeout.toSeconds());
+        }
+        List<Object> applied = connection.closePipeline();
+
+        for (int i = 0; i < toDelete.size(); i++) {
+            long bytes = applied.get(2 * i) instanceof Long usage ? usage : 0L;
+            if (applied.get(2 * i + 1) instanceof Long deleted && deleted > 0) {
+                totals[0]++;
+                totals[2] += bytes;
+                deletedCounter.increment();
+                reclaimedBytesCounter.increment(bytes);
+            }
+        }
+        for (int i = 0; i < toExpire.size(); i++) {
+            if (Boolean.TRUE.equals(applied.get(2 * toDelete.size() + i))) {
+                totals[1]++;
+                expiredCounter.increment();
+            }
+        }
+    }
+
+    /**
+     * 키 하나를 어떻게 처리할지 정합니다. ttl은 Redis TTL 결과 (-1: 만료 시간 없음, -2: 키 없음)
+     */
+    static Action classify(String key, DataType type, Long ttl) {
+        if (ttl == null || ttl == -2) {
+            return Action.KEEP;
+        }
+        for (String legacyKey : LEGACY_SELECTION_KEYS) {
+            if (key.equals(legacyKey) || key.startsWith(legacyKey + ":")) {
+                return Action.DELETE;
+            }
+        }
+        // 예전 GameStateDto(@RedisHash("game"))의 id Set과 Hash. 지금의 game:{roomId}는 String(GameSession)
+        if (key.equals(LEGACY_GAME_INDEX_KEY) && type == DataType.SET) {
+            return Action.DELETE;
+        }
+        if (key.startsWith(GAME_KEY_PREFIX) && type == DataType.HASH) {
+            return Action.DELETE;
+        }
+        if (ttl == -1 && ROOM_KEY_PREFIXES.stream().anyMatch(key::startsWith)) {
+            return Action.EXPIRE;
+        }
+        return Action.KEEP;
+    }
+
+    // 파이프라인 안에서 호출하므로 결과는 closePipeline으로 받음
+    private static void memoryUsage(RedisConnection connection, byte[] rawKey) {
+        connection.execute("MEMORY", "USAGE".getBytes(StandardCharsets.US_ASCII), rawKey);
+    }
+}
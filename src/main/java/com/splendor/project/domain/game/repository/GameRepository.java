@@ -1,37 +1,18 @@
 package com.splendor.project.domain.game.repository;
 
 import com.splendor.project.domain.game.entity.GameSession;
-import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
-import java.util.concurrent.TimeUnit;
 
-@Repository
-@RequiredArgsConstructor
-public class GameRepository {
+/**
+ * 방 단위 GameSession 저장소. 저장할 때마다 만료 시간을 idle-timeout(splendor.store.idle-timeout) 뒤로 갱신하되,
+ * 처음 저장한 뒤 max-lifetime(splendor.store.max-lifetime)이 지나면 활동과 관계없이 만료됩니다.
+ */
+public interface GameRepository {
 
-    private final RedisTemplate<String, GameSession> redisTemplate;
+    void save(GameSession gameSession);
 
-    // Redis Key 접두사
-    private static final String KEY_PREFIX = "game:";
-    // 데이터 만료 시간
-    private static final long TIMEOUT_HOURS = 3;
+    Optional<GameSession> findById(Long roomId);
 
-    public void save(GameSession gameSession) {
-        String key = KEY_PREFIX + gameSession.getRoomId();
-        redisTemplate.opsForValue().set(key, gameSession, TIMEOUT_HOURS, TimeUnit.HOURS);
-    }
-
-    public Optional<GameSession> findById(Long roomId) {
-        String key = KEY_PREFIX + roomId;
-        GameSession gameSession = redisTemplate.opsForValue().get(key);
-        return Optional.ofNullable(gameSession);
-    }
-
-    public void deleteById(Long roomId) {
-        String key = KEY_PREFIX + roomId;
-        redisTemplate.delete(key);
-    }
+    void deleteById(Long roomId);
 }
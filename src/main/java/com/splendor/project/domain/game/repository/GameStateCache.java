@@ -0,0 +1,392 @@
+package com.splendor.project.domain.game.repository;
+
+import com.splendor.project.domain.game.codec.GameStateCodec;
+import com.splendor.project.domain.game.dto.response.GameStateDto;
+import com.splendor.project.domain.game.dto.response.PendingTurnDto;
+import com.splendor.project.domain.game.event.GameEvent;
+import com.splendor.project.global.cluster.RoomOwnershipChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+/**
+ * GameStateRepository(Redis) 앞단의 방(roomId) 단위 로컬 캐시.
+ *
+ * - 캐시에는 인코딩된 상태(불변 byte[])와 version을 보관하고, 조회할 때마다 새 인스턴스로 디코딩해서 돌려줍니다.
+ *   (같은 방을 처리하는 스레드끼리 인스턴스를 공유하지 않음)
+ * - 선택 상태(save)는 dirty 표시 후 비동기(write-behind)로 Redis에 반영합니다.
+ * - 게임 상태 변경(commit)은 이벤트를 Redis에서 version을 비교하는 compare-and-set으로 즉시 추가하고,
+ *   실패하면 캐시 항목을 버려 다음 조회 때 최신 상태를 다시 읽게 합니다.
+ * - 여러 노드가 같은 방을 처리할 때는 다른 노드의 커밋/선택 저장 알림(invalidate)으로 이전 version 항목을 버려,
+ *   조회는 로컬에서 처리하면서도 커밋 이후에는 최신 상태를 읽게 합니다. (GameStateInvalidationListener)
+ * - 방 소유 노드 샤딩을 켜면 소유권이 다른 노드로 넘어간 방의 항목은 Redis에 반영한 뒤 버립니다.
+ *   노드를 drain할 때도 같은 방식으로 모든 방을 넘깁니다. (handOff)
+ * - 항목 인스턴스는 save/commit마다 바뀌므로 flush는 인스턴스가 아닌 방 단위 잠금 안에서 그 방의 현재 항목을 반영합니다.
+ *   (먼저 읽어 둔 이전 항목이 더 새로운 선택 상태를 Redis에서 덮어쓰지 않도록)
+ * - 최대 크기를 넘은 항목의 정리(정렬, flush)는 요청 스레드가 아닌 주기 flush에서 합니다. 그 사이에는 잠시 최대 크기를 넘을 수 있습니다.
+ */
+@Slf4j
+@Component
+public class GameStateCache {
+
+    // 방 단위 flush 잠금 수 (2의 거듭제곱)
+    private static final int FLUSH_LOCK_STRIPES = 64;
+
+    private final GameStateRepository gameStateRepository;
+    private final GameStateCodec gameStateCodec;
+
+    private final Map<Long, CachedGameState> entries = new ConcurrentHashMap<>();
+    // Redis 호출을 감싸므로 synchronized 대신 ReentrantLock (가상 스레드가 대기 중 캐리어 스레드를 붙잡지 않도록)
+    private final ReentrantLock[] flushLocks = new ReentrantLock[FLUSH_LOCK_STRIPES];
+
+    private final int maxSize;
+    private final Duration idleTimeout;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter evictionCounter;
+    private final Counter commitConflictCounter;
+    private final Counter invalidationCounter;
+    private final Timer flushLagTimer;
+
+    public GameStateCache(GameStateRepository gameStateRepository,
+                          GameStateCodec gameStateCodec,
+                          MeterRegistry meterRegistry,
+                          @Value("${splendor.cache.game-state.max-size:10000}") int maxSize,
+                          @Value("${splendor.cache.game-state.idle-timeout:PT30M}") Duration idleTimeout) {
+        this.gameStateRepository = gameStateRepository;
+        this.gameStateCodec = gameStateCodec;
+        this.maxSize = maxSize;
+        this.idleTimeout = idleTimeout;
+        for (int i = 0; i < flushLocks.length; i++) {
+            flushLocks[i] = new ReentrantLock();
+        }
+
+        this.hitCounter = meterRegistry.counter("splendor.game.cache.requests", "result", "hit");
+        this.missCounter = meterRegistry.counter("splendor.game.cache.requests", "result", "miss");
+        this.evictionCounter = meterRegistry.counter("splendor.game.cache.evictions");
+        this.commitConflictCounter = meterRegistry.counter("splendor.game.commit.conflicts");
+        this.invalidationCounter = meterRegistry.counter("splendor.game.cache.invalidations");
+        this.flushLagTimer = Timer.builder("splendor.game.cache.flush.lag")
+                .description("dirty 표시부터 Redis 반영까지 걸린 시간")
+                .register(meterRegistry);
+
+        Gauge.builder("splendor.game.cache.size", entries, Map::size).register(meterRegistry);
+        Gauge.builder("splendor.game.cache.dirty", this, GameStateCache::dirtyCount).register(meterRegistry);
+        Gauge.builder("splendor.game.cache.hit.ratio", this, GameStateCache::hitRatio).register(meterRegistry);
+    }
+
+    /**
+     * 게임 상태를 조회합니다. 반환되는 인스턴스는 호출자 전용이므로 자유롭게 수정해도 됩니다.
+     */
+    public Optional<GameStateDto> findById(Long roomId) {
+        CachedGameState cached = entries.get(roomId);
+        if (cached != null) {
+            hitCounter.increment();
+            cached.touch();
+            return Optional.of(materialize(cached));
+        }
+
+        missCounter.increment();
+        Optional<GameStateDto> loaded = gameStateRepository.findById(roomId);
+        loaded.ifPresent(state -> putIfNewer(encode(state, false)));
+        return loaded;
+    }
+
+    /**
+     * 게임 시작 시 최초 상태를 Redis에 바로 저장하고 캐시에 올립니다.
+     */
+    public GameStateDto create(GameStateDto gameStateDto) {
+        gameStateRepository.save(gameStateDto);
+        entries.put(gameStateDto.getGameId(), encode(gameStateDto, false));
+        return gameStateDto;
+    }
+
+    /**
+     * 선택 상태(pendingTurn)를 캐시에 저장하고 dirty로 표시합니다. Redis 반영은 flush 시점에 일어납니다.
+     * 게임 상태 자체의 변경은 commit()을 사용해야 합니다.
+     */
+    public GameStateDto save(GameStateDto gameStateDto) {
+        entries.compute(gameStateDto.getGameId(), (roomId, cached) -> {
+            if (cached != null && cached.version > gameStateDto.getVersion()) {
+                // 이미 더 새로운 커밋이 반영된 상태에서 들어온 이전 턴의 선택은 버림
+                return cached;
+            }
+            CachedGameState created = cached != null && cached.version == gameStateDto.getVersion()
+                    ? cached.withPending(encodePending(gameStateDto.getPendingTurn()))
+                    : encode(gameStateDto, true);
+            if (cached != null && cached.dirty) {
+                created.dirtySince = cached.dirtySince;
+            }
+            return created;
+        });
+        return gameStateDto;
+    }
+
+    /**
+     * 이벤트를 version compare-and-set으로 Redis 이벤트 로그에 즉시 추가합니다.
+     * gameStateDto는 이벤트를 적용한 결과이며, 캐시에는 이 상태가 그대로 올라갑니다. (Redis에는 스냅샷 주기에만 저장)
+     * 성공하면 gameStateDto의 version이 이벤트 수만큼 증가하고, 실패하면 캐시 항목을 버립니다.
+     *
+     * @return 다른 요청이 먼저 커밋해 version이 맞지 않으면 false
+     */
+    public boolean commit(GameStateDto gameStateDto, List<GameEvent> events) {
+        Long roomId = gameStateDto.getGameId();
+        long expectedVersion = gameStateDto.getVersion();
+
+        if (gameStateRepository.compareAndSet(gameStateDto, events, expectedVersion)) {
+            putIfNewer(encode(gameStateDto, false));
+            return true;
+        }
+        onConflict(roomId, expectedVersion);
+        return false;
+    }
+
+    /**
+     * 게임 종료 커밋. version이 맞을 때만 마지막 이벤트를 로그에 남기고 Redis와 캐시에서 상태를 삭제합니다.
+     */
+    public boolean commitDelete(GameStateDto gameStateDto, List<GameEvent> events) {
+        Long roomId = gameStateDto.getGameId();
+        long expectedVersion = gameStateDto.getVersion();
+
+        if (gameStateRepository.compareAndDelete(roomId, events, expectedVersion)) {
+            entries.remove(roomId);
+            return true;
+        }
+        onConflict(roomId, expectedVersion);
+        return false;
+    }
+
+    /**
+     * 해당 방의 dirty 선택 상태를 즉시 Redis에 반영합니다.
+     */
+    public void flush(Long roomId) {
+        flushEntry(roomId);
+    }
+
+    public void deleteById(Long roomId) {
+        entries.remove(roomId);
+        gameStateRepository.deleteById(roomId);
+    }
+
+    /**
+     * 다른 노드가 version까지 커밋(또는 그 version에서 선택 상태를 저장)했을 때 호출됩니다.
+     * 그보다 이전 version 항목과, 같은 version이지만 이 노드에서 바꾼 선택이 없는 항목을 버립니다.
+     * version이 GameStateInvalidation.ALL_VERSIONS이면 (게임 재시작/삭제) 해당 방 항목을 모두 버립니다.
+     */
+    public void invalidate(Long roomId, long version) {
+        entries.computeIfPresent(roomId, (id, cached) -> {
+            if (version == GameStateInvalidation.ALL_VERSIONS
+                    || cached.version < version
+                    || (cached.version == version && !cached.dirty)) {
+                invalidationCounter.increment();
+                return null;
+            }
+            return cached;
+        });
+    }
+
+    /**
+     * 선택 상태를 Redis에 반영한 뒤 캐시에서 제거합니다. (노드 drain 시 다른 노드가 최신 상태를 읽도록)
+     */
+    public void handOff(Long roomId) {
+        evictIf(roomId, cached -> true);
+    }
+
+    public Set<Long> cachedRoomIds() {
+        return Set.copyOf(entries.keySet());
+    }
+
+    /**
+     * 클러스터 멤버가 바뀌어 이 노드가 더 이상 소유하지 않는 방은 선택 상태를 반영한 뒤 캐시에서 제거합니다.
+     * (새 소유 노드가 Redis에서 최신 상태를 읽도록)
+     */
+    @EventListener
+    public void onOwnershipChanged(RoomOwnershipChangedEvent event) {
+        for (Long roomId : entries.keySet()) {
+            if (event.ownership().isLocal(roomId)) {
+                continue;
+            }
+            try {
+                evictIf(roomId, cached -> true);
+            } catch (RuntimeException e) {
+                log.warn("소유권 이전 전 flush 실패 roomId={}", roomId, e);
+                if (entries.remove(roomId) != null) {
+                    evictionCounter.increment();
+                }
+            }
+        }
+    }
+
+    /**
+     * 주기적으로 dirty 항목을 Redis에 반영하고, 유휴 시간이 지난 항목과 최대 크기를 넘은 항목을 제거합니다.
+     */
+    @Scheduled(fixedDelayString = "${splendor.cache.game-state.flush-interval-ms:500}")
+    public void flushDirtyEntries() {
+        long idleThreshold = System.nanoTime() - idleTimeout.toNanos();
+
+        for (Long roomId : entries.keySet()) {
+            try {
+                evictIf(roomId, cached -> cached.lastAccess < idleThreshold);
+            } catch (RuntimeException e) {
+                // 반영 실패 시 dirty 상태를 유지하고 다음 주기에 재시도
+                log.warn("게임 상태 flush 실패 roomId={}", roomId, e);
+            }
+        }
+        evictOversized();
+    }
+
+    @PreDestroy
+    public void flushAll() {
+        entries.keySet().forEach(this::flushEntry);
+    }
+
+    public long dirtyCount() {
+        return entries.values().stream().filter(cached -> cached.dirty).count();
+    }
+
+    public double hitRatio() {
+        double total = hitCounter.count() + missCounter.count();
+        return total == 0 ? 0.0 : hitCounter.count() / total;
+    }
+
+    // 방의 현재 항목을 반영하고 반영한 항목을 돌려줍니다. (없으면 null)
+    private CachedGameState flushEntry(Long roomId) {
+        ReentrantLock lock = flushLockOf(roomId);
+        lock.lock();
+        try {
+            CachedGameState cached = entries.get(roomId);
+            if (cached == null || !cached.dirty) {
+                return cached;
+            }
+            // version이 바뀌었다면(다른 노드가 커밋) 이전 턴의 선택 상태이므로 Redis에서 무시됨
+            boolean applied = gameStateRepository.savePendingTurn(roomId, cached.version, decodePending(cached.pending));
+            cached.dirty = false;
+            flushLagTimer.record(Duration.ofNanos(System.nanoTime() - cached.dirtySince));
+            if (!applied) {
+                onConflict(roomId, cached.version);
+            }
+            return cached;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 현재 항목을 반영한 뒤 condition을 만족하면 제거 (반영과 제거 사이에 다른 flush가 끼어들지 않도록 같은 잠금 안에서)
+    // 그 사이 save/commit으로 항목이 바뀌었으면 새 항목은 남김
+    private void evictIf(Long roomId, Predicate<CachedGameState> condition) {
+        ReentrantLock lock = flushLockOf(roomId);
+        lock.lock();
+        try {
+            CachedGameState flushed = flushEntry(roomId);
+            if (flushed != null && condition.test(flushed) && entries.remove(roomId, flushed)) {
+                evictionCounter.increment();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private ReentrantLock flushLockOf(Long roomId) {
+        return flushLocks[Long.hashCode(roomId) & (FLUSH_LOCK_STRIPES - 1)];
+    }
+
+    // 충돌한 version 이하의 항목만 버림 (그 사이 들어온 더 새로운 커밋은 유지)
+    private void onConflict(Long roomId, long staleVersion) {
+        commitConflictCounter.increment();
+        entries.computeIfPresent(roomId, (id, cached) -> cached.version <= staleVersion ? null : cached);
+    }
+
+    private void putIfNewer(CachedGameState fresh) {
+        entries.merge(fresh.roomId, fresh, (current, candidate) -> candidate.version > current.version ? candidate : current);
+    }
+
+    // 최대 크기를 넘으면 가장 오래 접근하지 않은 항목부터 정리 (dirty 항목은 먼저 반영)
+    private void evictOversized() {
+        int overflow = entries.size() - maxSize;
+        if (overflow <= 0) {
+            return;
+        }
+
+        entries.entrySet().stream()
+                .sorted(Comparator.comparingLong(entry -> entry.getValue().lastAccess))
+                .limit(overflow)
+                .toList()
+                .forEach(entry -> {
+                    try {
+                        evictIf(entry.getKey(), cached -> cached == entry.getValue());
+                    } catch (RuntimeException e) {
+                        log.warn("게임 상태 flush 실패 roomId={}", entry.getKey(), e);
+                    }
+                });
+    }
+
+    private CachedGameState encode(GameStateDto gameStateDto, boolean dirty) {
+        return new CachedGameState(gameStateDto.getGameId(), gameStateDto.getVersion(), gameStateDto.getDirtySections(),
+                gameStateCodec.encode(gameStateDto), encodePending(gameStateDto.getPendingTurn()), dirty);
+    }
+
+    private GameStateDto materialize(CachedGameState cached) {
+        GameStateDto gameStateDto = gameStateCodec.decode(cached.state);
+        gameStateDto.setVersion(cached.version);
+        gameStateDto.setDirtySections(cached.changedSections);
+        gameStateDto.setPendingTurn(decodePending(cached.pending));
+        return gameStateDto;
+    }
+
+    private byte[] encodePending(PendingTurnDto pendingTurn) {
+        return pendingTurn == null ? null : gameStateCodec.encodePendingTurn(pendingTurn);
+    }
+
+    private PendingTurnDto decodePending(byte[] pending) {
+        return pending == null ? null : gameStateCodec.decodePendingTurn(pending);
+    }
+
+    private static final class CachedGameState {
+        private final Long roomId;
+        private final long version;
+        // 마지막 스냅샷 이후 바뀐 구역. 다음 스냅샷에서 이 구역만 기록하기 위해 상태와 함께 보관
+        private final int changedSections;
+        private final byte[] state;
+        private final byte[] pending;
+        private volatile boolean dirty;
+        private volatile long dirtySince;
+        private volatile long lastAccess;
+
+        private CachedGameState(Long roomId, long version, int changedSections, byte[] state, byte[] pending, boolean dirty) {
+            this.roomId = roomId;
+            this.version = version;
+            this.changedSections = changedSections;
+            this.state = state;
+            this.pending = pending;
+            this.dirty = dirty;
+            this.dirtySince = System.nanoTime();
+            this.lastAccess = this.dirtySince;
+        }
+
+        private CachedGameState withPending(byte[] pending) {
+            return new CachedGameState(roomId, version, changedSections, state, pending, true);
+        }
+
+        private void touch() {
+            lastAccess = System.nanoTime();
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.splendor.project.domain.game.repository;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 다른 노드의 GameStateCache 항목을 무효화하는 메시지. (Redis 채널 game-state-invalidation)
+ *
+ * 형식: "{roomId} {version} {origin} {publishedAtMicros}"
+ * - version : 커밋/선택 저장 후의 version. 게임이 새로 저장되거나 삭제되면 -1 (해당 방 항목 전체 무효화)
+ * - origin  : 메시지를 만든 노드 id (자기 메시지는 무시)
+ * - publishedAtMicros : 발행 시각 (Redis 서버 시계 기준 마이크로초)
+ */
+public record GameStateInvalidation(Long roomId, long version, String origin, long publishedAtMicros) {
+
+    public static final String CHANNEL = "game-state-invalidation";
+    public static final long ALL_VERSIONS = -1;
+
+    public static GameStateInvalidation parse(byte[] message) {
+        String[] parts = new String(message, StandardCharsets.US_ASCII).split(" ");
+        return new GameStateInvalidation(Long.parseLong(parts[0]), Long.parseLong(parts[1]), parts[2], Long.parseLong(parts[3]));
+    }
+
+    public byte[] toBytes() {
+        return (roomId + " " + version + " " + origin + " " + publishedAtMicros).getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,56 @@
+package com.splendor.project.domain.game.repository;
+
+import com.splendor.project.global.cluster.NodeIdentity;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 다른 노드가 발행한 GameStateInvalidation을 받아 이 노드의 GameStateCache 항목을 무효화합니다.
+ * 발행부터 무효화까지 걸린 시간은 splendor.game.cache.invalidation.lag 으로 기록합니다.
+ * (발행 시각은 Redis 서버 시계 기준이므로 노드와 Redis 사이의 시계 차이가 포함됩니다)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "splendor.store", havingValue = "redis", matchIfMissing = true)
+public class GameStateInvalidationListener implements MessageListener {
+
+    private final GameStateCache gameStateCache;
+    private final String nodeId;
+    private final Timer invalidationLagTimer;
+
+    public GameStateInvalidationListener(GameStateCache gameStateCache, NodeIdentity nodeIdentity, MeterRegistry meterRegistry) {
+        this.gameStateCache = gameStateCache;
+        this.nodeId = nodeIdentity.getId();
+        this.invalidationLagTimer = Timer.builder("splendor.game.cache.invalidation.lag")
+                .description("다른 노드의 커밋부터 이 노드 캐시 무효화까지 걸린 시간")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        GameStateInvalidation invalidation;
+        try {
+            invalidation = GameStateInvalidation.parse(message.getBody());
+        } catch (RuntimeException e) {
+            log.warn("잘못된 캐시 무효화 메시지를 무시합니다", e);
+            return;
+        }
+        if (nodeId.equals(invalidation.origin())) {
+            return;
+        }
+
+        gameStateCache.invalidate(invalidation.roomId(), invalidation.version());
+
+        Instant now = Instant.now();
+        long lagMicros = now.getEpochSecond() * 1_000_000 + now.getNano() / 1_000 - invalidation.publishedAtMicros();
+        invalidationLagTimer.record(Math.max(0, lagMicros), TimeUnit.MICROSECONDS);
+    }
+}
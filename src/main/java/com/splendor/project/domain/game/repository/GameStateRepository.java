@@ -1,10 +1,38 @@
 package com.splendor.project.domain.game.repository;
 
 import com.splendor.project.domain.game.dto.response.GameStateDto;
-import org.springframework.data.repository.CrudRepository;
+import com.splendor.project.domain.game.dto.response.PendingTurnDto;
+import com.splendor.project.domain.game.event.GameEvent;
 
+import java.util.List;
 import java.util.Optional;
 
-public interface GameStateRepository extends CrudRepository<GameStateDto, Long> {
+/**
+ * 방 단위 게임 상태 저장소.
+ * 상태는 "스냅샷 + 이후 이벤트 로그"로 저장되며, version은 지금까지 쌓인 이벤트 수입니다.
+ */
+public interface GameStateRepository {
+
+    // 버전 확인 없이 덮어쓰기 (게임 시작 시 최초 저장용, 이벤트 로그도 초기화)
+    GameStateDto save(GameStateDto gameStateDto);
+
+    // 최신 스냅샷에 이후 이벤트를 재생한 상태
     Optional<GameStateDto> findById(Long gameId);
+
+    void deleteById(Long gameId);
+
+    /**
+     * 저장된 version이 expectedVersion과 같을 때만 이벤트를 로그에 추가하고 선택 상태를 함께 저장합니다. (원자적)
+     * gameStateDto는 이벤트를 적용한 결과이며, 스냅샷 주기가 되었을 때만 저장됩니다.
+     * 성공하면 gameStateDto의 version은 expectedVersion + events.size() 가 됩니다.
+     *
+     * @return 다른 요청이 먼저 커밋했거나 게임이 없으면 false
+     */
+    boolean compareAndSet(GameStateDto gameStateDto, List<GameEvent> events, long expectedVersion);
+
+    // 저장된 version이 expectedVersion과 같을 때만 마지막 이벤트를 남기고 게임 상태를 삭제 (게임 종료 커밋)
+    boolean compareAndDelete(Long gameId, List<GameEvent> events, long expectedVersion);
+
+    // 저장된 version이 expectedVersion과 같을 때만 선택 상태를 저장 (null이면 삭제)
+    boolean savePendingTurn(Long gameId, long expectedVersion, PendingTurnDto pendingTurn);
 }
@@ -0,0 +1,80 @@
+package com.splendor.project.domain.game.repository;
+
+import com.splendor.project.domain.game.codec.GameSessionRedisSerializer;
+import com.splendor.project.domain.game.entity.GameSession;
+import com.splendor.project.domain.game.service.GameStaticDataLoader;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 단일 노드용 프로세스 내 GameSession 저장소. (splendor.store=memory)
+ * Redis 저장소와 같은 바이너리 포맷으로 보관해 조회할 때마다 새 인스턴스를 돌려줍니다.
+ * 저장할 때마다 만료 시간을 idle-timeout 뒤로 갱신하되, 처음 저장한 뒤 max-lifetime을 넘기지 않습니다.
+ */
+@Repository
+@ConditionalOnProperty(name = "splendor.store", havingValue = "memory")
+public class InMemoryGameRepository implements GameRepository {
+
+    private final GameSessionRedisSerializer serializer;
+    private final Duration idleTimeout;
+    private final Duration maxLifetime;
+
+    private final Map<Long, StoredSession> sessions = new ConcurrentHashMap<>();
+
+    public InMemoryGameRepository(GameStaticDataLoader staticDataLoader,
+                                  @Value("${splendor.store.idle-timeout:PT1H}") Duration idleTimeout,
+                                  @Value("${splendor.store.max-lifetime:PT6H}") Duration maxLifetime) {
+        this.serializer = new GameSessionRedisSerializer(staticDataLoader);
+        this.idleTimeout = idleTimeout;
+        this.maxLifetime = maxLifetime;
+    }
+
+    @Override
+    public void save(GameSession gameSession) {
+        byte[] bytes = serializer.serialize(gameSession);
+        sessions.compute(gameSession.getRoomId(), (id, previous) -> {
+            long now = System.nanoTime();
+            // 만료되지 않은 세션을 다시 저장하면 처음 저장할 때 정한 deadline을 그대로 씀
+            long deadline = previous == null || previous.isExpired() ? now + maxLifetime.toNanos() : previous.deadline();
+            long idleExpiresAt = now + idleTimeout.toNanos();
+            return new StoredSession(bytes, idleExpiresAt - deadline < 0 ? idleExpiresAt : deadline, deadline);
+        });
+    }
+
+    @Override
+    public Optional<GameSession> findById(Long roomId) {
+        StoredSession stored = sessions.get(roomId);
+        if (stored == null) {
+            return Optional.empty();
+        }
+        if (stored.isExpired()) {
+            sessions.remove(roomId, stored);
+            return Optional.empty();
+        }
+        return Optional.of(serializer.deserialize(stored.bytes()));
+    }
+
+    @Override
+    public void deleteById(Long roomId) {
+        sessions.remove(roomId);
+    }
+
+    @Scheduled(fixedDelayString = "${splendor.store.memory.sweep-interval-ms:60000}")
+    public void evictExpired() {
+        sessions.values().removeIf(StoredSession::isExpired);
+    }
+
+    // deadline: 처음 저장한 뒤 max-lifetime이 끝나는 시각 (System.nanoTime 기준)
+    private record StoredSession(byte[] bytes, long expiresAt, long deadline) {
+        private boolean isExpired() {
+            return System.nanoTime() - expiresAt > 0;
+        }
+    }
+}
@@ -0,0 +1,480 @@
+package com.splendor.project.domain.game.repository;
+
+import com.splendor.project.domain.game.codec.GameEventCodec;
+import com.splendor.project.domain.game.codec.GameStateCodec;
+import com.splendor.project.domain.game.codec.GameStateSections;
+import com.splendor.project.domain.game.dto.response.GameStateDto;
+import com.splendor.project.domain.game.dto.response.PendingTurnDto;
+import com.splendor.project.domain.game.event.GameEvent;
+import com.splendor.project.domain.game.logic.GameEventApplier;
+import com.splendor.project.domain.game.journal.GameJournal;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 단일 노드용 프로세스 내 게임 상태 저장소. (splendor.store=memory)
+ *
+ * RedisGameStateRepository와 같은 규칙을 그대로 따릅니다.
+ * - 구역별 스냅샷 + 이벤트 로그, version = 쌓인 이벤트 수, snapshot-interval 마다 바뀐 구역만 스냅샷
+ * - 상태와 이벤트 로그는 인코딩된 byte[]로 보관 (호출자끼리 인스턴스를 공유하지 않음)
+ * - 커밋/선택 저장할 때마다 만료 시간을 idle-timeout 뒤로 갱신하되, 게임 생성 후 max-lifetime을 넘기지 않음
+ *   게임 종료 후에도 이벤트 로그는 만료 시까지 남김
+ * 방 단위 연산은 ConcurrentHashMap.compute 안에서 실행되어 Lua 스크립트처럼 원자적으로 처리됩니다.
+ *
+ * GameJournal이 켜져 있으면(splendor.journal.enabled=true) 게임 생성/커밋/종료를 같은 순서로 저널에 기록하고,
+ * 시작 시 저널을 재생해 진행 중이던 방을 복구합니다. (커밋 전 선택 상태는 기록하지 않음)
+ * 게임의 deadline은 CREATED 레코드에 함께 기록해 복구 후에도 그대로 쓰고, 이미 지난 방은 복구하지 않습니다.
+ * 복구한 방의 이벤트 로그는 저널에 남아 있던 부분(마지막 CREATED 이후)으로 다시 채웁니다.
+ * 저널 기록은 compute 밖에서 합니다. (compute는 synchronized라 기록 I/O 동안 가상 스레드가 캐리어 스레드를 붙잡음)
+ * 대신 방 단위 ReentrantLock으로 변경과 기록을 묶어, 같은 방의 커밋과 체크포인트 기록이 변경 순서대로 남게 합니다.
+ */
+@Slf4j
+@Repository
+@ConditionalOnProperty(name = "splendor.store", havingValue = "memory")
+public class InMemoryGameStateRepository implements GameStateRepository {
+
+    // 방 단위 저널 잠금 수 (2의 거듭제곱)
+    private static final int JOURNAL_LOCK_STRIPES = 64;
+
+    private final GameStateCodec gameStateCodec;
+    private final GameEventCodec gameEventCodec;
+    private final int snapshotInterval;
+    private final Duration idleTimeout;
+    private final Duration maxLifetime;
+    @Nullable
+    private final GameJournal journal;
+
+    // game-state:{roomId} / game-events:{roomId} 에 해당
+    private final Map<Long, StoredState> states = new ConcurrentHashMap<>();
+    private final Map<Long, EventLog> eventLogs = new ConcurrentHashMap<>();
+    private final ReentrantLock[] journalLocks = new ReentrantLock[JOURNAL_LOCK_STRIPES];
+
+    // 저장한 스냅샷 구역 + 이벤트 + 선택 상태 바이트 수 (Redis 저장소와 기록량 비교용)
+    private final AtomicLong bytesWritten = new AtomicLong();
+
+    // idle-timeout과 max-lifetime이 같은 저장소 (활동과 관계없이 timeout 뒤 만료)
+    public InMemoryGameStateRepository(GameStateCodec gameStateCodec,
+                                       GameEventCodec gameEventCodec,
+                                       int snapshotInterval,
+                                       Duration timeout) {
+        this(gameStateCodec, gameEventCodec, snapshotInterval, timeout, timeout, null);
+    }
+
+    public InMemoryGameStateRepository(GameStateCodec gameStateCodec,
+                                       GameEventCodec gameEventCodec,
+                                       int snapshotInterval,
+                                       Duration timeout,
+                                       @Nullable GameJournal journal) {
+        this(gameStateCodec, gameEventCodec, snapshotInterval, timeout, timeout, journal);
+    }
+
+    @Autowired
+    public InMemoryGameStateRepository(GameStateCodec gameStateCodec,
+                                       GameEventCodec gameEventCodec,
+                                       @Value("${splendor.game.snapshot-interval:20}") int snapshotInterval,
+                                       @Value("${splendor.store.idle-timeout:PT1H}") Duration idleTimeout,
+                                       @Value("${splendor.store.max-lifetime:PT6H}") Duration maxLifetime,
+                                       @Nullable GameJournal journal) {
+        this.gameStateCodec = gameStateCodec;
+        this.gameEventCodec = gameEventCodec;
+        this.snapshotInterval = snapshotInterval;
+        this.idleTimeout = idleTimeout;
+        this.maxLifetime = maxLifetime;
+        this.journal = journal;
+        for (int i = 0; i < journalLocks.length; i++) {
+            journalLocks[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * 저널을 재생해 진행 중이던 방을 복구하고, 복구한 상태로 새 체크포인트를 만듭니다.
+     * save를 거치지 않으므로 게임의 deadline과 이벤트 로그가 그대로 이어집니다.
+     */
+    @PostConstruct
+    public void recover() {
+        if (journal == null) {
+            return;
+        }
+        long start = System.nanoTime();
+        Map<Long, Recovered> live = new HashMap<>();
+        journal.replay(record -> {
+            switch (record.type()) {
+                case CREATED -> {
+                    GameStateDto gameStateDto = gameStateCodec.decode(record.payload().get(0));
+                    // deadline을 기록하기 전 버전의 레코드는 지금 생성된 게임으로 봄
+                    long deadline = record.deadline().orElseGet(() -> System.currentTimeMillis() + maxLifetime.toMillis());
+                    live.put(record.roomId(), new Recovered(gameStateDto, gameStateDto.getVersion(), deadline, new ArrayList<>()));
+                }
+                case EVENTS -> {
+                    Recovered recovered = live.get(record.roomId());
+                    // 체크포인트 이전 기록이거나 이미 반영된 커밋이면 건너뜀
+                    if (recovered != null && recovered.state().getVersion() == record.version()) {
+                        List<GameEvent> events = new ArrayList<>(record.payload().size());
+                        record.payload().forEach(event -> events.add(gameEventCodec.decode(event)));
+                        GameEventApplier.replay(recovered.state(), events);
+                        recovered.events().addAll(record.payload());
+                    }
+                }
+                case DELETED -> live.remove(record.roomId());
+            }
+        });
+
+        long checkpoint = journal.startCheckpoint();
+        int restored = 0;
+        for (Map.Entry<Long, Recovered> entry : live.entrySet()) {
+            long remainingMillis = entry.getValue().deadline() - System.currentTimeMillis();
+            // 꺼져 있는 동안 max-lifetime이 지난 방은 복구하지 않음
+            if (remainingMillis > 0) {
+                restore(entry.getKey(), entry.getValue(), remainingMillis);
+                restored++;
+            }
+        }
+        journal.finishCheckpoint(checkpoint);
+        log.info("저널에서 게임 {}개 복구, 만료된 게임 {}개 제외 ({} ms)", restored, live.size() - restored,
+                Duration.ofNanos(System.nanoTime() - start).toMillis());
+    }
+
+    // 복구한 방을 넣고 체크포인트에 기록 (deadline은 저널에 기록된 시각 기준)
+    private void restore(Long gameId, Recovered recovered, long remainingMillis) {
+        GameStateDto gameStateDto = recovered.state();
+        journaled(gameId, () -> {
+            StoredState stored = new StoredState();
+            writeSections(stored, gameStateCodec.encodeSections(gameStateDto, GameStateSections.ALL));
+            stored.snapshotVersion = gameStateDto.getVersion();
+            stored.version = gameStateDto.getVersion();
+            stored.deadline = System.nanoTime() + Duration.ofMillis(remainingMillis).toNanos();
+            stored.deadlineMillis = recovered.deadline();
+            stored.expiresAt = expiresAt(stored.deadline);
+            if (!recovered.events().isEmpty()) {
+                EventLog eventLog = new EventLog(recovered.baseVersion());
+                eventLog.events.addAll(recovered.events());
+                eventLog.expiresAt = stored.expiresAt;
+                eventLogs.put(gameId, eventLog);
+            }
+            states.put(gameId, stored);
+            journal.appendCreated(gameId, gameStateDto.getVersion(), gameStateCodec.encode(gameStateDto), stored.deadlineMillis);
+        });
+    }
+
+    @Override
+    public GameStateDto save(GameStateDto gameStateDto) {
+        Long gameId = gameStateDto.getGameId();
+        long deadlineMillis = System.currentTimeMillis() + maxLifetime.toMillis();
+        journaled(gameId, () -> {
+            states.compute(gameId, (id, previous) -> {
+                StoredState stored = new StoredState();
+                writeSections(stored, gameStateCodec.encodeSections(gameStateDto, GameStateSections.ALL));
+                stored.snapshotVersion = gameStateDto.getVersion();
+                stored.version = gameStateDto.getVersion();
+                stored.pending = writePending(gameStateDto.getPendingTurn());
+                stored.deadline = System.nanoTime() + maxLifetime.toNanos();
+                stored.deadlineMillis = deadlineMillis;
+                stored.expiresAt = expiresAt(stored.deadline);
+                eventLogs.remove(id);
+                return stored;
+            });
+            if (journal != null) {
+                journal.appendCreated(gameId, gameStateDto.getVersion(), gameStateCodec.encode(gameStateDto), deadlineMillis);
+            }
+        });
+        gameStateDto.setDirtySections(0);
+        return gameStateDto;
+    }
+
+    @Override
+    public Optional<GameStateDto> findById(Long gameId) {
+        GameStateDto[] found = new GameStateDto[1];
+        states.computeIfPresent(gameId, (id, stored) -> {
+            if (isExpired(stored.expiresAt)) {
+                return null;
+            }
+            found[0] = load(id, stored);
+            return stored;
+        });
+        return Optional.ofNullable(found[0]);
+    }
+
+    @Override
+    public void deleteById(Long gameId) {
+        journaled(gameId, () -> {
+            states.compute(gameId, (id, stored) -> {
+                eventLogs.remove(id);
+                return null;
+            });
+            if (journal != null) {
+                journal.appendDeleted(gameId, -1, List.of());
+            }
+        });
+    }
+
+    @Override
+    public boolean compareAndSet(GameStateDto gameStateDto, List<GameEvent> events, long expectedVersion) {
+        Long gameId = gameStateDto.getGameId();
+        long nextVersion = expectedVersion + events.size();
+        AtomicReference<List<byte[]>> applied = new AtomicReference<>();
+
+        journaled(gameId, () -> {
+            states.computeIfPresent(gameId, (id, stored) -> {
+                if (isExpired(stored.expiresAt)) {
+                    return null;
+                }
+                if (stored.version != expectedVersion) {
+                    return stored;
+                }
+                gameStateDto.setVersion(nextVersion);
+                stored.expiresAt = expiresAt(stored.deadline);
+                applied.set(appendEvents(id, expectedVersion, events, stored.expiresAt));
+                // 스냅샷 주기(snapshotInterval의 배수)를 지나는 커밋에서만 지난 스냅샷 이후 바뀐 구역을 함께 저장
+                if (expectedVersion / snapshotInterval != nextVersion / snapshotInterval && gameStateDto.getDirtySections() != 0) {
+                    writeSections(stored, gameStateCodec.encodeSections(gameStateDto, gameStateDto.getDirtySections()));
+                    stored.snapshotVersion = nextVersion;
+                    gameStateDto.setDirtySections(0);
+                }
+                stored.version = nextVersion;
+                stored.pending = writePending(gameStateDto.getPendingTurn());
+                return stored;
+            });
+            if (journal != null && applied.get() != null) {
+                journal.appendEvents(gameId, expectedVersion, applied.get());
+            }
+        });
+        return applied.get() != null;
+    }
+
+    @Override
+    public boolean compareAndDelete(Long gameId, List<GameEvent> events, long expectedVersion) {
+        AtomicReference<List<byte[]>> applied = new AtomicReference<>();
+        journaled(gameId, () -> {
+            states.computeIfPresent(gameId, (id, stored) -> {
+                if (isExpired(stored.expiresAt)) {
+                    return null;
+                }
+                if (stored.version != expectedVersion) {
+                    return stored;
+                }
+                // 이벤트 로그는 감사용으로 만료 시까지 남김
+                applied.set(appendEvents(id, expectedVersion, events, expiresAt(stored.deadline)));
+                return null;
+            });
+            if (journal != null && applied.get() != null) {
+                journal.appendDeleted(gameId, expectedVersion, applied.get());
+            }
+        });
+        return applied.get() != null;
+    }
+
+    @Override
+    public boolean savePendingTurn(Long gameId, long expectedVersion, PendingTurnDto pendingTurn) {
+        AtomicBoolean applied = new AtomicBoolean();
+        states.computeIfPresent(gameId, (id, stored) -> {
+            if (isExpired(stored.expiresAt)) {
+                return null;
+            }
+            if (stored.version == expectedVersion) {
+                stored.pending = writePending(pendingTurn);
+                stored.expiresAt = expiresAt(stored.deadline);
+                extendEventLog(id, stored.expiresAt);
+                applied.set(true);
+            }
+            return stored;
+        });
+        return applied.get();
+    }
+
+    /**
+     * 게임 시작 이후 쌓인 전체 이벤트 로그. (게임 종료 후에도 만료 전까지 조회 가능)
+     */
+    public List<GameEvent> findEvents(Long gameId) {
+        List<GameEvent> events = new ArrayList<>();
+        eventLogs.computeIfPresent(gameId, (id, eventLog) -> {
+            if (isExpired(eventLog.expiresAt)) {
+                return null;
+            }
+            eventLog.events.forEach(event -> events.add(gameEventCodec.decode(event)));
+            return eventLog;
+        });
+        return events;
+    }
+
+    // 마지막 스냅샷 시점의 version (게임이 없으면 -1)
+    public long snapshotVersion(Long gameId) {
+        StoredState stored = states.get(gameId);
+        return stored == null ? -1 : stored.snapshotVersion;
+    }
+
+    public long bytesWritten() {
+        return bytesWritten.get();
+    }
+
+    /**
+     * 살아 있는 방의 현재 상태를 새 저널 세그먼트에 기록하고 이전 세그먼트를 삭제합니다. (저널 크기/복구 시간 제한)
+     * 방마다 저널 잠금 안에서 기록하므로 같은 방의 커밋 기록과 순서가 섞이지 않습니다.
+     */
+    @Scheduled(fixedDelayString = "${splendor.journal.checkpoint-interval-ms:600000}")
+    public void checkpoint() {
+        if (journal == null) {
+            return;
+        }
+        long checkpoint = journal.startCheckpoint();
+        for (Long gameId : states.keySet()) {
+            journaled(gameId, () -> {
+                AtomicReference<GameStateDto> live = new AtomicReference<>();
+                long[] deadlineMillis = new long[1];
+                states.computeIfPresent(gameId, (id, stored) -> {
+                    if (isExpired(stored.expiresAt)) {
+                        return null;
+                    }
+                    live.set(load(id, stored));
+                    deadlineMillis[0] = stored.deadlineMillis;
+                    return stored;
+                });
+                if (live.get() != null) {
+                    journal.appendCreated(gameId, live.get().getVersion(), gameStateCodec.encode(live.get()), deadlineMillis[0]);
+                }
+            });
+        }
+        journal.finishCheckpoint(checkpoint);
+    }
+
+    /**
+     * 만료된 상태와 이벤트 로그를 정리합니다. (Redis의 TTL 만료에 해당)
+     */
+    @Scheduled(fixedDelayString = "${splendor.store.memory.sweep-interval-ms:60000}")
+    public void evictExpired() {
+        states.entrySet().removeIf(entry -> isExpired(entry.getValue().expiresAt));
+        eventLogs.entrySet().removeIf(entry -> isExpired(entry.getValue().expiresAt));
+    }
+
+    // 방의 변경과 저널 기록을 같은 방 잠금 안에서 실행 (저널이 꺼져 있으면 compute만으로 충분하므로 잠그지 않음)
+    private void journaled(Long gameId, Runnable update) {
+        if (journal == null) {
+            update.run();
+            return;
+        }
+        ReentrantLock lock = journalLocks[Long.hashCode(gameId) & (JOURNAL_LOCK_STRIPES - 1)];
+        lock.lock();
+        try {
+            update.run();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // states.compute 안에서만 호출 (로그를 쓰는 쪽은 항상 states -> eventLogs 순서로 잡음)
+    private List<byte[]> appendEvents(Long gameId, long expectedVersion, List<GameEvent> events, long expiresAt) {
+        List<byte[]> encoded = new ArrayList<>(events.size());
+        for (GameEvent event : events) {
+            encoded.add(gameEventCodec.encode(event));
+        }
+        eventLogs.compute(gameId, (id, eventLog) -> {
+            EventLog appended = eventLog == null || isExpired(eventLog.expiresAt) ? new EventLog(expectedVersion) : eventLog;
+            for (byte[] event : encoded) {
+                appended.events.add(event);
+                bytesWritten.addAndGet(event.length);
+            }
+            appended.expiresAt = expiresAt;
+            return appended;
+        });
+        return encoded;
+    }
+
+    // 선택만 저장해도 활동으로 보고 이벤트 로그 만료도 함께 미룸 (states.compute 안에서만 호출)
+    private void extendEventLog(Long gameId, long expiresAt) {
+        eventLogs.computeIfPresent(gameId, (id, eventLog) -> {
+            eventLog.expiresAt = expiresAt;
+            return eventLog;
+        });
+    }
+
+    // 스냅샷 구역에 이후 이벤트를 재생한 현재 상태 (states.compute 안에서만 호출)
+    private GameStateDto load(Long gameId, StoredState stored) {
+        GameStateDto gameStateDto = gameStateCodec.decodeSections(stored.sections);
+        gameStateDto.setVersion(stored.snapshotVersion);
+        GameEventApplier.replay(gameStateDto, decodeEvents(gameId, stored.snapshotVersion));
+        gameStateDto.setPendingTurn(stored.pending == null ? null : gameStateCodec.decodePendingTurn(stored.pending));
+        return gameStateDto;
+    }
+
+    private List<GameEvent> decodeEvents(Long gameId, long fromVersion) {
+        EventLog eventLog = eventLogs.get(gameId);
+        int fromIndex = eventLog == null ? 0 : (int) (fromVersion - eventLog.baseVersion);
+        if (eventLog == null || fromIndex >= eventLog.events.size()) {
+            return List.of();
+        }
+        List<GameEvent> events = new ArrayList<>(eventLog.events.size() - fromIndex);
+        for (byte[] event : eventLog.events.subList(fromIndex, eventLog.events.size())) {
+            events.add(gameEventCodec.decode(event));
+        }
+        return events;
+    }
+
+    private void writeSections(StoredState stored, Map<String, byte[]> sections) {
+        sections.forEach((field, value) -> {
+            stored.sections.put(field, value);
+            bytesWritten.addAndGet(field.length() + value.length);
+        });
+    }
+
+    private byte[] writePending(PendingTurnDto pendingTurn) {
+        if (pendingTurn == null) {
+            return null;
+        }
+        byte[] encoded = gameStateCodec.encodePendingTurn(pendingTurn);
+        bytesWritten.addAndGet(encoded.length);
+        return encoded;
+    }
+
+    // 지금부터 idle-timeout 뒤, 단 게임의 최대 수명(deadline)은 넘기지 않음
+    private long expiresAt(long deadline) {
+        long idleExpiresAt = System.nanoTime() + idleTimeout.toNanos();
+        return idleExpiresAt - deadline > 0 ? deadline : idleExpiresAt;
+    }
+
+    private static boolean isExpired(long expiresAt) {
+        return System.nanoTime() - expiresAt > 0;
+    }
+
+    private static final class StoredState {
+        private final Map<String, byte[]> sections = new HashMap<>();
+        private long snapshotVersion;
+        private long version;
+        private byte[] pending;
+        private long deadline;
+        // 저널에 기록하는 deadline (epoch millis, 재시작 후 복구용)
+        private long deadlineMillis;
+        private long expiresAt;
+    }
+
+    // 저널 재생 중인 방: 마지막 CREATED 시점(baseVersion) 이후 재생한 상태와 그 이벤트들
+    private record Recovered(GameStateDto state, long baseVersion, long deadline, List<byte[]> events) {
+    }
+
+    private static final class EventLog {
+        // events[i]는 version (baseVersion + i + 1)을 만든 이벤트 (복구한 게임은 0이 아닌 version에서 시작)
+        private final long baseVersion;
+        private final List<byte[]> events = new ArrayList<>();
+        private long expiresAt;
+
+        private EventLog(long baseVersion) {
+            this.baseVersion = baseVersion;
+        }
+    }
+}
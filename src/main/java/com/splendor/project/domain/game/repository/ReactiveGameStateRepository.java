@@ -0,0 +1,24 @@
+package com.splendor.project.domain.game.repository;
+
+import com.splendor.project.domain.game.dto.response.GameStateDto;
+import com.splendor.project.domain.game.dto.response.PendingTurnDto;
+import com.splendor.project.domain.game.event.GameEvent;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * GameStateRepository의 논블로킹 버전. (splendor.game.pipeline=reactive)
+ * 의미는 GameStateRepository와 같고, 결과를 기다리는 동안 호출한 스레드를 붙잡지 않습니다.
+ */
+public interface ReactiveGameStateRepository {
+
+    // 게임이 없으면 빈 Mono
+    Mono<GameStateDto> findById(Long gameId);
+
+    Mono<Boolean> compareAndSet(GameStateDto gameStateDto, List<GameEvent> events, long expectedVersion);
+
+    Mono<Boolean> compareAndDelete(Long gameId, List<GameEvent> events, long expectedVersion);
+
+    Mono<Boolean> savePendingTurn(Long gameId, long expectedVersion, PendingTurnDto pendingTurn);
+}
@@ -0,0 +1,84 @@
+package com.splendor.project.domain.game.repository;
+
+import com.splendor.project.domain.game.dto.response.GameStateDto;
+import com.splendor.project.domain.game.dto.response.PendingTurnDto;
+import com.splendor.project.domain.game.event.GameEvent;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * RedisGameStateRepository와 같은 키/스크립트를 ReactiveRedisTemplate(Lettuce 비동기 연결)으로 실행합니다.
+ * 스크립트 인자 구성과 결과 해석은 RedisGameStateRepository의 것을 그대로 사용하므로 두 경로가 섞여도 저장 형식은 같습니다.
+ */
+@Repository
+@ConditionalOnProperty(name = "splendor.game.pipeline", havingValue = "reactive")
+public class ReactiveRedisGameStateRepository implements ReactiveGameStateRepository {
+
+    private final ReactiveRedisTemplate<String, byte[]> reactiveGameStateRedisTemplate;
+    private final RedisGameStateRepository redisGameStateRepository;
+
+    public ReactiveRedisGameStateRepository(ReactiveRedisTemplate<String, byte[]> reactiveGameStateRedisTemplate,
+                                            RedisGameStateRepository redisGameStateRepository) {
+        this.reactiveGameStateRedisTemplate = reactiveGameStateRedisTemplate;
+        this.redisGameStateRepository = redisGameStateRepository;
+    }
+
+    @Override
+    public Mono<GameStateDto> findById(Long gameId) {
+        return reactiveGameStateRedisTemplate.execute(RedisGameStateRepository.LOAD, RedisGameStateRepository.keys(gameId), List.of())
+                .collectList()
+                .flatMap(result -> Mono.justOrEmpty(redisGameStateRepository.decodeLoaded(flatten(result))));
+    }
+
+    @Override
+    public Mono<Boolean> compareAndSet(GameStateDto gameStateDto, List<GameEvent> events, long expectedVersion) {
+        RedisGameStateRepository.PreparedCommit commit = redisGameStateRepository.prepareCommit(gameStateDto, events, expectedVersion);
+        return execute(RedisGameStateRepository.COMPARE_AND_SET, gameStateDto.getGameId(), commit.args())
+                .map(applied -> commit.complete(gameStateDto, applied))
+                .doOnError(e -> gameStateDto.setVersion(expectedVersion));
+    }
+
+    @Override
+    public Mono<Boolean> compareAndDelete(Long gameId, List<GameEvent> events, long expectedVersion) {
+        return execute(RedisGameStateRepository.COMPARE_AND_DELETE, gameId,
+                redisGameStateRepository.compareAndDeleteArgs(events, expectedVersion));
+    }
+
+    @Override
+    public Mono<Boolean> savePendingTurn(Long gameId, long expectedVersion, PendingTurnDto pendingTurn) {
+        return execute(RedisGameStateRepository.SAVE_PENDING, gameId,
+                redisGameStateRepository.savePendingArgs(expectedVersion, pendingTurn));
+    }
+
+    private Mono<Boolean> execute(RedisScript<Long> script, Long gameId, Object[] args) {
+        return reactiveGameStateRedisTemplate.execute(script, RedisGameStateRepository.keys(gameId), Arrays.asList(args))
+                .next()
+                .map(result -> result == 1L)
+                .defaultIfEmpty(false);
+    }
+
+    // MULTI 결과는 드라이버에 따라 목록 하나 또는 원소 단위로, byte[] 또는 ByteBuffer로 올 수 있음
+    private static List<byte[]> flatten(List<?> result) {
+        List<byte[]> values = new ArrayList<>();
+        for (Object item : result) {
+            if (item instanceof List<?> list) {
+                values.addAll(flatten(list));
+            } else if (item instanceof ByteBuffer buffer) {
+                byte[] bytes = new byte[buffer.remaining()];
+                buffer.duplicate().get(bytes);
+                values.add(bytes);
+            } else if (item instanceof byte[] bytes) {
+                values.add(bytes);
+            }
+        }
+        return values;
+    }
+}
@@ -0,0 +1,80 @@
+package com.splendor.project.domain.game.repository;
+
+import com.splendor.project.domain.game.entity.GameSession;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * game:{roomId} (String) 에 GameSession을 저장합니다.
+ *
+ * game-deadline:{roomId} 는 처음 저장할 때 max-lifetime TTL로 만들어, 게임의 최대 수명이 끝나는 시각을 TTL로 나타냅니다.
+ * game:{roomId} 의 TTL은 저장할 때마다 idle-timeout으로 갱신하되 deadline 키의 남은 시간을 넘기지 않습니다.
+ * (RedisGameStateRepository의 deadline 필드와 같은 규칙. String 값에는 필드를 둘 수 없어 별도 키로 둠)
+ */
+@Repository
+@ConditionalOnProperty(name = "splendor.store", havingValue = "redis", matchIfMissing = true)
+public class RedisGameRepository implements GameRepository {
+
+    // Redis Key 접두사
+    private static final String KEY_PREFIX = "game:";
+    private static final String DEADLINE_KEY_PREFIX = "game-deadline:";
+
+    // KEYS: game:{roomId}, game-deadline:{roomId} / ARGV: GameSession, idleSeconds, maxLifetimeSeconds
+    static final RedisScript<Long> SAVE = RedisScript.of("""
+            redis.call('SET', KEYS[2], '1', 'NX', 'EX', ARGV[3])
+            local left = redis.call('TTL', KEYS[2])
+            if left < 1 then left = 1 end
+            redis.call('SET', KEYS[1], ARGV[1], 'EX', math.min(tonumber(ARGV[2]), left))
+            return 1
+            """, Long.class);
+
+    private final RedisTemplate<String, GameSession> redisTemplate;
+    private final Duration idleTimeout;
+    private final Duration maxLifetime;
+
+    public RedisGameRepository(RedisTemplate<String, GameSession> redisTemplate,
+                               @Value("${splendor.store.idle-timeout:PT1H}") Duration idleTimeout,
+                               @Value("${splendor.store.max-lifetime:PT6H}") Duration maxLifetime) {
+        this.redisTemplate = redisTemplate;
+        this.idleTimeout = idleTimeout;
+        this.maxLifetime = maxLifetime;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void save(GameSession gameSession) {
+        // 스크립트 인자는 byte[]로 넘기므로 값은 template의 serializer로 직접 인코딩
+        byte[] value = ((RedisSerializer<GameSession>) redisTemplate.getValueSerializer()).serialize(gameSession);
+        redisTemplate.execute(SAVE, RedisSerializer.byteArray(), null, keys(gameSession.getRoomId()),
+                value, toBytes(idleTimeout.toSeconds()), toBytes(maxLifetime.toSeconds()));
+    }
+
+    @Override
+    public Optional<GameSession> findById(Long roomId) {
+        String key = KEY_PREFIX + roomId;
+        GameSession gameSession = redisTemplate.opsForValue().get(key);
+        return Optional.ofNullable(gameSession);
+    }
+
+    @Override
+    public void deleteById(Long roomId) {
+        redisTemplate.delete(keys(roomId));
+    }
+
+    static List<String> keys(Long roomId) {
+        return List.of(KEY_PREFIX + roomId, DEADLINE_KEY_PREFIX + roomId);
+    }
+
+    private static byte[] toBytes(long value) {
+        return Long.toString(value).getBytes(StandardCharsets.US_ASCII);
+    }
+}
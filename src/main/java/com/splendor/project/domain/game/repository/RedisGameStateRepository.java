@@ -0,0 +1,357 @@
+package com.splendor.project.domain.game.repository;
+
+import com.splendor.project.domain.game.codec.GameEventCodec;
+import com.splendor.project.domain.game.codec.GameStateCodec;
+import com.splendor.project.domain.game.codec.GameStateSections;
+import com.splendor.project.domain.game.dto.response.GameStateDto;
+import com.splendor.project.domain.game.dto.response.PendingTurnDto;
+import com.splendor.project.domain.game.event.GameEvent;
+import com.splendor.project.domain.game.logic.GameEventApplier;
+import com.splendor.project.global.cluster.NodeIdentity;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 방 하나의 게임 상태를 "스냅샷 Hash + 이벤트 로그 List"로 저장합니다.
+ *
+ * game-state:{roomId}   (Hash)
+ *   - meta / board / tokens / player:{seat} : 구역별로 나눈 스냅샷 (GameStateCodec.encodeSections)
+ *   - snapshot : 스냅샷 시점의 version
+ *   - pending  : 커밋 전 선택 상태 (PendingTurnDto), 없으면 필드 없음
+ *   - version  : 현재 version = 지금까지 쌓인 이벤트 수 (10진수 문자열)
+ *   - deadline : 게임 생성 후 max-lifetime이 끝나는 시각 (unix seconds)
+ * game-events:{roomId}  (List)
+ *   - GameEventCodec으로 인코딩된 이벤트. 인덱스 i가 (i + 1)번째 version에 해당하며, 게임 감사 로그로도 사용
+ *
+ * 커밋은 Lua 스크립트로 version을 비교한 뒤 이벤트 몇 바이트만 추가하고, snapshot-interval 마다 스냅샷을 갱신합니다.
+ * 스냅샷은 지난 스냅샷 이후 이벤트가 바꾼 구역(GameStateDto.dirtySections)만 다시 기록합니다.
+ * 조회는 스냅샷 이후의 이벤트만 재생합니다.
+ * 두 키의 TTL은 커밋/선택 저장 때마다 idle-timeout으로 갱신하되 deadline을 넘기지 않습니다. (방치된 방은 idle-timeout 뒤 정리)
+ * 상태를 바꾸는 연산은 같은 스크립트 안에서 GameStateInvalidation을 발행해 다른 노드의 GameStateCache 항목을 무효화합니다.
+ * (이전 버전이 전체 상태를 기록한 state 필드가 남아 있으면 그대로 읽고, 다음 스냅샷에서 구역 필드로 옮깁니다)
+ * 스크립트 인자 구성과 조회 결과 해석은 ReactiveRedisGameStateRepository와 같이 사용합니다.
+ */
+@Repository
+@ConditionalOnProperty(name = "splendor.store", havingValue = "redis", matchIfMissing = true)
+public class RedisGameStateRepository implements GameStateRepository {
+
+    private final RedisTemplate<String, byte[]> gameStateRedisTemplate;
+    private final GameStateCodec gameStateCodec;
+    private final GameEventCodec gameEventCodec;
+    private final int snapshotInterval;
+    private final Duration idleTimeout;
+    private final Duration maxLifetime;
+    private final byte[] origin;
+
+    // Redis Key 접두사 (예: game-state:1, game-events:1)
+    private static final String KEY_PREFIX = "game-state:";
+    private static final String EVENTS_KEY_PREFIX = "game-events:";
+    private static final String LEGACY_STATE_FIELD = "state";
+    private static final String SNAPSHOT_FIELD = "snapshot";
+    private static final String PENDING_FIELD = "pending";
+    private static final String VERSION_FIELD = "version";
+    private static final String DEADLINE_FIELD = "deadline";
+    private static final byte[] EMPTY = new byte[0];
+
+    // 반환: [Hash 필드 수, HGETALL 결과..., 스냅샷 이후 이벤트...] (게임이 없으면 빈 배열)
+    static final RedisScript<List> LOAD = RedisScript.of("""
+            local hash = redis.call('HGETALL', KEYS[1])
+            if #hash == 0 then return {} end
+            local snapshot, version = nil, '0'
+            for i = 1, #hash, 2 do
+                if hash[i] == 'snapshot' then snapshot = hash[i + 1] end
+                if hash[i] == 'version' then version = hash[i + 1] end
+            end
+            local result = {tostring(#hash)}
+            for i = 1, #hash do result[#result + 1] = hash[i] end
+            local events = redis.call('LRANGE', KEYS[2], tonumber(snapshot or version), -1)
+            for i = 1, #events do result[#result + 1] = events[i] end
+            return result
+            """, List.class);
+
+    // 스크립트 공통 함수
+    // - ttl     : 이번 활동 후 적용할 TTL. idle-timeout, 단 deadline까지 남은 시간을 넘기지 않음 (deadline이 없는 이전 키는 idle-timeout)
+    // - publish : GameStateInvalidation 메시지 발행 (채널 game-state-invalidation, 시각은 Redis 서버 TIME)
+    private static final String SCRIPT_FUNCTIONS = """
+            local function ttl(key, idleSeconds)
+                local deadline = tonumber(redis.call('HGET', key, 'deadline') or '0')
+                if deadline == 0 then return idleSeconds end
+                local left = deadline - tonumber(redis.call('TIME')[1])
+                if left < 1 then left = 1 end
+                return math.min(idleSeconds, left)
+            end
+
+            local function publish(version, origin)
+                local now = redis.call('TIME')
+                local roomId = string.sub(KEYS[1], 12)
+                redis.call('PUBLISH', 'game-state-invalidation',
+                    roomId .. ' ' .. version .. ' ' .. origin .. ' ' .. now[1] .. string.format('%06d', tonumber(now[2])))
+            end
+            """;
+
+    // ARGV: expectedVersion, pending(빈 값이면 삭제), idleSeconds, origin, 스냅샷 구역 인자 수(n), 구역 필드/값 n개, 이벤트...
+    static final RedisScript<Long> COMPARE_AND_SET = RedisScript.of(SCRIPT_FUNCTIONS + """
+            if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end
+            local current = tonumber(redis.call('HGET', KEYS[1], 'version') or '0')
+            if current ~= tonumber(ARGV[1]) then return 0 end
+            local sectionEnd = 5 + tonumber(ARGV[5])
+            local nextVersion = current + #ARGV - sectionEnd
+            if #ARGV > sectionEnd then redis.call('RPUSH', KEYS[2], unpack(ARGV, sectionEnd + 1)) end
+            redis.call('HSET', KEYS[1], 'version', nextVersion)
+            if sectionEnd > 5 then
+                redis.call('HSET', KEYS[1], 'snapshot', nextVersion, unpack(ARGV, 6, sectionEnd))
+                redis.call('HDEL', KEYS[1], 'state')
+            end
+            if ARGV[2] == '' then
+                redis.call('HDEL', KEYS[1], 'pending')
+            else
+                redis.call('HSET', KEYS[1], 'pending', ARGV[2])
+            end
+            local seconds = ttl(KEYS[1], tonumber(ARGV[3]))
+            redis.call('EXPIRE', KEYS[1], seconds)
+            redis.call('EXPIRE', KEYS[2], seconds)
+            publish(nextVersion, ARGV[4])
+            return 1
+            """, Long.class);
+
+    // ARGV: expectedVersion, idleSeconds, origin, 이벤트... (이벤트 로그는 감사용으로 만료 시까지 남김)
+    static final RedisScript<Long> COMPARE_AND_DELETE = RedisScript.of(SCRIPT_FUNCTIONS + """
+            local current = redis.call('HGET', KEYS[1], 'version')
+            if current == false or tonumber(current) ~= tonumber(ARGV[1]) then return 0 end
+            if #ARGV > 3 then
+                redis.call('RPUSH', KEYS[2], unpack(ARGV, 4))
+                redis.call('EXPIRE', KEYS[2], ttl(KEYS[1], tonumber(ARGV[2])))
+            end
+            redis.call('DEL', KEYS[1])
+            publish(-1, ARGV[3])
+            return 1
+            """, Long.class);
+
+    // ARGV: expectedVersion, pending(빈 값이면 삭제), idleSeconds, origin
+    static final RedisScript<Long> SAVE_PENDING = RedisScript.of(SCRIPT_FUNCTIONS + """
+            local current = redis.call('HGET', KEYS[1], 'version')
+            if current == false or tonumber(current) ~= tonumber(ARGV[1]) then return 0 end
+            if ARGV[2] == '' then
+                redis.call('HDEL', KEYS[1], 'pending')
+            else
+                redis.call('HSET', KEYS[1], 'pending', ARGV[2])
+            end
+            local seconds = ttl(KEYS[1], tonumber(ARGV[3]))
+            redis.call('EXPIRE', KEYS[1], seconds)
+            redis.call('EXPIRE', KEYS[2], seconds)
+            publish(current, ARGV[4])
+            return 1
+            """, Long.class);
+
+    public RedisGameStateRepository(RedisTemplate<String, byte[]> gameStateRedisTemplate,
+                                    GameStateCodec gameStateCodec,
+                                    GameEventCodec gameEventCodec,
+                                    @Value("${splendor.game.snapshot-interval:20}") int snapshotInterval,
+                                    @Value("${splendor.store.idle-timeout:PT1H}") Duration idleTimeout,
+                                    @Value("${splendor.store.max-lifetime:PT6H}") Duration maxLifetime,
+                                    NodeIdentity nodeIdentity) {
+        this.gameStateRedisTemplate = gameStateRedisTemplate;
+        this.gameStateCodec = gameStateCodec;
+        this.gameEventCodec = gameEventCodec;
+        this.snapshotInterval = snapshotInterval;
+        this.idleTimeout = idleTimeout;
+        this.maxLifetime = maxLifetime;
+        this.origin = nodeIdentity.getId().getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * 게임 상태 전체를 스냅샷으로 MULTI/EXEC 한 번에 덮어쓰고 이벤트 로그를 비웁니다. (게임 시작 시 최초 저장)
+     */
+    @Override
+    public GameStateDto save(GameStateDto gameStateDto) {
+        String key = KEY_PREFIX + gameStateDto.getGameId();
+        String eventsKey = EVENTS_KEY_PREFIX + gameStateDto.getGameId();
+        Map<String, byte[]> fields = new HashMap<>(gameStateCodec.encodeSections(gameStateDto, GameStateSections.ALL));
+        fields.put(VERSION_FIELD, toBytes(gameStateDto.getVersion()));
+        fields.put(SNAPSHOT_FIELD, toBytes(gameStateDto.getVersion()));
+        fields.put(DEADLINE_FIELD, toBytes(Instant.now().plus(maxLifetime).getEpochSecond()));
+        if (gameStateDto.getPendingTurn() != null) {
+            fields.put(PENDING_FIELD, gameStateCodec.encodePendingTurn(gameStateDto.getPendingTurn()));
+        }
+
+        gameStateRedisTemplate.execute(new SessionCallback<List<Object>>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public List<Object> execute(RedisOperations operations) throws DataAccessException {
+                RedisOperations<String, byte[]> redis = operations;
+                redis.multi();
+                redis.delete(List.of(key, eventsKey));
+                redis.opsForHash().putAll(key, fields);
+                redis.expire(key, idleTimeout.compareTo(maxLifetime) < 0 ? idleTimeout : maxLifetime);
+                return redis.exec();
+            }
+        });
+        publishInvalidation(gameStateDto.getGameId());
+        gameStateDto.setDirtySections(0);
+        return gameStateDto;
+    }
+
+    /**
+     * 스냅샷과 그 이후 이벤트를 스크립트 한 번으로 읽고, 이벤트를 재생해 현재 상태를 만듭니다.
+     * 재생한 이벤트가 바꾼 구역은 dirty로 남아 다음 스냅샷에서 기록됩니다.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Optional<GameStateDto> findById(Long gameId) {
+        return decodeLoaded(gameStateRedisTemplate.execute(LOAD, keys(gameId)));
+    }
+
+    // LOAD 스크립트 결과 -> 현재 상태
+    Optional<GameStateDto> decodeLoaded(List<byte[]> result) {
+        if (result == null || result.isEmpty()) {
+            return Optional.empty();
+        }
+
+        int hashEnd = 1 + (int) parseLong(result.get(0));
+        Map<String, byte[]> fields = new HashMap<>();
+        for (int i = 1; i < hashEnd; i += 2) {
+            fields.put(new String(result.get(i), StandardCharsets.UTF_8), result.get(i + 1));
+        }
+
+        byte[] legacyState = fields.get(LEGACY_STATE_FIELD);
+        GameStateDto snapshot = legacyState != null
+                ? gameStateCodec.decode(legacyState)
+                : gameStateCodec.decodeSections(fields);
+        byte[] snapshotVersion = fields.getOrDefault(SNAPSHOT_FIELD, fields.get(VERSION_FIELD));
+        if (snapshotVersion != null) {
+            snapshot.setVersion(parseLong(snapshotVersion));
+        }
+
+        List<GameEvent> events = new ArrayList<>(result.size() - hashEnd);
+        for (byte[] event : result.subList(hashEnd, result.size())) {
+            events.add(gameEventCodec.decode(event));
+        }
+        GameStateDto gameStateDto = GameEventApplier.replay(snapshot, events);
+        if (legacyState != null) {
+            // 구역 필드가 아직 없으므로 다음 스냅샷에서 전체 구역을 기록
+            gameStateDto.setDirtySections(GameStateSections.ALL);
+        }
+
+        byte[] pending = fields.get(PENDING_FIELD);
+        if (pending != null) {
+            gameStateDto.setPendingTurn(gameStateCodec.decodePendingTurn(pending));
+        }
+        return Optional.of(gameStateDto);
+    }
+
+    @Override
+    public void deleteById(Long gameId) {
+        gameStateRedisTemplate.delete(keys(gameId));
+        publishInvalidation(gameId);
+    }
+
+    @Override
+    public boolean compareAndSet(GameStateDto gameStateDto, List<GameEvent> events, long expectedVersion) {
+        PreparedCommit commit = prepareCommit(gameStateDto, events, expectedVersion);
+        Long result = gameStateRedisTemplate.execute(COMPARE_AND_SET, keys(gameStateDto.getGameId()), commit.args());
+        return commit.complete(gameStateDto, result != null && result == 1L);
+    }
+
+    /**
+     * COMPARE_AND_SET 인자를 만들고 gameStateDto의 version을 커밋 후 값으로 올려 둡니다.
+     * 스크립트 결과는 PreparedCommit.complete로 반영합니다. (실패하면 version을 되돌림)
+     */
+    PreparedCommit prepareCommit(GameStateDto gameStateDto, List<GameEvent> events, long expectedVersion) {
+        long nextVersion = expectedVersion + events.size();
+        // 스냅샷 주기(snapshotInterval의 배수)를 지나는 커밋에서만 지난 스냅샷 이후 바뀐 구역을 함께 저장
+        boolean snapshotDue = expectedVersion / snapshotInterval != nextVersion / snapshotInterval;
+
+        gameStateDto.setVersion(nextVersion);
+        Map<String, byte[]> sections = snapshotDue
+                ? gameStateCodec.encodeSections(gameStateDto, gameStateDto.getDirtySections())
+                : Map.of();
+
+        List<byte[]> args = new ArrayList<>(5 + sections.size() * 2 + events.size());
+        args.add(toBytes(expectedVersion));
+        args.add(gameStateDto.getPendingTurn() == null ? EMPTY : gameStateCodec.encodePendingTurn(gameStateDto.getPendingTurn()));
+        args.add(toBytes(idleTimeout.toSeconds()));
+        args.add(origin);
+        args.add(toBytes(sections.size() * 2L));
+        sections.forEach((field, value) -> {
+            args.add(field.getBytes(StandardCharsets.UTF_8));
+            args.add(value);
+        });
+        events.forEach(event -> args.add(gameEventCodec.encode(event)));
+        return new PreparedCommit(expectedVersion, !sections.isEmpty(), args.toArray());
+    }
+
+    @Override
+    public boolean compareAndDelete(Long gameId, List<GameEvent> events, long expectedVersion) {
+        Long result = gameStateRedisTemplate.execute(COMPARE_AND_DELETE, keys(gameId), compareAndDeleteArgs(events, expectedVersion));
+        return result != null && result == 1L;
+    }
+
+    Object[] compareAndDeleteArgs(List<GameEvent> events, long expectedVersion) {
+        List<byte[]> args = new ArrayList<>(3 + events.size());
+        args.add(toBytes(expectedVersion));
+        args.add(toBytes(idleTimeout.toSeconds()));
+        args.add(origin);
+        events.forEach(event -> args.add(gameEventCodec.encode(event)));
+        return args.toArray();
+    }
+
+    @Override
+    public boolean savePendingTurn(Long gameId, long expectedVersion, PendingTurnDto pendingTurn) {
+        Long result = gameStateRedisTemplate.execute(SAVE_PENDING, keys(gameId), savePendingArgs(expectedVersion, pendingTurn));
+        return result != null && result == 1L;
+    }
+
+    Object[] savePendingArgs(long expectedVersion, PendingTurnDto pendingTurn) {
+        byte[] pending = pendingTurn == null ? EMPTY : gameStateCodec.encodePendingTurn(pendingTurn);
+        return new Object[]{toBytes(expectedVersion), pending, toBytes(idleTimeout.toSeconds()), origin};
+    }
+
+    // 스크립트를 거치지 않는 저장/삭제 후 다른 노드의 해당 방 캐시 항목을 모두 무효화
+    private void publishInvalidation(Long gameId) {
+        GameStateInvalidation invalidation = new GameStateInvalidation(gameId, GameStateInvalidation.ALL_VERSIONS,
+                new String(origin, StandardCharsets.US_ASCII), Instant.now().toEpochMilli() * 1000);
+        gameStateRedisTemplate.convertAndSend(GameStateInvalidation.CHANNEL, invalidation.toBytes());
+    }
+
+    static List<String> keys(Long gameId) {
+        return List.of(KEY_PREFIX + gameId, EVENTS_KEY_PREFIX + gameId);
+    }
+
+    record PreparedCommit(long expectedVersion, boolean snapshot, Object[] args) {
+
+        // 스크립트 결과를 gameStateDto에 반영 (실패: version 되돌림, 스냅샷 성공: dirty 구역 초기화)
+        boolean complete(GameStateDto gameStateDto, boolean applied) {
+            if (!applied) {
+                gameStateDto.setVersion(expectedVersion);
+                return false;
+            }
+            if (snapshot) {
+                gameStateDto.setDirtySections(0);
+            }
+            return true;
+        }
+    }
+
+    private static byte[] toBytes(long value) {
+        return Long.toString(value).getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static long parseLong(byte[] value) {
+        return Long.parseLong(new String(value, StandardCharsets.US_ASCII));
+    }
+}
@@ -3,11 +3,18 @@ package com.splendor.project.domain.game.service;
 import com.splendor.project.domain.data.StaticCard;
 import com.splendor.project.domain.data.StaticNoble;
 import jakarta.annotation.PostConstruct;
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Collections;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static com.splendor.project.domain.data.GemType.*;
@@ -19,6 +26,15 @@ public class GameStaticDataLoader {
     private List<StaticCard> allCards;
     private List<StaticNoble> allNobles;
 
+    // 카드/귀족 데이터의 해시. 데이터가 바뀌면 달라지며, 클라이언트는 이 버전으로 카탈로그를 캐시합니다. (GET /api/catalog)
+    private String catalogVersion;
+
+    // 바이너리 코덱 등에서 id로 조회하기 위한 인덱스
+    @Getter(AccessLevel.NONE)
+    private Map<Integer, StaticCard> cardsById;
+    @Getter(AccessLevel.NONE)
+    private Map<Integer, StaticNoble> noblesById;
+
     @PostConstruct
     public void loadData() {
         // ⭐️ 애플리케이션 시작 시 한 번만 실행되며 데이터를 메모리에 로드합니다.
@@ -30,6 +46,20 @@ public class GameStaticDataLoader {
 
         this.allCards = Collections.unmodifiableList(this.allCards);
         this.allNobles = Collections.unmodifiableList(this.allNobles);
+
+        this.cardsById = allCards.stream().collect(Collectors.toUnmodifiableMap(StaticCard::id, Function.identity()));
+        this.noblesById = allNobles.stream().collect(Collectors.toUnmodifiableMap(StaticNoble::id, Function.identity()));
+        this.catalogVersion = hashCatalog(allCards, allNobles);
+    }
+
+    // id로 카드 조회 (카탈로그에 없으면 null)
+    public StaticCard getCard(int cardId) {
+        return cardsById.get(cardId);
+    }
+
+    // id로 귀족 타일 조회 (카탈로그에 없으면 null)
+    public StaticNoble getNoble(int nobleId) {
+        return noblesById.get(nobleId);
     }
 
     public List<StaticCard> getShuffledLevelCards(int level) {
@@ -50,6 +80,29 @@ public class GameStaticDataLoader {
     }
 
 
+    // 카드/귀족의 모든 필드를 순서대로 이어 붙인 문자열의 SHA-256 앞 8byte (16진수)
+    private static String hashCatalog(List<StaticCard> cards, List<StaticNoble> nobles) {
+        StringBuilder content = new StringBuilder();
+        for (StaticCard card : cards) {
+            content.append("C").append(card.id()).append(',').append(card.level()).append(',').append(card.points())
+                    .append(',').append(card.bonusGem()).append(',').append(card.costDiamond()).append(',')
+                    .append(card.costSapphire()).append(',').append(card.costEmerald()).append(',')
+                    .append(card.costRuby()).append(',').append(card.costOnyx()).append(';');
+        }
+        for (StaticNoble noble : nobles) {
+            content.append("N").append(noble.id()).append(',').append(noble.points()).append(',')
+                    .append(noble.costDiamond()).append(',').append(noble.costSapphire()).append(',')
+                    .append(noble.costEmerald()).append(',').append(noble.costRuby()).append(',')
+                    .append(noble.costOnyx()).append(';');
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     private List<StaticCard> createCardList() {
         return List.of(
                 // --- 1단계 카드 (DIAMOND 보너스) ---
@@ -41,7 +41,7 @@ public class InitialGameService {
         cards.add(initialL2Cards);
         cards.add(initialL3Cards);
 
-        BoardStateDto boardStateDto = new BoardStateDto(cards, allNobles, Map.of(DIAMOND , 4  , SAPPHIRE,4, RUBY ,4 , EMERALD,4  , ONYX,4 , GOLD ,5 )) ;
+        BoardStateDto boardStateDto = new BoardStateDto(cards, allNobles, new HashMap<>(Map.of(DIAMOND , 4  , SAPPHIRE,4, RUBY ,4 , EMERALD,4  , ONYX,4 , GOLD ,5 ))) ;
         return boardStateDto ;
 
 
@@ -0,0 +1,98 @@
+package com.splendor.project.domain.game.service;
+
+import com.splendor.project.domain.game.dto.request.DiscardTokenRequestDto;
+import com.splendor.project.domain.game.dto.request.SelectCardRequestDto;
+import com.splendor.project.domain.game.dto.request.SelectTokenRequestDto;
+import com.splendor.project.domain.game.dto.response.GameStateDto;
+import com.splendor.project.domain.game.dto.response.PendingTurnDto;
+import com.splendor.project.domain.game.dto.response.ResponseTokenDto;
+import com.splendor.project.domain.game.dto.response.SelectionCardStateDto;
+import com.splendor.project.domain.game.entity.GameStatus;
+import com.splendor.project.domain.game.event.GameEvent;
+import com.splendor.project.domain.game.repository.ReactiveGameStateRepository;
+import com.splendor.project.exception.ErrorCode;
+import com.splendor.project.exception.GameLogicException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * PlayGameService의 논블로킹 버전. (splendor.game.pipeline=reactive)
+ *
+ * 검증/이벤트 적용 규칙은 PlayGameService의 것을 그대로 쓰고, 조회와 커밋만 ReactiveGameStateRepository로 합니다.
+ * 노드 로컬 캐시(GameStateCache)를 거치지 않으므로 선택 상태도 매번 Redis에 바로 저장합니다.
+ * 게임 시작(gameStart)은 RDB 조회가 필요하므로 기존 경로를 사용합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "splendor.game.pipeline", havingValue = "reactive")
+public class ReactivePlayGameService {
+
+    private final PlayGameService playGameService;
+    private final ReactiveGameStateRepository reactiveGameStateRepository;
+
+    public Mono<ResponseTokenDto> selectToken(SelectTokenRequestDto request) {
+        return saveWithRetry(request.getRoomId(), gameStateDto -> playGameService.applySelectToken(gameStateDto, request))
+                .map(selectState -> new ResponseTokenDto(selectState.getTokensToTake()));
+    }
+
+    public Mono<GameStateDto> discardToken(DiscardTokenRequestDto request) {
+        return commitWithRetry(request.getRoomId(), request.getPlayerId(),
+                gameStateDto -> playGameService.applyDiscardToken(gameStateDto, request.getPlayerId(), request.getToken()));
+    }
+
+    public Mono<SelectionCardStateDto> selectCard(SelectCardRequestDto request) {
+        Long roomId = request.getRoomId();
+        return saveWithRetry(roomId, gameStateDto -> playGameService.applySelectCard(gameStateDto, request))
+                .map(selectionState -> new SelectionCardStateDto(roomId, selectionState.getPlayerId(), selectionState.getCardIdToBuy()));
+    }
+
+    public Mono<GameStateDto> endTurn(Long roomId) {
+        return commitWithRetry(roomId, null, playGameService::applyEndTurn);
+    }
+
+    // 선택 상태 저장. version이 바뀌었으면 최신 상태를 다시 읽어 선택을 다시 적용
+    private Mono<PendingTurnDto> saveWithRetry(Long roomId, Function<GameStateDto, PendingTurnDto> action) {
+        return retryOnConflict(roomId, gameStateDto -> {
+            PendingTurnDto pendingTurn = action.apply(gameStateDto);
+            return reactiveGameStateRepository.savePendingTurn(roomId, gameStateDto.getVersion(), pendingTurn)
+                    .filter(Boolean::booleanValue)
+                    .map(saved -> pendingTurn);
+        });
+    }
+
+    // PlayGameService.commitWithRetry와 같은 규칙 (처음 읽은 턴 플레이어의 턴이 아직 진행 중일 때만 재시도)
+    private Mono<GameStateDto> commitWithRetry(Long roomId, String turnPlayerId, Function<GameStateDto, List<GameEvent>> action) {
+        AtomicReference<String> turnPlayer = new AtomicReference<>(turnPlayerId);
+        return retryOnConflict(roomId, gameStateDto -> {
+            turnPlayer.compareAndSet(null, gameStateDto.getCurrentPlayer().getPlayerId());
+            playGameService.checkCurrentTurn(gameStateDto, turnPlayer.get());
+
+            long expectedVersion = gameStateDto.getVersion();
+            List<GameEvent> events = action.apply(gameStateDto);
+            Mono<Boolean> committed = gameStateDto.getGameStatus() == GameStatus.GAME_OVER
+                    ? reactiveGameStateRepository.compareAndDelete(roomId, events, expectedVersion)
+                    : reactiveGameStateRepository.compareAndSet(gameStateDto, events, expectedVersion);
+            return committed.filter(Boolean::booleanValue).map(ok -> gameStateDto);
+        });
+    }
+
+    /**
+     * 최신 상태를 읽어 step을 실행합니다. step이 빈 Mono를 돌려주면 (version 충돌) 최대 maxCommitAttempts번까지 다시 읽어 재시도합니다.
+     */
+    private <T> Mono<T> retryOnConflict(Long roomId, Function<GameStateDto, Mono<T>> step) {
+        Mono<T> attempt = reactiveGameStateRepository.findById(roomId)
+                .switchIfEmpty(Mono.error(() -> new GameLogicException(ErrorCode.ROOM_NOT_FOUND)))
+                .flatMap(step);
+        return Flux.range(0, playGameService.getMaxCommitAttempts())
+                .concatMap(i -> attempt)
+                .next()
+                .switchIfEmpty(Mono.error(() -> new GameLogicException(ErrorCode.CONCURRENT_STATE_UPDATE)));
+    }
+}
@@ -4,12 +4,11 @@ import com.splendor.project.domain.room.dto.request.RequestRoomDto;
 import com.splendor.project.domain.room.dto.response.ResponseRoomDto;
 import com.splendor.project.domain.room.dto.response.ResponseRoomsDto;
 import com.splendor.project.domain.room.service.RoomService;
+import com.splendor.project.global.broadcast.FrameBroadcaster;
 import lombok.RequiredArgsConstructor;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
-import org.springframework.messaging.handler.annotation.SendTo;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Controller;
 import java.util.List;
 
@@ -19,31 +18,30 @@ import static com.splendor.project.contants.StompConstants.TOPIC_ROOM_SPECIFIC_P
 @RequiredArgsConstructor
 public class RoomController {
 
-    private final SimpMessagingTemplate messagingTemplate;
+    private final FrameBroadcaster frameBroadcaster;
     private final RoomService roomService ;
     private final PlayerService playerService ;
 
+    // @SendTo 대신 FrameBroadcaster로 발행해, 바이너리 포맷을 고른 구독자도 바이너리 본문을 받도록 함
     @MessageMapping("/rooms")
-    @SendTo("/topic/rooms")
-    public List<ResponseRoomsDto> sendRoomsMessage(){
+    public void sendRoomsMessage(){
         List<ResponseRoomsDto> allRooms = roomService.findAllRooms();
-        return allRooms;
+        frameBroadcaster.publish("/topic/rooms", allRooms);
     }
 
     @MessageMapping("/add/room")
-    @SendTo("/topic/update/rooms")
-    public ResponseRoomDto addRoomsMessage(@Payload RequestRoomDto roomRequestDTO) {
-         return  playerService.save(roomRequestDTO);
+    public void addRoomsMessage(@Payload RequestRoomDto roomRequestDTO) {
+        ResponseRoomDto responseRoomDto = playerService.save(roomRequestDTO);
+        frameBroadcaster.publish("/topic/update/rooms", responseRoomDto);
     }
 
     @MessageMapping("/join/room/{roomId}")
     public void joinRoomsMessage(@Payload RequestRoomDto requestRoomDto , @DestinationVariable Long roomId) {
         ResponseRoomDto responseRoomDto = playerService.join(requestRoomDto , roomId);
 
-        messagingTemplate.convertAndSend("topic/rooms", responseRoomDto);
-
+        // 방 목록과 방 topic에 같은 본문을 보내므로 한 번만 인코딩
         String specificRoomTopic = TOPIC_ROOM_SPECIFIC_PREFIX + roomId;
-        messagingTemplate.convertAndSend(specificRoomTopic , responseRoomDto);
+        frameBroadcaster.publish(List.of("topic/rooms", specificRoomTopic), responseRoomDto);
 
     }
 
@@ -53,7 +51,7 @@ public class RoomController {
         ResponseRoomDto responseRoomDto = playerService.toggleReady(playerId, roomId);
 
         String specificRoomTopic = TOPIC_ROOM_SPECIFIC_PREFIX + roomId;
-        messagingTemplate.convertAndSend(specificRoomTopic , responseRoomDto);
+        frameBroadcaster.publish(specificRoomTopic , responseRoomDto);
 
     }
 }
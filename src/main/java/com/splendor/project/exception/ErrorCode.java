@@ -15,7 +15,18 @@ public enum ErrorCode {
     CARD_NOT_AVAILABLE("선택한 개발 카드를 찾을 수 없거나 구매할 수 없는 상태입니다."),
     NOT_ENOUGH_TOKENS("보석 토큰이 부족하여 카드를 구매할 수 없습니다."),
     NO_CARD_SELECTED_TO_PURCHASE("구매할 카드가 선택되지 않았습니다."),
-    ANOTHER_CARD_ALREADY_SELECTED("이미 다른 카드가 선택되어 있습니다.");
+    ANOTHER_CARD_ALREADY_SELECTED("이미 다른 카드가 선택되어 있습니다."),
+
+    // 동시성 관련 에러 코드
+    CONCURRENT_STATE_UPDATE("다른 요청이 먼저 게임 상태를 변경했습니다. 다시 시도해 주세요."),
+    SERVER_BUSY("처리 중인 요청이 너무 많습니다. 잠시 후 다시 시도해 주세요."),
+
+    // 게임 시작 admission 관련 코드
+    GAME_START_QUEUED("게임 시작 대기 중입니다. 순서가 되면 게임 화면이 전달됩니다."),
+    GAME_START_REJECTED("게임을 시작하려는 방이 너무 많습니다. 잠시 후 다시 시도해 주세요."),
+
+    // 노드 drain 관련 코드
+    NODE_DRAINING("서버를 교체하는 중입니다. 다시 연결하면 게임이 이어집니다.");
 
 
     private final String message;
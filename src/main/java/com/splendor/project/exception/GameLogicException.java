@@ -1,10 +1,14 @@
 package com.splendor.project.exception;
 
+/**
+ * 게임 규칙 위반 등 예상된 실패. 잘못된 클릭처럼 자주 일어나는 실패라 stack trace를 만들지 않습니다.
+ * (원인은 ErrorCode로 충분하고, 호출 위치가 필요한 버그성 예외는 IllegalStateException 등을 씀)
+ */
 public class GameLogicException extends RuntimeException {
     private final ErrorCode errorCode;
 
     public GameLogicException(ErrorCode errorCode) {
-        super(errorCode.getMessage());
+        super(errorCode.getMessage(), null, false, false);
         this.errorCode = errorCode;
     }
 
@@ -0,0 +1,58 @@
+package com.splendor.project.global.broadcast;
+
+import org.springframework.util.MimeType;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 한 번 인코딩한 브로드캐스트 본문. FrameBroadcaster.encode로만 만들며, 만든 뒤에는 바꾸지 않습니다.
+ *
+ * 같은 프레임을 여러 목적지로 보내도 본문 byte[]는 하나를 공유합니다.
+ * simple broker는 구독자마다 이 byte[]를 그대로 넘기고, BroadcastBridge도 같은 byte[]를 다른 노드로 보냅니다.
+ *
+ * 다른 포맷(바이너리 등)을 고른 구독자에게는 alternate로 원래 본문을 한 번 더 인코딩하며, 포맷마다 한 번만 인코딩해 공유합니다.
+ */
+public final class BroadcastFrame {
+
+    // 발행한 메시지에 프레임을 실어 보내는 헤더 (JVM 안에서만 쓰며 STOMP 프레임에는 나가지 않음)
+    public static final String HEADER = "splendorBroadcastFrame";
+
+    private final byte[] payload;
+    private final MimeType contentType;
+    private final Object source;
+    // 포맷 -> 인코딩한 본문
+    private final Map<MimeType, byte[]> alternates = new ConcurrentHashMap<>();
+
+    BroadcastFrame(byte[] payload, MimeType contentType, Object source) {
+        this.payload = payload;
+        this.contentType = contentType;
+        this.source = source;
+    }
+
+    // 메시지 본문으로만 넘기고, 밖에서 수정할 수 있게 노출하지 않음
+    byte[] payload() {
+        return payload;
+    }
+
+    public MimeType contentType() {
+        return contentType;
+    }
+
+    // 인코딩 전 본문 (다른 포맷으로 인코딩할 때 사용)
+    public Object source() {
+        return source;
+    }
+
+    public int size() {
+        return payload.length;
+    }
+
+    /**
+     * 원래 본문을 contentType 포맷으로 인코딩한 본문. 처음 요청할 때 한 번만 인코딩하고 이후 구독자는 같은 byte[]를 받습니다.
+     */
+    public byte[] alternate(MimeType contentType, Function<Object, byte[]> encoder) {
+        return alternates.computeIfAbsent(contentType, type -> encoder.apply(source));
+    }
+}
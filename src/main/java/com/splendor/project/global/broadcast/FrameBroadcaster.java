@@ -0,0 +1,93 @@
+package com.splendor.project.global.broadcast;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.converter.MessageConversionException;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+/**
+ * /topic 브로드캐스트 발행. 본문을 한 번만 인코딩(JSON)해 BroadcastFrame으로 만들고, 그 프레임을 그대로 보냅니다.
+ *
+ * SimpMessagingTemplate.convertAndSend는 호출마다 본문을 다시 인코딩하므로, 같은 본문을 여러 목적지(방 목록과 방 topic,
+ * drain 때 모든 방 등)로 보내면 목적지 수만큼 인코딩합니다. 여기서는 목적지나 구독자 수와 관계없이 발행당 한 번만 인코딩합니다.
+ * 인코딩은 SimpMessagingTemplate에 설정된 메시지 컨버터를 그대로 사용하므로 클라이언트가 받는 본문은 이전과 같습니다.
+ */
+@Component
+public class FrameBroadcaster {
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    private final Counter encodedCounter;
+    private final Counter sentCounter;
+    private final DistributionSummary frameBytes;
+
+    public FrameBroadcaster(SimpMessagingTemplate messagingTemplate, MeterRegistry meterRegistry) {
+        this.messagingTemplate = messagingTemplate;
+        this.encodedCounter = meterRegistry.counter("splendor.broadcast.frames", "stage", "encoded");
+        this.sentCounter = meterRegistry.counter("splendor.broadcast.frames", "stage", "sent");
+        this.frameBytes = DistributionSummary.builder("splendor.broadcast.frame.bytes")
+                .description("인코딩한 브로드캐스트 본문 크기")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 본문을 인코딩합니다. 같은 본문을 여러 번 보낼 때는 한 번 만든 프레임을 publish(destination, frame)으로 재사용합니다.
+     */
+    public BroadcastFrame encode(Object payload) {
+        Message<?> message = messagingTemplate.getMessageConverter().toMessage(payload, null);
+        if (message == null || !(message.getPayload() instanceof byte[] bytes)) {
+            throw new MessageConversionException("브로드캐스트 본문을 인코딩할 수 없습니다: " + payload.getClass().getName());
+        }
+        encodedCounter.increment();
+        frameBytes.record(bytes.length);
+        return new BroadcastFrame(bytes, new MessageHeaderAccessor(message).getContentType(), payload);
+    }
+
+    public void publish(String destination, BroadcastFrame frame) {
+        send(destination, frame, null);
+    }
+
+    /**
+     * 세션 하나에만 보냅니다. (/user/{sessionId}{destination}, 클라이언트는 /user{destination}을 구독)
+     * 로그인(Principal) 없이도 user destination을 찾을 수 있도록 메시지에 세션 id를 붙입니다.
+     */
+    public void publishToSession(String sessionId, String destination, Object payload) {
+        send(messagingTemplate.getUserDestinationPrefix() + sessionId + destination, encode(payload), sessionId);
+    }
+
+    private void send(String destination, BroadcastFrame frame, String sessionId) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(frame.contentType());
+        // 바이너리 포맷을 고른 구독자에게 보낼 때 원래 본문이 필요 (WireFormatNegotiator)
+        accessor.setHeader(BroadcastFrame.HEADER, frame);
+        if (sessionId != null) {
+            accessor.setSessionId(sessionId);
+        }
+        // SimpMessagingTemplate이 목적지를 채운 뒤 헤더를 고정
+        accessor.setLeaveMutable(true);
+        messagingTemplate.send(destination, MessageBuilder.createMessage(frame.payload(), accessor.getMessageHeaders()));
+        sentCounter.increment();
+    }
+
+    public void publish(String destination, Object payload) {
+        publish(destination, encode(payload));
+    }
+
+    // 같은 본문을 여러 목적지로 (인코딩은 한 번)
+    public void publish(Collection<String> destinations, Object payload) {
+        BroadcastFrame frame = encode(payload);
+        for (String destination : destinations) {
+            publish(destination, frame);
+        }
+    }
+}
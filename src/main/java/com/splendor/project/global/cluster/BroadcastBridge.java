@@ -0,0 +1,259 @@
+package com.splendor.project.global.cluster;
+
+import com.splendor.project.domain.game.codec.BinaryReader;
+import com.splendor.project.domain.game.codec.BinaryWriter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * /topic 브로드캐스트를 모든 노드의 구독자에게 전달하는 브리지. (splendor.broadcast.bridge.enabled=true)
+ *
+ * - brokerChannel interceptor: 이 노드에서 발행한 /topic 메시지는 그대로 로컬 simple broker로 보내고(지연 없음),
+ *   같은 메시지를 방 단위 배치에 넣습니다.
+ * - 아직 발행하지 않은 배치 안에서 같은 목적지로 같은 본문이 반복되면 로컬 broker에도, 배치에도 넣지 않습니다.
+ *   (로컬 구독자와 다른 노드의 구독자가 같은 메시지 순서를 받도록 양쪽에 같은 기준 적용)
+ * - batch-window-ms 마다 방별 배치를 하나의 Redis 메시지(room-broadcast 채널)로 발행합니다.
+ * - 다른 노드는 배치를 받아 프레임 순서대로 자기 brokerChannel에 넣어 로컬 구독자에게 전달합니다.
+ *   배치마다 발행 노드별로 증가하는 sequence가 붙어, 이미 받은 배치는 다시 전달하지 않습니다.
+ * - 발행(enqueue)부터 다른 노드의 brokerChannel 전달까지 걸린 시간은 splendor.broadcast.bridge.latency 로 기록합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "splendor.broadcast.bridge.enabled", havingValue = "true")
+public class BroadcastBridge implements ChannelInterceptor, MessageListener {
+
+    public static final String CHANNEL = "room-broadcast";
+    static final String BRIDGED_HEADER = "splendor-bridged-from";
+    private static final Pattern ROOM_TOPIC = Pattern.compile("^/topic/[a-z-]+/(\\d+)$");
+    private static final long NON_ROOM_KEY = -1L;
+
+    private final String nodeId;
+    private final Consumer<byte[]> publisher;
+    private final MessageChannel brokerChannel;
+
+    private final Map<Long, List<Frame>> pending = new ConcurrentHashMap<>();
+    private final Map<String, Long> lastSequenceByOrigin = new ConcurrentHashMap<>();
+    // 재시작한 노드의 sequence가 이전 실행보다 작아지지 않도록 시작 시각(us)에서 시작
+    private final AtomicLong sequence = new AtomicLong(nowMicros());
+    private final ScheduledExecutorService flusher;
+
+    private final Counter batchCounter;
+    private final Counter frameCounter;
+    private final Counter batchDuplicateCounter;
+    private final Counter sequenceDuplicateCounter;
+    private final Timer latencyTimer;
+
+    @Autowired
+    public BroadcastBridge(RedisTemplate<String, byte[]> gameStateRedisTemplate,
+                           NodeIdentity nodeIdentity,
+                           @Lazy @Qualifier("brokerChannel") MessageChannel brokerChannel,
+                           @Value("${splendor.broadcast.bridge.batch-window-ms:2}") long batchWindowMillis,
+                           MeterRegistry meterRegistry) {
+        this(nodeIdentity.getId(), batch -> gameStateRedisTemplate.convertAndSend(CHANNEL, batch),
+                brokerChannel, batchWindowMillis, meterRegistry);
+    }
+
+    /**
+     * @param publisher 배치를 모든 노드(자신 포함)에 보내는 전송 수단. 운영에서는 Redis pub/sub, 테스트에서는 프로세스 내 전달
+     */
+    public BroadcastBridge(String nodeId, Consumer<byte[]> publisher, MessageChannel brokerChannel,
+                           long batchWindowMillis, MeterRegistry meterRegistry) {
+        this.nodeId = nodeId;
+        this.publisher = publisher;
+        this.brokerChannel = brokerChannel;
+
+        this.batchCounter = meterRegistry.counter("splendor.broadcast.bridge.batches");
+        this.frameCounter = meterRegistry.counter("splendor.broadcast.bridge.frames");
+        this.batchDuplicateCounter = meterRegistry.counter("splendor.broadcast.bridge.deduplicated", "stage", "batch");
+        this.sequenceDuplicateCounter = meterRegistry.counter("splendor.broadcast.bridge.deduplicated", "stage", "sequence");
+        this.latencyTimer = Timer.builder("splendor.broadcast.bridge.latency")
+                .description("다른 노드에서 발행한 브로드캐스트가 이 노드 brokerChannel에 전달되기까지 걸린 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+
+        this.flusher = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("broadcast-bridge").daemon().factory());
+        flusher.scheduleWithFixedDelay(this::flushSafely, batchWindowMillis, batchWindowMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        String destination = accessor.getDestination();
+        if (accessor.getMessageType() != SimpMessageType.MESSAGE || accessor.getHeader(BRIDGED_HEADER) != null
+                || destination == null || !destination.startsWith("/topic/")
+                || !(message.getPayload() instanceof byte[] payload)) {
+            return message;
+        }
+
+        MimeType contentType = accessor.getContentType();
+        Frame frame = new Frame(destination, contentType == null ? "" : contentType.toString(), payload, nowMicros());
+        boolean[] repeated = new boolean[1];
+        pending.compute(roomKeyOf(destination), (roomId, frames) -> {
+            List<Frame> batch = frames != null ? frames : new ArrayList<>();
+            repeated[0] = isRepeated(batch, frame);
+            if (!repeated[0]) {
+                batch.add(frame);
+            }
+            return batch;
+        });
+        if (repeated[0]) {
+            batchDuplicateCounter.increment();
+            return null;
+        }
+        return message;
+    }
+
+    /**
+     * 대기 중인 방별 배치를 발행합니다. (flusher 스레드에서 batch-window 마다 호출)
+     */
+    public void flush() {
+        for (Long roomKey : pending.keySet()) {
+            List<Frame> frames = pending.remove(roomKey);
+            if (frames == null || frames.isEmpty()) {
+                continue;
+            }
+            publisher.accept(encode(frames));
+            batchCounter.increment();
+            frameCounter.increment(frames.size());
+        }
+    }
+
+    @Override
+    public void onMessage(org.springframework.data.redis.connection.Message message, byte[] pattern) {
+        receive(message.getBody());
+    }
+
+    /**
+     * 다른 노드의 배치를 이 노드의 로컬 구독자에게 전달합니다. 자신이 발행한 배치와 이미 받은 배치는 무시합니다.
+     */
+    public void receive(byte[] batch) {
+        BinaryReader reader = new BinaryReader(batch);
+        String origin;
+        long batchSequence;
+        List<Frame> frames;
+        try {
+            origin = reader.readString();
+            batchSequence = reader.readVarLong();
+            int count = reader.readUnsignedVarInt();
+            frames = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                frames.add(new Frame(reader.readString(), reader.readString(), reader.readBytes(), reader.readVarLong()));
+            }
+        } catch (RuntimeException e) {
+            log.warn("잘못된 브로드캐스트 배치를 무시합니다", e);
+            return;
+        }
+        if (nodeId.equals(origin)) {
+            return;
+        }
+        if (!acceptSequence(origin, batchSequence)) {
+            sequenceDuplicateCounter.increment();
+            return;
+        }
+
+        for (Frame frame : frames) {
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+            accessor.setDestination(frame.destination());
+            if (!frame.contentType().isEmpty()) {
+                accessor.setContentType(MimeType.valueOf(frame.contentType()));
+            }
+            accessor.setHeader(BRIDGED_HEADER, origin);
+            brokerChannel.send(MessageBuilder.createMessage(frame.payload(), accessor.getMessageHeaders()));
+            latencyTimer.record(Math.max(0, nowMicros() - frame.enqueuedAtMicros()), TimeUnit.MICROSECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flusher.shutdown();
+        flushSafely();
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("브로드캐스트 배치 발행 실패", e);
+        }
+    }
+
+    private boolean acceptSequence(String origin, long batchSequence) {
+        boolean[] accepted = new boolean[1];
+        lastSequenceByOrigin.compute(origin, (key, previous) -> {
+            accepted[0] = previous == null || batchSequence > previous;
+            return accepted[0] ? batchSequence : previous;
+        });
+        return accepted[0];
+    }
+
+    // 배치 안에서 같은 목적지의 직전 프레임과 본문이 같으면 반복
+    private static boolean isRepeated(List<Frame> batch, Frame frame) {
+        for (int i = batch.size() - 1; i >= 0; i--) {
+            Frame previous = batch.get(i);
+            if (previous.destination().equals(frame.destination())) {
+                return Arrays.equals(previous.payload(), frame.payload());
+            }
+        }
+        return false;
+    }
+
+    private byte[] encode(List<Frame> frames) {
+        int payloadBytes = frames.stream().mapToInt(frame -> frame.payload().length + frame.destination().length() + 32).sum();
+        BinaryWriter writer = new BinaryWriter(payloadBytes + 64);
+        writer.writeString(nodeId);
+        writer.writeVarLong(sequence.incrementAndGet());
+        writer.writeUnsignedVarInt(frames.size());
+        for (Frame frame : frames) {
+            writer.writeString(frame.destination());
+            writer.writeString(frame.contentType());
+            writer.writeBytes(frame.payload());
+            writer.writeVarLong(frame.enqueuedAtMicros());
+        }
+        return writer.toByteArray();
+    }
+
+    static long roomKeyOf(String destination) {
+        Matcher matcher = ROOM_TOPIC.matcher(destination);
+        return matcher.matches() ? Long.parseLong(matcher.group(1)) : NON_ROOM_KEY;
+    }
+
+    private static long nowMicros() {
+        Instant now = Instant.now();
+        return now.getEpochSecond() * 1_000_000 + now.getNano() / 1_000;
+    }
+
+    private record Frame(String destination, String contentType, byte[] payload, long enqueuedAtMicros) {
+    }
+}
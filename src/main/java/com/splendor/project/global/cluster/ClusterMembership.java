@@ -0,0 +1,73 @@
+package com.splendor.project.global.cluster;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Redis Sorted Set(cluster:members) 기반 멤버 목록. (splendor.cluster.sharding.enabled=true)
+ *
+ * - 각 노드는 heartbeat-interval 마다 자기 id를 현재 시각(score)으로 갱신합니다.
+ * - member-timeout 동안 갱신되지 않은 노드는 목록에서 지웁니다. (비정상 종료한 노드)
+ * - 정상 종료하거나 drain하면 바로 목록에서 빠져 다른 노드가 소유권을 넘겨받습니다.
+ * - 목록이 바뀌면 RoomOwnership의 링을 다시 만들고 RoomOwnershipChangedEvent를 발행합니다.
+ * 같은 Redis를 쓰는 노드끼리 하나의 클러스터가 되므로, 한 호스트에서 포트만 다르게 여러 노드를 띄워도 됩니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "splendor.cluster.sharding.enabled", havingValue = "true")
+public class ClusterMembership {
+
+    static final String MEMBERS_KEY = "cluster:members";
+
+    private final StringRedisTemplate redisTemplate;
+    private final RoomOwnership roomOwnership;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Duration memberTimeout;
+    // 탈퇴(drain/종료) 후에는 heartbeat로 다시 들어가지 않음
+    private volatile boolean left;
+
+    public ClusterMembership(StringRedisTemplate redisTemplate,
+                             RoomOwnership roomOwnership,
+                             ApplicationEventPublisher eventPublisher,
+                             @Value("${splendor.cluster.member-timeout:PT10S}") Duration memberTimeout) {
+        this.redisTemplate = redisTemplate;
+        this.roomOwnership = roomOwnership;
+        this.eventPublisher = eventPublisher;
+        this.memberTimeout = memberTimeout;
+    }
+
+    @Scheduled(fixedDelayString = "${splendor.cluster.heartbeat-interval-ms:2000}")
+    public void heartbeat() {
+        if (left) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        redisTemplate.opsForZSet().add(MEMBERS_KEY, roomOwnership.nodeId(), now);
+        redisTemplate.opsForZSet().removeRangeByScore(MEMBERS_KEY, Double.NEGATIVE_INFINITY, now - memberTimeout.toMillis());
+
+        Set<String> members = redisTemplate.opsForZSet().range(MEMBERS_KEY, 0, -1);
+        if (members != null && roomOwnership.update(members)) {
+            log.info("클러스터 멤버 변경 node={} members={}", roomOwnership.nodeId(), roomOwnership.members());
+            eventPublisher.publishEvent(new RoomOwnershipChangedEvent(roomOwnership, roomOwnership.members()));
+        }
+    }
+
+    @PreDestroy
+    public void leave() {
+        left = true;
+        try {
+            redisTemplate.opsForZSet().remove(MEMBERS_KEY, roomOwnership.nodeId());
+        } catch (RuntimeException e) {
+            log.warn("클러스터 멤버 탈퇴 실패 node={} (member-timeout 후 정리됨)", roomOwnership.nodeId(), e);
+        }
+    }
+}
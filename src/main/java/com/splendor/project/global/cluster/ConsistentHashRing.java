@@ -0,0 +1,62 @@
+package com.splendor.project.global.cluster;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * 노드 id 목록 위의 consistent hash ring. (불변)
+ *
+ * 노드마다 virtualNodes개의 지점을 링에 올리고, 방은 roomId 해시 다음에 오는 첫 지점의 노드가 소유합니다.
+ * 노드가 하나 들어오거나 나가면 그 노드의 지점 사이에 있던 방(약 1/N)만 소유자가 바뀝니다.
+ */
+public final class ConsistentHashRing {
+
+    private final NavigableMap<Long, String> points = new TreeMap<>();
+    private final Set<String> nodes;
+
+    public ConsistentHashRing(Collection<String> nodes, int virtualNodes) {
+        this.nodes = Set.copyOf(new TreeSet<>(nodes));
+        for (String node : this.nodes) {
+            for (int i = 0; i < virtualNodes; i++) {
+                points.put(hash(node + "#" + i), node);
+            }
+        }
+    }
+
+    public Set<String> nodes() {
+        return nodes;
+    }
+
+    /**
+     * 방의 소유 노드. 링이 비어 있으면 null.
+     */
+    public String ownerOf(Long roomId) {
+        if (points.isEmpty()) {
+            return null;
+        }
+        Map.Entry<Long, String> point = points.ceilingEntry(mix(roomId));
+        return (point != null ? point : points.firstEntry()).getValue();
+    }
+
+    // FNV-1a 64bit + mix (노드 id 문자열 해시)
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    // 연속된 roomId가 링 위에 고르게 흩어지도록 섞음 (SplitMix64 finalizer)
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+        value = (value ^ (value >>> 27)) * 0x94d049bb133111ebL;
+        return value ^ (value >>> 31);
+    }
+}
@@ -0,0 +1,22 @@
+package com.splendor.project.global.cluster;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * 이 애플리케이션 노드의 식별자. 여러 노드가 같은 Redis를 쓸 때 자신이 보낸 메시지를 구분하는 데 사용합니다.
+ * splendor.node.id를 지정하지 않으면 시작할 때마다 새 id를 만듭니다. (공백 없는 문자열)
+ */
+@Getter
+@Component
+public class NodeIdentity {
+
+    private final String id;
+
+    public NodeIdentity(@Value("${splendor.node.id:}") String id) {
+        this.id = id.isBlank() ? UUID.randomUUID().toString() : id.strip().replaceAll("\\s+", "-");
+    }
+}
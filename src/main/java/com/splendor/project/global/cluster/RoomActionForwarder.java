@@ -0,0 +1,157 @@
+package com.splendor.project.global.cluster;
+
+import com.splendor.project.contants.StompConstants;
+import com.splendor.project.domain.game.codec.BinaryReader;
+import com.splendor.project.domain.game.codec.BinaryWriter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 방 액션을 소유 노드로 전달합니다. (splendor.cluster.sharding.enabled=true)
+ *
+ * - clientInbound 채널 interceptor: /app/game-.../{roomId} 메시지의 소유 노드가 다른 노드면
+ *   Redis 채널 room-actions:{소유 노드 id}로 보내고 이 노드에서는 처리하지 않습니다.
+ * - Redis 구독(room-actions:{이 노드 id}): 받은 메시지를 이 노드의 clientInbound 채널에 다시 넣어
+ *   로컬에서 받은 메시지와 같은 @MessageMapping 경로로 처리합니다.
+ * 전달된 메시지는 소유권이 그 사이 바뀌었더라도 다시 전달하지 않고 받은 노드에서 처리합니다. (커밋은 version CAS로 보호)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "splendor.cluster.sharding.enabled", havingValue = "true")
+public class RoomActionForwarder implements ChannelInterceptor, MessageListener {
+
+    static final String CHANNEL_PREFIX = "room-actions:";
+    public static final String FORWARDED_HEADER = "splendor-forwarded-from";
+    // 전달받은 메시지에 붙이는 가상 세션 id의 접두사 (실제 세션은 전달한 노드에 있음)
+    private static final String FORWARDED_SESSION_PREFIX = "forwarded:";
+    private static final Pattern ROOM_ACTION = Pattern.compile("^/app/game-[a-z-]+/(\\d+)$");
+
+    private final RoomOwnership roomOwnership;
+    private final RedisTemplate<String, byte[]> gameStateRedisTemplate;
+    private final MessageChannel clientInboundChannel;
+
+    private final Counter forwardedCounter;
+    private final Counter receivedCounter;
+
+    public RoomActionForwarder(RoomOwnership roomOwnership,
+                               RedisTemplate<String, byte[]> gameStateRedisTemplate,
+                               @Lazy @Qualifier("clientInboundChannel") MessageChannel clientInboundChannel,
+                               MeterRegistry meterRegistry) {
+        this.roomOwnership = roomOwnership;
+        this.gameStateRedisTemplate = gameStateRedisTemplate;
+        this.clientInboundChannel = clientInboundChannel;
+        this.forwardedCounter = meterRegistry.counter("splendor.cluster.forwarded", "direction", "out");
+        this.receivedCounter = meterRegistry.counter("splendor.cluster.forwarded", "direction", "in");
+    }
+
+    public static String channelOf(String nodeId) {
+        return CHANNEL_PREFIX + nodeId;
+    }
+
+    // 다른 노드에서 전달된 메시지의 가상 세션인지 (이 노드에서는 그 세션으로 보낼 수 없음)
+    public static boolean isForwardedSession(String sessionId) {
+        return sessionId != null && sessionId.startsWith(FORWARDED_SESSION_PREFIX);
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        if (accessor.getMessageType() != SimpMessageType.MESSAGE || accessor.getHeader(FORWARDED_HEADER) != null
+                || !(message.getPayload() instanceof byte[] payload)) {
+            return message;
+        }
+        Long roomId = roomIdOf(accessor.getDestination());
+        if (roomId == null) {
+            return message;
+        }
+
+        String owner = roomOwnership.ownerOf(roomId);
+        if (owner == null || owner.equals(roomOwnership.nodeId())) {
+            return message;
+        }
+        MimeType contentType = accessor.getContentType();
+        String actionId = accessor.getFirstNativeHeader(StompConstants.ACTION_ID_HEADER);
+        String sessionId = accessor.getSessionId();
+        byte[] frame = encode(accessor.getDestination(), contentType == null ? "" : contentType.toString(), payload,
+                actionId == null ? "" : actionId, sessionId == null ? "" : sessionId);
+        gameStateRedisTemplate.convertAndSend(channelOf(owner), frame);
+        forwardedCounter.increment();
+        return null;
+    }
+
+    @Override
+    public void onMessage(org.springframework.data.redis.connection.Message message, byte[] pattern) {
+        BinaryReader reader = new BinaryReader(message.getBody());
+        String destination;
+        String contentType;
+        String origin;
+        byte[] payload;
+        String actionId;
+        String originSession;
+        try {
+            destination = reader.readString();
+            contentType = reader.readString();
+            origin = reader.readString();
+            payload = reader.readBytes();
+            // action-id, 원래 세션 id는 나중에 추가된 필드라 이전 버전 노드가 보낸 프레임에는 없음
+            actionId = reader.hasRemaining() ? reader.readString() : "";
+            originSession = reader.hasRemaining() ? reader.readString() : "";
+        } catch (RuntimeException e) {
+            log.warn("잘못된 방 액션 전달 메시지를 무시합니다", e);
+            return;
+        }
+
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(destination);
+        if (!contentType.isEmpty()) {
+            accessor.setContentType(MimeType.valueOf(contentType));
+        }
+        // @MessageMapping 처리에 세션 id/속성이 필요하므로 전달한 노드와 원래 세션 기준의 가상 세션을 붙임
+        // (중복 액션 판단이 세션별이라 같은 노드에서 온 다른 세션과 구분되어야 함)
+        accessor.setSessionId(FORWARDED_SESSION_PREFIX + origin + (originSession.isEmpty() ? "" : ":" + originSession));
+        accessor.setSessionAttributes(new ConcurrentHashMap<>());
+        accessor.setHeader(FORWARDED_HEADER, origin);
+        if (!actionId.isEmpty()) {
+            accessor.setNativeHeader(StompConstants.ACTION_ID_HEADER, actionId);
+        }
+        clientInboundChannel.send(MessageBuilder.createMessage(payload, accessor.getMessageHeaders()));
+        receivedCounter.increment();
+    }
+
+    static Long roomIdOf(String destination) {
+        if (destination == null) {
+            return null;
+        }
+        Matcher matcher = ROOM_ACTION.matcher(destination);
+        return matcher.matches() ? Long.valueOf(matcher.group(1)) : null;
+    }
+
+    private byte[] encode(String destination, String contentType, byte[] payload, String actionId, String sessionId) {
+        BinaryWriter writer = new BinaryWriter(payload.length + destination.length() + 64);
+        writer.writeString(destination);
+        writer.writeString(contentType);
+        writer.writeString(roomOwnership.nodeId());
+        writer.writeBytes(payload);
+        writer.writeString(actionId);
+        writer.writeString(sessionId);
+        return writer.toByteArray();
+    }
+}
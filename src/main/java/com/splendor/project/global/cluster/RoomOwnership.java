@@ -0,0 +1,69 @@
+package com.splendor.project.global.cluster;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 방 소유 노드 판단. (splendor.cluster.sharding.enabled=true)
+ *
+ * 현재 멤버 목록으로 만든 ConsistentHashRing을 들고 있다가, ClusterMembership이 목록 변경을 알려 오면 링을 새로 만듭니다.
+ * 멤버 목록을 아직 받지 못했으면 이 노드만 있는 링으로 시작합니다. (모든 방을 로컬에서 처리)
+ */
+@Component
+@ConditionalOnProperty(name = "splendor.cluster.sharding.enabled", havingValue = "true")
+public class RoomOwnership {
+
+    private final String nodeId;
+    private final int virtualNodes;
+    private volatile ConsistentHashRing ring;
+
+    @Autowired
+    public RoomOwnership(NodeIdentity nodeIdentity,
+                         @Value("${splendor.cluster.virtual-nodes:128}") int virtualNodes) {
+        this(nodeIdentity.getId(), virtualNodes);
+    }
+
+    public RoomOwnership(String nodeId, int virtualNodes) {
+        this.nodeId = nodeId;
+        this.virtualNodes = virtualNodes;
+        this.ring = new ConsistentHashRing(List.of(nodeId), virtualNodes);
+    }
+
+    public String nodeId() {
+        return nodeId;
+    }
+
+    public Set<String> members() {
+        return ring.nodes();
+    }
+
+    public String ownerOf(Long roomId) {
+        return ring.ownerOf(roomId);
+    }
+
+    public boolean isLocal(Long roomId) {
+        return nodeId.equals(ownerOf(roomId));
+    }
+
+    /**
+     * 멤버 목록을 반영합니다. 이 노드는 목록에 없어도 항상 포함됩니다. (heartbeat 직전/Redis 장애 중에도 자기 방은 처리)
+     *
+     * @return 멤버 구성이 바뀌었으면 true
+     */
+    public synchronized boolean update(Collection<String> members) {
+        Set<String> next = new HashSet<>(members);
+        next.add(nodeId);
+        if (next.equals(ring.nodes())) {
+            return false;
+        }
+        ring = new ConsistentHashRing(next, virtualNodes);
+        return true;
+    }
+}
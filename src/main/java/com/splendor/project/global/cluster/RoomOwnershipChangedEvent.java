@@ -0,0 +1,10 @@
+package com.splendor.project.global.cluster;
+
+import java.util.Set;
+
+/**
+ * 클러스터 멤버 구성이 바뀌어 방 소유 노드가 다시 계산되었을 때 발행되는 이벤트.
+ * 이 노드가 더 이상 소유하지 않는 방의 로컬 상태는 이 이벤트를 받아 정리합니다.
+ */
+public record RoomOwnershipChangedEvent(RoomOwnership ownership, Set<String> members) {
+}
@@ -0,0 +1,67 @@
+package com.splendor.project.global.drain;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+import java.util.regex.Pattern;
+
+/**
+ * drain을 시작한 노드가 새 방 액션을 처리하지 않게 막습니다. (inbound channel interceptor)
+ *
+ * - NodeDrain이 close()를 호출한 뒤 들어온 방 상태를 바꾸는 액션(토큰/카드 선택, 토큰 버리기, 턴 종료)은
+ *   PlayGameService에 닿기 전에 버리고 splendor.drain.rejected로 셉니다. handoff로 캐시에서 뺀 방을 이 노드가 다시 읽어 바꾸지 않도록 하기 위함입니다.
+ * - 샤딩을 켰다면 RoomActionForwarder 뒤에 등록되므로, 클러스터에서 빠진 뒤 소유 노드가 바뀐 방의 액션은
+ *   버리지 않고 새 소유 노드로 전달됩니다.
+ * - 버린 액션의 클라이언트는 재연결 안내(RECONNECT)나 세션 종료(1012)를 받고 다른 노드에 다시 연결해 재전송합니다.
+ */
+@Slf4j
+@Component
+public class DrainingActionGuard implements ChannelInterceptor {
+
+    // 방 상태를 바꾸는 액션. 게임 시작(/app/game-screen)은 GameStartAdmission이 재연결 안내로 응답하므로 제외
+    private static final Pattern ROOM_ACTION =
+            Pattern.compile("^/app/game-(select-token|select-card|discard-token|end-turn)/\\d+$");
+
+    private final Counter rejectedCounter;
+    private volatile boolean open = true;
+
+    public DrainingActionGuard(MeterRegistry meterRegistry) {
+        this.rejectedCounter = Counter.builder("splendor.drain.rejected")
+                .description("drain 시작 후 들어와 처리하지 않은 방 액션 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        if (open) {
+            return message;
+        }
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        if (accessor.getMessageType() != SimpMessageType.MESSAGE || accessor.getDestination() == null
+                || !ROOM_ACTION.matcher(accessor.getDestination()).matches()) {
+            return message;
+        }
+        rejectedCounter.increment();
+        log.debug("drain 중이라 방 액션을 버립니다 destination={}, sessionId={}",
+                accessor.getDestination(), accessor.getSessionId());
+        return null;
+    }
+
+    /**
+     * 이후 들어오는 방 액션을 받지 않습니다. (되돌리지 않음)
+     */
+    public void close() {
+        open = false;
+    }
+
+    public boolean isOpen() {
+        return open;
+    }
+}
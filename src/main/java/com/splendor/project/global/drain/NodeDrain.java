@@ -0,0 +1,188 @@
+package com.splendor.project.global.drain;
+
+import com.splendor.project.domain.game.dto.response.WebSocketResponse;
+import com.splendor.project.domain.game.executor.GameStartAdmission;
+import com.splendor.project.domain.game.executor.ReactiveRoomActionPipeline;
+import com.splendor.project.domain.game.executor.RoomActionExecutor;
+import com.splendor.project.domain.game.repository.GameStateCache;
+import com.splendor.project.exception.ErrorCode;
+import com.splendor.project.global.broadcast.BroadcastFrame;
+import com.splendor.project.global.broadcast.FrameBroadcaster;
+import com.splendor.project.global.cluster.ClusterMembership;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 노드 drain. 배포로 노드를 내리기 전에 진행 중인 게임을 멈추지 않고 다른 노드로 넘깁니다.
+ * (POST /actuator/drain 으로 미리 실행하거나, 종료 시작 시 자동 실행)
+ *
+ * actuator는 기본으로 health만 HTTP에 노출하므로, POST /actuator/drain 을 쓰려면 배포 설정에
+ * management.endpoints.web.exposure.include=health,drain 을 추가해야 합니다. (노출하지 않아도 종료 시 drain은 실행됨)
+ * 노드를 내리는 엔드포인트이므로 management.server.port로 내부 포트에만 열어 두는 것을 권장합니다.
+ *
+ * 1. 새 게임 시작을 받지 않습니다. 대기 중이던 게임 시작은 재시도 안내를 보냅니다.
+ * 2. 샤딩을 켰다면 클러스터 멤버에서 빠져 방 소유권과 전달되는 액션이 다른 노드로 넘어갑니다.
+ *    이후 이 노드에서 처리할 방 액션은 DrainingActionGuard가 버립니다. (소유 노드가 바뀐 방의 액션은 그 노드로 전달)
+ * 3. 이미 받은 방 액션이 끝날 때까지 기다립니다. (RoomActionExecutor와, reactive 파이프라인이면 ReactiveRoomActionPipeline)
+ * 4. 캐시에 있는 방마다 선택 상태를 Redis에 반영해 캐시에서 빼고, 방 topic에 재연결 안내(RECONNECT)를 보냅니다.
+ *    drain 시작부터 이 시점까지를 방별 handoff 중단 시간(splendor.drain.handoff)으로 기록합니다.
+ * 5. 남은 WebSocket 세션을 1012(Service Restart)로 닫습니다.
+ *
+ * 3~4단계는 timeout 안에서만 진행하고, 시간이 지나면 남은 방을 넘기지 않은 채 5단계로 넘어갑니다.
+ * (넘기지 못한 방도 커밋된 상태는 이미 Redis에 있으므로, 잃는 것은 write-behind 중인 선택 상태뿐)
+ */
+@Slf4j
+@Component
+@Endpoint(id = "drain")
+public class NodeDrain {
+
+    public enum State {
+        SERVING, DRAINING, DRAINED
+    }
+
+    /**
+     * @param completed timeout 안에 모든 방을 넘겼는지
+     */
+    public record DrainReport(int rooms, int handedOff, int sessions, long elapsedMillis, boolean completed) {
+    }
+
+    private final GameStartAdmission gameStartAdmission;
+    private final RoomActionExecutor roomActionExecutor;
+    private final ObjectProvider<ReactiveRoomActionPipeline> reactiveRoomActionPipeline;
+    private final DrainingActionGuard drainingActionGuard;
+    private final GameStateCache gameStateCache;
+    private final FrameBroadcaster frameBroadcaster;
+    private final WebSocketSessionRegistry sessionRegistry;
+    private final ObjectProvider<ClusterMembership> clusterMembership;
+    private final Duration timeout;
+
+    private final Timer handoffTimer;
+    private final AtomicReference<State> state = new AtomicReference<>(State.SERVING);
+    private volatile DrainReport lastReport;
+
+    public NodeDrain(GameStartAdmission gameStartAdmission,
+                     RoomActionExecutor roomActionExecutor,
+                     ObjectProvider<ReactiveRoomActionPipeline> reactiveRoomActionPipeline,
+                     DrainingActionGuard drainingActionGuard,
+                     GameStateCache gameStateCache,
+                     FrameBroadcaster frameBroadcaster,
+                     WebSocketSessionRegistry sessionRegistry,
+                     ObjectProvider<ClusterMembership> clusterMembership,
+                     @Value("${splendor.drain.timeout:PT10S}") Duration timeout,
+                     MeterRegistry meterRegistry) {
+        this.gameStartAdmission = gameStartAdmission;
+        this.roomActionExecutor = roomActionExecutor;
+        this.reactiveRoomActionPipeline = reactiveRoomActionPipeline;
+        this.drainingActionGuard = drainingActionGuard;
+        this.gameStateCache = gameStateCache;
+        this.frameBroadcaster = frameBroadcaster;
+        this.sessionRegistry = sessionRegistry;
+        this.clusterMembership = clusterMembership;
+        this.timeout = timeout;
+
+        this.handoffTimer = Timer.builder("splendor.drain.handoff")
+                .description("drain 시작부터 방 상태를 넘기고 재연결 안내를 보내기까지 걸린 시간 (방별)")
+                .register(meterRegistry);
+    }
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        DrainReport report = lastReport;
+        return report == null
+                ? Map.of("state", state.get(), "sessions", sessionRegistry.size())
+                : Map.of("state", state.get(), "sessions", sessionRegistry.size(), "report", report);
+    }
+
+    /**
+     * drain을 실행합니다. 이미 drain했거나 진행 중이면 마지막 결과를 돌려줍니다.
+     */
+    @WriteOperation
+    public DrainReport drain() {
+        if (!state.compareAndSet(State.SERVING, State.DRAINING)) {
+            return lastReport;
+        }
+        long start = System.nanoTime();
+        long deadline = start + timeout.toNanos();
+        log.info("노드 drain 시작 timeout={}", timeout);
+
+        gameStartAdmission.stopAccepting();
+        clusterMembership.ifAvailable(ClusterMembership::leave);
+        drainingActionGuard.close();
+        boolean idle = awaitIdle(deadline);
+
+        int rooms = 0;
+        int handedOff = 0;
+        // 모든 방에 같은 재연결 안내를 보내므로 한 번만 인코딩
+        BroadcastFrame reconnect = frameBroadcaster.encode(WebSocketResponse.reconnect(ErrorCode.NODE_DRAINING.getMessage()));
+        for (Long roomId : gameStateCache.cachedRoomIds()) {
+            rooms++;
+            if (System.nanoTime() - deadline > 0) {
+                continue;
+            }
+            try {
+                gameStateCache.handOff(roomId);
+                frameBroadcaster.publish("/topic/game-screen/" + roomId, reconnect);
+                handoffTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                handedOff++;
+            } catch (RuntimeException e) {
+                log.warn("drain 중 방 상태 handoff 실패 roomId={}", roomId, e);
+            }
+        }
+
+        int sessions = sessionRegistry.closeAll();
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        DrainReport report = new DrainReport(rooms, handedOff, sessions, elapsedMillis, idle && handedOff == rooms);
+        lastReport = report;
+        state.set(State.DRAINED);
+        log.info("노드 drain 완료 {}", report);
+        return report;
+    }
+
+    public State state() {
+        return state.get();
+    }
+
+    /**
+     * 종료가 시작되면(STOMP broker와 웹 서버가 멈추기 전) drain합니다.
+     */
+    @EventListener(ContextClosedEvent.class)
+    public void onShutdown() {
+        drain();
+    }
+
+    private boolean awaitIdle(long deadline) {
+        while (pendingActions() > 0) {
+            if (System.nanoTime() - deadline > 0) {
+                log.warn("drain timeout까지 끝나지 않은 방 액션이 있습니다 pending={}", pendingActions());
+                return false;
+            }
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 받았지만 아직 끝나지 않은 방 액션 수 (blocking mailbox + reactive 파이프라인)
+    private int pendingActions() {
+        ReactiveRoomActionPipeline pipeline = reactiveRoomActionPipeline.getIfAvailable();
+        return roomActionExecutor.backlog() + (pipeline == null ? 0 : pipeline.inFlight());
+    }
+}
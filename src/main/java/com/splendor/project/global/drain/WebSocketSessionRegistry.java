@@ -0,0 +1,63 @@
+package com.splendor.project.global.drain;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 이 노드에 연결된 WebSocket 세션 목록. drain 때 모든 세션을 닫아 클라이언트가 다른 노드로 다시 연결하게 합니다.
+ */
+@Slf4j
+@Component
+public class WebSocketSessionRegistry implements WebSocketHandlerDecoratorFactory {
+
+    private final Map<String, WebSocketSession> sessions = new ConcurrentHashMap<>();
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                sessions.put(session.getId(), session);
+                super.afterConnectionEstablished(session);
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                sessions.remove(session.getId());
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
+
+    public int size() {
+        return sessions.size();
+    }
+
+    /**
+     * 모든 세션을 1012(Service Restart)로 닫습니다. 클라이언트는 이 코드를 받으면 바로 다시 연결합니다.
+     *
+     * @return 닫은 세션 수
+     */
+    public int closeAll() {
+        int closed = 0;
+        for (WebSocketSession session : sessions.values()) {
+            try {
+                session.close(CloseStatus.SERVICE_RESTARTED);
+                closed++;
+            } catch (IOException e) {
+                log.debug("세션 종료 실패 sessionId={}", session.getId(), e);
+            }
+            sessions.remove(session.getId());
+        }
+        return closed;
+    }
+}
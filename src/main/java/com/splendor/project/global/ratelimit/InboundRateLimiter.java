@@ -0,0 +1,120 @@
+package com.splendor.project.global.ratelimit;
+
+import com.splendor.project.global.cluster.RoomActionForwarder;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 자주 보내는 게임 메시지(토큰/카드 선택 등)의 세션별, 방별 처리량 제한. (inbound channel interceptor)
+ *
+ * - /app/{목적지}/{roomId} 메시지를 세션 bucket과 방 bucket 양쪽에서 토큰 하나씩 꺼내야 통과합니다.
+ *   허용량은 목적지별로 session-budgets, room-budgets에 설정하며, 설정이 없는 목적지는 제한하지 않습니다.
+ * - 넘친 메시지는 PlayGameService에 닿기 전에 버리고 splendor.ratelimit.rejected{destination, scope}로 셉니다.
+ * - 다른 노드가 전달한 방 액션은 받은 노드에서 이미 제한했으므로 다시 세지 않습니다.
+ * - 세션 bucket은 DISCONNECT 때, 방 bucket은 가득 찬(한동안 쓰지 않은) 것부터 주기적으로 정리합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "splendor.ratelimit.enabled", havingValue = "true", matchIfMissing = true)
+public class InboundRateLimiter implements ChannelInterceptor {
+
+    private static final Pattern ROOM_ACTION = Pattern.compile("^/app/([a-z-]+)/(\\d+)$");
+
+    private final Map<String, RateBudget> sessionBudgets;
+    private final Map<String, RateBudget> roomBudgets;
+    private final MeterRegistry meterRegistry;
+    private final LongSupplier clock;
+
+    private final Map<String, Map<String, TokenBucket>> sessionBuckets = new ConcurrentHashMap<>();
+    private final Map<Long, Map<String, TokenBucket>> roomBuckets = new ConcurrentHashMap<>();
+
+    @Autowired
+    public InboundRateLimiter(
+            @Value("${splendor.ratelimit.session-budgets:game-select-token=8:16,game-select-card=8:16,game-discard-token=8:16}") String sessionBudgets,
+            @Value("${splendor.ratelimit.room-budgets:game-select-token=32:64,game-select-card=32:64,game-discard-token=32:64}") String roomBudgets,
+            MeterRegistry meterRegistry) {
+        this(RateBudget.parse(sessionBudgets), RateBudget.parse(roomBudgets), meterRegistry, System::nanoTime);
+    }
+
+    public InboundRateLimiter(Map<String, RateBudget> sessionBudgets, Map<String, RateBudget> roomBudgets,
+                              MeterRegistry meterRegistry, LongSupplier clock) {
+        this.sessionBudgets = Map.copyOf(sessionBudgets);
+        this.roomBudgets = Map.copyOf(roomBudgets);
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        if (accessor.getMessageType() == SimpMessageType.DISCONNECT && accessor.getSessionId() != null) {
+            sessionBuckets.remove(accessor.getSessionId());
+            return message;
+        }
+        if (accessor.getMessageType() != SimpMessageType.MESSAGE || accessor.getDestination() == null
+                || accessor.getHeader(RoomActionForwarder.FORWARDED_HEADER) != null) {
+            return message;
+        }
+        Matcher matcher = ROOM_ACTION.matcher(accessor.getDestination());
+        if (!matcher.matches()) {
+            return message;
+        }
+
+        String destination = matcher.group(1);
+        long now = clock.getAsLong();
+        RateBudget sessionBudget = sessionBudgets.get(destination);
+        if (sessionBudget != null && accessor.getSessionId() != null
+                && !bucket(sessionBuckets, accessor.getSessionId(), destination, sessionBudget, now).tryAcquire(now)) {
+            return reject(destination, "session", accessor);
+        }
+        RateBudget roomBudget = roomBudgets.get(destination);
+        if (roomBudget != null
+                && !bucket(roomBuckets, Long.parseLong(matcher.group(2)), destination, roomBudget, now).tryAcquire(now)) {
+            return reject(destination, "room", accessor);
+        }
+        return message;
+    }
+
+    /**
+     * 가득 찬 방 bucket을 정리합니다. 가득 찬 bucket은 새로 만든 것과 같으므로 지워도 허용량이 달라지지 않습니다.
+     */
+    @Scheduled(fixedDelayString = "${splendor.ratelimit.sweep-interval-ms:60000}")
+    public void sweep() {
+        long now = clock.getAsLong();
+        roomBuckets.values().forEach(buckets -> buckets.values().removeIf(bucket -> bucket.isFull(now)));
+        roomBuckets.values().removeIf(Map::isEmpty);
+    }
+
+    int trackedRooms() {
+        return roomBuckets.size();
+    }
+
+    private static <K> TokenBucket bucket(Map<K, Map<String, TokenBucket>> buckets, K key, String destination,
+                                          RateBudget budget, long now) {
+        return buckets.computeIfAbsent(key, ignored -> new ConcurrentHashMap<>())
+                .computeIfAbsent(destination, ignored -> new TokenBucket(budget, now));
+    }
+
+    private Message<?> reject(String destination, String scope, SimpMessageHeaderAccessor accessor) {
+        meterRegistry.counter("splendor.ratelimit.rejected", "destination", destination, "scope", scope).increment();
+        log.debug("처리량 제한으로 메시지를 버립니다 destination={}, scope={}, sessionId={}",
+                accessor.getDestination(), scope, accessor.getSessionId());
+        return null;
+    }
+}
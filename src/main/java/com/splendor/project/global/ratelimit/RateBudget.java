@@ -0,0 +1,36 @@
+package com.splendor.project.global.ratelimit;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 목적지별 허용량. 초당 ratePerSecond개, 한꺼번에 최대 burst개.
+ */
+public record RateBudget(double ratePerSecond, int burst) {
+
+    public RateBudget {
+        if (ratePerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("잘못된 허용량입니다 rate=" + ratePerSecond + ", burst=" + burst);
+        }
+    }
+
+    /**
+     * "game-select-token=8:16,game-select-card=8:16" 형식(목적지=초당 허용량:burst)을 읽습니다.
+     */
+    public static Map<String, RateBudget> parse(String spec) {
+        Map<String, RateBudget> budgets = new HashMap<>();
+        if (spec == null || spec.isBlank()) {
+            return budgets;
+        }
+        for (String entry : spec.split(",")) {
+            String[] nameAndBudget = entry.trim().split("=");
+            String[] rateAndBurst = nameAndBudget.length == 2 ? nameAndBudget[1].split(":") : new String[0];
+            if (rateAndBurst.length != 2) {
+                throw new IllegalArgumentException("잘못된 허용량 설정입니다: " + entry);
+            }
+            budgets.put(nameAndBudget[0].trim(),
+                    new RateBudget(Double.parseDouble(rateAndBurst[0].trim()), Integer.parseInt(rateAndBurst[1].trim())));
+        }
+        return budgets;
+    }
+}
@@ -0,0 +1,40 @@
+package com.splendor.project.global.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 락 없는 token bucket. (GCRA: 다음 토큰이 생기는 이론상 시각 하나만 CAS로 갱신)
+ *
+ * 초당 ratePerSecond개씩 채워지고 최대 burst개까지 한꺼번에 쓸 수 있습니다.
+ */
+final class TokenBucket {
+
+    private final long intervalNanos;
+    private final long toleranceNanos;
+    // 이 시각까지의 토큰은 이미 쓴 상태. 현재 시각 이하이면 bucket이 가득 참
+    private final AtomicLong theoreticalArrival;
+
+    TokenBucket(RateBudget budget, long nowNanos) {
+        this.intervalNanos = (long) (1_000_000_000L / budget.ratePerSecond());
+        this.toleranceNanos = intervalNanos * (budget.burst() - 1);
+        this.theoreticalArrival = new AtomicLong(nowNanos);
+    }
+
+    boolean tryAcquire(long nowNanos) {
+        while (true) {
+            long arrival = theoreticalArrival.get();
+            long base = Math.max(arrival, nowNanos);
+            if (base - nowNanos > toleranceNanos) {
+                return false;
+            }
+            if (theoreticalArrival.compareAndSet(arrival, base + intervalNanos)) {
+                return true;
+            }
+        }
+    }
+
+    // 한동안 쓰지 않아 가득 찬 bucket (정리해도 동작이 같음)
+    boolean isFull(long nowNanos) {
+        return theoreticalArrival.get() <= nowNanos;
+    }
+}
@@ -0,0 +1,58 @@
+package com.splendor.project.global.wire;
+
+import com.splendor.project.domain.game.codec.GameWireCodec;
+import org.springframework.lang.Nullable;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.converter.AbstractMessageConverter;
+import org.springframework.util.MimeType;
+
+/**
+ * WireFormat.BINARY 본문 컨버터. JSON 컨버터보다 앞에 두고, 바이너리로 보낼 때만 변환합니다.
+ *
+ * - 보내기: content-type이 BINARY로 지정됐거나, 바이너리를 고른 세션 하나에만 보내는 응답(@SubscribeMapping)일 때
+ * - 받기  : content-type이 BINARY인 본문만 (그 외는 JSON 컨버터가 처리)
+ * 브로드캐스트는 FrameBroadcaster가 JSON으로 한 번 인코딩하고, 바이너리 세션 몫은 WireFormatNegotiator가 바꿉니다.
+ */
+public class BinaryWireMessageConverter extends AbstractMessageConverter {
+
+    private final GameWireCodec gameWireCodec;
+    private final WireFormatNegotiator wireFormatNegotiator;
+
+    public BinaryWireMessageConverter(GameWireCodec gameWireCodec, WireFormatNegotiator wireFormatNegotiator) {
+        super(WireFormat.BINARY);
+        this.gameWireCodec = gameWireCodec;
+        this.wireFormatNegotiator = wireFormatNegotiator;
+        setStrictContentTypeMatch(true);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return gameWireCodec.supports(clazz);
+    }
+
+    @Override
+    protected boolean canConvertTo(Object payload, @Nullable MessageHeaders headers) {
+        if (headers == null || !gameWireCodec.supports(payload)) {
+            return false;
+        }
+        MimeType contentType = getMimeType(headers);
+        if (contentType != null) {
+            return WireFormat.isBinary(contentType);
+        }
+        return wireFormatNegotiator.prefersBinary(headers);
+    }
+
+    @Override
+    protected Object convertToInternal(Object payload, @Nullable MessageHeaders headers, @Nullable Object conversionHint) {
+        return gameWireCodec.encode(payload);
+    }
+
+    @Override
+    protected Object convertFromInternal(Message<?> message, Class<?> targetClass, @Nullable Object conversionHint) {
+        if (!(message.getPayload() instanceof byte[] payload)) {
+            return null;
+        }
+        return gameWireCodec.decode(payload);
+    }
+}
@@ -0,0 +1,24 @@
+package com.splendor.project.global.wire;
+
+import org.springframework.util.MimeType;
+
+import java.util.Map;
+
+/**
+ * 서버 -> 클라이언트 STOMP 본문 포맷.
+ *
+ * 기본은 JSON이며, CONNECT의 accept-content-type 헤더에 BINARY를 적은 세션은 GameWireCodec 바이너리 본문을 받습니다.
+ * STOMP over WebSocket은 content-type이 application/octet-stream 계열일 때만 binary 프레임으로 보내므로 그 타입에 schema를 붙여 구분합니다.
+ */
+public final class WireFormat {
+
+    public static final MimeType BINARY = new MimeType("application", "octet-stream", Map.of("schema", "splendor-game"));
+
+    private WireFormat() {
+    }
+
+    public static boolean isBinary(MimeType mimeType) {
+        return mimeType != null && BINARY.equalsTypeAndSubtype(mimeType)
+                && BINARY.getParameter("schema").equals(mimeType.getParameter("schema"));
+    }
+}
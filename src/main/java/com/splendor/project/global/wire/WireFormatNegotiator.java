@@ -0,0 +1,107 @@
+package com.splendor.project.global.wire;
+
+import com.splendor.project.domain.game.codec.GameWireCodec;
+import com.splendor.project.global.broadcast.BroadcastFrame;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.InvalidMimeTypeException;
+import org.springframework.util.MimeTypeUtils;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.splendor.project.contants.StompConstants.ACCEPT_CONTENT_TYPE_HEADER;
+
+/**
+ * 세션별 본문 포맷 협상. (inbound, outbound channel interceptor)
+ *
+ * - inbound : CONNECT의 accept-content-type 헤더에 WireFormat.BINARY가 있으면 그 세션을 바이너리 세션으로 기억하고, DISCONNECT 때 지웁니다.
+ * - outbound: FrameBroadcaster가 발행한 브로드캐스트를 바이너리 세션에 보낼 때 본문을 바이너리로 바꿉니다.
+ *   같은 프레임의 바이너리 본문은 한 번만 인코딩해 모든 바이너리 구독자가 공유합니다.
+ * 세션 하나에만 보내는 응답(@SubscribeMapping)은 BinaryWireMessageConverter가 prefersBinary로 포맷을 고릅니다.
+ *
+ * 스키마가 없는 본문, 다른 노드에서 전달된 브로드캐스트(원래 본문이 없음)는 JSON 그대로 보냅니다.
+ * 클라이언트는 프레임마다 content-type을 보고 디코딩합니다.
+ */
+@Component
+public class WireFormatNegotiator implements ChannelInterceptor {
+
+    private final GameWireCodec gameWireCodec;
+    private final Set<String> binarySessions = ConcurrentHashMap.newKeySet();
+    private final Counter binaryCounter;
+
+    public WireFormatNegotiator(GameWireCodec gameWireCodec, MeterRegistry meterRegistry) {
+        this.gameWireCodec = gameWireCodec;
+        this.binaryCounter = meterRegistry.counter("splendor.wire.messages", "format", "binary");
+        meterRegistry.gauge("splendor.wire.binary.sessions", binarySessions, Set::size);
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        SimpMessageType messageType = SimpMessageHeaderAccessor.getMessageType(message.getHeaders());
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        if (messageType == null || sessionId == null) {
+            return message;
+        }
+        switch (messageType) {
+            case CONNECT -> {
+                if (acceptsBinary(message)) {
+                    binarySessions.add(sessionId);
+                }
+            }
+            case DISCONNECT -> binarySessions.remove(sessionId);
+            case MESSAGE -> {
+                return binarySessions.contains(sessionId) ? toBinary(message) : message;
+            }
+            default -> {
+            }
+        }
+        return message;
+    }
+
+    public boolean prefersBinary(String sessionId) {
+        return sessionId != null && binarySessions.contains(sessionId);
+    }
+
+    /**
+     * 세션 하나에만 보내는 응답인지(구독 id까지 있는지) 확인하고 그 세션의 포맷을 따릅니다.
+     * @SendTo 브로드캐스트도 보낸 세션 id를 달고 오므로 세션 id만으로는 판단하지 않습니다.
+     */
+    public boolean prefersBinary(MessageHeaders headers) {
+        return SimpMessageHeaderAccessor.getSubscriptionId(headers) != null
+                && prefersBinary(SimpMessageHeaderAccessor.getSessionId(headers));
+    }
+
+    private boolean acceptsBinary(Message<?> message) {
+        String accept = SimpMessageHeaderAccessor.wrap(message).getFirstNativeHeader(ACCEPT_CONTENT_TYPE_HEADER);
+        if (accept == null) {
+            return false;
+        }
+        try {
+            return MimeTypeUtils.parseMimeTypes(accept).stream().anyMatch(WireFormat::isBinary);
+        } catch (InvalidMimeTypeException e) {
+            // 알 수 없는 값이면 JSON
+            return false;
+        }
+    }
+
+    private Message<?> toBinary(Message<?> message) {
+        BroadcastFrame frame = message.getHeaders().get(BroadcastFrame.HEADER, BroadcastFrame.class);
+        if (frame == null || !gameWireCodec.supports(frame.source())) {
+            return message;
+        }
+        byte[] payload = frame.alternate(WireFormat.BINARY, gameWireCodec::encode);
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        accessor.setContentType(WireFormat.BINARY);
+        binaryCounter.increment();
+        return MessageBuilder.createMessage(payload, accessor.getMessageHeaders());
+    }
+}
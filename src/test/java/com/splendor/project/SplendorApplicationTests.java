@@ -2,8 +2,10 @@ package com.splendor.project;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
 
 @SpringBootTest
+@ActiveProfiles("memory") // Redis 없이 프로세스 내 저장소로 실행
 class SplendorApplicationTests {
 
 	@Test
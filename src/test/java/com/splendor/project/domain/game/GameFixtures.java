@@ -0,0 +1,56 @@
+package com.splendor.project.domain.game;
+
+import com.splendor.project.domain.data.GemType;
+import com.splendor.project.domain.game.dto.response.BoardStateDto;
+import com.splendor.project.domain.game.dto.response.GamePlayerDto;
+import com.splendor.project.domain.game.dto.response.GameStateDto;
+import com.splendor.project.domain.game.dto.response.PlayerStateDto;
+import com.splendor.project.domain.game.entity.GameStatus;
+import com.splendor.project.domain.game.service.GameStaticDataLoader;
+import com.splendor.project.domain.game.service.InitialGameService;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 테스트용 게임 상태.
+ */
+public final class GameFixtures {
+
+    private GameFixtures() {
+    }
+
+    /**
+     * gameStart와 같은 방식으로 만든 게임 시작 직후 상태. 플레이어는 player{i} / player-id-{i}, 첫 번째 플레이어의 턴입니다.
+     */
+    public static GameStateDto startedGame(GameStaticDataLoader staticDataLoader, Long gameId, int playerCount) {
+        return startedGame(staticDataLoader, gameId, playerCount, Map.of(), Map.of());
+    }
+
+    // 모든 플레이어가 tokens, bonuses를 가진 채로 시작
+    public static GameStateDto startedGame(GameStaticDataLoader staticDataLoader, Long gameId, int playerCount,
+                                           Map<GemType, Integer> tokens, Map<GemType, Integer> bonuses) {
+        BoardStateDto board = new InitialGameService(staticDataLoader).initializeGame();
+        List<PlayerStateDto> players = new ArrayList<>();
+        for (int i = 0; i < playerCount; i++) {
+            players.add(new PlayerStateDto(new GamePlayerDto("player" + i, "player-id-" + i), 0,
+                    new HashMap<>(tokens), new HashMap<>(bonuses), 0, 0, i));
+        }
+        return new GameStateDto(board, players, gameId, players.get(0).getPlayer(),
+                GameStatus.PLAYING, null, false, players.get(0).getPlayer().getPlayerId());
+    }
+
+    /**
+     * 카드 없이 토큰만 있는 Host(host-id) / Guest(guest-id) 2인 게임. Host의 턴입니다.
+     */
+    public static GameStateDto hostGuestGame(Long roomId, Map<GemType, Integer> availableTokens) {
+        List<PlayerStateDto> players = new ArrayList<>(List.of(
+                new PlayerStateDto(new GamePlayerDto("Host", "host-id"), 0, new HashMap<>(), new HashMap<>(), 0, 0, 0),
+                new PlayerStateDto(new GamePlayerDto("Guest", "guest-id"), 0, new HashMap<>(), new HashMap<>(), 0, 0, 1)));
+        BoardStateDto board = new BoardStateDto(new ArrayList<>(), new ArrayList<>(), new HashMap<>(availableTokens));
+        return new GameStateDto(board, players, roomId, players.get(0).getPlayer(),
+                GameStatus.PLAYING, null, false, "host-id");
+    }
+}
@@ -0,0 +1,137 @@
+package com.splendor.project.domain.game;
+
+import com.splendor.project.domain.data.GemType;
+import com.splendor.project.domain.data.StaticCard;
+import com.splendor.project.domain.game.dto.response.BoardStateDto;
+import com.splendor.project.domain.game.dto.response.GameStateDeltaDto;
+import com.splendor.project.domain.game.dto.response.GameStateDto;
+import com.splendor.project.domain.game.dto.response.PlayerStateDeltaDto;
+import com.splendor.project.domain.game.dto.response.PlayerStateDto;
+import com.splendor.project.domain.game.logic.GameStateDeltas;
+import com.splendor.project.domain.game.service.GameStaticDataLoader;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 테스트용 게임 화면 클라이언트. 클라이언트가 게임 화면 메시지(GameStateDeltaDto)를 적용하는 과정을 그대로 구현한 기준 구현입니다.
+ */
+public final class GameScreenClient {
+
+    private GameScreenClient() {
+    }
+
+    /**
+     * 클라이언트의 메시지 적용. base는 바꾸지 않고 적용한 새 상태를 반환합니다.
+     *
+     * @throws IllegalStateException DELTA의 baseVersion이 base의 version과 달라 적용할 수 없을 때 (스냅샷을 다시 받아야 함)
+     */
+    public static GameStateDto apply(GameStateDto base, GameStateDeltaDto delta) {
+        if (delta.getType() == GameStateDeltaDto.Type.SNAPSHOT) {
+            return GameStateDeltas.copyOf(delta.getSnapshot());
+        }
+        if (base == null || !Objects.equals(delta.getBaseVersion(), base.getVersion())) {
+            throw new IllegalStateException("게임 화면 메시지 순서가 맞지 않습니다. 스냅샷을 다시 받아야 합니다.");
+        }
+
+        GameStateDto next = GameStateDeltas.copyOf(base);
+        BoardStateDto board = next.getBoardStateDto();
+        applyEntries(board.getAvailableTokens(), delta.getAvailableTokens());
+        if (delta.getCards() != null) {
+            delta.getCards().forEach((level, row) -> {
+                while (board.getCards().size() <= level) {
+                    board.getCards().add(new ArrayList<>());
+                }
+                board.getCards().set(level, new ArrayList<>(row));
+            });
+        }
+        if (delta.getNobles() != null) {
+            board.setNobles(new ArrayList<>(delta.getNobles()));
+        }
+
+        if (delta.getPlayers() != null) {
+            for (PlayerStateDeltaDto playerDelta : delta.getPlayers()) {
+                PlayerStateDto player = next.getPlayerStateDto().get(playerDelta.getSeat());
+                if (playerDelta.getScore() != null) {
+                    player.setScore(playerDelta.getScore());
+                }
+                applyEntries(player.getTokens(), playerDelta.getTokens());
+                applyEntries(player.getBonuses(), playerDelta.getBonuses());
+                if (playerDelta.getPurchasedCardCount() != null) {
+                    player.setPurchasedCardCount(playerDelta.getPurchasedCardCount());
+                }
+                if (playerDelta.getNobleCount() != null) {
+                    player.setNobleCount(playerDelta.getNobleCount());
+                }
+            }
+        }
+
+        if (delta.getCurrentPlayer() != null) {
+            next.setCurrentPlayer(delta.getCurrentPlayer());
+        }
+        if (delta.getGameStatus() != null) {
+            next.setGameStatus(delta.getGameStatus());
+        }
+        if (delta.getWinner() != null) {
+            next.setWinner(delta.getWinner());
+        }
+        if (delta.getFinalRound() != null) {
+            next.setFinalRound(delta.getFinalRound());
+        }
+        next.setVersion(delta.getVersion());
+        return next;
+    }
+
+    /**
+     * 클라이언트의 카탈로그 복원 (GameStateDeltas.toCatalogRefs의 역). message를 그대로 바꿔 반환하며, 이후 apply로 적용합니다.
+     *
+     * @throws IllegalStateException 메시지의 카탈로그 버전이 가진 카탈로그와 다를 때 (카탈로그를 다시 받아야 함)
+     */
+    public static GameStateDeltaDto resolveCatalogRefs(GameStateDeltaDto message, GameStaticDataLoader catalog) {
+        if (message.getCatalogVersion() == null) {
+            return message;
+        }
+        if (!message.getCatalogVersion().equals(catalog.getCatalogVersion())) {
+            throw new IllegalStateException("카탈로그 버전이 맞지 않습니다. 카탈로그를 다시 받아야 합니다.");
+        }
+        if (message.getCardIds() != null) {
+            Map<Integer, List<StaticCard>> cards = new HashMap<>();
+            message.getCardIds().forEach((level, ids) -> cards.put(level, ids.stream().map(catalog::getCard).toList()));
+            message.setCards(cards);
+        }
+        if (message.getNobleIds() != null) {
+            message.setNobles(message.getNobleIds().stream().map(catalog::getNoble).toList());
+        }
+        if (message.getSnapshot() != null) {
+            List<List<StaticCard>> rows = new ArrayList<>();
+            for (int level = 0; level < message.getCards().size(); level++) {
+                rows.add(new ArrayList<>(message.getCards().get(level)));
+            }
+            BoardStateDto board = message.getSnapshot().getBoardStateDto();
+            board.setCards(rows);
+            board.setNobles(new ArrayList<>(message.getNobles()));
+            message.setCards(null);
+            message.setNobles(null);
+        }
+        message.setCatalogVersion(null);
+        message.setCardIds(null);
+        message.setNobleIds(null);
+        return message;
+    }
+
+    private static void applyEntries(Map<GemType, Integer> target, Map<GemType, Integer> changed) {
+        if (changed == null) {
+            return;
+        }
+        changed.forEach((gem, value) -> {
+            if (value == null) {
+                target.remove(gem);
+            } else {
+                target.put(gem, value);
+            }
+        });
+    }
+}
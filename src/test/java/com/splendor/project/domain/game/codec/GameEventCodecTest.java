@@ -0,0 +1,87 @@
+package com.splendor.project.domain.game.codec;
+
+import com.splendor.project.domain.data.StaticCard;
+import com.splendor.project.domain.game.GameFixtures;
+import com.splendor.project.domain.game.dto.response.GameStateDto;
+import com.splendor.project.domain.game.event.GameEvent;
+import com.splendor.project.domain.game.logic.GameEventApplier;
+import com.splendor.project.domain.game.repository.InMemoryGameStateRepository;
+import com.splendor.project.domain.game.service.GameStaticDataLoader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static com.splendor.project.domain.data.GemType.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GameEventCodecTest {
+
+    private GameStaticDataLoader staticDataLoader;
+    private GameStateCodec gameStateCodec;
+    private GameEventCodec gameEventCodec;
+
+    @BeforeEach
+    void setUp() {
+        staticDataLoader = new GameStaticDataLoader();
+        staticDataLoader.loadData();
+        gameStateCodec = new GameStateCodec(staticDataLoader);
+        gameEventCodec = new GameEventCodec(gameStateCodec);
+    }
+
+    @Test
+    @DisplayName("모든 이벤트 종류는 인코딩/디코딩 후 동일해야 한다.")
+    void roundTrip_ShouldPreserveEveryEventType() {
+        // Given
+        StaticCard card = GameFixtures.startedGame(staticDataLoader, 7L, 2).getBoardStateDto().getCards().get(0).get(0);
+        List<GameEvent> events = List.of(
+                new GameEvent.TokensTaken(1, Map.of(DIAMOND, 1, RUBY, 1, ONYX, 1)),
+                new GameEvent.CardPurchased(0, card, Map.of(EMERALD, 2, GOLD, 1)),
+                new GameEvent.TokenDiscarded(3, SAPPHIRE),
+                new GameEvent.TurnEnded(2));
+
+        // When & Then
+        for (GameEvent event : events) {
+            byte[] encoded = gameEventCodec.encode(event);
+            assertThat(gameEventCodec.decode(encoded)).isEqualTo(event);
+            assertThat(encoded.length).isLessThan(16);
+        }
+    }
+
+    @Test
+    @DisplayName("스냅샷 + 이후 이벤트로 복원한 상태와 처음부터 전체 이벤트를 재생한 상태는 실시간 상태와 같아야 한다.")
+    void replay_ShouldRebuildLiveStateFromSnapshotAndFromScratch() {
+        // Given
+        GameStateDto initial = GameFixtures.startedGame(staticDataLoader, 7L, 2);
+        InMemoryGameStateRepository repository = new InMemoryGameStateRepository(gameStateCodec, gameEventCodec, 4, Duration.ofHours(3));
+        repository.save(initial);
+
+        GameStateDto live = gameStateCodec.decode(gameStateCodec.encode(initial));
+        StaticCard card = live.getBoardStateDto().getCards().get(0).get(0);
+        List<List<GameEvent>> turns = List.of(
+                List.of(new GameEvent.TokensTaken(0, Map.of(DIAMOND, 1, RUBY, 1, ONYX, 1)), new GameEvent.TurnEnded(0)),
+                List.of(new GameEvent.TokensTaken(1, Map.of(EMERALD, 2)), new GameEvent.TurnEnded(1)),
+                List.of(new GameEvent.TokenDiscarded(0, ONYX), new GameEvent.TurnEnded(0)),
+                List.of(new GameEvent.CardPurchased(1, card, Map.of(EMERALD, 2)), new GameEvent.TurnEnded(1)),
+                List.of(new GameEvent.TurnEnded(0)));
+
+        // When
+        for (List<GameEvent> turn : turns) {
+            long expectedVersion = live.getVersion();
+            turn.forEach(event -> GameEventApplier.apply(live, event));
+            assertThat(repository.compareAndSet(live, turn, expectedVersion)).isTrue();
+        }
+
+        // Then
+        assertThat(live.getVersion()).isEqualTo(9L);
+        assertThat(repository.snapshotVersion(7L)).isEqualTo(8L);
+        assertThat(repository.findById(7L)).contains(live);
+
+        GameStateDto fromScratch = gameStateCodec.decode(gameStateCodec.encode(initial));
+        GameEventApplier.replay(fromScratch, repository.findEvents(7L));
+        assertThat(fromScratch).isEqualTo(live);
+    }
+}
@@ -0,0 +1,200 @@
+package com.splendor.project.domain.game.codec;
+
+import com.splendor.project.domain.data.GemType;
+import com.splendor.project.domain.data.StaticCard;
+import com.splendor.project.domain.game.GameFixtures;
+import com.splendor.project.domain.game.dto.response.GameStateDto;
+import com.splendor.project.domain.game.dto.response.PendingTurnDto;
+import com.splendor.project.domain.game.dto.response.PlayerStateDto;
+import com.splendor.project.domain.game.entity.GameSession;
+import com.splendor.project.domain.game.entity.GameStatus;
+import com.splendor.project.domain.game.entity.PlayerState;
+import com.splendor.project.domain.game.service.GameStaticDataLoader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.splendor.project.domain.data.GemType.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GameStateCodecTest {
+
+    // 모든 보석 0개 (0인 키도 그대로 복원되는지 확인)
+    private static final Map<GemType, Integer> NO_GEMS = Map.of(DIAMOND, 0, RUBY, 0, EMERALD, 0, SAPPHIRE, 0, ONYX, 0, GOLD, 0);
+
+    private GameStaticDataLoader staticDataLoader;
+    private GameStateCodec gameStateCodec;
+
+    @BeforeEach
+    void setUp() {
+        staticDataLoader = new GameStaticDataLoader();
+        staticDataLoader.loadData();
+        gameStateCodec = new GameStateCodec(staticDataLoader);
+    }
+
+    @Test
+    @DisplayName("게임 시작 직후 상태는 인코딩/디코딩 후 동일해야 한다.")
+    void roundTrip_ShouldPreserveStartedGame() {
+        // Given
+        GameStateDto original = startedGame();
+
+        // When
+        GameStateDto decoded = gameStateCodec.decode(gameStateCodec.encode(original));
+
+        // Then
+        assertThat(decoded).isEqualTo(original);
+    }
+
+    @Test
+    @DisplayName("진행 중/종료 상태(빠진 토큰 키, 카탈로그에 없는 카드, 승자)도 그대로 복원되어야 한다.")
+    void roundTrip_ShouldPreserveMidAndFinishedGame() {
+        // Given
+        GameStateDto original = startedGame();
+        PlayerStateDto seat2 = original.getPlayerStateDto().get(2);
+        seat2.getTokens().remove(DIAMOND); // discardToken처럼 0이 된 키는 제거됨
+        seat2.getTokens().put(RUBY, 3);
+        seat2.getBonuses().merge(ONYX, 17, Integer::sum);
+        seat2.setScore(16);
+        seat2.setPurchasedCardCount(17);
+        seat2.setNobleCount(1);
+
+        original.getBoardStateDto().getCards().get(0).remove(0);
+        original.getBoardStateDto().getCards().get(1).add(new StaticCard(50, 2, 2, SAPPHIRE, 0, 3, 0, 5, 0));
+        original.getBoardStateDto().getAvailableTokens().put(RUBY, 1);
+
+        original.setCurrentPlayer(original.getPlayerStateDto().get(3).getPlayer());
+        original.setFinalRound(true);
+        original.setGameStatus(GameStatus.GAME_OVER);
+        original.setWinner(seat2.getPlayer());
+
+        // When
+        GameStateDto decoded = gameStateCodec.decode(gameStateCodec.encode(original));
+
+        // Then
+        assertThat(decoded).isEqualTo(original);
+        assertThat(decoded.getPlayerStateDto().get(2).getTokens()).doesNotContainKey(DIAMOND);
+        assertThat(decoded.getBoardStateDto().getCards().get(1)).contains(new StaticCard(50, 2, 2, SAPPHIRE, 0, 3, 0, 5, 0));
+    }
+
+    @Test
+    @DisplayName("디코딩된 상태는 서비스에서 바로 수정할 수 있어야 한다. (가변 컬렉션)")
+    void decode_ShouldReturnMutableCollections() {
+        // Given
+        GameStateDto decoded = gameStateCodec.decode(gameStateCodec.encode(startedGame()));
+
+        // When
+        decoded.getPlayerStateDto().get(0).getTokens().put(DIAMOND, 1);
+        decoded.getBoardStateDto().getAvailableTokens().merge(GOLD, -1, Integer::sum);
+        decoded.getBoardStateDto().getCards().get(0).remove(0);
+
+        // Then
+        assertThat(decoded.getBoardStateDto().getCards().get(0)).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("바이너리 인코딩 크기는 기존 JSON 직렬화 대비 10분의 1 이하여야 한다.")
+    void encode_ShouldBeAnOrderOfMagnitudeSmallerThanJson() {
+        // Given
+        GameStateDto gameState = startedGame();
+
+        // When
+        byte[] binary = gameStateCodec.encode(gameState);
+        byte[] json = new GenericJackson2JsonRedisSerializer().serialize(gameState);
+
+        // Then
+        assertThat(binary.length * 10).isLessThanOrEqualTo(json.length);
+    }
+
+    @Test
+    @DisplayName("턴 임시 선택 상태(토큰/카드)도 인코딩/디코딩 후 동일해야 한다.")
+    void pendingTurnRoundTrip_ShouldPreserveSelections() {
+        // Given
+        PendingTurnDto tokens = new PendingTurnDto(7L, "p1");
+        tokens.getTokensToTake().putAll(Map.of(DIAMOND, 1, SAPPHIRE, 1));
+        PendingTurnDto card = new PendingTurnDto(7L, "p1");
+        card.setCardIdToBuy(0);
+
+        // When & Then
+        assertThat(gameStateCodec.decodePendingTurn(gameStateCodec.encodePendingTurn(tokens))).isEqualTo(tokens);
+        assertThat(gameStateCodec.decodePendingTurn(gameStateCodec.encodePendingTurn(card))).isEqualTo(card);
+    }
+
+    @Test
+    @DisplayName("구역별 스냅샷은 전체 구역을 기록하면 원래 상태로 복원되어야 한다.")
+    void sectionsRoundTrip_ShouldPreserveGame() {
+        // Given
+        GameStateDto original = startedGame();
+
+        // When
+        Map<String, byte[]> sections = gameStateCodec.encodeSections(original, GameStateSections.ALL);
+        GameStateDto decoded = gameStateCodec.decodeSections(sections);
+
+        // Then
+        assertThat(sections).containsOnlyKeys("meta", "board", "tokens", "player:0", "player:1", "player:2", "player:3");
+        assertThat(decoded).isEqualTo(original);
+    }
+
+    @Test
+    @DisplayName("바뀐 구역만 다시 기록해도 나머지 구역과 합쳐 최신 상태로 복원되어야 한다.")
+    void sections_ShouldMergeChangedSectionsOnly() {
+        // Given
+        GameStateDto gameState = startedGame();
+        Map<String, byte[]> stored = new HashMap<>(gameStateCodec.encodeSections(gameState, GameStateSections.ALL));
+
+        // When: 2번 좌석이 토큰 하나를 버림
+        gameState.getPlayerStateDto().get(2).getTokens().remove(DIAMOND);
+        gameState.getBoardStateDto().getAvailableTokens().merge(DIAMOND, 1, Integer::sum);
+        Map<String, byte[]> changed = gameStateCodec.encodeSections(gameState,
+                GameStateSections.TOKENS | GameStateSections.player(2));
+        stored.putAll(changed);
+
+        // Then
+        assertThat(changed).containsOnlyKeys("tokens", "player:2");
+        assertThat(gameStateCodec.decodeSections(stored)).isEqualTo(gameState);
+    }
+
+    @Test
+    @DisplayName("알 수 없는 포맷 버전은 디코딩을 거부해야 한다.")
+    void decode_ShouldRejectUnknownVersion() {
+        byte[] encoded = gameStateCodec.encode(startedGame());
+        encoded[0] = (byte) (GameStateCodec.FORMAT_VERSION + 1);
+
+        assertThatThrownBy(() -> gameStateCodec.decode(encoded))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("GameSession도 바이너리로 직렬화/역직렬화 후 동일해야 한다.")
+    void gameSessionSerializer_ShouldRoundTrip() {
+        // Given
+        GameSessionRedisSerializer serializer = new GameSessionRedisSerializer(staticDataLoader);
+        GameSession original = new GameSession(3L);
+        PlayerState player = new PlayerState("p1", "User1");
+        player.getTokens().put(com.splendor.project.domain.game.entity.GemType.DIAMOND, 4);
+        player.addCard(new com.splendor.project.domain.data.entity.StaticCard(1L, 1, 0, "DIAMOND", 1, 1, 1, 1, 0)); // 카탈로그 카드
+        player.addCard(new com.splendor.project.domain.data.entity.StaticCard(999L, 3, 5, "RUBY", 7, 0, 0, 0, 0)); // 카탈로그 외 카드
+        original.addPlayer(player);
+        original.setCurrentPlayerId("p1");
+
+        // When
+        GameSession decoded = serializer.deserialize(serializer.serialize(original));
+
+        // Then
+        assertThat(decoded.getRoomId()).isEqualTo(3L);
+        assertThat(decoded.getCurrentPlayerId()).isEqualTo("p1");
+        PlayerState decodedPlayer = decoded.getPlayers().get("p1");
+        assertThat(decodedPlayer.getTokens()).isEqualTo(player.getTokens());
+        assertThat(decodedPlayer.getPurchasedCards())
+                .usingRecursiveFieldByFieldElementComparator()
+                .isEqualTo(player.getPurchasedCards());
+    }
+
+    private GameStateDto startedGame() {
+        return GameFixtures.startedGame(staticDataLoader, 7L, 4, NO_GEMS, NO_GEMS);
+    }
+}
@@ -0,0 +1,173 @@
+package com.splendor.project.domain.game.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.splendor.project.domain.data.GemType;
+import com.splendor.project.domain.data.StaticCard;
+import com.splendor.project.domain.game.GameFixtures;
+import com.splendor.project.domain.game.dto.response.GameStateDeltaDto;
+import com.splendor.project.domain.game.dto.response.GameStateDto;
+import com.splendor.project.domain.game.dto.response.WebSocketResponse;
+import com.splendor.project.domain.game.event.GameEvent;
+import com.splendor.project.domain.game.logic.GameEventApplier;
+import com.splendor.project.domain.game.logic.GameStateDeltas;
+import com.splendor.project.domain.game.service.GameStaticDataLoader;
+import com.splendor.project.domain.player.dto.PlayerDto;
+import com.splendor.project.domain.room.dto.response.ResponseRoomsDto;
+import com.splendor.project.domain.room.entity.RoomStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.splendor.project.domain.data.GemType.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * STOMP 본문 포맷 비교: JSON(ObjectMapper) vs 바이너리(GameWireCodec). (./gradlew benchmark 로 실행)
+ *
+ * 토큰 가져오기와 카드 구매가 섞인 게임을 재생하면서 액션마다 나가는 본문을
+ * - full  : WebSocketResponse<GameStateDto>
+ * - delta : WebSocketResponse<GameStateDeltaDto>
+ * - rooms : 방 목록 (ROOMS개, 방마다 4명)
+ * 로 나눠 본문 크기와 인코딩/디코딩 시간을 잽니다. 시간은 WARMUP 회 반복 후 ITERATIONS 회 평균입니다.
+ */
+@Tag("benchmark")
+class GameWireCodecBenchmarkTest {
+
+    private static final int PLAYERS = 4;
+    private static final int ROUNDS = 20;
+    private static final int ROOMS = 50;
+    private static final int WARMUP = 3;
+    private static final int ITERATIONS = 10;
+    private static final GemType[] COLORS = {DIAMOND, SAPPHIRE, EMERALD, RUBY, ONYX};
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private GameStaticDataLoader staticDataLoader;
+    private GameWireCodec gameWireCodec;
+
+    @BeforeEach
+    void setUp() {
+        staticDataLoader = new GameStaticDataLoader();
+        staticDataLoader.loadData();
+        gameWireCodec = new GameWireCodec(new GameStateCodec(staticDataLoader));
+    }
+
+    @Test
+    @DisplayName("바이너리 본문은 JSON보다 작고, 디코딩한 결과는 원래 본문과 같아야 한다.")
+    void bytesAndTimePerMessage() throws Exception {
+        // Given
+        Map<String, List<Object>> messages = messages();
+        System.out.printf("%-8s %10s %12s %12s %14s %14s %14s %14s%n", "message", "count", "json B/msg", "binary B/msg",
+                "json enc us", "binary enc us", "json dec us", "binary dec us");
+
+        for (Map.Entry<String, List<Object>> entry : messages.entrySet()) {
+            List<Object> payloads = entry.getValue();
+
+            // When
+            long jsonBytes = 0;
+            long binaryBytes = 0;
+            for (Object payload : payloads) {
+                byte[] binary = gameWireCodec.encode(payload);
+                jsonBytes += objectMapper.writeValueAsBytes(payload).length;
+                binaryBytes += binary.length;
+                assertThat(gameWireCodec.decode(binary)).isEqualTo(payload);
+            }
+            double[] json = time(payloads, true);
+            double[] binary = time(payloads, false);
+
+            // Then
+            int count = payloads.size();
+            System.out.printf("%-8s %10d %12.1f %12.1f %14.2f %14.2f %14.2f %14.2f%n", entry.getKey(), count,
+                    (double) jsonBytes / count, (double) binaryBytes / count, json[0], binary[0], json[1], binary[1]);
+            assertThat(binaryBytes * 2).isLessThan(jsonBytes);
+        }
+    }
+
+    // 본문당 평균 [인코딩 us, 디코딩 us]
+    private double[] time(List<Object> payloads, boolean json) throws Exception {
+        List<byte[]> encoded = new ArrayList<>(payloads.size());
+        for (Object payload : payloads) {
+            encoded.add(json ? objectMapper.writeValueAsBytes(payload) : gameWireCodec.encode(payload));
+        }
+        List<Class<?>> types = payloads.stream().<Class<?>>map(Object::getClass).toList();
+
+        long encodeNanos = 0;
+        long decodeNanos = 0;
+        for (int iteration = 0; iteration < WARMUP + ITERATIONS; iteration++) {
+            long start = System.nanoTime();
+            for (Object payload : payloads) {
+                if (json) {
+                    objectMapper.writeValueAsBytes(payload);
+                } else {
+                    gameWireCodec.encode(payload);
+                }
+            }
+            long encodedAt = System.nanoTime();
+            for (int i = 0; i < encoded.size(); i++) {
+                if (json) {
+                    objectMapper.readValue(encoded.get(i), types.get(i));
+                } else {
+                    gameWireCodec.decode(encoded.get(i));
+                }
+            }
+            long decodedAt = System.nanoTime();
+            if (iteration >= WARMUP) {
+                encodeNanos += encodedAt - start;
+                decodeNanos += decodedAt - encodedAt;
+            }
+        }
+        double perMessage = 1_000.0 * ITERATIONS * payloads.size();
+        return new double[]{encodeNanos / perMessage, decodeNanos / perMessage};
+    }
+
+    private Map<String, List<Object>> messages() {
+        List<Object> full = new ArrayList<>();
+        List<Object> deltas = new ArrayList<>();
+        GameStateDto live = GameFixtures.startedGame(staticDataLoader, 1L, PLAYERS);
+        GameStateDto published = GameStateDeltas.copyOf(live);
+
+        List<StaticCard> level1 = staticDataLoader.getShuffledLevelCards(1);
+        int cardIndex = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            for (int seat = 0; seat < PLAYERS; seat++) {
+                if ((round + seat) % 3 == 2 && cardIndex < level1.size()) {
+                    GameEventApplier.replay(live, List.of(
+                            new GameEvent.CardPurchased(seat, level1.get(cardIndex++), Map.of(COLORS[seat], 1)),
+                            new GameEvent.TurnEnded(seat)));
+                } else {
+                    Map<GemType, Integer> tokens = new HashMap<>();
+                    for (int i = 0; i < 3; i++) {
+                        tokens.put(COLORS[(round + seat + i) % COLORS.length], 1);
+                    }
+                    GameEventApplier.replay(live, List.of(new GameEvent.TokensTaken(seat, tokens), new GameEvent.TurnEnded(seat)));
+                }
+                GameStateDeltaDto delta = GameStateDeltas.diff(published, live);
+                published = GameStateDeltas.copyOf(live);
+                full.add(WebSocketResponse.success(GameStateDeltas.copyOf(live)));
+                deltas.add(WebSocketResponse.success(delta));
+            }
+        }
+
+        List<ResponseRoomsDto> rooms = new ArrayList<>();
+        for (int room = 0; room < ROOMS; room++) {
+            List<PlayerDto> players = new ArrayList<>();
+            for (int i = 0; i < PLAYERS; i++) {
+                players.add(new PlayerDto("player" + room + "-" + i, i % 2 == 0));
+            }
+            rooms.add(new ResponseRoomsDto("room" + room, (long) room, RoomStatus.WAITING, players.get(0).getNickname(),
+                    PLAYERS, players));
+        }
+
+        Map<String, List<Object>> messages = new LinkedHashMap<>();
+        messages.put("full", full);
+        messages.put("delta", deltas);
+        messages.put("rooms", List.of(rooms));
+        return messages;
+    }
+}
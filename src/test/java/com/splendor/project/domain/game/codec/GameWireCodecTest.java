@@ -0,0 +1,162 @@
+package com.splendor.project.domain.game.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.splendor.project.domain.data.GemType;
+import com.splendor.project.domain.game.GameFixtures;
+import com.splendor.project.domain.game.dto.response.GamePlayerDto;
+import com.splendor.project.domain.game.dto.response.GameStateDeltaDto;
+import com.splendor.project.domain.game.dto.response.GameStateDto;
+import com.splendor.project.domain.game.dto.response.PlayerStateDeltaDto;
+import com.splendor.project.domain.game.dto.response.ResponseTokenDto;
+import com.splendor.project.domain.game.dto.response.SelectionActivityDto;
+import com.splendor.project.domain.game.dto.response.SelectionCardStateDto;
+import com.splendor.project.domain.game.dto.response.WebSocketResponse;
+import com.splendor.project.domain.game.entity.GameStatus;
+import com.splendor.project.domain.game.event.GameEvent;
+import com.splendor.project.domain.game.logic.GameEventApplier;
+import com.splendor.project.domain.game.logic.GameStateDeltas;
+import com.splendor.project.domain.game.service.GameStaticDataLoader;
+import com.splendor.project.domain.player.dto.PlayerDto;
+import com.splendor.project.domain.room.dto.response.ResponseRoomDto;
+import com.splendor.project.domain.room.dto.response.ResponseRoomsDto;
+import com.splendor.project.domain.room.entity.RoomStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.splendor.project.domain.data.GemType.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GameWireCodecTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private GameStaticDataLoader staticDataLoader;
+    private GameWireCodec gameWireCodec;
+
+    @BeforeEach
+    void setUp() {
+        staticDataLoader = new GameStaticDataLoader();
+        staticDataLoader.loadData();
+        gameWireCodec = new GameWireCodec(new GameStateCodec(staticDataLoader));
+    }
+
+    @Test
+    @DisplayName("게임 화면 전체 상태 응답은 인코딩/디코딩 후 동일하고 JSON보다 작아야 한다.")
+    void roundTrip_ShouldPreserveGameStateResponse() throws Exception {
+        // Given
+        WebSocketResponse<GameStateDto> original = WebSocketResponse.success(startedGame());
+
+        // When
+        byte[] encoded = gameWireCodec.encode(original);
+
+        // Then
+        assertThat(gameWireCodec.decode(encoded)).isEqualTo(original);
+        assertThat(encoded.length * 4).isLessThan(objectMapper.writeValueAsBytes(original).length);
+    }
+
+    @Test
+    @DisplayName("DELTA 메시지(바뀐 카드 줄, 플레이어 변경분)는 인코딩/디코딩 후 동일해야 한다.")
+    void roundTrip_ShouldPreserveDelta() {
+        // Given
+        GameStateDto state = startedGame();
+        GameStateDto previous = GameStateDeltas.copyOf(state);
+        GameEventApplier.replay(state, List.of(
+                new GameEvent.CardPurchased(0, state.getBoardStateDto().getCards().get(0).get(1), Map.of(RUBY, 1)),
+                new GameEvent.TurnEnded(0)));
+        WebSocketResponse<GameStateDeltaDto> original = WebSocketResponse.success(GameStateDeltas.diff(previous, state));
+
+        // When
+        Object decoded = gameWireCodec.decode(gameWireCodec.encode(original));
+
+        // Then
+        assertThat(original.getData().getType()).isEqualTo(GameStateDeltaDto.Type.DELTA);
+        assertThat(decoded).isEqualTo(original);
+    }
+
+    @Test
+    @DisplayName("카드와 귀족 타일을 카탈로그 id로 보내는 SNAPSHOT도 인코딩/디코딩 후 동일해야 한다.")
+    void roundTrip_ShouldPreserveCatalogRefs() {
+        // Given
+        GameStateDeltaDto snapshot = GameStateDeltas.toCatalogRefs(GameStateDeltas.snapshot(startedGame()),
+                staticDataLoader.getCatalogVersion());
+        WebSocketResponse<GameStateDeltaDto> original = WebSocketResponse.success(snapshot);
+
+        // When
+        Object decoded = gameWireCodec.decode(gameWireCodec.encode(original));
+
+        // Then
+        assertThat(decoded).isEqualTo(original);
+    }
+
+    @Test
+    @DisplayName("없어진 보석(null 값)과 종료 필드가 담긴 DELTA도 그대로 복원되어야 한다.")
+    void roundTrip_ShouldPreserveRemovedGemsAndGameOver() {
+        // Given
+        GameStateDeltaDto delta = new GameStateDeltaDto();
+        delta.setType(GameStateDeltaDto.Type.DELTA);
+        delta.setGameId(3L);
+        delta.setVersion(12L);
+        delta.setBaseVersion(11L);
+        Map<GemType, Integer> tokens = new HashMap<>();
+        tokens.put(RUBY, null);
+        tokens.put(GOLD, 2);
+        PlayerStateDeltaDto player = new PlayerStateDeltaDto(1);
+        player.setTokens(tokens);
+        player.setScore(15);
+        delta.setPlayers(List.of(player));
+        delta.setGameStatus(GameStatus.GAME_OVER);
+        delta.setWinner(new GamePlayerDto("player1", "player-id-1"));
+        delta.setFinalRound(true);
+
+        // When
+        Object decoded = gameWireCodec.decode(gameWireCodec.encode(WebSocketResponse.success(delta)));
+
+        // Then
+        assertThat(decoded).isEqualTo(WebSocketResponse.success(delta));
+    }
+
+    @Test
+    @DisplayName("방 목록, 방, 토큰, 카드 선택, 선택 요약, 대기/에러 응답도 인코딩/디코딩 후 동일해야 한다.")
+    void roundTrip_ShouldPreserveRoomAndSmallMessages() {
+        // Given
+        List<PlayerDto> players = List.of(new PlayerDto("host", true), new PlayerDto("guest", false));
+        List<Object> originals = List.of(
+                List.of(new ResponseRoomsDto("room", 1L, RoomStatus.WAITING, "host", 2, players),
+                        new ResponseRoomsDto("empty", 2L, RoomStatus.PLAYING, "host2", 0, null)),
+                new ResponseRoomDto("room", 1L, RoomStatus.WAITING, "host", 2, players, "player-id"),
+                WebSocketResponse.success(new ResponseTokenDto(Map.of(DIAMOND, 1, ONYX, 2))),
+                WebSocketResponse.success(new SelectionCardStateDto(1L, "player-id", 42)),
+                WebSocketResponse.success(new SelectionCardStateDto(1L, "player-id")),
+                WebSocketResponse.success(new SelectionActivityDto("player-id", SelectionActivityDto.Kind.TOKEN, 3)),
+                WebSocketResponse.queued(3, "게임 시작 대기 중입니다."),
+                WebSocketResponse.error("방을 찾을 수 없습니다."),
+                new WebSocketResponse<>("CUSTOM", null, null));
+
+        // When & Then
+        for (Object original : originals) {
+            assertThat(gameWireCodec.supports(original)).isTrue();
+            assertThat(gameWireCodec.decode(gameWireCodec.encode(original))).isEqualTo(original);
+        }
+    }
+
+    @Test
+    @DisplayName("스키마가 없는 본문은 지원하지 않으며, 인코딩하면 예외가 발생해야 한다.")
+    void encode_ShouldRejectUnsupportedPayload() {
+        // Given
+        WebSocketResponse<Map<String, Integer>> payload = WebSocketResponse.success(Map.of("DIAMOND", 1));
+
+        // When & Then
+        assertThat(gameWireCodec.supports(payload)).isFalse();
+        assertThat(gameWireCodec.supports(List.of("room"))).isFalse();
+        assertThatThrownBy(() -> gameWireCodec.encode(payload)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private GameStateDto startedGame() {
+        return GameFixtures.startedGame(staticDataLoader, 7L, 4, Map.of(RUBY, 2), Map.of());
+    }
+}
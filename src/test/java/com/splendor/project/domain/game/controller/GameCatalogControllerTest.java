@@ -0,0 +1,53 @@
+package com.splendor.project.domain.game.controller;
+
+import com.splendor.project.domain.game.service.GameStaticDataLoader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class GameCatalogControllerTest {
+
+    private GameStaticDataLoader staticDataLoader;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        staticDataLoader = new GameStaticDataLoader();
+        staticDataLoader.loadData();
+        mockMvc = MockMvcBuilders.standaloneSetup(new GameCatalogController(staticDataLoader)).build();
+    }
+
+    @Test
+    @DisplayName("카탈로그는 모든 카드와 귀족 타일을 버전(ETag)과 함께 응답해야 한다.")
+    void catalog_ShouldReturnVersionedCatalog() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/catalog"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + staticDataLoader.getCatalogVersion() + "\""))
+                .andExpect(header().exists(HttpHeaders.CACHE_CONTROL))
+                .andExpect(jsonPath("$.version").value(staticDataLoader.getCatalogVersion()))
+                .andExpect(jsonPath("$.cards.length()").value(staticDataLoader.getAllCards().size()))
+                .andExpect(jsonPath("$.nobles.length()").value(staticDataLoader.getAllNobles().size()));
+    }
+
+    @Test
+    @DisplayName("If-None-Match가 현재 버전과 같으면 본문 없이 304로 응답해야 한다.")
+    void catalog_ShouldReturnNotModifiedForSameVersion() throws Exception {
+        // Given
+        String eTag = "\"" + staticDataLoader.getCatalogVersion() + "\"";
+
+        // When & Then
+        mockMvc.perform(get("/api/catalog").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+}
@@ -0,0 +1,131 @@
+package com.splendor.project.domain.game.controller;
+
+import com.splendor.project.domain.game.dto.request.DiscardTokenRequestDto;
+import com.splendor.project.domain.game.dto.request.SelectTokenRequestDto;
+import com.splendor.project.domain.game.dto.response.GameStateDto;
+import com.splendor.project.domain.game.dto.response.ResponseTokenDto;
+import com.splendor.project.domain.game.dto.response.WebSocketResponse;
+import com.splendor.project.domain.game.executor.GameStartAdmission;
+import com.splendor.project.domain.game.executor.RoomActionDeduplicator;
+import com.splendor.project.domain.game.executor.RoomActionExecutor;
+import com.splendor.project.domain.game.service.PlayGameService;
+import com.splendor.project.exception.ErrorCode;
+import com.splendor.project.exception.GameLogicException;
+import com.splendor.project.global.broadcast.FrameBroadcaster;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GameControllerTest {
+
+    private static final Long ROOM_ID = 1L;
+
+    @Mock
+    private FrameBroadcaster frameBroadcaster;
+    @Mock
+    private PlayGameService playGameService;
+    @Mock
+    private RoomActionExecutor roomActionExecutor;
+    @Mock
+    private GameStartAdmission gameStartAdmission;
+    @Mock
+    private RoomActionDeduplicator roomActionDeduplicator;
+    @Mock
+    private GameScreenBroadcaster gameScreenBroadcaster;
+    @Mock
+    private SelectionFeedback selectionFeedback;
+
+    @InjectMocks
+    private GameController gameController;
+
+    @BeforeEach
+    void setUp() {
+        // 방 mailbox 대신 호출한 스레드에서 바로 실행
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(1).run();
+            return null;
+        }).when(roomActionExecutor).execute(anyLong(), any(Runnable.class));
+    }
+
+    @Test
+    @DisplayName("턴 종료가 version 충돌로 실패하면 게임 화면 topic으로 에러 응답을 보내야 한다.")
+    void endTurnMessage_ShouldReplyErrorOnConcurrentUpdate() {
+        // Given
+        when(playGameService.endTurn(ROOM_ID)).thenThrow(new GameLogicException(ErrorCode.CONCURRENT_STATE_UPDATE));
+
+        // When
+        gameController.endTurnMessage(ROOM_ID, null, "session-1");
+
+        // Then
+        verify(frameBroadcaster).publish("/topic/game-screen/1",
+                WebSocketResponse.error(ErrorCode.CONCURRENT_STATE_UPDATE.getMessage()));
+        verifyNoInteractions(gameScreenBroadcaster);
+    }
+
+    @Test
+    @DisplayName("같은 세션이 같은 action-id로 다시 보낸 턴 종료는 턴을 다시 넘기지 않고, 방 topic에도 다시 발행하지 않아야 한다.")
+    void endTurnMessage_ShouldNotAdvanceTurnTwiceOnResend() {
+        // Given: 실제 중복 제거기를 쓰는 컨트롤러
+        GameController controller = new GameController(frameBroadcaster, playGameService, roomActionExecutor,
+                gameStartAdmission, new RoomActionDeduplicator(32, Duration.ofMinutes(10), new SimpleMeterRegistry()),
+                gameScreenBroadcaster, selectionFeedback);
+        GameStateDto afterFirstEndTurn = new GameStateDto();
+        when(playGameService.endTurn(ROOM_ID)).thenReturn(afterFirstEndTurn);
+
+        // When
+        controller.endTurnMessage(ROOM_ID, "end-turn-1", "session-1");
+        controller.endTurnMessage(ROOM_ID, "end-turn-1", "session-1");
+
+        // Then
+        verify(playGameService, times(1)).endTurn(ROOM_ID);
+        verify(gameScreenBroadcaster, times(1)).publish(ROOM_ID, afterFirstEndTurn);
+    }
+
+    @Test
+    @DisplayName("자기 턴이 아닌 토큰 버리기는 게임 화면 topic으로 에러 응답을 보내야 한다.")
+    void discardTokenMessage_ShouldReplyErrorWhenNotCurrentTurn() {
+        // Given
+        DiscardTokenRequestDto request = new DiscardTokenRequestDto();
+        when(playGameService.discardToken(request)).thenThrow(new GameLogicException(ErrorCode.NOT_CURRENT_TURN));
+
+        // When
+        gameController.discardTokenMessage(request, ROOM_ID, null);
+
+        // Then
+        verify(frameBroadcaster).publish("/topic/game-screen/1",
+                WebSocketResponse.error(ErrorCode.NOT_CURRENT_TURN.getMessage()));
+        verifyNoInteractions(gameScreenBroadcaster);
+    }
+
+    @Test
+    @DisplayName("자기 턴이 아닌 토큰 선택은 보낸 세션으로 에러 응답을 보내야 한다.")
+    void selectTokenMessage_ShouldReplyErrorWhenNotCurrentTurn() {
+        // Given
+        SelectTokenRequestDto request = new SelectTokenRequestDto();
+        request.setPlayerId("player-id-1");
+        when(playGameService.selectToken(request)).thenThrow(new GameLogicException(ErrorCode.NOT_CURRENT_TURN));
+
+        // When
+        gameController.selectTokenMessage(request, ROOM_ID, null, "session-1");
+
+        // Then
+        verify(selectionFeedback).token(ROOM_ID, "session-1", "player-id-1",
+                WebSocketResponse.<ResponseTokenDto>error(ErrorCode.NOT_CURRENT_TURN.getMessage()));
+    }
+}
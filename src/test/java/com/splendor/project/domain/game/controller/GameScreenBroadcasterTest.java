@@ -0,0 +1,189 @@
+package com.splendor.project.domain.game.controller;
+
+import com.splendor.project.domain.data.StaticCard;
+import com.splendor.project.domain.game.GameFixtures;
+import com.splendor.project.domain.game.GameScreenClient;
+import com.splendor.project.domain.game.dto.response.GameStateDeltaDto;
+import com.splendor.project.domain.game.dto.response.GameStateDto;
+import com.splendor.project.domain.game.dto.response.WebSocketResponse;
+import com.splendor.project.domain.game.event.GameEvent;
+import com.splendor.project.domain.game.logic.GameEventApplier;
+import com.splendor.project.domain.game.service.GameStaticDataLoader;
+import com.splendor.project.global.broadcast.FrameBroadcaster;
+import com.splendor.project.global.cluster.RoomOwnership;
+import com.splendor.project.global.cluster.RoomOwnershipChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static com.splendor.project.domain.data.GemType.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class GameScreenBroadcasterTest {
+
+    private static final Long ROOM_ID = 1L;
+    private static final String TOPIC = "/topic/game-screen/1";
+
+    @Mock
+    private FrameBroadcaster frameBroadcaster;
+
+    private GameStaticDataLoader staticDataLoader;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        staticDataLoader = new GameStaticDataLoader();
+        staticDataLoader.loadData();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("delta를 켜면 게임 시작은 SNAPSHOT, 이후 액션은 직전 발행 이후의 DELTA로 발행해야 한다.")
+    void publish_ShouldSendSnapshotThenDeltas() {
+        // Given
+        GameScreenBroadcaster broadcaster = new GameScreenBroadcaster(frameBroadcaster, true, Duration.ofMinutes(30), false, staticDataLoader, meterRegistry);
+        GameStateDto state = GameFixtures.startedGame(staticDataLoader, ROOM_ID, 2, Map.of(RUBY, 2), Map.of());
+
+        // When
+        broadcaster.publishStart(ROOM_ID, state);
+        GameEventApplier.replay(state, List.of(new GameEvent.TokensTaken(0, Map.of(DIAMOND, 1, SAPPHIRE, 1, EMERALD, 1)),
+                new GameEvent.TurnEnded(0)));
+        broadcaster.publish(ROOM_ID, state);
+        GameEventApplier.replay(state, List.of(new GameEvent.TokenDiscarded(1, RUBY)));
+        broadcaster.publish(ROOM_ID, state);
+
+        // Then
+        List<GameStateDeltaDto> messages = published(3);
+        assertThat(messages).extracting(GameStateDeltaDto::getType).containsExactly(
+                GameStateDeltaDto.Type.SNAPSHOT, GameStateDeltaDto.Type.DELTA, GameStateDeltaDto.Type.DELTA);
+        assertThat(messages.get(1).getBaseVersion()).isEqualTo(messages.get(0).getVersion());
+        assertThat(messages.get(2).getBaseVersion()).isEqualTo(messages.get(1).getVersion());
+        assertThat(messages.get(2).getCurrentPlayer()).isNull();
+        assertThat(meterRegistry.counter("splendor.broadcast.game-screen", "type", "delta").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("이미 발행한 version 이하의 상태는 방에 발행하지 않고 기준 상태도 바꾸지 않아야 한다.")
+    void publish_ShouldDropStaleVersion() {
+        // Given
+        GameScreenBroadcaster broadcaster = new GameScreenBroadcaster(frameBroadcaster, true, Duration.ofMinutes(30), false, staticDataLoader, meterRegistry);
+        GameStateDto state = GameFixtures.startedGame(staticDataLoader, ROOM_ID, 2, Map.of(RUBY, 2), Map.of());
+        broadcaster.publishStart(ROOM_ID, state);
+        GameEventApplier.replay(state, List.of(new GameEvent.TokensTaken(0, Map.of(DIAMOND, 1, SAPPHIRE, 1, EMERALD, 1)),
+                new GameEvent.TurnEnded(0)));
+        broadcaster.publish(ROOM_ID, state);
+
+        // When
+        broadcaster.publish(ROOM_ID, state);
+
+        // Then
+        List<GameStateDeltaDto> messages = published(2);
+        assertThat(messages.get(1).getVersion()).isEqualTo(state.getVersion());
+        assertThat(meterRegistry.counter("splendor.broadcast.game-screen.stale").count()).isEqualTo(1);
+        assertThat(broadcaster.trackedRooms()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Redis 저장소를 샤딩 없이 공유하면 delta를 켜도 GameStateDto 전체를 발행해야 한다.")
+    void publish_ShouldSendFullStateWithoutSinglePublisher() {
+        // Given
+        GameScreenBroadcaster broadcaster = new GameScreenBroadcaster(frameBroadcaster, true, Duration.ofMinutes(30), false,
+                "redis", false, staticDataLoader, meterRegistry);
+        GameStateDto state = GameFixtures.startedGame(staticDataLoader, ROOM_ID, 2, Map.of(RUBY, 2), Map.of());
+
+        // When
+        broadcaster.publishStart(ROOM_ID, state);
+
+        // Then
+        verify(frameBroadcaster).publish(TOPIC, WebSocketResponse.success(state));
+        assertThat(broadcaster.trackedRooms()).isZero();
+    }
+
+    @Test
+    @DisplayName("소유 노드가 바뀐 방의 기준 상태는 버리고, 이 노드가 소유한 방의 기준 상태만 남겨야 한다.")
+    void onOwnershipChanged_ShouldForgetRoomsOwnedElsewhere() {
+        // Given
+        GameScreenBroadcaster broadcaster = new GameScreenBroadcaster(frameBroadcaster, true, Duration.ofMinutes(30), false,
+                "redis", true, staticDataLoader, meterRegistry);
+        for (long roomId = 1; roomId <= 20; roomId++) {
+            broadcaster.publishStart(roomId, GameFixtures.startedGame(staticDataLoader, roomId, 2));
+        }
+        RoomOwnership ownership = new RoomOwnership("node-a", 128);
+        ownership.update(Set.of("node-a", "node-b"));
+
+        // When
+        broadcaster.onOwnershipChanged(new RoomOwnershipChangedEvent(ownership, ownership.members()));
+
+        // Then
+        long localRooms = LongStream.rangeClosed(1, 20).filter(roomId -> ownership.isLocal(roomId)).count();
+        assertThat(localRooms).isBetween(1L, 19L);
+        assertThat(broadcaster.trackedRooms()).isEqualTo((int) localRooms);
+    }
+
+    @Test
+    @DisplayName("delta를 끄면 이전처럼 GameStateDto 전체를 발행하고 상태를 기억하지 않아야 한다.")
+    void publish_ShouldSendFullStateWhenDisabled() {
+        // Given
+        GameScreenBroadcaster broadcaster = new GameScreenBroadcaster(frameBroadcaster, false, Duration.ofMinutes(30), false, staticDataLoader, meterRegistry);
+        GameStateDto state = GameFixtures.startedGame(staticDataLoader, ROOM_ID, 2, Map.of(RUBY, 2), Map.of());
+
+        // When
+        broadcaster.publish(ROOM_ID, state);
+
+        // Then
+        verify(frameBroadcaster).publish(TOPIC, WebSocketResponse.success(state));
+        assertThat(broadcaster.trackedRooms()).isZero();
+    }
+
+    @Test
+    @DisplayName("catalog-refs를 켜면 카드와 귀족 타일을 카탈로그 id로 보내고, 카탈로그로 복원해 적용하면 서버 상태와 같아야 한다.")
+    void publish_ShouldSendCatalogIdsWhenEnabled() {
+        // Given
+        GameScreenBroadcaster broadcaster = new GameScreenBroadcaster(frameBroadcaster, true, Duration.ofMinutes(30), true, staticDataLoader, meterRegistry);
+        GameStateDto state = GameFixtures.startedGame(staticDataLoader, ROOM_ID, 2, Map.of(RUBY, 2), Map.of());
+        StaticCard card = state.getBoardStateDto().getCards().get(0).get(0);
+
+        // When
+        broadcaster.publishStart(ROOM_ID, state);
+        GameEventApplier.replay(state, List.of(new GameEvent.CardPurchased(0, card, Map.of(RUBY, 1)), new GameEvent.TurnEnded(0)));
+        broadcaster.publish(ROOM_ID, state);
+
+        // Then
+        List<GameStateDeltaDto> messages = published(2);
+        GameStateDeltaDto snapshot = messages.get(0);
+        assertThat(snapshot.getCatalogVersion()).isEqualTo(staticDataLoader.getCatalogVersion());
+        assertThat(snapshot.getSnapshot().getBoardStateDto().getCards()).isNull();
+        assertThat(snapshot.getCardIds()).containsOnlyKeys(0, 1, 2);
+        assertThat(snapshot.getNobleIds()).isNotEmpty();
+        GameStateDeltaDto delta = messages.get(1);
+        assertThat(delta.getCards()).isNull();
+        assertThat(delta.getCardIds()).containsOnlyKeys(0);
+        assertThat(delta.getCardIds().get(0)).doesNotContain(card.id());
+
+        GameStateDto client = GameScreenClient.apply(null, GameScreenClient.resolveCatalogRefs(snapshot, staticDataLoader));
+        client = GameScreenClient.apply(client, GameScreenClient.resolveCatalogRefs(delta, staticDataLoader));
+        assertThat(client).isEqualTo(state);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<GameStateDeltaDto> published(int count) {
+        ArgumentCaptor<WebSocketResponse<GameStateDeltaDto>> captor = ArgumentCaptor.forClass(WebSocketResponse.class);
+        verify(frameBroadcaster, times(count)).publish(eq(TOPIC), captor.capture());
+        return captor.getAllValues().stream().map(WebSocketResponse::getData).toList();
+    }
+}
@@ -0,0 +1,150 @@
+package com.splendor.project.domain.game.controller;
+
+import com.splendor.project.domain.data.GemType;
+import com.splendor.project.domain.game.dto.response.ResponseTokenDto;
+import com.splendor.project.domain.game.dto.response.WebSocketResponse;
+import com.splendor.project.global.broadcast.FrameBroadcaster;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.simp.user.DefaultUserDestinationResolver;
+import org.springframework.messaging.simp.user.UserDestinationMessageHandler;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.messaging.DefaultSimpUserRegistry;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.splendor.project.domain.data.GemType.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 턴 중 선택(토큰 클릭)의 클릭당 전달 수 측정. (./gradlew benchmark 로 실행)
+ *
+ * simple broker와 user destination 핸들러에 방 ROOMS개 x 방마다 PLAYERS명을 붙이고, 방마다 첫 번째 플레이어가 CLICKS번 클릭합니다.
+ * - room    : 선택 결과를 방 topic으로 (이전 방식, 클릭당 PLAYERS명에게 전달)
+ * - private : 선택 결과는 보낸 세션에만, 다른 플레이어에게는 CLICKS_PER_FLUSH 클릭마다 요약 하나
+ */
+@Tag("benchmark")
+class SelectionFanoutBenchmarkTest {
+
+    private static final int ROOMS = 8;
+    private static final int PLAYERS = 4;
+    private static final int CLICKS = 200;
+    // 요약 발행 주기(summary-interval-ms) 동안 들어오는 클릭 수
+    private static final int CLICKS_PER_FLUSH = 10;
+    private static final GemType[] COLORS = {DIAMOND, SAPPHIRE, EMERALD, RUBY, ONYX};
+
+    @Test
+    @DisplayName("private 라우팅은 클릭당 전달 수를 방 인원에서 약 1로 줄이고, 선택 결과는 보낸 세션에만 전달해야 한다.")
+    void deliveriesPerClick() {
+        System.out.printf("%-8s %18s %20s %12s%n", "mode", "deliveries/click", "others' results/click", "us/click");
+
+        // When
+        double[] room = run(false);
+        double[] direct = run(true);
+
+        // Then
+        System.out.printf("%-8s %18.2f %20.2f %12.2f%n", "room", room[0], room[1], room[2]);
+        System.out.printf("%-8s %18.2f %20.2f %12.2f%n", "private", direct[0], direct[1], direct[2]);
+        assertThat(room[0]).isEqualTo(PLAYERS);
+        assertThat(room[1]).isEqualTo(PLAYERS - 1);
+        assertThat(direct[0]).isCloseTo(1 + (double) PLAYERS / CLICKS_PER_FLUSH, within(0.01));
+        assertThat(direct[1]).isZero();
+    }
+
+    // [클릭당 전달 수, 클릭당 다른 플레이어에게 전달된 선택 결과 수, 클릭당 us]
+    private double[] run(boolean privateEnabled) {
+        // Given
+        Broker broker = new Broker();
+        SelectionFeedback selectionFeedback = new SelectionFeedback(broker.frameBroadcaster, privateEnabled, new SimpleMeterRegistry());
+
+        long start = System.nanoTime();
+        for (int click = 0; click < CLICKS; click++) {
+            for (long roomId = 1; roomId <= ROOMS; roomId++) {
+                WebSocketResponse<ResponseTokenDto> response =
+                        WebSocketResponse.success(new ResponseTokenDto(Map.of(COLORS[click % COLORS.length], 1)));
+                selectionFeedback.token(roomId, sessionOf(roomId, 0), "player-" + roomId + "-0", response);
+            }
+            if ((click + 1) % CLICKS_PER_FLUSH == 0) {
+                selectionFeedback.flushSummaries();
+            }
+        }
+        selectionFeedback.flushSummaries();
+        double clicks = (double) CLICKS * ROOMS;
+        return new double[]{broker.delivered.get() / clicks, broker.othersResults.get() / clicks,
+                (System.nanoTime() - start) / 1_000.0 / clicks};
+    }
+
+    private static String sessionOf(long roomId, int seat) {
+        return "session-" + roomId + "-" + seat;
+    }
+
+    // 동기 채널로 연결한 simple broker, user destination 핸들러와 방마다 PLAYERS명의 구독자
+    private static class Broker {
+        private final FrameBroadcaster frameBroadcaster;
+        private final AtomicLong delivered = new AtomicLong();
+        // 클릭한 플레이어가 아닌 세션에 전달된 선택 결과 (요약 제외)
+        private final AtomicLong othersResults = new AtomicLong();
+
+        Broker() {
+            ExecutorSubscribableChannel clientInbound = new ExecutorSubscribableChannel();
+            ExecutorSubscribableChannel clientOutbound = new ExecutorSubscribableChannel();
+            ExecutorSubscribableChannel brokerChannel = new ExecutorSubscribableChannel();
+            SimpleBrokerMessageHandler handler = new SimpleBrokerMessageHandler(clientInbound, clientOutbound, brokerChannel,
+                    List.of("/topic", "/queue"));
+            handler.start();
+            UserDestinationMessageHandler userHandler = new UserDestinationMessageHandler(clientInbound, brokerChannel,
+                    new DefaultUserDestinationResolver(new DefaultSimpUserRegistry()));
+            userHandler.start();
+
+            clientOutbound.subscribe(this::onOutbound);
+
+            for (long roomId = 1; roomId <= ROOMS; roomId++) {
+                for (int seat = 0; seat < PLAYERS; seat++) {
+                    String sessionId = sessionOf(roomId, seat);
+                    clientInbound.send(frame(SimpMessageType.CONNECT, sessionId, null, null));
+                    clientInbound.send(frame(SimpMessageType.SUBSCRIBE, sessionId, "sub-0", "/topic/game-select-token/" + roomId));
+                    clientInbound.send(frame(SimpMessageType.SUBSCRIBE, sessionId, "sub-1", "/topic/game-selecting/" + roomId));
+                    clientInbound.send(frame(SimpMessageType.SUBSCRIBE, sessionId, "sub-2", "/user" + SelectionFeedback.TOKEN_QUEUE));
+                }
+            }
+
+            SimpMessagingTemplate template = new SimpMessagingTemplate(brokerChannel);
+            template.setMessageConverter(new MappingJackson2MessageConverter());
+            frameBroadcaster = new FrameBroadcaster(template, new SimpleMeterRegistry());
+        }
+
+        private void onOutbound(Message<?> message) {
+            if (SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) != SimpMessageType.MESSAGE) {
+                return;
+            }
+            delivered.incrementAndGet();
+            String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+            String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+            if (!destination.startsWith("/topic/game-selecting/") && !sessionId.endsWith("-0")) {
+                othersResults.incrementAndGet();
+            }
+        }
+
+        private static Message<byte[]> frame(SimpMessageType type, String sessionId, String subscriptionId, String destination) {
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(type);
+            accessor.setSessionId(sessionId);
+            if (destination != null) {
+                accessor.setSubscriptionId(subscriptionId);
+                accessor.setDestination(destination);
+            }
+            return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+        }
+    }
+}
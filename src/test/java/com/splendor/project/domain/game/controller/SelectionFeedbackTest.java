@@ -0,0 +1,121 @@
+package com.splendor.project.domain.game.controller;
+
+import com.splendor.project.domain.game.dto.response.ResponseTokenDto;
+import com.splendor.project.domain.game.dto.response.SelectionActivityDto;
+import com.splendor.project.domain.game.dto.response.SelectionCardStateDto;
+import com.splendor.project.domain.game.dto.response.WebSocketResponse;
+import com.splendor.project.global.broadcast.FrameBroadcaster;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+
+import static com.splendor.project.domain.data.GemType.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class SelectionFeedbackTest {
+
+    private static final Long ROOM_ID = 1L;
+    private static final String SESSION_ID = "session-1";
+    private static final String PLAYER_ID = "player-id-1";
+
+    @Mock
+    private FrameBroadcaster frameBroadcaster;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("private 라우팅을 끄면 이전처럼 선택 결과를 방 topic으로 보내고 요약은 만들지 않아야 한다.")
+    void token_ShouldPublishToRoomTopicWhenDisabled() {
+        // Given
+        SelectionFeedback selectionFeedback = new SelectionFeedback(frameBroadcaster, false, meterRegistry);
+        WebSocketResponse<ResponseTokenDto> response = WebSocketResponse.success(new ResponseTokenDto(Map.of(DIAMOND, 1)));
+
+        // When
+        selectionFeedback.token(ROOM_ID, SESSION_ID, PLAYER_ID, response);
+        selectionFeedback.flushSummaries();
+
+        // Then
+        verify(frameBroadcaster).publish("/topic/game-select-token/1", response);
+        verifyNoMoreInteractions(frameBroadcaster);
+        assertThat(meterRegistry.counter("splendor.game.selection", "route", "room").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("private 라우팅을 켜면 선택 결과와 에러는 보낸 세션에만 보내고, 방 topic으로는 보내지 않아야 한다.")
+    void select_ShouldPublishOnlyToActingSession() {
+        // Given
+        SelectionFeedback selectionFeedback = new SelectionFeedback(frameBroadcaster, true, meterRegistry);
+        WebSocketResponse<ResponseTokenDto> tokens = WebSocketResponse.success(new ResponseTokenDto(Map.of(DIAMOND, 1, RUBY, 1)));
+        WebSocketResponse<SelectionCardStateDto> error = WebSocketResponse.error("현재 턴이 아닙니다.");
+
+        // When
+        selectionFeedback.token(ROOM_ID, SESSION_ID, PLAYER_ID, tokens);
+        selectionFeedback.card(ROOM_ID, SESSION_ID, PLAYER_ID, error);
+
+        // Then
+        verify(frameBroadcaster).publishToSession(SESSION_ID, "/queue/game-select-token", tokens);
+        verify(frameBroadcaster).publishToSession(SESSION_ID, "/queue/game-select-card", error);
+        verify(frameBroadcaster, never()).publish(anyString(), any(Object.class));
+        assertThat(meterRegistry.counter("splendor.game.selection", "route", "private").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 전달된 액션이나 세션 id가 없는 액션은 켜져 있어도 방 topic으로 보내야 한다.")
+    void select_ShouldFallBackToRoomTopicWithoutLocalSession() {
+        // Given
+        SelectionFeedback selectionFeedback = new SelectionFeedback(frameBroadcaster, true, meterRegistry);
+        WebSocketResponse<SelectionCardStateDto> selection = WebSocketResponse.success(new SelectionCardStateDto(ROOM_ID, PLAYER_ID, 42));
+
+        // When
+        selectionFeedback.card(ROOM_ID, "forwarded:node-b", PLAYER_ID, selection);
+        selectionFeedback.card(ROOM_ID, null, PLAYER_ID, selection);
+
+        // Then
+        verify(frameBroadcaster, times(2)).publish("/topic/game-select-card/1", selection);
+        verify(frameBroadcaster, never()).publishToSession(anyString(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("요약은 방마다 마지막 선택만 남겨 한 번에 발행하고, 에러 응답은 요약하지 않아야 한다.")
+    void flushSummaries_ShouldPublishLatestSummaryPerRoom() {
+        // Given
+        SelectionFeedback selectionFeedback = new SelectionFeedback(frameBroadcaster, true, meterRegistry);
+        selectionFeedback.token(ROOM_ID, SESSION_ID, PLAYER_ID, WebSocketResponse.success(new ResponseTokenDto(Map.of(DIAMOND, 1))));
+        selectionFeedback.token(ROOM_ID, SESSION_ID, PLAYER_ID, WebSocketResponse.success(new ResponseTokenDto(Map.of(DIAMOND, 1, RUBY, 1))));
+        selectionFeedback.card(ROOM_ID, SESSION_ID, PLAYER_ID, WebSocketResponse.success(new SelectionCardStateDto(ROOM_ID, PLAYER_ID, 42)));
+        selectionFeedback.token(2L, "session-2", "player-id-2", WebSocketResponse.success(new ResponseTokenDto(Map.of(ONYX, 2))));
+        selectionFeedback.token(3L, "session-3", "player-id-3", WebSocketResponse.error("현재 턴이 아닙니다."));
+
+        // When
+        selectionFeedback.flushSummaries();
+        selectionFeedback.flushSummaries();
+
+        // Then
+        verify(frameBroadcaster).publish("/topic/game-selecting/1",
+                WebSocketResponse.success(new SelectionActivityDto(PLAYER_ID, SelectionActivityDto.Kind.CARD, 1)));
+        verify(frameBroadcaster).publish("/topic/game-selecting/2",
+                WebSocketResponse.success(new SelectionActivityDto("player-id-2", SelectionActivityDto.Kind.TOKEN, 2)));
+        verify(frameBroadcaster, never()).publish(eq("/topic/game-selecting/3"), any(Object.class));
+        assertThat(selectionFeedback.pendingRooms()).isZero();
+        assertThat(meterRegistry.counter("splendor.game.selection.summaries").count()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,139 @@
+package com.splendor.project.domain.game.executor;
+
+import com.splendor.project.domain.game.executor.GameStartAdmission.Admission;
+import com.splendor.project.domain.game.executor.GameStartAdmission.Status;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GameStartAdmissionTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private RoomActionExecutor executor;
+    private GameStartAdmission admission;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        executor = new RoomActionExecutor(4, 16, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (admission != null) {
+            admission.shutdown();
+        }
+        executor.shutdown();
+    }
+
+    private GameStartAdmission admission(int maxConcurrent, int queueCapacity, Duration maxWait, int priorityBacklog) {
+        admission = new GameStartAdmission(executor, maxConcurrent, queueCapacity, maxWait, priorityBacklog, meterRegistry);
+        return admission;
+    }
+
+    private static Runnable await(CountDownLatch release, CountDownLatch done) {
+        return () -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            done.countDown();
+        };
+    }
+
+    @Test
+    @DisplayName("동시에 실행되는 게임 시작은 max-concurrent개로 제한되고, 나머지는 대기 순서와 함께 대기열에 들어갔다가 모두 실행되어야 한다.")
+    void submit_ShouldLimitConcurrencyAndQueueTheRest() throws Exception {
+        // Given
+        GameStartAdmission gameStartAdmission = admission(2, 10, Duration.ofSeconds(30), 1000);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(4);
+
+        // When
+        Admission first = gameStartAdmission.submit(1L, await(release, done), () -> { });
+        Admission second = gameStartAdmission.submit(2L, await(release, done), () -> { });
+        Admission third = gameStartAdmission.submit(3L, await(release, done), () -> { });
+        Admission fourth = gameStartAdmission.submit(4L, await(release, done), () -> { });
+        Admission duplicate = gameStartAdmission.submit(3L, await(release, done), () -> { });
+
+        // Then
+        assertThat(first.status()).isEqualTo(Status.STARTED);
+        assertThat(second.status()).isEqualTo(Status.STARTED);
+        assertThat(third).isEqualTo(new Admission(Status.QUEUED, 1));
+        assertThat(fourth).isEqualTo(new Admission(Status.QUEUED, 2));
+        assertThat(duplicate.status()).isEqualTo(Status.DUPLICATE);
+        assertThat(gameStartAdmission.running()).isEqualTo(2);
+
+        release.countDown();
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 새 게임 시작 요청은 버려야 한다.")
+    void submit_ShouldRejectWhenQueueIsFull() {
+        // Given
+        GameStartAdmission gameStartAdmission = admission(1, 1, Duration.ofSeconds(30), 1000);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(2);
+        gameStartAdmission.submit(1L, await(release, done), () -> { });
+        gameStartAdmission.submit(2L, await(release, done), () -> { });
+
+        // When
+        Admission rejected = gameStartAdmission.submit(3L, () -> { }, () -> { });
+
+        // Then
+        assertThat(rejected.status()).isEqualTo(Status.REJECTED);
+        assertThat(meterRegistry.counter("splendor.game.start.rejected", "reason", "full").count()).isEqualTo(1);
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("max-wait보다 오래 기다린 게임 시작 요청은 실행하지 않고 재시도 안내를 보내야 한다.")
+    void tick_ShouldShedExpiredStarts() throws Exception {
+        // Given
+        GameStartAdmission gameStartAdmission = admission(1, 10, Duration.ofMillis(50), 1000);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(1);
+        CountDownLatch shed = new CountDownLatch(1);
+        gameStartAdmission.submit(1L, await(release, done), () -> { });
+
+        // When
+        Admission queued = gameStartAdmission.submit(2L, () -> { throw new AssertionError("실행되면 안 됨"); }, shed::countDown);
+
+        // Then
+        assertThat(queued.status()).isEqualTo(Status.QUEUED);
+        assertThat(shed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(gameStartAdmission.queued()).isZero();
+        release.countDown();
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("진행 중인 게임 액션이 priority-backlog개 이상 밀려 있으면 게임 시작은 대기했다가 액션이 줄어든 뒤 실행되어야 한다.")
+    void submit_ShouldYieldToInGameActions() throws Exception {
+        // Given: 진행 중인 방의 액션 2개가 밀려 있음
+        GameStartAdmission gameStartAdmission = admission(4, 10, Duration.ofSeconds(30), 2);
+        CountDownLatch releaseGame = new CountDownLatch(1);
+        executor.execute(100L, await(releaseGame, new CountDownLatch(1)));
+        executor.submit(100L, () -> null);
+        CountDownLatch started = new CountDownLatch(1);
+
+        // When
+        Admission admissionResult = gameStartAdmission.submit(1L, started::countDown, () -> { });
+
+        // Then
+        assertThat(admissionResult.status()).isEqualTo(Status.QUEUED);
+        assertThat(started.await(100, TimeUnit.MILLISECONDS)).isFalse();
+        releaseGame.countDown();
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+}
@@ -0,0 +1,102 @@
+package com.splendor.project.domain.game.executor;
+
+import com.splendor.project.exception.ErrorCode;
+import com.splendor.project.exception.GameLogicException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReactiveRoomActionPipelineTest {
+
+    @Test
+    @DisplayName("같은 방의 비동기 액션은 앞 액션이 끝난 뒤에 제출 순서대로 실행되어야 한다.")
+    void submit_ShouldRunSameRoomActionsOneAtATimeInOrder() {
+        // Given
+        ReactiveRoomActionPipeline pipeline = new ReactiveRoomActionPipeline(1_000, Duration.ofSeconds(5), new SimpleMeterRegistry());
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+        List<Mono<Integer>> results = new ArrayList<>();
+
+        // When: 각 액션은 잠시 뒤에 끝나는 비동기 작업 (Redis 응답 대기와 같은 상황)
+        for (int i = 0; i < 100; i++) {
+            int action = i;
+            results.add(pipeline.submit(1L, () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                order.add(action);
+                return Mono.delay(Duration.ofMillis(1)).map(tick -> {
+                    running.decrementAndGet();
+                    return action;
+                });
+            }));
+        }
+        List<Integer> values = Mono.zip(results, array -> array.length).then(Mono.just(order)).block(Duration.ofSeconds(10));
+
+        // Then
+        assertThat(values).hasSize(100).isSorted();
+        assertThat(maxRunning.get()).isEqualTo(1);
+        assertThat(pipeline.inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("진행 중인 액션이 max-in-flight를 넘으면 큐에 쌓지 않고 SERVER_BUSY로 거절해야 한다.")
+    void submit_ShouldRejectWhenMaxInFlightExceeded() {
+        // Given: 끝나지 않는 액션 2개로 한도를 채움
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ReactiveRoomActionPipeline pipeline = new ReactiveRoomActionPipeline(2, Duration.ofSeconds(5), meterRegistry);
+        Sinks.One<String> never = Sinks.one();
+        pipeline.submit(1L, never::asMono);
+        pipeline.submit(2L, never::asMono);
+
+        // When
+        Mono<String> rejected = pipeline.submit(3L, () -> Mono.just("accepted"));
+
+        // Then
+        assertThatThrownBy(() -> rejected.block(Duration.ofSeconds(1)))
+                .isInstanceOf(GameLogicException.class)
+                .satisfies(e -> assertThat(((GameLogicException) e).getErrorCode()).isEqualTo(ErrorCode.SERVER_BUSY));
+        assertThat(meterRegistry.get("splendor.game.reactive.rejected").counter().count()).isEqualTo(1);
+
+        never.tryEmitValue("done");
+        awaitIdle(pipeline);
+        assertThat(pipeline.submit(3L, () -> Mono.just("accepted")).block(Duration.ofSeconds(1))).isEqualTo("accepted");
+    }
+
+    @Test
+    @DisplayName("액션이 실패하거나 action-timeout을 넘기면 그 액션만 실패하고 같은 방의 다음 액션은 실행되어야 한다.")
+    void submit_ShouldContinueAfterFailedOrTimedOutAction() {
+        // Given
+        ReactiveRoomActionPipeline pipeline = new ReactiveRoomActionPipeline(100, Duration.ofMillis(100), new SimpleMeterRegistry());
+
+        // When
+        Mono<Object> failed = pipeline.submit(1L, () -> {
+            throw new IllegalStateException("boom");
+        });
+        Mono<Object> timedOut = pipeline.submit(1L, Mono::never);
+        Mono<String> next = pipeline.submit(1L, () -> Mono.just("next"));
+
+        // Then
+        assertThatThrownBy(() -> failed.block(Duration.ofSeconds(1))).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> timedOut.block(Duration.ofSeconds(1))).hasCauseInstanceOf(TimeoutException.class);
+        assertThat(next.block(Duration.ofSeconds(1))).isEqualTo("next");
+    }
+
+    private static void awaitIdle(ReactiveRoomActionPipeline pipeline) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(1).toNanos();
+        while (pipeline.inFlight() > 0 && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.splendor.project.domain.game.executor;
+
+import com.splendor.project.domain.game.executor.RoomActionDeduplicator.ActionKey;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RoomActionDeduplicatorTest {
+
+    private static final String END_TURN = "/game-end-turn";
+
+    private SimpleMeterRegistry meterRegistry;
+    private RoomActionDeduplicator deduplicator;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        deduplicator = new RoomActionDeduplicator(2, Duration.ofMinutes(10), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("같은 방에서 이미 성공한 액션은 기억한 결과를 돌려주고, 다른 방이나 action-id가 없는 액션은 중복으로 보지 않아야 한다.")
+    void find_ShouldReturnRememberedResultForSameRoomOnly() {
+        // Given
+        deduplicator.remember(1L, ActionKey.of(END_TURN, "session-1", "end-turn-1"), "state-v2");
+
+        // When & Then
+        assertThat(deduplicator.<String>find(1L, ActionKey.of(END_TURN, "session-1", "end-turn-1"))).contains("state-v2");
+        assertThat(deduplicator.<String>find(2L, ActionKey.of(END_TURN, "session-1", "end-turn-1"))).isEmpty();
+        assertThat(deduplicator.<String>find(1L, ActionKey.of(END_TURN, "session-1", null))).isEmpty();
+        assertThat(meterRegistry.counter("splendor.game.action.duplicates").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 action-id라도 보낸 쪽이나 목적지가 다르면 다른 액션으로 봐야 한다.")
+    void find_ShouldSeparateSendersAndDestinations() {
+        // Given
+        deduplicator.remember(1L, ActionKey.of("/game-select-token", "player-1", "1"), "token-result");
+
+        // When & Then
+        assertThat(deduplicator.<String>find(1L, ActionKey.of("/game-select-token", "player-2", "1"))).isEmpty();
+        assertThat(deduplicator.<String>find(1L, ActionKey.of("/game-select-card", "player-1", "1"))).isEmpty();
+        assertThat(deduplicator.<String>find(1L, ActionKey.of("/game-select-token", "player-1", "1"))).contains("token-result");
+    }
+
+    @Test
+    @DisplayName("방마다 최근 window-size개의 액션만 기억해야 한다.")
+    void remember_ShouldKeepOnlyRecentActionIds() {
+        // When
+        deduplicator.remember(1L, key("a"), "result-a");
+        deduplicator.remember(1L, key("b"), "result-b");
+        deduplicator.remember(1L, key("c"), "result-c");
+
+        // Then
+        assertThat(deduplicator.<String>find(1L, key("a"))).isEmpty();
+        assertThat(deduplicator.<String>find(1L, key("b"))).contains("result-b");
+        assertThat(deduplicator.<String>find(1L, key("c"))).contains("result-c");
+    }
+
+    @Test
+    @DisplayName("idle-timeout 동안 쓰지 않은 방의 창은 정리되어야 한다.")
+    void sweep_ShouldRemoveIdleWindows() {
+        // Given
+        RoomActionDeduplicator shortLived = new RoomActionDeduplicator(2, Duration.ZERO, new SimpleMeterRegistry());
+        shortLived.remember(1L, key("a"), "result-a");
+
+        // When
+        shortLived.sweep();
+
+        // Then
+        Optional<String> result = shortLived.find(1L, key("a"));
+        assertThat(result).isEmpty();
+    }
+
+    private static ActionKey key(String actionId) {
+        return ActionKey.of(END_TURN, "session-1", actionId);
+    }
+}
@@ -0,0 +1,130 @@
+package com.splendor.project.domain.game.executor;
+
+import com.splendor.project.domain.data.GemType;
+import com.splendor.project.domain.game.GameFixtures;
+import com.splendor.project.domain.game.codec.GameEventCodec;
+import com.splendor.project.domain.game.codec.GameStateCodec;
+import com.splendor.project.domain.game.dto.request.SelectTokenRequestDto;
+import com.splendor.project.domain.game.repository.GameStateCache;
+import com.splendor.project.domain.game.repository.InMemoryGameStateRepository;
+import com.splendor.project.domain.game.service.GameStaticDataLoader;
+import com.splendor.project.domain.game.service.PlayGameService;
+import com.splendor.project.domain.game.service.TokenAcquisitionValidator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.splendor.project.domain.data.GemType.*;
+import static com.splendor.project.domain.game.dto.request.SelectStatus.IS_SELECT;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 방 N개가 동시에 진행될 때 액션 처리량 비교. (./gradlew benchmark 로 실행)
+ *
+ * - inbound 직접 실행 : 지금까지의 방식. STOMP 수신 스레드 풀(코어 수 x 2)에서 바로 PlayGameService를 호출
+ *                      같은 방의 메시지가 다른 스레드에서 동시에/뒤바뀐 순서로 처리되어 실패하는 액션이 생김
+ * - room mailbox      : 수신한 순서대로 RoomActionExecutor에 넣기만 하고, 방마다 도착 순서대로 하나씩 실행
+ *
+ * 각 방은 턴마다 "토큰 3개 선택 + 턴 종료" 4개 메시지를 TURNS번 보냅니다. 메시지는 방을 번갈아 가며 도착합니다.
+ */
+@Tag("benchmark")
+class RoomActionExecutorBenchmarkTest {
+
+    private static final int TURNS = 4;
+    private static final int INBOUND_THREADS = Runtime.getRuntime().availableProcessors() * 2;
+    // 게임 상태의 보드 토큰
+    private static final Map<GemType, Integer> TOKENS = Map.of(DIAMOND, 7, SAPPHIRE, 7, EMERALD, 7, RUBY, 7, ONYX, 7, GOLD, 5);
+
+    @ParameterizedTest(name = "rooms={0}")
+    @ValueSource(ints = {1_000, 10_000})
+    @DisplayName("room mailbox는 방마다 액션을 순서대로 처리해 실패 없이 inbound 직접 실행 이상의 처리량을 내야 한다.")
+    void throughput(int rooms) throws Exception {
+        Result direct = run(rooms, false);
+        Result mailbox = run(rooms, true);
+
+        System.out.printf("rooms=%d, messages=%d, inbound threads=%d%n", rooms, direct.messages, INBOUND_THREADS);
+        System.out.printf("%-16s %10.0f msg/s  failed=%d%n", "inbound direct", direct.throughput(), direct.failed);
+        System.out.printf("%-16s %10.0f msg/s  failed=%d%n", "room mailbox", mailbox.throughput(), mailbox.failed);
+
+        assertThat(mailbox.failed).isZero();
+    }
+
+    private Result run(int rooms, boolean useMailbox) throws Exception {
+        GameStaticDataLoader staticDataLoader = new GameStaticDataLoader();
+        staticDataLoader.loadData();
+        GameStateCodec gameStateCodec = new GameStateCodec(staticDataLoader);
+        InMemoryGameStateRepository repository =
+                new InMemoryGameStateRepository(gameStateCodec, new GameEventCodec(gameStateCodec), 20, Duration.ofHours(3));
+        GameStateCache cache = new GameStateCache(repository, gameStateCodec, new SimpleMeterRegistry(), rooms * 2, Duration.ofMinutes(30));
+        PlayGameService service = new PlayGameService(null, null, cache, new TokenAcquisitionValidator(), staticDataLoader);
+        for (long roomId = 1; roomId <= rooms; roomId++) {
+            cache.create(GameFixtures.hostGuestGame(roomId, TOKENS));
+        }
+
+        ExecutorService inbound = Executors.newFixedThreadPool(INBOUND_THREADS);
+        RoomActionExecutor roomActionExecutor = new RoomActionExecutor(0, 16, new SimpleMeterRegistry());
+        AtomicInteger failed = new AtomicInteger();
+        List<CompletableFuture<?>> pending = new ArrayList<>();
+        int messages = 0;
+
+        long start = System.nanoTime();
+        for (int turn = 0; turn < TURNS; turn++) {
+            String playerId = turn % 2 == 0 ? "host-id" : "guest-id";
+            for (int message = 0; message < 4; message++) {
+                for (long roomId = 1; roomId <= rooms; roomId++) {
+                    Runnable action = countFailures(action(service, roomId, playerId, message), failed);
+                    pending.add(useMailbox
+                            ? roomActionExecutor.submit(roomId, () -> {
+                                action.run();
+                                return null;
+                            })
+                            : CompletableFuture.runAsync(action, inbound));
+                    messages++;
+                }
+            }
+        }
+        CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new)).get(5, TimeUnit.MINUTES);
+        long elapsed = System.nanoTime() - start;
+
+        inbound.shutdown();
+        roomActionExecutor.shutdown();
+        return new Result(messages, failed.get(), elapsed);
+    }
+
+    // 메시지 0~2: 토큰 선택(다이아/사파이어/에메랄드), 3: 턴 종료
+    private static Runnable action(PlayGameService service, Long roomId, String playerId, int message) {
+        if (message == 3) {
+            return () -> service.endTurn(roomId);
+        }
+        SelectTokenRequestDto request = new SelectTokenRequestDto(roomId, playerId, List.of(DIAMOND, SAPPHIRE, EMERALD).get(message), IS_SELECT);
+        return () -> service.selectToken(request);
+    }
+
+    private static Runnable countFailures(Runnable action, AtomicInteger failed) {
+        return () -> {
+            try {
+                action.run();
+            } catch (RuntimeException e) {
+                failed.incrementAndGet();
+            }
+        };
+    }
+
+    private record Result(int messages, int failed, long elapsedNanos) {
+        private double throughput() {
+            return messages / (elapsedNanos / 1e9);
+        }
+    }
+}
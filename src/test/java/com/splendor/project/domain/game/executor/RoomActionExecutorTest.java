@@ -0,0 +1,128 @@
+package com.splendor.project.domain.game.executor;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RoomActionExecutorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private RoomActionExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        executor = new RoomActionExecutor(4, 2, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 방의 액션은 여러 스레드에서 제출되어도 겹치지 않고 방별 제출 순서대로 실행되어야 한다.")
+    void submit_ShouldRunSameRoomActionsOneAtATimeInOrder() throws Exception {
+        // Given
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < 200; i++) {
+            int action = i;
+            futures.add(executor.submit(1L, () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                order.add(action);
+                running.decrementAndGet();
+                return action;
+            }));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(maxRunning.get()).isEqualTo(1);
+        assertThat(order).hasSize(200).isSorted();
+        assertThat(meterRegistry.get("splendor.game.executor.queue.wait").timer().count()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("다른 방의 액션은 한 방이 처리 중이어도 다른 워커에서 동시에 실행되어야 한다.")
+    void submit_ShouldRunDifferentRoomsInParallel() throws Exception {
+        // Given: 두 방이 모두 시작해야 풀리는 장벽
+        CountDownLatch bothStarted = new CountDownLatch(2);
+
+        // When
+        CompletableFuture<Boolean> room1 = executor.submit(1L, () -> await(bothStarted));
+        CompletableFuture<Boolean> room2 = executor.submit(2L, () -> await(bothStarted));
+
+        // Then
+        assertThat(room1.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(room2.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("액션이 예외를 던지면 그 future만 실패하고 같은 방의 다음 액션은 계속 실행되어야 한다.")
+    void submit_ShouldContinueAfterFailedAction() throws Exception {
+        // When
+        CompletableFuture<Object> failed = executor.submit(1L, () -> {
+            throw new IllegalStateException("boom");
+        });
+        CompletableFuture<String> next = executor.submit(1L, () -> "next");
+
+        // Then
+        assertThatThrownBy(() -> failed.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(next.get(5, TimeUnit.SECONDS)).isEqualTo("next");
+    }
+
+    @Test
+    @DisplayName("가상 스레드 모드에서도 같은 방의 액션은 순서대로 하나씩, 가상 스레드에서 실행되어야 한다.")
+    void submit_ShouldKeepRoomOrderOnVirtualThreads() throws Exception {
+        // Given
+        RoomActionExecutor virtualExecutor = new RoomActionExecutor(0, 2, true, new SimpleMeterRegistry());
+        List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+        List<CompletableFuture<Boolean>> futures = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            int action = i;
+            futures.add(virtualExecutor.submit(1L, () -> {
+                order.add(action);
+                return Thread.currentThread().isVirtual();
+            }));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+        virtualExecutor.shutdown();
+
+        // Then
+        assertThat(order).hasSize(100).isSorted();
+        assertThat(futures).allSatisfy(future -> assertThat(future.join()).isTrue());
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        latch.countDown();
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
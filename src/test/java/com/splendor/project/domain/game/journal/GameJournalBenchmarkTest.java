@@ -0,0 +1,101 @@
+package com.splendor.project.domain.game.journal;
+
+import com.splendor.project.domain.game.GameFixtures;
+import com.splendor.project.domain.game.codec.GameEventCodec;
+import com.splendor.project.domain.game.codec.GameStateCodec;
+import com.splendor.project.domain.game.dto.response.GameStateDto;
+import com.splendor.project.domain.game.event.GameEvent;
+import com.splendor.project.domain.game.logic.GameEventApplier;
+import com.splendor.project.domain.game.repository.InMemoryGameStateRepository;
+import com.splendor.project.domain.game.service.GameStaticDataLoader;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static com.splendor.project.domain.data.GemType.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 저널 기록 처리량과 재시작 복구 시간 측정. (./gradlew benchmark 로 실행)
+ *
+ * 방 ROOMS개를 만들고 방마다 TURNS번 커밋한 뒤, 같은 디렉터리로 새 저장소를 띄워 복구에 걸린 시간을 잽니다.
+ */
+@Tag("benchmark")
+class GameJournalBenchmarkTest {
+
+    private static final int ROOMS = 10_000;
+    private static final int TURNS = 10;
+    private static final int PLAYERS = 2;
+
+    @TempDir
+    Path directory;
+
+    private GameStaticDataLoader staticDataLoader;
+    private GameStateCodec gameStateCodec;
+    private GameEventCodec gameEventCodec;
+
+    @BeforeEach
+    void setUp() {
+        staticDataLoader = new GameStaticDataLoader();
+        staticDataLoader.loadData();
+        gameStateCodec = new GameStateCodec(staticDataLoader);
+        gameEventCodec = new GameEventCodec(gameStateCodec);
+    }
+
+    @Test
+    @DisplayName("방 1만 개의 커밋을 저널에 기록하고, 재시작 시 모두 복구해야 한다.")
+    void appendAndRecover() {
+        // Given
+        GameJournal journal = new GameJournal(directory, 64 << 20, new SimpleMeterRegistry());
+        InMemoryGameStateRepository before = repository(journal);
+        List<GameStateDto> rooms = new ArrayList<>(ROOMS);
+
+        // When: 기록
+        long appendStart = System.nanoTime();
+        for (long roomId = 1; roomId <= ROOMS; roomId++) {
+            rooms.add(before.save(GameFixtures.startedGame(staticDataLoader, roomId, PLAYERS)));
+        }
+        for (int turn = 0; turn < TURNS; turn++) {
+            int seat = turn % PLAYERS;
+            for (GameStateDto room : rooms) {
+                List<GameEvent> events = List.of(new GameEvent.TokensTaken(seat, Map.of(DIAMOND, 1, SAPPHIRE, 1, EMERALD, 1)),
+                        new GameEvent.TurnEnded(seat));
+                long expectedVersion = room.getVersion();
+                events.forEach(event -> GameEventApplier.apply(room, event));
+                before.compareAndSet(room, events, expectedVersion);
+            }
+        }
+        journal.shutdown();
+        long appendNanos = System.nanoTime() - appendStart;
+
+        // When: 복구
+        long recoverStart = System.nanoTime();
+        InMemoryGameStateRepository after = repository(new GameJournal(directory, 64 << 20, new SimpleMeterRegistry()));
+        long recoverNanos = System.nanoTime() - recoverStart;
+
+        // Then
+        int records = ROOMS * (TURNS + 1);
+        System.out.printf("rooms=%d, turns/room=%d, records=%d%n", ROOMS, TURNS, records);
+        System.out.printf("%-10s %10.1f ms (%.0f records/s)%n", "append", appendNanos / 1e6, records / (appendNanos / 1e9));
+        System.out.printf("%-10s %10.1f ms%n", "recover", recoverNanos / 1e6);
+
+        assertThat(after.findById(1L)).contains(rooms.get(0));
+        assertThat(after.findById((long) ROOMS)).contains(rooms.get(ROOMS - 1));
+    }
+
+    private InMemoryGameStateRepository repository(GameJournal journal) {
+        InMemoryGameStateRepository repository =
+                new InMemoryGameStateRepository(gameStateCodec, gameEventCodec, 20, Duration.ofHours(3), journal);
+        repository.recover();
+        return repository;
+    }
+}
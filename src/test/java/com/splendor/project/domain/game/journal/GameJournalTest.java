@@ -0,0 +1,202 @@
+package com.splendor.project.domain.game.journal;
+
+import com.splendor.project.domain.data.GemType;
+import com.splendor.project.domain.game.GameFixtures;
+import com.splendor.project.domain.game.codec.GameEventCodec;
+import com.splendor.project.domain.game.codec.GameStateCodec;
+import com.splendor.project.domain.game.dto.response.GameStateDto;
+import com.splendor.project.domain.game.event.GameEvent;
+import com.splendor.project.domain.game.logic.GameEventApplier;
+import com.splendor.project.domain.game.repository.InMemoryGameStateRepository;
+import com.splendor.project.domain.game.service.GameStaticDataLoader;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static com.splendor.project.domain.data.GemType.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GameJournalTest {
+
+    // 게임 상태의 보드 토큰
+    private static final Map<GemType, Integer> TOKENS = Map.of(DIAMOND, 50, SAPPHIRE, 4, GOLD, 5);
+
+    @TempDir
+    Path directory;
+
+    private GameStateCodec gameStateCodec;
+    private GameEventCodec gameEventCodec;
+
+    @BeforeEach
+    void setUp() {
+        GameStaticDataLoader staticDataLoader = new GameStaticDataLoader();
+        staticDataLoader.loadData();
+        gameStateCodec = new GameStateCodec(staticDataLoader);
+        gameEventCodec = new GameEventCodec(gameStateCodec);
+    }
+
+    private GameJournal openJournal(int segmentBytes) {
+        return new GameJournal(directory, segmentBytes, new SimpleMeterRegistry());
+    }
+
+    private InMemoryGameStateRepository repository(GameJournal journal) {
+        InMemoryGameStateRepository repository =
+                new InMemoryGameStateRepository(gameStateCodec, gameEventCodec, 20, Duration.ofHours(3), journal);
+        repository.recover();
+        return repository;
+    }
+
+    // 턴 하나를 이벤트로 적용하고 커밋
+    private void playTurn(InMemoryGameStateRepository repository, GameStateDto gameStateDto, int seat) {
+        List<GameEvent> events = List.of(new GameEvent.TokensTaken(seat, Map.of(DIAMOND, 1)), new GameEvent.TurnEnded(seat));
+        long expectedVersion = gameStateDto.getVersion();
+        events.forEach(event -> GameEventApplier.apply(gameStateDto, event));
+        assertThat(repository.compareAndSet(gameStateDto, events, expectedVersion)).isTrue();
+    }
+
+    @Test
+    @DisplayName("재시작하면 저널을 재생해 진행 중이던 방을 마지막 커밋 상태로 복구하고, 종료된 방은 복구하지 않아야 한다.")
+    void recover_ShouldRestoreLiveRooms() {
+        // Given
+        GameJournal journal = openJournal(1 << 20);
+        InMemoryGameStateRepository before = repository(journal);
+        GameStateDto room1 = before.save(GameFixtures.hostGuestGame(1L, TOKENS));
+        GameStateDto room2 = before.save(GameFixtures.hostGuestGame(2L, TOKENS));
+        playTurn(before, room1, 0);
+        playTurn(before, room1, 1);
+        playTurn(before, room2, 0);
+        assertThat(before.compareAndDelete(2L, List.of(new GameEvent.TurnEnded(1)), room2.getVersion())).isTrue();
+        journal.shutdown();
+
+        // When
+        InMemoryGameStateRepository after = repository(openJournal(1 << 20));
+
+        // Then
+        assertThat(after.findById(1L)).contains(room1);
+        assertThat(after.findById(2L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("복구한 방은 저널에 남아 있던 이벤트 로그를 이어서 가지고 있어야 한다.")
+    void recover_ShouldKeepEventLog() {
+        // Given
+        GameJournal journal = openJournal(1 << 20);
+        InMemoryGameStateRepository before = repository(journal);
+        GameStateDto room = before.save(GameFixtures.hostGuestGame(1L, TOKENS));
+        playTurn(before, room, 0);
+        playTurn(before, room, 1);
+        List<GameEvent> events = before.findEvents(1L);
+        journal.shutdown();
+
+        // When
+        InMemoryGameStateRepository after = repository(openJournal(1 << 20));
+
+        // Then
+        assertThat(events).hasSize(4);
+        assertThat(after.findEvents(1L)).isEqualTo(events);
+        assertThat(after.findById(1L)).contains(room);
+    }
+
+    @Test
+    @DisplayName("게임의 deadline은 재시작 후에도 처음 생성한 시각 기준이어야 하고, 꺼져 있는 동안 지난 방은 복구하지 않아야 한다.")
+    void recover_ShouldKeepDeadlineAndSkipExpiredRooms() throws InterruptedException {
+        // Given: max-lifetime 500ms
+        GameJournal journal = openJournal(1 << 20);
+        InMemoryGameStateRepository before = new InMemoryGameStateRepository(gameStateCodec, gameEventCodec, 20,
+                Duration.ofHours(1), Duration.ofMillis(500), journal);
+        before.recover();
+        before.save(GameFixtures.hostGuestGame(1L, TOKENS));
+        journal.shutdown();
+        Thread.sleep(300);
+
+        // When: 재시작 (max-lifetime을 새로 세면 500ms 더 살아 있어야 함)
+        GameJournal reopened = openJournal(1 << 20);
+        InMemoryGameStateRepository after = new InMemoryGameStateRepository(gameStateCodec, gameEventCodec, 20,
+                Duration.ofHours(1), Duration.ofMillis(500), reopened);
+        after.recover();
+        boolean aliveAfterRestart = after.findById(1L).isPresent();
+        Thread.sleep(300);
+        boolean aliveAfterDeadline = after.findById(1L).isPresent();
+        reopened.shutdown();
+        Thread.sleep(100);
+        InMemoryGameStateRepository restartedAfterDeadline = repository(openJournal(1 << 20));
+
+        // Then
+        assertThat(aliveAfterRestart).isTrue();
+        assertThat(aliveAfterDeadline).isFalse();
+        assertThat(restartedAfterDeadline.findById(1L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("세그먼트가 가득 차면 다음 세그먼트로 넘어가고, 복구 후 체크포인트가 이전 세그먼트를 정리해야 한다.")
+    void checkpoint_ShouldDropOldSegments() throws IOException {
+        // Given: 세그먼트 하나에 레코드 몇 개만 들어가는 크기
+        GameJournal journal = openJournal(512);
+        InMemoryGameStateRepository before = repository(journal);
+        GameStateDto room = before.save(GameFixtures.hostGuestGame(1L, TOKENS));
+        for (int turn = 0; turn < 40; turn++) {
+            playTurn(before, room, turn % 2);
+        }
+        journal.shutdown();
+        assertThat(segmentCount()).isGreaterThan(1);
+
+        // When
+        InMemoryGameStateRepository after = repository(openJournal(512));
+
+        // Then
+        assertThat(after.findById(1L)).contains(room);
+        assertThat(segmentCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("기록 도중 끊긴 마지막 레코드(CRC 불일치)는 건너뛰고 그 전까지만 재생해야 한다.")
+    void replay_ShouldStopAtTornRecord() throws IOException {
+        // Given
+        GameJournal journal = openJournal(4096);
+        journal.appendEvents(1L, 0L, List.of(gameEventCodec.encode(new GameEvent.TurnEnded(0))));
+        journal.appendEvents(1L, 1L, List.of(gameEventCodec.encode(new GameEvent.TurnEnded(1))));
+        journal.shutdown();
+
+        Path segment;
+        try (Stream<Path> files = Files.list(directory)) {
+            segment = files.findFirst().orElseThrow();
+        }
+        try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+            // 첫 레코드(헤더 8 + 본문) 뒤, 두 번째 레코드 본문의 마지막 바이트를 훼손
+            int firstLength = file.readInt();
+            file.seek(8L + firstLength);
+            int secondLength = file.readInt();
+            long lastByte = 8L + firstLength + 8 + secondLength - 1;
+            file.seek(lastByte);
+            int original = file.read();
+            file.seek(lastByte);
+            file.write(original ^ 0xFF);
+        }
+
+        // When
+        List<JournalRecord> records = new ArrayList<>();
+        openJournal(4096).replay(records::add);
+
+        // Then
+        assertThat(records).hasSize(1);
+        assertThat(records.get(0).version()).isZero();
+    }
+
+    private long segmentCount() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+}
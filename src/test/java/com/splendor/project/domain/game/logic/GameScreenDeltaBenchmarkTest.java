@@ -0,0 +1,148 @@
+package com.splendor.project.domain.game.logic;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.splendor.project.domain.data.GemType;
+import com.splendor.project.domain.data.StaticCard;
+import com.splendor.project.domain.game.GameFixtures;
+import com.splendor.project.domain.game.GameScreenClient;
+import com.splendor.project.domain.game.dto.response.GameStateDeltaDto;
+import com.splendor.project.domain.game.dto.response.GameStateDto;
+import com.splendor.project.domain.game.dto.response.WebSocketResponse;
+import com.splendor.project.domain.game.event.GameEvent;
+import com.splendor.project.domain.game.service.GameStaticDataLoader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.splendor.project.domain.data.GemType.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * /topic/game-screen 메시지 크기 비교. (./gradlew benchmark 로 실행)
+ *
+ * 토큰 가져오기, 카드 구매, 토큰 버리기가 섞인 게임 GAMES판을 재생하면서, 액션마다
+ * - full  : GameStateDto 전체 (delta 도입 전)
+ * - delta : 직전 발행 이후 바뀐 필드만 (splendor.broadcast.delta.enabled=true)
+ * - refs  : delta의 카드/귀족을 카탈로그 id로 (splendor.broadcast.catalog-refs.enabled=true)
+ * 의 JSON 바이트 수와 클라이언트 적용(GameScreenClient.apply) 시간을 잽니다. 게임 시작 SNAPSHOT의 크기도 비교합니다.
+ */
+@Tag("benchmark")
+class GameScreenDeltaBenchmarkTest {
+
+    private static final int GAMES = 20;
+    private static final int PLAYERS = 4;
+    private static final int ROUNDS = 25;
+    private static final GemType[] COLORS = {DIAMOND, SAPPHIRE, EMERALD, RUBY, ONYX};
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private GameStaticDataLoader staticDataLoader;
+
+    @BeforeEach
+    void setUp() {
+        staticDataLoader = new GameStaticDataLoader();
+        staticDataLoader.loadData();
+    }
+
+    @Test
+    @DisplayName("DELTA 메시지는 전체 상태 메시지보다 훨씬 작고, 적용한 결과는 서버 상태와 같아야 한다.")
+    void bytesPerBroadcast() throws Exception {
+        long fullBytes = 0;
+        long deltaBytes = 0;
+        long discardFullBytes = 0;
+        long discardDeltaBytes = 0;
+        long refBytes = 0;
+        long snapshotBytes = 0;
+        long snapshotRefBytes = 0;
+        long applyNanos = 0;
+        int broadcasts = 0;
+        int discards = 0;
+
+        for (int game = 0; game < GAMES; game++) {
+            // Given
+            GameStateDto live = GameFixtures.startedGame(staticDataLoader, game + 1L, PLAYERS);
+            GameStateDto published = GameStateDeltas.copyOf(live);
+            GameStateDto client = GameScreenClient.apply(null, GameStateDeltas.snapshot(published));
+            snapshotBytes += objectMapper.writeValueAsBytes(WebSocketResponse.success(GameStateDeltas.snapshot(published))).length;
+            snapshotRefBytes += objectMapper.writeValueAsBytes(WebSocketResponse.success(
+                    GameStateDeltas.toCatalogRefs(GameStateDeltas.snapshot(published), staticDataLoader.getCatalogVersion()))).length;
+
+            // When
+            for (List<GameEvent> action : script()) {
+                GameEventApplier.replay(live, action);
+                GameStateDeltaDto delta = GameStateDeltas.diff(published, live);
+                published = GameStateDeltas.copyOf(live);
+
+                int full = objectMapper.writeValueAsBytes(WebSocketResponse.success(live)).length;
+                int changed = objectMapper.writeValueAsBytes(WebSocketResponse.success(delta)).length;
+                // 카탈로그 id로 바꿔 잰 뒤, 클라이언트처럼 복원해 적용
+                GameStateDeltas.toCatalogRefs(delta, staticDataLoader.getCatalogVersion());
+                refBytes += objectMapper.writeValueAsBytes(WebSocketResponse.success(delta)).length;
+                GameScreenClient.resolveCatalogRefs(delta, staticDataLoader);
+                fullBytes += full;
+                deltaBytes += changed;
+                if (action.get(0) instanceof GameEvent.TokenDiscarded) {
+                    discardFullBytes += full;
+                    discardDeltaBytes += changed;
+                    discards++;
+                }
+
+                long start = System.nanoTime();
+                client = GameScreenClient.apply(client, delta);
+                applyNanos += System.nanoTime() - start;
+                broadcasts++;
+            }
+
+            // Then
+            assertThat(client).isEqualTo(live);
+        }
+
+        double full = (double) fullBytes / broadcasts;
+        double delta = (double) deltaBytes / broadcasts;
+        System.out.printf("games=%d, broadcasts=%d%n", GAMES, broadcasts);
+        System.out.printf("%-14s %10.1f bytes/broadcast%n", "full", full);
+        System.out.printf("%-14s %10.1f bytes/broadcast%n", "delta", delta);
+        System.out.printf("%-14s %10.1f bytes/broadcast%n", "delta+refs", (double) refBytes / broadcasts);
+        System.out.printf("%-14s %10.1f -> %.1f bytes%n", "snapshot", (double) snapshotBytes / GAMES, (double) snapshotRefBytes / GAMES);
+        System.out.printf("%-14s %10.1f -> %.1f bytes%n", "discardToken",
+                (double) discardFullBytes / discards, (double) discardDeltaBytes / discards);
+        System.out.printf("%-14s %10.2f us/apply%n", "client apply", applyNanos / 1_000.0 / broadcasts);
+
+        assertThat(delta * 5).isLessThan(full);
+        assertThat(discardDeltaBytes * 10).isLessThan(discardFullBytes);
+        assertThat(refBytes).isLessThan(deltaBytes);
+        assertThat(snapshotRefBytes * 2).isLessThan(snapshotBytes);
+    }
+
+    // 토큰 3개 가져오기, 카드 구매, 토큰 버리기가 섞인 턴 목록
+    private List<List<GameEvent>> script() {
+        List<List<GameEvent>> actions = new ArrayList<>();
+        List<StaticCard> level1 = staticDataLoader.getShuffledLevelCards(1);
+        int cardIndex = 0;
+
+        for (int round = 0; round < ROUNDS; round++) {
+            for (int seat = 0; seat < PLAYERS; seat++) {
+                if ((round + seat) % 3 == 2 && cardIndex < level1.size()) {
+                    StaticCard card = level1.get(cardIndex++);
+                    actions.add(List.of(new GameEvent.CardPurchased(seat, card, Map.of(COLORS[seat], 1)),
+                            new GameEvent.TurnEnded(seat)));
+                    continue;
+                }
+                Map<GemType, Integer> tokens = new HashMap<>();
+                for (int i = 0; i < 3; i++) {
+                    tokens.put(COLORS[(round + seat + i) % COLORS.length], 1);
+                }
+                actions.add(List.of(new GameEvent.TokensTaken(seat, tokens), new GameEvent.TurnEnded(seat)));
+                if (round % 4 == 3) {
+                    actions.add(List.of(new GameEvent.TokenDiscarded(seat, COLORS[round % COLORS.length])));
+                }
+            }
+        }
+        return actions;
+    }
+}
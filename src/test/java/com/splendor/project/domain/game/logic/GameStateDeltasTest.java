@@ -0,0 +1,133 @@
+package com.splendor.project.domain.game.logic;
+
+import com.splendor.project.domain.data.StaticCard;
+import com.splendor.project.domain.game.GameFixtures;
+import com.splendor.project.domain.game.GameScreenClient;
+import com.splendor.project.domain.game.dto.response.GameStateDeltaDto;
+import com.splendor.project.domain.game.dto.response.GameStateDto;
+import com.splendor.project.domain.game.dto.response.PlayerStateDeltaDto;
+import com.splendor.project.domain.game.event.GameEvent;
+import com.splendor.project.domain.game.service.GameStaticDataLoader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static com.splendor.project.domain.data.GemType.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GameStateDeltasTest {
+
+    private GameStaticDataLoader staticDataLoader;
+    private GameStateDto live;
+
+    @BeforeEach
+    void setUp() {
+        staticDataLoader = new GameStaticDataLoader();
+        staticDataLoader.loadData();
+        live = GameFixtures.startedGame(staticDataLoader, 1L, 2);
+    }
+
+    @Test
+    @DisplayName("토큰 가져오기 + 턴 종료의 DELTA는 바뀐 보석, 해당 플레이어, 현재 플레이어만 담고 적용하면 같은 상태가 되어야 한다.")
+    void diff_ShouldCarryOnlyChangedFieldsForTokenTurn() {
+        // Given
+        GameStateDto previous = GameStateDeltas.copyOf(live);
+        GameEventApplier.replay(live, List.of(new GameEvent.TokensTaken(0, Map.of(DIAMOND, 1, SAPPHIRE, 1, EMERALD, 1)),
+                new GameEvent.TurnEnded(0)));
+
+        // When
+        GameStateDeltaDto delta = GameStateDeltas.diff(previous, live);
+
+        // Then
+        assertThat(delta.getType()).isEqualTo(GameStateDeltaDto.Type.DELTA);
+        assertThat(delta.getBaseVersion()).isEqualTo(previous.getVersion());
+        assertThat(delta.getVersion()).isEqualTo(live.getVersion());
+        assertThat(delta.getAvailableTokens()).containsOnlyKeys(DIAMOND, SAPPHIRE, EMERALD);
+        assertThat(delta.getCards()).isNull();
+        assertThat(delta.getNobles()).isNull();
+        assertThat(delta.getPlayers()).extracting(PlayerStateDeltaDto::getSeat).containsExactly(0);
+        assertThat(delta.getPlayers().get(0).getScore()).isNull();
+        assertThat(delta.getCurrentPlayer()).isEqualTo(live.getPlayerStateDto().get(1).getPlayer());
+        assertThat(GameScreenClient.apply(previous, delta)).isEqualTo(live);
+    }
+
+    @Test
+    @DisplayName("카드 구매의 DELTA는 구매한 카드의 레벨 줄만 담고, 적용하면 같은 상태가 되어야 한다.")
+    void diff_ShouldCarryOnlyChangedCardRow() {
+        // Given
+        live.getPlayerStateDto().get(0).getTokens().put(RUBY, 3);
+        GameStateDto previous = GameStateDeltas.copyOf(live);
+        StaticCard card = live.getBoardStateDto().getCards().get(1).get(0);
+        GameEventApplier.replay(live, List.of(new GameEvent.CardPurchased(0, card, Map.of(RUBY, 3)), new GameEvent.TurnEnded(0)));
+
+        // When
+        GameStateDeltaDto delta = GameStateDeltas.diff(previous, live);
+
+        // Then
+        assertThat(delta.getCards()).containsOnlyKeys(1);
+        assertThat(delta.getCards().get(1)).doesNotContain(card);
+        PlayerStateDeltaDto player = delta.getPlayers().get(0);
+        assertThat(player.getBonuses()).containsEntry(card.bonusGem(), 1);
+        assertThat(player.getPurchasedCardCount()).isEqualTo(1);
+        // 다 쓴 보석은 null 값으로 지워짐을 알림
+        assertThat(player.getTokens()).containsEntry(RUBY, null);
+        assertThat(GameScreenClient.apply(previous, delta)).isEqualTo(live);
+    }
+
+    @Test
+    @DisplayName("이전 상태가 없거나 이어지지 않으면 SNAPSHOT을 만들어야 한다.")
+    void diff_ShouldFallBackToSnapshot() {
+        // Given
+        GameStateDto previous = GameStateDeltas.copyOf(live);
+
+        // When
+        GameStateDeltaDto first = GameStateDeltas.diff(null, live);
+        GameStateDeltaDto sameVersion = GameStateDeltas.diff(previous, live);
+
+        // Then
+        assertThat(first.getType()).isEqualTo(GameStateDeltaDto.Type.SNAPSHOT);
+        assertThat(first.getBaseVersion()).isNull();
+        assertThat(sameVersion.getType()).isEqualTo(GameStateDeltaDto.Type.SNAPSHOT);
+        assertThat(GameScreenClient.apply(null, first)).isEqualTo(live);
+    }
+
+    @Test
+    @DisplayName("중간 DELTA를 놓친 클라이언트는 다음 DELTA를 적용하지 못하고 스냅샷을 다시 받아야 한다.")
+    void apply_ShouldRejectSequenceGap() {
+        // Given
+        GameStateDto client = GameStateDeltas.copyOf(live);
+        GameEventApplier.replay(live, List.of(new GameEvent.TokensTaken(0, Map.of(DIAMOND, 1, SAPPHIRE, 1, EMERALD, 1)),
+                new GameEvent.TurnEnded(0)));
+        GameStateDto missed = GameStateDeltas.copyOf(live);
+        GameEventApplier.replay(live, List.of(new GameEvent.TokensTaken(1, Map.of(RUBY, 1, ONYX, 1, EMERALD, 1)),
+                new GameEvent.TurnEnded(1)));
+
+        // When
+        GameStateDeltaDto next = GameStateDeltas.diff(missed, live);
+
+        // Then
+        assertThatThrownBy(() -> GameScreenClient.apply(client, next))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("카탈로그 id로 바꾼 SNAPSHOT은 발행 중인 상태를 바꾸지 않고, 다른 버전의 카탈로그로는 복원할 수 없어야 한다.")
+    void toCatalogRefs_ShouldKeepLiveStateAndRejectOtherCatalogVersion() {
+        // Given
+        GameStateDto published = GameStateDeltas.copyOf(live);
+
+        // When
+        GameStateDeltaDto snapshot = GameStateDeltas.toCatalogRefs(GameStateDeltas.snapshot(live), "other-version");
+
+        // Then
+        assertThat(live).isEqualTo(published);
+        assertThat(snapshot.getSnapshot().getBoardStateDto().getNobles()).isNull();
+        assertThat(snapshot.getNobleIds()).hasSameSizeAs(live.getBoardStateDto().getNobles());
+        assertThatThrownBy(() -> GameScreenClient.resolveCatalogRefs(snapshot, staticDataLoader))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
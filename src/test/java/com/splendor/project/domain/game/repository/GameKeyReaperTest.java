@@ -0,0 +1,35 @@
+package com.splendor.project.domain.game.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DataType;
+
+import static com.splendor.project.domain.game.repository.GameKeyReaper.Action.*;
+import static com.splendor.project.domain.game.repository.GameKeyReaper.classify;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GameKeyReaperTest {
+
+    @Test
+    @DisplayName("예전 선택 상태 키와 인덱스, 예전 game Hash는 만료 시간과 관계없이 삭제해야 한다.")
+    void classify_ShouldDeleteLegacyKeys() {
+        assertThat(classify("selectedToken:1", DataType.HASH, -1L)).isEqualTo(DELETE);
+        assertThat(classify("cardSelection:1", DataType.HASH, 120L)).isEqualTo(DELETE);
+        assertThat(classify("selectedToken", DataType.SET, -1L)).isEqualTo(DELETE);
+        assertThat(classify("game", DataType.SET, -1L)).isEqualTo(DELETE);
+        assertThat(classify("game:1", DataType.HASH, -1L)).isEqualTo(DELETE);
+    }
+
+    @Test
+    @DisplayName("만료 시간이 없는 방 키에는 TTL을 걸고, 만료 시간이 있는 현재 키는 그대로 두어야 한다.")
+    void classify_ShouldExpireRoomKeysWithoutTtl() {
+        assertThat(classify("game-state:1", DataType.HASH, -1L)).isEqualTo(EXPIRE);
+        assertThat(classify("game-events:1", DataType.LIST, -1L)).isEqualTo(EXPIRE);
+        assertThat(classify("game:1", DataType.STRING, -1L)).isEqualTo(EXPIRE);
+
+        assertThat(classify("game-state:1", DataType.HASH, 3600L)).isEqualTo(KEEP);
+        assertThat(classify("game:1", DataType.STRING, 3600L)).isEqualTo(KEEP);
+        assertThat(classify("game-state:2", DataType.NONE, -2L)).isEqualTo(KEEP);
+        assertThat(classify("gameRanking", DataType.ZSET, -1L)).isEqualTo(KEEP);
+    }
+}
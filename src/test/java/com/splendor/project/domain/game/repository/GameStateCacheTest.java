@@ -0,0 +1,229 @@
+package com.splendor.project.domain.game.repository;
+
+import com.splendor.project.domain.game.codec.GameStateCodec;
+import com.splendor.project.domain.game.dto.response.GameStateDto;
+import com.splendor.project.domain.game.dto.response.PendingTurnDto;
+import com.splendor.project.domain.game.event.GameEvent;
+import com.splendor.project.domain.game.service.GameStaticDataLoader;
+import com.splendor.project.global.cluster.RoomOwnership;
+import com.splendor.project.global.cluster.RoomOwnershipChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GameStateCacheTest {
+
+    @Mock
+    private GameStateRepository gameStateRepository;
+
+    private GameStateCodec gameStateCodec;
+    private SimpleMeterRegistry meterRegistry;
+    private GameStateCache gameStateCache;
+
+    private GameStateDto gameState(Long roomId) {
+        GameStateDto gameStateDto = new GameStateDto();
+        gameStateDto.setGameId(roomId);
+        return gameStateDto;
+    }
+
+    private GameStateDto withPending(GameStateDto gameStateDto) {
+        gameStateDto.setPendingTurn(new PendingTurnDto(gameStateDto.getGameId(), "p1"));
+        return gameStateDto;
+    }
+
+    @BeforeEach
+    void setUp() {
+        GameStaticDataLoader staticDataLoader = new GameStaticDataLoader();
+        staticDataLoader.loadData();
+        gameStateCodec = new GameStateCodec(staticDataLoader);
+        meterRegistry = new SimpleMeterRegistry();
+        gameStateCache = new GameStateCache(gameStateRepository, gameStateCodec, meterRegistry, 2, Duration.ofMinutes(30));
+    }
+
+    @Test
+    @DisplayName("두 번째 조회부터는 Redis를 거치지 않고 캐시에서 반환해야 한다. (호출자마다 별도 인스턴스)")
+    void findById_ShouldHitCacheAfterFirstLoad() {
+        // Given
+        GameStateDto state = gameState(1L);
+        when(gameStateRepository.findById(1L)).thenReturn(Optional.of(state));
+
+        // When
+        GameStateDto first = gameStateCache.findById(1L).orElseThrow();
+        GameStateDto second = gameStateCache.findById(1L).orElseThrow();
+
+        // Then
+        assertThat(second).isEqualTo(state).isNotSameAs(first);
+        verify(gameStateRepository, times(1)).findById(1L);
+        assertThat(gameStateCache.hitRatio()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("save는 Redis에 바로 쓰지 않고, flush 시점에 선택 상태만 한 번 반영해야 한다.")
+    void save_ShouldWriteBehindUntilFlush() {
+        // Given
+        GameStateDto state = withPending(gameState(1L));
+        when(gameStateRepository.savePendingTurn(eq(1L), eq(0L), any())).thenReturn(true);
+
+        // When
+        gameStateCache.save(state);
+        gameStateCache.save(state);
+
+        // Then
+        verify(gameStateRepository, times(0)).savePendingTurn(any(), anyLong(), any());
+        assertThat(gameStateCache.dirtyCount()).isEqualTo(1);
+
+        gameStateCache.flush(1L);
+        gameStateCache.flush(1L);
+
+        verify(gameStateRepository, times(1)).savePendingTurn(1L, 0L, state.getPendingTurn());
+        verify(gameStateRepository, times(0)).save(any());
+        assertThat(gameStateCache.dirtyCount()).isZero();
+        assertThat(meterRegistry.get("splendor.game.cache.flush.lag").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 더 새로운 version을 커밋했다고 알리면 캐시 항목을 버리고 다음 조회에서 다시 읽어야 한다.")
+    void invalidate_ShouldDropOlderVersion() {
+        // Given
+        GameStateDto state = gameState(1L);
+        GameStateDto committed = gameState(1L);
+        committed.setVersion(2L);
+        when(gameStateRepository.findById(1L)).thenReturn(Optional.of(state), Optional.of(committed));
+        gameStateCache.findById(1L);
+
+        // When
+        gameStateCache.invalidate(1L, 0L); // 같은 version, 이 노드의 선택 변경 없음 -> 버림
+        GameStateDto reloaded = gameStateCache.findById(1L).orElseThrow();
+        gameStateCache.invalidate(1L, 1L); // 이미 더 새로운 version -> 유지
+        GameStateDto cached = gameStateCache.findById(1L).orElseThrow();
+
+        // Then
+        assertThat(reloaded.getVersion()).isEqualTo(2L);
+        assertThat(cached.getVersion()).isEqualTo(2L);
+        verify(gameStateRepository, times(2)).findById(1L);
+        assertThat(meterRegistry.get("splendor.game.cache.invalidations").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 요청 스레드가 아닌 주기 flush에서 가장 오래된 항목을 반영 후 제거해야 한다.")
+    void flushDirtyEntries_ShouldEvictOldestEntryWhenOversized() {
+        // Given
+        GameStateDto first = withPending(gameState(1L));
+        gameStateCache.save(first);
+        gameStateCache.save(gameState(2L));
+        gameStateCache.save(gameState(3L));
+        verify(gameStateRepository, never()).savePendingTurn(any(), anyLong(), any());
+        assertThat(meterRegistry.get("splendor.game.cache.size").gauge().value()).isEqualTo(3);
+        when(gameStateRepository.savePendingTurn(any(), anyLong(), any())).thenReturn(true);
+
+        // When
+        gameStateCache.flushDirtyEntries();
+
+        // Then
+        verify(gameStateRepository, times(1)).savePendingTurn(1L, 0L, first.getPendingTurn());
+        assertThat(meterRegistry.get("splendor.game.cache.size").gauge().value()).isEqualTo(2);
+        when(gameStateRepository.findById(1L)).thenReturn(Optional.of(first));
+        gameStateCache.findById(1L);
+        verify(gameStateRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("유휴 시간이 지난 항목은 주기 flush 시 반영 후 제거되어야 한다.")
+    void flushDirtyEntries_ShouldEvictIdleEntries() {
+        // Given
+        SimpleMeterRegistry idleRegistry = new SimpleMeterRegistry();
+        gameStateCache = new GameStateCache(gameStateRepository, gameStateCodec, idleRegistry, 10, Duration.ZERO);
+        GameStateDto state = withPending(gameState(1L));
+        when(gameStateRepository.savePendingTurn(eq(1L), eq(0L), any())).thenReturn(true);
+        gameStateCache.save(state);
+
+        // When
+        gameStateCache.flushDirtyEntries();
+
+        // Then
+        verify(gameStateRepository, times(1)).savePendingTurn(1L, 0L, state.getPendingTurn());
+        assertThat(gameStateCache.dirtyCount()).isZero();
+        assertThat(idleRegistry.get("splendor.game.cache.size").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("소유권이 다른 노드로 넘어간 방은 선택 상태를 반영한 뒤 캐시에서 제거하고, 계속 소유한 방은 남겨야 한다.")
+    void onOwnershipChanged_ShouldHandOffRoomsOwnedElsewhere() {
+        // Given: node-a 기준으로 node-b가 합류한 뒤 각 노드가 소유하는 방 하나씩
+        RoomOwnership ownership = new RoomOwnership("node-a", 64);
+        ownership.update(List.of("node-a", "node-b"));
+        Long kept = LongStream.rangeClosed(1, 100).filter(ownership::isLocal).findFirst().orElseThrow();
+        Long moved = LongStream.rangeClosed(1, 100).filter(roomId -> !ownership.isLocal(roomId)).findFirst().orElseThrow();
+        GameStateDto movedState = withPending(gameState(moved));
+        when(gameStateRepository.savePendingTurn(eq(moved), eq(0L), any())).thenReturn(true);
+        gameStateCache.save(withPending(gameState(kept)));
+        gameStateCache.save(movedState);
+
+        // When
+        gameStateCache.onOwnershipChanged(new RoomOwnershipChangedEvent(ownership, ownership.members()));
+
+        // Then
+        verify(gameStateRepository, times(1)).savePendingTurn(moved, 0L, movedState.getPendingTurn());
+        verify(gameStateRepository, never()).savePendingTurn(eq(kept), anyLong(), any());
+        assertThat(gameStateCache.dirtyCount()).isEqualTo(1);
+        assertThat(meterRegistry.get("splendor.game.cache.size").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("commit이 성공하면 version이 올라간 상태를 캐시에서 바로 돌려줘야 한다.")
+    void commit_ShouldCacheCommittedVersion() {
+        // Given
+        GameStateDto state = gameState(1L);
+        List<GameEvent> events = List.of(new GameEvent.TurnEnded(0));
+        when(gameStateRepository.compareAndSet(state, events, 0L)).thenAnswer(invocation -> {
+            state.setVersion(1L);
+            return true;
+        });
+
+        // When
+        boolean committed = gameStateCache.commit(state, events);
+
+        // Then
+        assertThat(committed).isTrue();
+        assertThat(gameStateCache.findById(1L)).get().extracting(GameStateDto::getVersion).isEqualTo(1L);
+        verify(gameStateRepository, times(0)).findById(any());
+    }
+
+    @Test
+    @DisplayName("commit이 version 충돌로 실패하면 캐시 항목을 버리고 다음 조회 때 Redis에서 다시 읽어야 한다.")
+    void commit_ShouldEvictEntryOnConflict() {
+        // Given
+        GameStateDto stale = gameState(1L);
+        gameStateCache.create(stale);
+        when(gameStateRepository.compareAndSet(any(), anyList(), eq(0L))).thenReturn(false);
+        GameStateDto latest = gameState(1L);
+        latest.setVersion(5L);
+        when(gameStateRepository.findById(1L)).thenReturn(Optional.of(latest));
+
+        // When
+        boolean committed = gameStateCache.commit(gameStateCache.findById(1L).orElseThrow(), List.of(new GameEvent.TurnEnded(0)));
+
+        // Then
+        assertThat(committed).isFalse();
+        assertThat(gameStateCache.findById(1L)).get().extracting(GameStateDto::getVersion).isEqualTo(5L);
+        verify(gameStateRepository, times(1)).findById(1L);
+        assertThat(meterRegistry.get("splendor.game.commit.conflicts").counter().count()).isEqualTo(1);
+    }
+}
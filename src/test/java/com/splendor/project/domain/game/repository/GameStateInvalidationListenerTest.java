@@ -0,0 +1,63 @@
+package com.splendor.project.domain.game.repository;
+
+import com.splendor.project.global.cluster.NodeIdentity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GameStateInvalidationListenerTest {
+
+    @Mock
+    private GameStateCache gameStateCache;
+
+    private SimpleMeterRegistry meterRegistry;
+    private GameStateInvalidationListener listener;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        listener = new GameStateInvalidationListener(gameStateCache, new NodeIdentity("node-a"), meterRegistry);
+    }
+
+    private DefaultMessage message(GameStateInvalidation invalidation) {
+        return new DefaultMessage(GameStateInvalidation.CHANNEL.getBytes(StandardCharsets.US_ASCII), invalidation.toBytes());
+    }
+
+    @Test
+    @DisplayName("다른 노드의 커밋 알림을 받으면 캐시를 무효화하고 지연 시간을 기록해야 한다.")
+    void onMessage_ShouldInvalidateOtherNodeCommit() {
+        // Given
+        long publishedAtMicros = Instant.now().toEpochMilli() * 1000;
+
+        // When
+        listener.onMessage(message(new GameStateInvalidation(7L, 12L, "node-b", publishedAtMicros)), null);
+
+        // Then
+        verify(gameStateCache).invalidate(7L, 12L);
+        assertThat(meterRegistry.get("splendor.game.cache.invalidation.lag").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("자신이 발행한 알림과 형식이 잘못된 메시지는 무시해야 한다.")
+    void onMessage_ShouldIgnoreOwnAndMalformedMessages() {
+        // When
+        listener.onMessage(message(new GameStateInvalidation(7L, 12L, "node-a", 0L)), null);
+        listener.onMessage(new DefaultMessage(new byte[0], "broken".getBytes(StandardCharsets.US_ASCII)), null);
+
+        // Then
+        verify(gameStateCache, never()).invalidate(any(), anyLong());
+    }
+}
@@ -0,0 +1,132 @@
+package com.splendor.project.domain.game.repository;
+
+import com.splendor.project.domain.data.GemType;
+import com.splendor.project.domain.data.StaticCard;
+import com.splendor.project.domain.game.GameFixtures;
+import com.splendor.project.domain.game.codec.GameEventCodec;
+import com.splendor.project.domain.game.codec.GameStateCodec;
+import com.splendor.project.domain.game.dto.response.GameStateDto;
+import com.splendor.project.domain.game.event.GameEvent;
+import com.splendor.project.domain.game.logic.GameEventApplier;
+import com.splendor.project.domain.game.service.GameStaticDataLoader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.splendor.project.domain.data.GemType.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 액션 하나당 저장소로 보내는 바이트 수 비교. (./gradlew benchmark 로 실행)
+ *
+ * - full rewrite       : 액션마다 GameStateDto 전체를 다시 기록 (이벤트 로그 도입 전)
+ * - events + snapshot  : 이벤트 + snapshot-interval 마다 전체 스냅샷
+ * - events + sections  : 이벤트 + snapshot-interval 마다 바뀐 구역만 기록 (현재 방식)
+ */
+@Tag("benchmark")
+class GameStateWriteBenchmarkTest {
+
+    private static final int PLAYERS = 4;
+    private static final int ROUNDS = 50;
+    private static final int SNAPSHOT_INTERVAL = 20;
+    private static final GemType[] COLORS = {DIAMOND, SAPPHIRE, EMERALD, RUBY, ONYX};
+
+    private GameStaticDataLoader staticDataLoader;
+    private GameStateCodec gameStateCodec;
+    private GameEventCodec gameEventCodec;
+
+    @BeforeEach
+    void setUp() {
+        staticDataLoader = new GameStaticDataLoader();
+        staticDataLoader.loadData();
+        gameStateCodec = new GameStateCodec(staticDataLoader);
+        gameEventCodec = new GameEventCodec(gameStateCodec);
+    }
+
+    @Test
+    @DisplayName("이벤트 + 바뀐 구역만 기록하면 액션당 기록 바이트가 전체 재기록보다 훨씬 작아야 한다.")
+    void bytesWrittenPerAction() {
+        // Given
+        GameStateDto live = GameFixtures.startedGame(staticDataLoader, 1L, PLAYERS);
+        InMemoryGameStateRepository repository = new InMemoryGameStateRepository(gameStateCodec, gameEventCodec, SNAPSHOT_INTERVAL, Duration.ofHours(3));
+        repository.save(live);
+        long initialBytes = repository.bytesWritten();
+
+        long fullRewriteBytes = 0;
+        long fullSnapshotBytes = 0;
+        long discardFullRewriteBytes = 0;
+        long discardEventBytes = 0;
+        int actions = 0;
+        int discards = 0;
+
+        // When
+        for (List<GameEvent> action : script()) {
+            long expectedVersion = live.getVersion();
+            action.forEach(event -> GameEventApplier.apply(live, event));
+            long actionBytesBefore = repository.bytesWritten();
+            assertThat(repository.compareAndSet(live, action, expectedVersion)).isTrue();
+
+            int fullState = gameStateCodec.encode(live).length;
+            int eventBytes = action.stream().mapToInt(event -> gameEventCodec.encode(event).length).sum();
+            fullRewriteBytes += fullState;
+            fullSnapshotBytes += eventBytes;
+            if (expectedVersion / SNAPSHOT_INTERVAL != live.getVersion() / SNAPSHOT_INTERVAL) {
+                fullSnapshotBytes += fullState;
+            }
+            if (action.get(0) instanceof GameEvent.TokenDiscarded) {
+                discardFullRewriteBytes += fullState;
+                discardEventBytes += repository.bytesWritten() - actionBytesBefore;
+                discards++;
+            }
+            actions++;
+        }
+
+        // Then
+        double fullRewrite = (double) fullRewriteBytes / actions;
+        double eventsAndSnapshot = (double) fullSnapshotBytes / actions;
+        double eventsAndSections = (double) (repository.bytesWritten() - initialBytes) / actions;
+        System.out.printf("actions=%d, snapshot-interval=%d%n", actions, SNAPSHOT_INTERVAL);
+        System.out.printf("%-20s %10.1f bytes/action%n", "full rewrite", fullRewrite);
+        System.out.printf("%-20s %10.1f bytes/action%n", "events + snapshot", eventsAndSnapshot);
+        System.out.printf("%-20s %10.1f bytes/action%n", "events + sections", eventsAndSections);
+        System.out.printf("%-20s %10.1f -> %.1f bytes%n", "discardToken",
+                (double) discardFullRewriteBytes / discards, (double) discardEventBytes / discards);
+
+        assertThat(eventsAndSections * 3).isLessThan(fullRewrite);
+        assertThat(discardEventBytes).isLessThan(discardFullRewriteBytes / 5);
+    }
+
+    // 토큰 3개 가져오기, 카드 구매, 토큰 버리기가 섞인 턴 목록
+    private List<List<GameEvent>> script() {
+        List<List<GameEvent>> actions = new ArrayList<>();
+        List<StaticCard> level1 = staticDataLoader.getShuffledLevelCards(1);
+        int cardIndex = 0;
+
+        for (int round = 0; round < ROUNDS; round++) {
+            for (int seat = 0; seat < PLAYERS; seat++) {
+                if ((round + seat) % 3 == 2 && cardIndex < level1.size()) {
+                    StaticCard card = level1.get(cardIndex++);
+                    actions.add(List.of(new GameEvent.CardPurchased(seat, card, Map.of(COLORS[seat], 1)),
+                            new GameEvent.TurnEnded(seat)));
+                    continue;
+                }
+                Map<GemType, Integer> tokens = new HashMap<>();
+                for (int i = 0; i < 3; i++) {
+                    tokens.put(COLORS[(round + seat + i) % COLORS.length], 1);
+                }
+                actions.add(List.of(new GameEvent.TokensTaken(seat, tokens), new GameEvent.TurnEnded(seat)));
+                if (round % 4 == 3) {
+                    actions.add(List.of(new GameEvent.TokenDiscarded(seat, COLORS[round % COLORS.length])));
+                }
+            }
+        }
+        return actions;
+    }
+}
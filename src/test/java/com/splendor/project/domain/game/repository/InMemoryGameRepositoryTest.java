@@ -0,0 +1,42 @@
+package com.splendor.project.domain.game.repository;
+
+import com.splendor.project.domain.game.entity.GameSession;
+import com.splendor.project.domain.game.service.GameStaticDataLoader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryGameRepositoryTest {
+
+    private GameStaticDataLoader staticDataLoader;
+
+    @BeforeEach
+    void setUp() {
+        staticDataLoader = new GameStaticDataLoader();
+        staticDataLoader.loadData();
+    }
+
+    @Test
+    @DisplayName("저장할 때마다 idle-timeout이 갱신되지만, 처음 저장한 뒤 max-lifetime이 지나면 만료되어야 한다.")
+    void save_ShouldRefreshIdleTimeoutUntilMaxLifetime() throws InterruptedException {
+        // Given
+        InMemoryGameRepository repository = new InMemoryGameRepository(staticDataLoader, Duration.ofMillis(400), Duration.ofMillis(800));
+        repository.save(new GameSession(1L));
+
+        // When: idle-timeout보다 짧은 간격으로 계속 저장
+        for (int i = 0; i < 3; i++) {
+            Thread.sleep(200);
+            repository.save(new GameSession(1L));
+        }
+        boolean aliveAfterIdleTimeout = repository.findById(1L).isPresent();
+        Thread.sleep(250);
+
+        // Then
+        assertThat(aliveAfterIdleTimeout).isTrue();
+        assertThat(repository.findById(1L)).isEmpty();
+    }
+}
@@ -0,0 +1,113 @@
+package com.splendor.project.domain.game.repository;
+
+import com.splendor.project.domain.data.GemType;
+import com.splendor.project.domain.game.GameFixtures;
+import com.splendor.project.domain.game.codec.GameEventCodec;
+import com.splendor.project.domain.game.codec.GameStateCodec;
+import com.splendor.project.domain.game.dto.response.GameStateDto;
+import com.splendor.project.domain.game.dto.response.PendingTurnDto;
+import com.splendor.project.domain.game.event.GameEvent;
+import com.splendor.project.domain.game.service.GameStaticDataLoader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static com.splendor.project.domain.data.GemType.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryGameStateRepositoryTest {
+
+    // 게임 상태의 보드 토큰
+    private static final Map<GemType, Integer> TOKENS = Map.of(DIAMOND, 4, GOLD, 5);
+
+    private GameStateCodec gameStateCodec;
+    private GameEventCodec gameEventCodec;
+
+    @BeforeEach
+    void setUp() {
+        GameStaticDataLoader staticDataLoader = new GameStaticDataLoader();
+        staticDataLoader.loadData();
+        gameStateCodec = new GameStateCodec(staticDataLoader);
+        gameEventCodec = new GameEventCodec(gameStateCodec);
+    }
+
+    @Test
+    @DisplayName("version이 맞을 때만 커밋되고, 방마다 상태가 따로 보관되어야 한다.")
+    void compareAndSet_ShouldRejectStaleVersionPerRoom() {
+        // Given
+        InMemoryGameStateRepository repository = new InMemoryGameStateRepository(gameStateCodec, gameEventCodec, 20, Duration.ofHours(3));
+        GameStateDto room1 = repository.save(GameFixtures.hostGuestGame(1L, TOKENS));
+        repository.save(GameFixtures.hostGuestGame(2L, TOKENS));
+        List<GameEvent> events = List.of(new GameEvent.TokensTaken(0, Map.of(DIAMOND, 1)), new GameEvent.TurnEnded(0));
+        room1.getBoardStateDto().getAvailableTokens().put(DIAMOND, 3);
+        room1.getPlayerStateDto().get(0).getTokens().put(DIAMOND, 1);
+        room1.setCurrentPlayer(room1.getPlayerStateDto().get(1).getPlayer());
+
+        // When
+        boolean committed = repository.compareAndSet(room1, events, 0L);
+        boolean stale = repository.compareAndSet(GameFixtures.hostGuestGame(1L, TOKENS), events, 0L);
+
+        // Then
+        assertThat(committed).isTrue();
+        assertThat(stale).isFalse();
+        assertThat(repository.findById(1L)).contains(room1);
+        assertThat(repository.findById(2L).orElseThrow().getVersion()).isZero();
+    }
+
+    @Test
+    @DisplayName("만료 시간이 지나면 상태와 선택 상태가 사라져야 한다.")
+    void findById_ShouldExpireAfterTimeout() throws InterruptedException {
+        // Given
+        InMemoryGameStateRepository repository = new InMemoryGameStateRepository(gameStateCodec, gameEventCodec, 20, Duration.ofMillis(50));
+        repository.save(GameFixtures.hostGuestGame(1L, TOKENS));
+        assertThat(repository.savePendingTurn(1L, 0L, new PendingTurnDto(1L, "host-id"))).isTrue();
+
+        // When
+        Thread.sleep(100);
+
+        // Then
+        assertThat(repository.findById(1L)).isEmpty();
+        assertThat(repository.savePendingTurn(1L, 0L, null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("활동이 있으면 idle-timeout이 갱신되지만, 게임 생성 후 max-lifetime이 지나면 만료되어야 한다.")
+    void savePendingTurn_ShouldRefreshIdleTimeoutUntilMaxLifetime() throws InterruptedException {
+        // Given
+        InMemoryGameStateRepository repository = new InMemoryGameStateRepository(gameStateCodec, gameEventCodec, 20,
+                Duration.ofMillis(400), Duration.ofMillis(800), null);
+        repository.save(GameFixtures.hostGuestGame(1L, TOKENS));
+
+        // When: idle-timeout보다 짧은 간격으로 계속 선택을 저장
+        for (int i = 0; i < 3; i++) {
+            Thread.sleep(200);
+            assertThat(repository.savePendingTurn(1L, 0L, new PendingTurnDto(1L, "host-id"))).isTrue();
+        }
+        boolean aliveAfterIdleTimeout = repository.findById(1L).isPresent();
+        Thread.sleep(250);
+
+        // Then
+        assertThat(aliveAfterIdleTimeout).isTrue();
+        assertThat(repository.findById(1L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("게임 종료 커밋 후 상태는 삭제되지만 이벤트 로그는 남아 있어야 한다.")
+    void compareAndDelete_ShouldKeepEventLog() {
+        // Given
+        InMemoryGameStateRepository repository = new InMemoryGameStateRepository(gameStateCodec, gameEventCodec, 20, Duration.ofHours(3));
+        repository.save(GameFixtures.hostGuestGame(1L, TOKENS));
+
+        // When
+        boolean deleted = repository.compareAndDelete(1L, List.of(new GameEvent.TurnEnded(0)), 0L);
+
+        // Then
+        assertThat(deleted).isTrue();
+        assertThat(repository.findById(1L)).isEmpty();
+        assertThat(repository.findEvents(1L)).containsExactly(new GameEvent.TurnEnded(0));
+    }
+}
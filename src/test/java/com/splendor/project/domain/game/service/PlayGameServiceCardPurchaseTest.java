@@ -6,12 +6,10 @@ import com.splendor.project.domain.game.dto.request.SelectCardRequestDto;
 import com.splendor.project.domain.game.dto.response.BoardStateDto;
 import com.splendor.project.domain.game.dto.response.GamePlayerDto;
 import com.splendor.project.domain.game.dto.response.GameStateDto;
+import com.splendor.project.domain.game.dto.response.PendingTurnDto;
 import com.splendor.project.domain.game.dto.response.PlayerStateDto;
-import com.splendor.project.domain.game.dto.response.SelectionCardStateDto;
 import com.splendor.project.domain.game.logic.PlayerStateCalculator;
-import com.splendor.project.domain.game.repository.GameStateRepository;
-import com.splendor.project.domain.game.repository.SelectTokenStateRepository;
-import com.splendor.project.domain.game.repository.SelectionCardStateRepository;
+import com.splendor.project.domain.game.repository.GameStateCache;
 import com.splendor.project.exception.ErrorCode;
 import com.splendor.project.exception.GameLogicException;
 import org.junit.jupiter.api.BeforeEach;
@@ -39,9 +37,7 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class PlayGameServiceCommitTest {
 
-    @Mock private GameStateRepository gameStateRepository;
-    @Mock private SelectTokenStateRepository selectTokenStateRepository;
-    @Mock private SelectionCardStateRepository cardSelectionStateRepository;
+    @Mock private GameStateCache gameStateCache;
     @Mock private GameStaticDataLoader staticDataLoader;
 
     @InjectMocks private PlayGameService playGameService;
@@ -102,7 +98,7 @@ class PlayGameServiceCommitTest {
                 HOST_ID // startingPlayerId
         );
 
-        when(gameStateRepository.findById(TEST_ROOM_ID)).thenReturn(Optional.of(initialGameState));
+        when(gameStateCache.findById(TEST_ROOM_ID)).thenReturn(Optional.of(initialGameState));
     }
 
     // =================================================================
@@ -112,20 +108,19 @@ class PlayGameServiceCommitTest {
     @Test
     @DisplayName("성공: 카드를 선택한 후 endTurn을 누르면 구매가 확정되고 상태가 업데이트되어야 한다.")
     void endTurn_ShouldCommitCardPurchase_WhenCardIsSelected() {
-        // 1. save 스터빙을 성공 테스트 내부로 이동
-        when(gameStateRepository.save(any(GameStateDto.class))).thenAnswer(i -> i.getArgument(0));
+        // 1. commit 스터빙을 성공 테스트 내부로 이동
+        when(gameStateCache.commit(any(GameStateDto.class), anyList())).thenReturn(true);
         when(staticDataLoader.getAllCards()).thenReturn(allStaticCards);
 
         // Given
         StaticCard cardToBuy = allStaticCards.stream().filter(c -> c.id() == CARD_ID_SIMPLE).findFirst().orElseThrow();
 
         // 중간 상태 Mock: 카드가 선택된 상태
-        SelectionCardStateDto selectedState = new SelectionCardStateDto(TEST_ROOM_ID, HOST_ID);
-        selectedState.setCardIdToBuy(CARD_ID_SIMPLE);
+        PendingTurnDto selectedState = new PendingTurnDto(TEST_ROOM_ID, HOST_ID);
+        selectedState.setCardIdToBuy(CARD_ID_SIMPLE); // 토큰 획득 시도 없음
 
-        // endTurn이 호출되었을 때 이 상태를 찾도록 Mock 설정
-        when(cardSelectionStateRepository.findById(TEST_ROOM_ID)).thenReturn(Optional.of(selectedState));
-        when(selectTokenStateRepository.findById(TEST_ROOM_ID)).thenReturn(Optional.empty()); // 토큰 획득 시도 없음
+        // endTurn이 호출되었을 때 게임 상태와 함께 이 선택 상태를 읽도록 설정
+        initialGameState.setPendingTurn(selectedState);
 
         // Mock 지불 금액: {S: 1, E: 1, R: 1, O: 2}
         Map<GemType, Integer> expectedPayment = Map.of(SAPPHIRE, 1, EMERALD, 1, RUBY, 1, ONYX, 2);
@@ -151,8 +146,8 @@ class PlayGameServiceCommitTest {
             assertThat(result.getCurrentPlayer().getPlayerId()).isEqualTo(GUEST_ID);
 
             // 3. Cleanup 검증
-            verify(cardSelectionStateRepository, times(1)).deleteById(TEST_ROOM_ID);
-            verify(gameStateRepository, times(1)).save(any(GameStateDto.class));
+            assertThat(result.getPendingTurn()).isNull();
+            verify(gameStateCache, times(1)).commit(any(GameStateDto.class), anyList());
         }
     }
 
@@ -168,11 +163,9 @@ class PlayGameServiceCommitTest {
         StaticCard cardToBuy = allStaticCards.stream().filter(c -> c.id() == CARD_ID_EXPENSIVE).findFirst().orElseThrow();
 
         // 중간 상태 Mock: 고가 카드가 선택된 상태
-        SelectionCardStateDto selectedState = new SelectionCardStateDto(TEST_ROOM_ID, HOST_ID);
+        PendingTurnDto selectedState = new PendingTurnDto(TEST_ROOM_ID, HOST_ID);
         selectedState.setCardIdToBuy(CARD_ID_EXPENSIVE);
-
-        when(cardSelectionStateRepository.findById(TEST_ROOM_ID)).thenReturn(Optional.of(selectedState));
-        when(selectTokenStateRepository.findById(TEST_ROOM_ID)).thenReturn(Optional.empty());
+        initialGameState.setPendingTurn(selectedState);
         when(staticDataLoader.getAllCards()).thenReturn(allStaticCards);
 
         // Mock 지불 계산기가 부족 예외를 던지도록 설정
@@ -188,8 +181,8 @@ class PlayGameServiceCommitTest {
             assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.NOT_ENOUGH_TOKENS);
 
             // 턴이 넘어가지 않고, 상태 저장/삭제도 되지 않아야 함 (Transactional 롤백)
-            verify(cardSelectionStateRepository, times(0)).deleteById(any());
-            verify(gameStateRepository, times(0)).save(any());
+            assertThat(initialGameState.getPendingTurn()).isSameAs(selectedState);
+            verify(gameStateCache, times(0)).commit(any(), anyList());
         }
     }
 
@@ -201,14 +194,13 @@ class PlayGameServiceCommitTest {
     @DisplayName("실패: 다른 카드를 선택한 상태에서 새 카드를 선택하면 ANOTHER_CARD_ALREADY_SELECTED 예외가 발생해야 한다.")
     void selectCard_ShouldFail_WhenAnotherCardIsAlreadySelected() {
         // Given
-        SelectionCardStateDto selectedState = new SelectionCardStateDto(TEST_ROOM_ID, HOST_ID);
+        PendingTurnDto selectedState = new PendingTurnDto(TEST_ROOM_ID, HOST_ID);
         selectedState.setCardIdToBuy(CARD_ID_SIMPLE); // 이미 CARD_ID_SIMPLE 선택됨
+        initialGameState.setPendingTurn(selectedState);
 
         SelectCardRequestDto request = new SelectCardRequestDto(TEST_ROOM_ID, HOST_ID, CARD_ID_EXPENSIVE, true); // 다른 카드 선택 시도
 
-        when(cardSelectionStateRepository.findById(TEST_ROOM_ID)).thenReturn(Optional.of(selectedState));
-        when(selectTokenStateRepository.findById(TEST_ROOM_ID)).thenReturn(Optional.empty());
-        when(gameStateRepository.findById(TEST_ROOM_ID)).thenReturn(Optional.of(initialGameState));
+        when(gameStateCache.findById(TEST_ROOM_ID)).thenReturn(Optional.of(initialGameState));
         when(staticDataLoader.getAllCards()).thenReturn(allStaticCards);
 
         // When & Then
@@ -217,6 +209,6 @@ class PlayGameServiceCommitTest {
         });
 
         assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.ANOTHER_CARD_ALREADY_SELECTED);
-        verify(cardSelectionStateRepository, times(0)).save(any()); // 상태 저장되면 안 됨
+        verify(gameStateCache, times(0)).save(any()); // 상태 저장되면 안 됨
     }
 }
\ No newline at end of file
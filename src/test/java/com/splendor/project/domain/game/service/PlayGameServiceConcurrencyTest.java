@@ -0,0 +1,159 @@
+package com.splendor.project.domain.game.service;
+
+import com.splendor.project.domain.game.codec.GameEventCodec;
+import com.splendor.project.domain.game.codec.GameStateCodec;
+import com.splendor.project.domain.game.dto.request.DiscardTokenRequestDto;
+import com.splendor.project.domain.game.dto.response.BoardStateDto;
+import com.splendor.project.domain.game.dto.response.GamePlayerDto;
+import com.splendor.project.domain.game.dto.response.GameStateDto;
+import com.splendor.project.domain.game.dto.response.PlayerStateDto;
+import com.splendor.project.domain.game.entity.GameStatus;
+import com.splendor.project.domain.game.repository.GameStateCache;
+import com.splendor.project.domain.game.repository.InMemoryGameStateRepository;
+import com.splendor.project.exception.ErrorCode;
+import com.splendor.project.exception.GameLogicException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.splendor.project.domain.data.GemType.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 한 방에 여러 스레드(여러 노드)가 동시에 커밋할 때 version compare-and-set이 토큰 개수를 보존하는지 검증합니다.
+ * 노드마다 로컬 캐시가 따로 있는 상황을 흉내 내기 위해 같은 저장소 앞에 GameStateCache/PlayGameService를 노드 수만큼 둡니다.
+ */
+class PlayGameServiceConcurrencyTest {
+
+    private static final Long ROOM_ID = 1L;
+    private static final String HOST_ID = "host-id";
+    private static final String GUEST_ID = "guest-id";
+    private static final int NODES = 4;
+    private static final int THREADS = 16;
+    private static final int INITIAL_DIAMONDS = 400;
+
+    private GameStateCodec gameStateCodec;
+    private InMemoryGameStateRepository repository;
+    private List<PlayGameService> nodes;
+
+    @BeforeEach
+    void setUp() {
+        GameStaticDataLoader staticDataLoader = new GameStaticDataLoader();
+        staticDataLoader.loadData();
+        gameStateCodec = new GameStateCodec(staticDataLoader);
+        repository = new InMemoryGameStateRepository(gameStateCodec, new GameEventCodec(gameStateCodec), 5, Duration.ofHours(3));
+
+        nodes = new ArrayList<>();
+        for (int i = 0; i < NODES; i++) {
+            GameStateCache cache = new GameStateCache(repository, gameStateCodec, new SimpleMeterRegistry(), 100, Duration.ofMinutes(30));
+            nodes.add(new PlayGameService(null, null, cache, new TokenAcquisitionValidator(), staticDataLoader));
+        }
+
+        List<PlayerStateDto> players = List.of(
+                new PlayerStateDto(new GamePlayerDto("Host", HOST_ID), 0,
+                        new HashMap<>(Map.of(DIAMOND, INITIAL_DIAMONDS)), new HashMap<>(), 0, 0, 0),
+                new PlayerStateDto(new GamePlayerDto("Guest", GUEST_ID), 0,
+                        new HashMap<>(), new HashMap<>(), 0, 0, 1));
+        BoardStateDto board = new BoardStateDto(new ArrayList<>(), new ArrayList<>(),
+                new HashMap<>(Map.of(DIAMOND, 0, SAPPHIRE, 4, EMERALD, 4, RUBY, 4, ONYX, 4, GOLD, 5)));
+        repository.save(new GameStateDto(board, new ArrayList<>(players), ROOM_ID, players.get(0).getPlayer(),
+                GameStatus.PLAYING, null, false, HOST_ID));
+    }
+
+    @Test
+    @DisplayName("여러 노드가 동시에 토큰을 버려도 성공한 횟수만큼만 정확히 이동하고 version도 같은 만큼 증가해야 한다.")
+    void discardToken_ShouldConserveTokensUnderContention() throws Exception {
+        // Given
+        int attemptsPerThread = INITIAL_DIAMONDS / THREADS;
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        // When
+        runConcurrently(thread -> {
+            PlayGameService node = nodes.get(thread % NODES);
+            for (int i = 0; i < attemptsPerThread; i++) {
+                try {
+                    node.discardToken(new DiscardTokenRequestDto(ROOM_ID, HOST_ID, DIAMOND));
+                    succeeded.incrementAndGet();
+                } catch (GameLogicException e) {
+                    assertThat(e.getErrorCode()).isEqualTo(ErrorCode.CONCURRENT_STATE_UPDATE);
+                    rejected.incrementAndGet();
+                }
+            }
+        });
+
+        // Then
+        GameStateDto result = repository.findById(ROOM_ID).orElseThrow();
+        int playerDiamonds = result.getPlayerStateDto().get(0).getTokens().getOrDefault(DIAMOND, 0);
+        int boardDiamonds = result.getBoardStateDto().getAvailableTokens().get(DIAMOND);
+
+        assertThat(succeeded.get() + rejected.get()).isEqualTo(THREADS * attemptsPerThread);
+        assertThat(boardDiamonds).isEqualTo(succeeded.get());
+        assertThat(playerDiamonds + boardDiamonds).isEqualTo(INITIAL_DIAMONDS);
+        assertThat(result.getVersion()).isEqualTo(succeeded.get());
+    }
+
+    @Test
+    @DisplayName("여러 노드가 동시에 턴을 종료해도 턴이 넘어간 횟수와 version 증가 횟수가 같아야 한다.")
+    void endTurn_ShouldAdvanceOncePerCommitUnderContention() throws Exception {
+        // Given
+        AtomicInteger succeeded = new AtomicInteger();
+
+        // When
+        runConcurrently(thread -> {
+            PlayGameService node = nodes.get(thread % NODES);
+            for (int i = 0; i < 20; i++) {
+                try {
+                    node.endTurn(ROOM_ID);
+                    succeeded.incrementAndGet();
+                } catch (GameLogicException e) {
+                    // 충돌로 재시도 한도를 넘었거나, 재시도 중 이미 턴이 넘어간 경우
+                    assertThat(e.getErrorCode()).isIn(ErrorCode.CONCURRENT_STATE_UPDATE, ErrorCode.NOT_CURRENT_TURN);
+                }
+            }
+        });
+
+        // Then
+        GameStateDto result = repository.findById(ROOM_ID).orElseThrow();
+        String expectedPlayer = succeeded.get() % 2 == 0 ? HOST_ID : GUEST_ID;
+        assertThat(result.getVersion()).isEqualTo(succeeded.get());
+        assertThat(result.getCurrentPlayer().getPlayerId()).isEqualTo(expectedPlayer);
+    }
+
+    private void runConcurrently(ThreadTask task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int thread = t;
+            futures.add(executor.submit(() -> {
+                start.await();
+                task.run(thread);
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS); // 스레드 안의 assert 실패도 여기서 전파
+        }
+        executor.shutdown();
+    }
+
+    @FunctionalInterface
+    private interface ThreadTask {
+        void run(int thread);
+    }
+}
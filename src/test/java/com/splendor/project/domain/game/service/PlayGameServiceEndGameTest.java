@@ -5,9 +5,7 @@ import com.splendor.project.domain.game.dto.response.BoardStateDto;
 import com.splendor.project.domain.game.dto.response.GamePlayerDto;
 import com.splendor.project.domain.game.dto.response.GameStateDto;
 import com.splendor.project.domain.game.dto.response.PlayerStateDto;
-import com.splendor.project.domain.game.repository.GameStateRepository;
-import com.splendor.project.domain.game.repository.SelectTokenStateRepository;
-import com.splendor.project.domain.game.repository.SelectionCardStateRepository;
+import com.splendor.project.domain.game.repository.GameStateCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -31,11 +29,7 @@ import static org.mockito.Mockito.*;
 class PlayGameServiceEndGameTest {
 
     @Mock
-    private GameStateRepository gameStateRepository;
-    @Mock
-    private SelectTokenStateRepository selectTokenStateRepository;
-    @Mock
-    private SelectionCardStateRepository cardSelectionStateRepository;
+    private GameStateCache gameStateCache;
     @Mock
     private TokenAcquisitionValidator tokenAcquisitionValidator;
     @InjectMocks
@@ -105,11 +99,9 @@ class PlayGameServiceEndGameTest {
         // 초기 게임 상태: P1 턴, FinalRound 아님
         this.initialGameState = createGameState(p1State.getPlayer(), false, P1_ID);
 
-        // 기본적으로 아무 행동도 하지 않음을 가정
-        when(selectTokenStateRepository.findById(TEST_ROOM_ID)).thenReturn(Optional.empty());
-        when(cardSelectionStateRepository.findById(TEST_ROOM_ID)).thenReturn(Optional.empty());
+        // 기본적으로 아무 행동도 하지 않음을 가정 (pendingTurn == null)
 
-        // ❌ Mockito UnnecessaryStubbingException 방지를 위해 save stubbing을 제거하고 필요한 테스트에만 추가합니다.
+        // ❌ Mockito UnnecessaryStubbingException 방지를 위해 commit stubbing을 제거하고 필요한 테스트에만 추가합니다.
     }
 
     // =================================================================
@@ -122,9 +114,9 @@ class PlayGameServiceEndGameTest {
         // Given: P1 점수 14점 (15점 미만)
         this.threePlayerStates.get(0).setScore(14);
 
-        when(gameStateRepository.findById(TEST_ROOM_ID)).thenReturn(Optional.of(initialGameState));
-        // ⭐️ 게임이 계속되므로 save를 스터빙
-        when(gameStateRepository.save(any(GameStateDto.class))).thenAnswer(i -> i.getArgument(0));
+        when(gameStateCache.findById(TEST_ROOM_ID)).thenReturn(Optional.of(initialGameState));
+        // ⭐️ 게임이 계속되므로 commit을 스터빙
+        when(gameStateCache.commit(any(GameStateDto.class), anyList())).thenReturn(true);
 
 
         // When
@@ -134,8 +126,8 @@ class PlayGameServiceEndGameTest {
         assertThat(result.isFinalRound()).isFalse();
         assertThat(result.getCurrentPlayer().getPlayerId()).isEqualTo(P2_ID);
         assertThat(result.isGameOver()).isFalse();
-        verify(gameStateRepository, times(1)).save(any(GameStateDto.class));
-        verify(gameStateRepository, times(0)).deleteById(any());
+        verify(gameStateCache, times(1)).commit(any(GameStateDto.class), anyList());
+        verify(gameStateCache, times(0)).commitDelete(any(), anyList());
     }
 
     // =================================================================
@@ -148,9 +140,9 @@ class PlayGameServiceEndGameTest {
         // Given: P1 점수 15점 달성
         this.threePlayerStates.get(0).setScore(15);
 
-        when(gameStateRepository.findById(TEST_ROOM_ID)).thenReturn(Optional.of(initialGameState));
-        // ⭐️ 게임이 계속되므로 save를 스터빙
-        when(gameStateRepository.save(any(GameStateDto.class))).thenAnswer(i -> i.getArgument(0));
+        when(gameStateCache.findById(TEST_ROOM_ID)).thenReturn(Optional.of(initialGameState));
+        // ⭐️ 게임이 계속되므로 commit을 스터빙
+        when(gameStateCache.commit(any(GameStateDto.class), anyList())).thenReturn(true);
 
         // When: P1 턴 종료
         GameStateDto result = playGameService.endTurn(TEST_ROOM_ID);
@@ -159,8 +151,8 @@ class PlayGameServiceEndGameTest {
         assertThat(result.isFinalRound()).isTrue(); // Final Round 시작
         assertThat(result.getCurrentPlayer().getPlayerId()).isEqualTo(P2_ID); // 턴은 정상적으로 P2로 넘어가야 함
         assertThat(result.isGameOver()).isFalse();
-        verify(gameStateRepository, times(1)).save(any(GameStateDto.class));
-        verify(gameStateRepository, times(0)).deleteById(any());
+        verify(gameStateCache, times(1)).commit(any(GameStateDto.class), anyList());
+        verify(gameStateCache, times(0)).commitDelete(any(), anyList());
     }
 
     // =================================================================
@@ -182,7 +174,9 @@ class PlayGameServiceEndGameTest {
                 P1_ID // 선 플레이어 P1 (인덱스 0)
         );
 
-        when(gameStateRepository.findById(TEST_ROOM_ID)).thenReturn(Optional.of(finalRoundState));
+        when(gameStateCache.findById(TEST_ROOM_ID)).thenReturn(Optional.of(finalRoundState));
+        // ⭐️ 게임이 종료되므로 commitDelete를 스터빙
+        when(gameStateCache.commitDelete(any(GameStateDto.class), anyList())).thenReturn(true);
 
         // When: P3 턴 종료 -> advanceTurn 로직이 P1을 다음 턴으로 설정 -> isCurrentPlayerStartingPlayer가 true 반환 -> Game Over
         GameStateDto result = playGameService.endTurn(TEST_ROOM_ID);
@@ -191,8 +185,8 @@ class PlayGameServiceEndGameTest {
         assertThat(result.isFinalRound()).isTrue();
         assertThat(result.isGameOver()).isTrue(); // Game Over 상태 확인
         assertThat(result.getWinner()).isNotNull(); // 승자 확인
-        verify(gameStateRepository, times(0)).save(any(GameStateDto.class)); // ⭐️ save 호출되면 안 됨
-        verify(gameStateRepository, times(1)).deleteById(TEST_ROOM_ID);
+        verify(gameStateCache, times(0)).commit(any(GameStateDto.class), anyList()); // ⭐️ 상태 저장 커밋 호출되면 안 됨
+        verify(gameStateCache, times(1)).commitDelete(eq(finalRoundState), anyList());
     }
 
     // =================================================================
@@ -216,7 +210,8 @@ class PlayGameServiceEndGameTest {
         initialGameState.setFinalRound(true);
         initialGameState.setCurrentPlayer(p2.getPlayer()); // P2 턴 종료 -> P1 턴 (게임 종료)
 
-        when(gameStateRepository.findById(TEST_ROOM_ID)).thenReturn(Optional.of(initialGameState));
+        when(gameStateCache.findById(TEST_ROOM_ID)).thenReturn(Optional.of(initialGameState));
+        when(gameStateCache.commitDelete(any(GameStateDto.class), anyList())).thenReturn(true);
 
         // When
         GameStateDto result = playGameService.endTurn(TEST_ROOM_ID);
@@ -224,7 +219,7 @@ class PlayGameServiceEndGameTest {
         // Then
         assertThat(result.isGameOver()).isTrue();
         assertThat(result.getWinner().getPlayerId()).isEqualTo(P2_ID);
-        verify(gameStateRepository, times(0)).save(any(GameStateDto.class));
+        verify(gameStateCache, times(0)).commit(any(GameStateDto.class), anyList());
     }
 
     @Test
@@ -238,7 +233,8 @@ class PlayGameServiceEndGameTest {
         initialGameState.setFinalRound(true);
         initialGameState.setCurrentPlayer(p2.getPlayer());
 
-        when(gameStateRepository.findById(TEST_ROOM_ID)).thenReturn(Optional.of(initialGameState));
+        when(gameStateCache.findById(TEST_ROOM_ID)).thenReturn(Optional.of(initialGameState));
+        when(gameStateCache.commitDelete(any(GameStateDto.class), anyList())).thenReturn(true);
 
         // When
         GameStateDto result = playGameService.endTurn(TEST_ROOM_ID);
@@ -246,7 +242,7 @@ class PlayGameServiceEndGameTest {
         // Then
         assertThat(result.isGameOver()).isTrue();
         assertThat(result.getWinner().getPlayerId()).isEqualTo(P2_ID);
-        verify(gameStateRepository, times(0)).save(any(GameStateDto.class));
+        verify(gameStateCache, times(0)).commit(any(GameStateDto.class), anyList());
     }
 
     @Test
@@ -260,7 +256,8 @@ class PlayGameServiceEndGameTest {
         initialGameState.setFinalRound(true);
         initialGameState.setCurrentPlayer(p2.getPlayer());
 
-        when(gameStateRepository.findById(TEST_ROOM_ID)).thenReturn(Optional.of(initialGameState));
+        when(gameStateCache.findById(TEST_ROOM_ID)).thenReturn(Optional.of(initialGameState));
+        when(gameStateCache.commitDelete(any(GameStateDto.class), anyList())).thenReturn(true);
 
         // When
         GameStateDto result = playGameService.endTurn(TEST_ROOM_ID);
@@ -268,7 +265,7 @@ class PlayGameServiceEndGameTest {
         // Then
         assertThat(result.isGameOver()).isTrue();
         assertThat(result.getWinner().getPlayerId()).isEqualTo(P2_ID);
-        verify(gameStateRepository, times(0)).save(any(GameStateDto.class));
+        verify(gameStateCache, times(0)).commit(any(GameStateDto.class), anyList());
     }
 
     @Test
@@ -282,7 +279,8 @@ class PlayGameServiceEndGameTest {
         initialGameState.setFinalRound(true);
         initialGameState.setCurrentPlayer(p2.getPlayer());
 
-        when(gameStateRepository.findById(TEST_ROOM_ID)).thenReturn(Optional.of(initialGameState));
+        when(gameStateCache.findById(TEST_ROOM_ID)).thenReturn(Optional.of(initialGameState));
+        when(gameStateCache.commitDelete(any(GameStateDto.class), anyList())).thenReturn(true);
 
         // When
         GameStateDto result = playGameService.endTurn(TEST_ROOM_ID);
@@ -290,7 +288,7 @@ class PlayGameServiceEndGameTest {
         // Then
         assertThat(result.isGameOver()).isTrue();
         assertThat(result.getWinner().getPlayerId()).isEqualTo(P1_ID); // P1 (10개) 승리
-        verify(gameStateRepository, times(0)).save(any(GameStateDto.class));
+        verify(gameStateCache, times(0)).commit(any(GameStateDto.class), anyList());
     }
 
     @Test
@@ -304,7 +302,8 @@ class PlayGameServiceEndGameTest {
         initialGameState.setFinalRound(true);
         initialGameState.setCurrentPlayer(p2.getPlayer());
 
-        when(gameStateRepository.findById(TEST_ROOM_ID)).thenReturn(Optional.of(initialGameState));
+        when(gameStateCache.findById(TEST_ROOM_ID)).thenReturn(Optional.of(initialGameState));
+        when(gameStateCache.commitDelete(any(GameStateDto.class), anyList())).thenReturn(true);
 
         // When
         GameStateDto result = playGameService.endTurn(TEST_ROOM_ID);
@@ -312,6 +311,6 @@ class PlayGameServiceEndGameTest {
         // Then
         assertThat(result.isGameOver()).isTrue();
         assertThat(result.getWinner().getPlayerId()).isEqualTo(P2_ID); // P2 (후공) 승리
-        verify(gameStateRepository, times(0)).save(any(GameStateDto.class));
+        verify(gameStateCache, times(0)).commit(any(GameStateDto.class), anyList());
     }
 }
\ No newline at end of file
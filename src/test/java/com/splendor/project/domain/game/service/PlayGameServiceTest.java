@@ -7,10 +7,8 @@ import com.splendor.project.domain.game.dto.response.BoardStateDto;
 import com.splendor.project.domain.game.dto.response.GamePlayerDto;
 import com.splendor.project.domain.game.dto.response.GameStateDto;
 import com.splendor.project.domain.game.dto.response.PlayerStateDto;
-import com.splendor.project.domain.game.dto.response.SelectTokenStateDto;
-import com.splendor.project.domain.game.repository.GameStateRepository;
-import com.splendor.project.domain.game.repository.SelectTokenStateRepository;
-import com.splendor.project.domain.game.repository.SelectionCardStateRepository;
+import com.splendor.project.domain.game.dto.response.PendingTurnDto;
+import com.splendor.project.domain.game.repository.GameStateCache;
 import com.splendor.project.domain.player.entity.Player;
 import com.splendor.project.domain.room.entity.Room;
 import com.splendor.project.domain.room.entity.RoomStatus;
@@ -48,13 +46,7 @@ class PlayGameServiceTest {
     private RoomRepository roomRepository;
 
     @Mock
-    private GameStateRepository gameStateRepository;
-
-    @Mock
-    private SelectTokenStateRepository selectTokenStateRepository;
-
-    @Mock
-    private SelectionCardStateRepository cardSelectionStateRepository;
+    private GameStateCache gameStateCache;
 
     @Mock
     private TokenAcquisitionValidator tokenAcquisitionValidator;
@@ -148,14 +140,13 @@ class PlayGameServiceTest {
         // Given
         when(roomRepository.findById(TEST_ROOM_ID)).thenReturn(Optional.of(testRoom));
         when(initialGameService.initializeGame()).thenReturn(mockBoardState);
-        when(gameStateRepository.save(any(GameStateDto.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // When
         GameStateDto resultDto = playGameService.gameStart(TEST_ROOM_ID);
 
         // Then
         assertThat(resultDto.getGameId()).isEqualTo(TEST_ROOM_ID);
-        verify(gameStateRepository, times(1)).save(any(GameStateDto.class));
+        verify(gameStateCache, times(1)).create(any(GameStateDto.class));
     }
 
     // =================================================================
@@ -170,16 +161,8 @@ class PlayGameServiceTest {
         SelectTokenRequestDto request2 = new SelectTokenRequestDto(TEST_ROOM_ID, HOST_ID, SAPPHIRE, IS_SELECT);
         SelectTokenRequestDto request3 = new SelectTokenRequestDto(TEST_ROOM_ID, HOST_ID, RUBY, IS_SELECT);
 
-        // Mocking 상태 유지를 위한 mutable DTO
-        SelectTokenStateDto mutableSelectState = new SelectTokenStateDto(TEST_ROOM_ID, HOST_ID);
-
-        when(gameStateRepository.findById(TEST_ROOM_ID)).thenReturn(Optional.of(initialGameState));
-
-        // findById가 항상 mutableSelectState를 반환하도록 설정하여 상태 누적 재현
-        when(selectTokenStateRepository.findById(TEST_ROOM_ID))
-                .thenReturn(Optional.of(mutableSelectState));
-
-        when(selectTokenStateRepository.save(any(SelectTokenStateDto.class))).thenReturn(mutableSelectState);
+        // findById가 항상 같은 게임 상태를 반환하므로 선택 상태(pendingTurn)가 누적됨
+        when(gameStateCache.findById(TEST_ROOM_ID)).thenReturn(Optional.of(initialGameState));
 
         // Validator는 성공(Do Nothing)이 기본 동작이므로 별도 설정 불필요
 
@@ -194,9 +177,10 @@ class PlayGameServiceTest {
                 .containsEntry(DIAMOND, 1)
                 .containsEntry(SAPPHIRE, 1)
                 .containsEntry(RUBY, 1);
-        verify(selectTokenStateRepository, times(3)).save(any(SelectTokenStateDto.class));
+        assertThat(initialGameState.getPendingTurn().getTokensToTake()).isEqualTo(result);
+        verify(gameStateCache, times(3)).save(any(GameStateDto.class));
         // Validator가 3번 호출되었는지 검증
-        verify(tokenAcquisitionValidator, times(3)).validatePartialTokenAcquisition(any(), any());
+        verify(tokenAcquisitionValidator, times(3)).checkPartialTokenAcquisition(any(), any());
     }
 
     @Test
@@ -205,15 +189,15 @@ class PlayGameServiceTest {
         // Given
         SelectTokenRequestDto request = new SelectTokenRequestDto(TEST_ROOM_ID, HOST_ID, ONYX, IS_SELECT);
 
-        SelectTokenStateDto selectState = new SelectTokenStateDto(TEST_ROOM_ID, HOST_ID);
+        PendingTurnDto selectState = new PendingTurnDto(TEST_ROOM_ID, HOST_ID);
         selectState.getTokensToTake().putAll(Map.of(DIAMOND, 1, SAPPHIRE, 1, RUBY, 1)); // 총 3개
+        initialGameState.setPendingTurn(selectState);
 
-        when(selectTokenStateRepository.findById(TEST_ROOM_ID)).thenReturn(Optional.of(selectState));
-        when(gameStateRepository.findById(TEST_ROOM_ID)).thenReturn(Optional.of(initialGameState));
+        when(gameStateCache.findById(TEST_ROOM_ID)).thenReturn(Optional.of(initialGameState));
 
         // ✨ Validator Mocking: 4번째 토큰 선택 시 발생하는 예외를 던지도록 설정
-        doThrow(new GameLogicException(ErrorCode.INVALID_TOKEN_ACTION))
-                .when(tokenAcquisitionValidator).validatePartialTokenAcquisition(any(), any());
+        when(tokenAcquisitionValidator.checkPartialTokenAcquisition(any(), any()))
+                .thenReturn(Optional.of(ErrorCode.INVALID_TOKEN_ACTION));
 
 
         // When & Then
@@ -223,8 +207,9 @@ class PlayGameServiceTest {
 
         assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.INVALID_TOKEN_ACTION);
 
-        verify(selectTokenStateRepository, times(0)).save(any());
-        verify(tokenAcquisitionValidator, times(1)).validatePartialTokenAcquisition(any(), any());
+        verify(gameStateCache, times(0)).save(any());
+        assertThat(selectState.getTokensToTake()).doesNotContainKey(ONYX);
+        verify(tokenAcquisitionValidator, times(1)).checkPartialTokenAcquisition(any(), any());
     }
 
     @Test
@@ -237,20 +222,11 @@ class PlayGameServiceTest {
         SelectTokenRequestDto request1 = new SelectTokenRequestDto(TEST_ROOM_ID, HOST_ID, ONYX, IS_SELECT);
         SelectTokenRequestDto request2 = new SelectTokenRequestDto(TEST_ROOM_ID, HOST_ID, ONYX, IS_SELECT);
 
-        when(gameStateRepository.findById(TEST_ROOM_ID)).thenReturn(Optional.of(initialGameState));
-
-        SelectTokenStateDto mutableSelectState = new SelectTokenStateDto(TEST_ROOM_ID, HOST_ID);
-
-        // Mocking 상태 유지를 위한 설정
-        when(selectTokenStateRepository.findById(TEST_ROOM_ID))
-                .thenReturn(Optional.of(mutableSelectState));
-
-        when(selectTokenStateRepository.save(any(SelectTokenStateDto.class))).thenReturn(mutableSelectState);
+        when(gameStateCache.findById(TEST_ROOM_ID)).thenReturn(Optional.of(initialGameState));
 
         // ✨ Validator Mocking: 첫 번째 호출은 성공, 두 번째 호출은 실패하도록 설정
-        doNothing()
-                .doThrow(new GameLogicException(ErrorCode.INVALID_TWO_TOKEN_RULE))
-                .when(tokenAcquisitionValidator).validatePartialTokenAcquisition(any(), any());
+        when(tokenAcquisitionValidator.checkPartialTokenAcquisition(any(), any()))
+                .thenReturn(Optional.empty(), Optional.of(ErrorCode.INVALID_TWO_TOKEN_RULE));
 
 
         // 1. 첫 번째 선택 (ONYX: 1) -> 성공
@@ -264,9 +240,9 @@ class PlayGameServiceTest {
         assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.INVALID_TWO_TOKEN_RULE);
 
         // save가 1번만 호출되었는지 검증 (첫 번째 성공만)
-        verify(selectTokenStateRepository, times(1)).save(any());
+        verify(gameStateCache, times(1)).save(any());
         // Validator가 총 2번 호출되었는지 검증
-        verify(tokenAcquisitionValidator, times(2)).validatePartialTokenAcquisition(any(), any());
+        verify(tokenAcquisitionValidator, times(2)).checkPartialTokenAcquisition(any(), any());
     }
 
     // =================================================================
@@ -281,7 +257,7 @@ class PlayGameServiceTest {
         // GUEST_ID가 선택을 시도하는 요청
         SelectTokenRequestDto request = new SelectTokenRequestDto(TEST_ROOM_ID, GUEST_ID, DIAMOND, IS_SELECT);
 
-        when(gameStateRepository.findById(TEST_ROOM_ID)).thenReturn(Optional.of(initialGameState));
+        when(gameStateCache.findById(TEST_ROOM_ID)).thenReturn(Optional.of(initialGameState));
 
         // When & Then
         GameLogicException exception = assertThrows(GameLogicException.class, () -> {
@@ -291,8 +267,8 @@ class PlayGameServiceTest {
         assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.NOT_CURRENT_TURN);
 
         // save는 물론, Validator도 호출되지 않았는지 확인
-        verify(selectTokenStateRepository, times(0)).save(any());
-        verify(tokenAcquisitionValidator, times(0)).validatePartialTokenAcquisition(any(), any());
+        verify(gameStateCache, times(0)).save(any());
+        verify(tokenAcquisitionValidator, times(0)).checkPartialTokenAcquisition(any(), any());
     }
 
 
@@ -313,8 +289,8 @@ class PlayGameServiceTest {
         // 보드 토큰 초기 상태: DIAMOND 4개
         initialGameState.getBoardStateDto().getAvailableTokens().put(DIAMOND, 4);
 
-        when(gameStateRepository.findById(TEST_ROOM_ID)).thenReturn(Optional.of(initialGameState));
-        when(gameStateRepository.save(any(GameStateDto.class))).thenAnswer(i -> i.getArgument(0));
+        when(gameStateCache.findById(TEST_ROOM_ID)).thenReturn(Optional.of(initialGameState));
+        when(gameStateCache.commit(any(GameStateDto.class), anyList())).thenReturn(true);
 
         DiscardTokenRequestDto request = new DiscardTokenRequestDto(TEST_ROOM_ID, HOST_ID, DIAMOND);
 
@@ -322,8 +298,8 @@ class PlayGameServiceTest {
         GameStateDto result = playGameService.discardToken(request);
 
         // Then
-        // 1. Redis save 호출 검증
-        verify(gameStateRepository, times(1)).save(any(GameStateDto.class));
+        // 1. Redis 커밋 호출 검증
+        verify(gameStateCache, times(1)).commit(any(GameStateDto.class), anyList());
 
         // 2. 플레이어 토큰 검증: DIAMOND 5 -> 4
         PlayerStateDto hostResultState = result.getPlayerStateDto().stream()
@@ -344,7 +320,7 @@ class PlayGameServiceTest {
         // 현재 턴은 HOST_ID (setUp에서 설정)
         DiscardTokenRequestDto request = new DiscardTokenRequestDto(TEST_ROOM_ID, GUEST_ID, DIAMOND); // GUEST가 시도
 
-        when(gameStateRepository.findById(TEST_ROOM_ID)).thenReturn(Optional.of(initialGameState));
+        when(gameStateCache.findById(TEST_ROOM_ID)).thenReturn(Optional.of(initialGameState));
 
         // When & Then
         GameLogicException exception = assertThrows(GameLogicException.class, () -> {
@@ -363,14 +339,13 @@ class PlayGameServiceTest {
     void endTurn_ShouldCommitAcquisitionAndAdvanceTurn() {
         // Given
         // 유효한 획득: DIAMOND 1개, SAPPHIRE 1개, RUBY 1개 선택 (총 3개, 3종)
-        SelectTokenStateDto selectState = new SelectTokenStateDto(TEST_ROOM_ID, HOST_ID);
+        PendingTurnDto selectState = new PendingTurnDto(TEST_ROOM_ID, HOST_ID);
         selectState.getTokensToTake().putAll(Map.of(DIAMOND, 1, SAPPHIRE, 1, RUBY, 1));
+        initialGameState.setPendingTurn(selectState); // 카드 선택 안함
 
-        // Mock Redis 호출
-        when(selectTokenStateRepository.findById(TEST_ROOM_ID)).thenReturn(Optional.of(selectState));
-        when(cardSelectionStateRepository.findById(TEST_ROOM_ID)).thenReturn(Optional.empty()); // 카드 선택 안함
-        when(gameStateRepository.findById(TEST_ROOM_ID)).thenReturn(Optional.of(initialGameState));
-        when(gameStateRepository.save(any(GameStateDto.class))).thenAnswer(i -> i.getArgument(0));
+        // Mock Redis 호출 (선택 상태는 게임 상태와 함께 조회됨)
+        when(gameStateCache.findById(TEST_ROOM_ID)).thenReturn(Optional.of(initialGameState));
+        when(gameStateCache.commit(any(GameStateDto.class), anyList())).thenReturn(true);
 
         // When
         GameStateDto result = playGameService.endTurn(TEST_ROOM_ID);
@@ -390,26 +365,24 @@ class PlayGameServiceTest {
         assertThat(boardTokens.get(SAPPHIRE)).isEqualTo(3); // 4 -> 3
         assertThat(boardTokens.get(RUBY)).isEqualTo(3);     // 4 -> 3
 
-        // 3. 임시 선택 상태 삭제 검증 (Cleanup)
-        verify(selectTokenStateRepository, times(1)).deleteById(TEST_ROOM_ID);
+        // 3. 임시 선택 상태 삭제 검증 (Cleanup) - 게임 상태 저장과 함께 정리됨
+        assertThat(result.getPendingTurn()).isNull();
 
         // 4. 턴 변경 검증 (HOST -> GUEST)
         assertThat(result.getCurrentPlayer().getPlayerId()).isEqualTo(GUEST_ID);
-        verify(gameStateRepository, times(1)).save(any(GameStateDto.class));
+        verify(gameStateCache, times(1)).commit(any(GameStateDto.class), anyList());
 
         // 최종 Validator 호출 검증
-        verify(tokenAcquisitionValidator, times(1)).validateTokenAcquisition(any(), any());
+        verify(tokenAcquisitionValidator, times(1)).checkTokenAcquisition(any(), any());
     }
 
     @Test
     @DisplayName("성공: 선택된 토큰이 없으면 획득을 스킵하고 다음 턴으로 넘어가야 한다.")
     void endTurn_ShouldSkipAcquisitionAndAdvanceTurn() {
         // Given
-        // Mock 중간 선택 상태: Optional.empty() (선택 안 함)
-        when(selectTokenStateRepository.findById(TEST_ROOM_ID)).thenReturn(Optional.empty());
-        when(cardSelectionStateRepository.findById(TEST_ROOM_ID)).thenReturn(Optional.empty()); // 카드 선택 안함
-        when(gameStateRepository.findById(TEST_ROOM_ID)).thenReturn(Optional.of(initialGameState));
-        when(gameStateRepository.save(any(GameStateDto.class))).thenAnswer(i -> i.getArgument(0));
+        // 중간 선택 상태 없음 (pendingTurn == null)
+        when(gameStateCache.findById(TEST_ROOM_ID)).thenReturn(Optional.of(initialGameState));
+        when(gameStateCache.commit(any(GameStateDto.class), anyList())).thenReturn(true);
 
         // When
         GameStateDto result = playGameService.endTurn(TEST_ROOM_ID);
@@ -419,16 +392,15 @@ class PlayGameServiceTest {
         Map<GemType, Integer> boardTokens = result.getBoardStateDto().getAvailableTokens();
         assertThat(boardTokens.get(DIAMOND)).isEqualTo(4);
 
-        // 2. 임시 선택 상태 삭제 검증 (Cleanup)
-        // 🚨 수정: 상태가 없으므로 deleteById는 호출되지 않아야 합니다. times(1) -> times(0)으로 변경.
-        verify(selectTokenStateRepository, times(0)).deleteById(TEST_ROOM_ID);
-        verify(cardSelectionStateRepository, times(0)).deleteById(TEST_ROOM_ID); // 카드 선택 상태도 마찬가지로 없으므로 0으로 검증
+        // 2. 임시 선택 상태 검증 (Cleanup) - 별도 삭제 호출 없이 게임 상태와 함께 저장됨
+        assertThat(result.getPendingTurn()).isNull();
+        verify(gameStateCache, times(0)).deleteById(TEST_ROOM_ID);
 
         // 3. 턴 변경 검증 (HOST -> GUEST)
         assertThat(result.getCurrentPlayer().getPlayerId()).isEqualTo(GUEST_ID);
-        verify(gameStateRepository, times(1)).save(any(GameStateDto.class));
+        verify(gameStateCache, times(1)).commit(any(GameStateDto.class), anyList());
 
         // 획득을 스킵했으므로 최종 Validator는 호출되지 않아야 함
-        verify(tokenAcquisitionValidator, times(0)).validateTokenAcquisition(any(), any());
+        verify(tokenAcquisitionValidator, times(0)).checkTokenAcquisition(any(), any());
     }
 }
\ No newline at end of file
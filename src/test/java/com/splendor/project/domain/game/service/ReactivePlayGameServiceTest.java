@@ -0,0 +1,152 @@
+package com.splendor.project.domain.game.service;
+
+import com.splendor.project.domain.game.codec.GameEventCodec;
+import com.splendor.project.domain.game.codec.GameStateCodec;
+import com.splendor.project.domain.game.dto.request.DiscardTokenRequestDto;
+import com.splendor.project.domain.game.dto.request.SelectTokenRequestDto;
+import com.splendor.project.domain.game.dto.response.BoardStateDto;
+import com.splendor.project.domain.game.dto.response.GamePlayerDto;
+import com.splendor.project.domain.game.dto.response.GameStateDto;
+import com.splendor.project.domain.game.dto.response.PendingTurnDto;
+import com.splendor.project.domain.game.dto.response.PlayerStateDto;
+import com.splendor.project.domain.game.entity.GameStatus;
+import com.splendor.project.domain.game.event.GameEvent;
+import com.splendor.project.domain.game.repository.InMemoryGameStateRepository;
+import com.splendor.project.domain.game.repository.ReactiveGameStateRepository;
+import com.splendor.project.exception.ErrorCode;
+import com.splendor.project.exception.GameLogicException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.splendor.project.domain.data.GemType.*;
+import static com.splendor.project.domain.game.dto.request.SelectStatus.IS_SELECT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 논블로킹 경로가 기존 경로와 같은 규칙으로 커밋하는지 검증합니다.
+ * Redis 대신 프로세스 내 저장소를 Mono로 감싼 저장소를 사용합니다.
+ */
+class ReactivePlayGameServiceTest {
+
+    private static final Long ROOM_ID = 1L;
+
+    private InMemoryGameStateRepository repository;
+    private PlayGameService playGameService;
+    // 이 수만큼 compareAndSet 앞에서 다른 노드가 먼저 커밋한 것처럼 version을 올림
+    private final AtomicInteger conflictsToInject = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        GameStaticDataLoader staticDataLoader = new GameStaticDataLoader();
+        staticDataLoader.loadData();
+        GameStateCodec gameStateCodec = new GameStateCodec(staticDataLoader);
+        repository = new InMemoryGameStateRepository(gameStateCodec, new GameEventCodec(gameStateCodec), 20, Duration.ofHours(3));
+        playGameService = new PlayGameService(null, null, null, new TokenAcquisitionValidator(), staticDataLoader);
+
+        List<PlayerStateDto> players = new ArrayList<>(List.of(
+                new PlayerStateDto(new GamePlayerDto("Host", "host-id"), 0, new HashMap<>(Map.of(DIAMOND, 5)), new HashMap<>(), 0, 0, 0),
+                new PlayerStateDto(new GamePlayerDto("Guest", "guest-id"), 0, new HashMap<>(), new HashMap<>(), 0, 0, 1)));
+        BoardStateDto board = new BoardStateDto(new ArrayList<>(), new ArrayList<>(),
+                new HashMap<>(Map.of(DIAMOND, 4, SAPPHIRE, 4, EMERALD, 4, RUBY, 4, ONYX, 4, GOLD, 5)));
+        repository.save(new GameStateDto(board, players, ROOM_ID, players.get(0).getPlayer(),
+                GameStatus.PLAYING, null, false, "host-id"));
+    }
+
+    private ReactivePlayGameService service() {
+        ReactiveGameStateRepository reactiveRepository = new ReactiveGameStateRepository() {
+            @Override
+            public Mono<GameStateDto> findById(Long gameId) {
+                return Mono.fromSupplier(() -> repository.findById(gameId).orElse(null));
+            }
+
+            @Override
+            public Mono<Boolean> compareAndSet(GameStateDto gameStateDto, List<GameEvent> events, long expectedVersion) {
+                return Mono.fromSupplier(() -> {
+                    if (conflictsToInject.getAndDecrement() > 0) {
+                        GameStateDto other = repository.findById(gameStateDto.getGameId()).orElseThrow();
+                        repository.compareAndSet(other, List.of(new GameEvent.TokenDiscarded(0, DIAMOND)), other.getVersion());
+                    }
+                    return repository.compareAndSet(gameStateDto, events, expectedVersion);
+                });
+            }
+
+            @Override
+            public Mono<Boolean> compareAndDelete(Long gameId, List<GameEvent> events, long expectedVersion) {
+                return Mono.fromSupplier(() -> repository.compareAndDelete(gameId, events, expectedVersion));
+            }
+
+            @Override
+            public Mono<Boolean> savePendingTurn(Long gameId, long expectedVersion, PendingTurnDto pendingTurn) {
+                return Mono.fromSupplier(() -> repository.savePendingTurn(gameId, expectedVersion, pendingTurn));
+            }
+        };
+        return new ReactivePlayGameService(playGameService, reactiveRepository);
+    }
+
+    @Test
+    @DisplayName("토큰 선택은 저장소에 바로 저장되고, 턴 종료 시 선택한 토큰이 커밋되어 턴이 넘어가야 한다.")
+    void selectTokenThenEndTurn_ShouldCommitSelection() {
+        // Given
+        ReactivePlayGameService service = service();
+
+        // When
+        for (var token : List.of(SAPPHIRE, EMERALD, RUBY)) {
+            service.selectToken(new SelectTokenRequestDto(ROOM_ID, "host-id", token, IS_SELECT)).block();
+        }
+        GameStateDto afterTurn = service.endTurn(ROOM_ID).block();
+
+        // Then
+        GameStateDto stored = repository.findById(ROOM_ID).orElseThrow();
+        assertThat(afterTurn.getCurrentPlayer().getPlayerId()).isEqualTo("guest-id");
+        assertThat(stored.getVersion()).isEqualTo(afterTurn.getVersion()).isEqualTo(2);
+        assertThat(stored.getPlayerStateDto().get(0).getTokens()).containsEntry(SAPPHIRE, 1).containsEntry(EMERALD, 1).containsEntry(RUBY, 1);
+        assertThat(stored.getPendingTurn()).isNull();
+    }
+
+    @Test
+    @DisplayName("커밋 직전에 다른 노드가 먼저 커밋하면 최신 상태를 다시 읽어 재시도하고, 재시도 횟수를 넘기면 충돌 에러를 내야 한다.")
+    void discardToken_ShouldRetryOnConflict() {
+        // Given
+        ReactivePlayGameService service = service();
+        DiscardTokenRequestDto request = new DiscardTokenRequestDto(ROOM_ID, "host-id", DIAMOND);
+
+        // When: 한 번 충돌 후 성공
+        conflictsToInject.set(1);
+        GameStateDto committed = service.discardToken(request).block();
+
+        // Then: 다른 노드의 버리기 + 이번 버리기 모두 반영
+        assertThat(committed.getVersion()).isEqualTo(2);
+        assertThat(repository.findById(ROOM_ID).orElseThrow().getPlayerStateDto().get(0).getTokens()).containsEntry(DIAMOND, 3);
+
+        // When: 매 시도마다 충돌
+        conflictsToInject.set(Integer.MAX_VALUE);
+
+        // Then
+        assertThatThrownBy(() -> service.discardToken(request).block())
+                .isInstanceOf(GameLogicException.class)
+                .satisfies(e -> assertThat(((GameLogicException) e).getErrorCode()).isEqualTo(ErrorCode.CONCURRENT_STATE_UPDATE));
+    }
+
+    @Test
+    @DisplayName("턴 플레이어가 아니면 저장하지 않고 NOT_CURRENT_TURN 에러를 내야 한다.")
+    void selectToken_ShouldRejectOtherPlayer() {
+        // Given
+        ReactivePlayGameService service = service();
+
+        // When & Then
+        assertThatThrownBy(() -> service.selectToken(new SelectTokenRequestDto(ROOM_ID, "guest-id", DIAMOND, IS_SELECT)).block())
+                .isInstanceOf(GameLogicException.class)
+                .satisfies(e -> assertThat(((GameLogicException) e).getErrorCode()).isEqualTo(ErrorCode.NOT_CURRENT_TURN));
+        assertThat(repository.findById(ROOM_ID).orElseThrow().getPendingTurn()).isNull();
+    }
+}
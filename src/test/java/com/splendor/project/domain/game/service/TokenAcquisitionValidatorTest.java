@@ -0,0 +1,50 @@
+package com.splendor.project.domain.game.service;
+
+import com.splendor.project.domain.data.GemType;
+import com.splendor.project.exception.ErrorCode;
+import com.splendor.project.exception.GameLogicException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import static com.splendor.project.domain.data.GemType.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenAcquisitionValidatorTest {
+
+    private final TokenAcquisitionValidator validator = new TokenAcquisitionValidator();
+    private final Map<GemType, Integer> board = new EnumMap<>(Map.of(DIAMOND, 7, SAPPHIRE, 3, EMERALD, 7, RUBY, 0, ONYX, 7, GOLD, 5));
+
+    @Test
+    @DisplayName("부분 검증은 유효한 선택에는 빈 결과를, 규칙 위반에는 거절 사유를 돌려줘야 한다.")
+    void checkPartialTokenAcquisition_ShouldReturnRejectionReason() {
+        assertThat(validator.checkPartialTokenAcquisition(Map.of(DIAMOND, 1, SAPPHIRE, 0), board)).isEmpty();
+        assertThat(validator.checkPartialTokenAcquisition(Map.of(DIAMOND, 2), board)).isEmpty();
+        assertThat(validator.checkPartialTokenAcquisition(Map.of(GOLD, 1), board)).contains(ErrorCode.INVALID_TOKEN_ACTION);
+        assertThat(validator.checkPartialTokenAcquisition(Map.of(SAPPHIRE, 2), board)).contains(ErrorCode.INVALID_TWO_TOKEN_RULE);
+        assertThat(validator.checkPartialTokenAcquisition(Map.of(DIAMOND, 3), board)).contains(ErrorCode.INVALID_TOKEN_ACTION);
+        assertThat(validator.checkPartialTokenAcquisition(Map.of(DIAMOND, 2, EMERALD, 1), board)).contains(ErrorCode.INVALID_TOKEN_ACTION);
+        assertThat(validator.checkPartialTokenAcquisition(Map.of(DIAMOND, 1, RUBY, 1), board)).contains(ErrorCode.NOT_ENOUGH_BOARD_TOKEN);
+    }
+
+    @Test
+    @DisplayName("최종 검증은 빈 선택과 4종류 이상 선택을 거절하고, 서로 다른 종류 3개는 허용해야 한다.")
+    void checkTokenAcquisition_ShouldReturnRejectionReason() {
+        assertThat(validator.checkTokenAcquisition(Map.of(DIAMOND, 1, SAPPHIRE, 1, EMERALD, 1), board)).isEmpty();
+        assertThat(validator.checkTokenAcquisition(Map.of(DIAMOND, 0), board)).contains(ErrorCode.INVALID_TOKEN_ACTION);
+        assertThat(validator.checkTokenAcquisition(Map.of(DIAMOND, 2, SAPPHIRE, 1), board)).contains(ErrorCode.INVALID_TOKEN_ACTION);
+        assertThat(validator.checkTokenAcquisition(Map.of(SAPPHIRE, 2), board)).contains(ErrorCode.INVALID_TWO_TOKEN_RULE);
+    }
+
+    @Test
+    @DisplayName("규칙 위반 예외는 ErrorCode를 담되 stack trace를 만들지 않아야 한다.")
+    void checkTokenAcquisition_RejectionShouldBecomeStacklessException() {
+        GameLogicException e = new GameLogicException(validator.checkTokenAcquisition(Map.of(GOLD, 1), board).orElseThrow());
+
+        assertThat(e.getErrorCode()).isEqualTo(ErrorCode.INVALID_TOKEN_ACTION);
+        assertThat(e).hasMessage(ErrorCode.INVALID_TOKEN_ACTION.getMessage());
+        assertThat(e.getStackTrace()).isEmpty();
+    }
+}
@@ -0,0 +1,97 @@
+package com.splendor.project.domain.game.service;
+
+import com.splendor.project.domain.data.GemType;
+import com.splendor.project.exception.ErrorCode;
+import com.splendor.project.exception.GameLogicException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+
+import static com.splendor.project.domain.data.GemType.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 토큰 선택 검증의 성공/실패 비용 비교. (./gradlew benchmark 로 실행)
+ *
+ * - valid            : 규칙에 맞는 선택
+ * - invalid stackless: 규칙 위반 -> GameLogicException (stack trace 없음, 지금 방식)
+ * - invalid stackful : 규칙 위반 -> stack trace를 만드는 예외 (이전 방식)
+ * - invalid result   : 규칙 위반 -> 예외 없이 거절 사유만 확인 (checkPartialTokenAcquisition)
+ *
+ * 실제 서비스처럼 STOMP 핸들러 깊이에서 던져지도록 호출 스택을 DEPTH만큼 쌓은 뒤 측정합니다.
+ */
+@Tag("benchmark")
+class ValidationFailureBenchmarkTest {
+
+    private static final int WARMUP = 200_000;
+    private static final int ITERATIONS = 1_000_000;
+    private static final int DEPTH = 60;
+
+    private final TokenAcquisitionValidator validator = new TokenAcquisitionValidator();
+    private final Map<GemType, Integer> board = new EnumMap<>(Map.of(DIAMOND, 7, SAPPHIRE, 7, EMERALD, 7, RUBY, 7, ONYX, 7, GOLD, 5));
+    private final Map<GemType, Integer> validSelection = new EnumMap<>(Map.of(DIAMOND, 1, SAPPHIRE, 1));
+    private final Map<GemType, Integer> invalidSelection = new EnumMap<>(Map.of(DIAMOND, 2, SAPPHIRE, 1));
+
+    @Test
+    @DisplayName("stack trace 없는 규칙 위반 처리는 stack trace를 만드는 예외보다 빨라야 한다.")
+    void validationCost() {
+        double valid = measure(() -> validator.checkPartialTokenAcquisition(validSelection, board).isEmpty() ? 1 : 0);
+        double stackless = measure(() -> {
+            try {
+                validator.checkPartialTokenAcquisition(invalidSelection, board).ifPresent(rejection -> {
+                    throw new GameLogicException(rejection);
+                });
+                return 1;
+            } catch (GameLogicException e) {
+                return e.getErrorCode().ordinal();
+            }
+        });
+        double stackful = measure(() -> {
+            try {
+                Optional<ErrorCode> rejection = validator.checkPartialTokenAcquisition(invalidSelection, board);
+                if (rejection.isPresent()) {
+                    throw new IllegalStateException(rejection.get().getMessage());
+                }
+                return 1;
+            } catch (IllegalStateException e) {
+                return e.getStackTrace().length;
+            }
+        });
+        double result = measure(() -> validator.checkPartialTokenAcquisition(invalidSelection, board).map(Enum::ordinal).orElse(-1));
+
+        System.out.printf("depth=%d, iterations=%d%n", DEPTH, ITERATIONS);
+        System.out.printf("%-18s %8.1f ns/op%n", "valid", valid);
+        System.out.printf("%-18s %8.1f ns/op%n", "invalid stackless", stackless);
+        System.out.printf("%-18s %8.1f ns/op%n", "invalid stackful", stackful);
+        System.out.printf("%-18s %8.1f ns/op%n", "invalid result", result);
+
+        assertThat(stackless).isLessThan(stackful);
+    }
+
+    private static double measure(IntSupplier operation) {
+        atDepth(DEPTH, () -> loop(operation, WARMUP));
+        long start = System.nanoTime();
+        long sink = atDepth(DEPTH, () -> loop(operation, ITERATIONS));
+        long elapsed = System.nanoTime() - start;
+        assertThat(sink).isNotZero();
+        return (double) elapsed / ITERATIONS;
+    }
+
+    private static long loop(IntSupplier operation, int iterations) {
+        long sink = 0;
+        for (int i = 0; i < iterations; i++) {
+            sink += operation.getAsInt() + 1;
+        }
+        return sink;
+    }
+
+    private static long atDepth(int depth, LongSupplier body) {
+        return depth == 0 ? body.getAsLong() : atDepth(depth - 1, body);
+    }
+}
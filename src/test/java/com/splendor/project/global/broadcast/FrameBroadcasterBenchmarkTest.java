@@ -0,0 +1,168 @@
+package com.splendor.project.global.broadcast;
+
+import com.splendor.project.domain.game.GameFixtures;
+import com.splendor.project.domain.game.dto.response.GameStateDto;
+import com.splendor.project.domain.game.dto.response.WebSocketResponse;
+import com.splendor.project.domain.game.service.GameStaticDataLoader;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 브로드캐스트당 JSON 인코딩 횟수와 시간 측정. (./gradlew benchmark 로 실행)
+ *
+ * simple broker에 목적지(방) DESTINATIONS개 x 목적지당 구독자 N명을 붙이고, 같은 게임 상태를 모든 목적지로 보냅니다.
+ * - convertAndSend : 목적지마다 SimpMessagingTemplate.convertAndSend (이전 방식)
+ * - frame          : FrameBroadcaster로 한 번 인코딩한 프레임을 모든 목적지로
+ * 두 방식 모두 구독자에게는 브로커가 본문 byte[]를 그대로 넘기므로, 구독자 수는 인코딩 횟수에 영향을 주지 않아야 합니다.
+ */
+@Tag("benchmark")
+class FrameBroadcasterBenchmarkTest {
+
+    private static final int[] SUBSCRIBERS = {1, 10, 100, 1_000};
+    private static final int DESTINATIONS = 8;
+    private static final int BROADCASTS = 100;
+
+    @Test
+    @DisplayName("프레임 방식은 구독자와 목적지 수와 관계없이 브로드캐스트당 한 번만 인코딩해야 한다.")
+    void encodesPerBroadcast() {
+        GameStaticDataLoader staticDataLoader = new GameStaticDataLoader();
+        staticDataLoader.loadData();
+        WebSocketResponse<GameStateDto> payload = WebSocketResponse.success(GameFixtures.startedGame(staticDataLoader, 1L, 4));
+        System.out.printf("%-12s %-16s %14s %14s%n", "subscribers", "mode", "encodes/bcast", "us/bcast");
+
+        for (int subscribers : SUBSCRIBERS) {
+            // Given
+            Broker broker = new Broker(DESTINATIONS, subscribers);
+            List<String> destinations = broker.destinations();
+
+            // When: 이전 방식
+            broker.reset();
+            long start = System.nanoTime();
+            for (int i = 0; i < BROADCASTS; i++) {
+                destinations.forEach(destination -> broker.template.convertAndSend(destination, payload));
+            }
+            double convertMicros = (System.nanoTime() - start) / 1_000.0 / BROADCASTS;
+            double convertEncodes = (double) broker.converter.encodes.get() / BROADCASTS;
+
+            // When: 프레임
+            broker.reset();
+            start = System.nanoTime();
+            for (int i = 0; i < BROADCASTS; i++) {
+                broker.frameBroadcaster.publish(destinations, payload);
+            }
+            double frameMicros = (System.nanoTime() - start) / 1_000.0 / BROADCASTS;
+            double frameEncodes = (double) broker.converter.encodes.get() / BROADCASTS;
+
+            // Then
+            System.out.printf("%-12d %-16s %14.1f %14.1f%n", subscribers, "convertAndSend", convertEncodes, convertMicros);
+            System.out.printf("%-12d %-16s %14.1f %14.1f%n", subscribers, "frame", frameEncodes, frameMicros);
+
+            assertThat(convertEncodes).isEqualTo(DESTINATIONS);
+            assertThat(frameEncodes).isEqualTo(1);
+            assertThat(broker.delivered.get()).isEqualTo((long) BROADCASTS * DESTINATIONS * subscribers);
+
+            // 한 번의 브로드캐스트가 구독자들에게 전달한 본문 byte[] 수: 이전 방식은 목적지마다, 프레임은 하나
+            broker.reset();
+            destinations.forEach(destination -> broker.template.convertAndSend(destination, payload));
+            assertThat(broker.payloads).hasSize(DESTINATIONS);
+            broker.reset();
+            broker.frameBroadcaster.publish(destinations, payload);
+            assertThat(broker.payloads).hasSize(1);
+        }
+    }
+
+    // 인코딩 횟수를 세는 JSON 컨버터
+    private static class CountingConverter extends MappingJackson2MessageConverter {
+        private final AtomicInteger encodes = new AtomicInteger();
+
+        @Override
+        protected Object convertToInternal(Object payload, MessageHeaders headers, Object conversionHint) {
+            encodes.incrementAndGet();
+            return super.convertToInternal(payload, headers, conversionHint);
+        }
+    }
+
+    // 동기 채널로 연결한 simple broker와 구독자들
+    private static class Broker {
+        private final CountingConverter converter = new CountingConverter();
+        private final SimpMessagingTemplate template;
+        private final FrameBroadcaster frameBroadcaster;
+        private final List<String> destinations = new ArrayList<>();
+        private final AtomicLong delivered = new AtomicLong();
+        // reset 이후 구독자에게 전달된 서로 다른 본문 (인스턴스 기준)
+        private final Set<Object> payloads = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        Broker(int destinationCount, int subscribersPerDestination) {
+            ExecutorSubscribableChannel clientInbound = new ExecutorSubscribableChannel();
+            ExecutorSubscribableChannel clientOutbound = new ExecutorSubscribableChannel();
+            ExecutorSubscribableChannel brokerChannel = new ExecutorSubscribableChannel();
+            SimpleBrokerMessageHandler handler = new SimpleBrokerMessageHandler(clientInbound, clientOutbound, brokerChannel, List.of("/topic"));
+            handler.start();
+
+            clientOutbound.subscribe(this::onOutbound);
+
+            for (int room = 1; room <= destinationCount; room++) {
+                String destination = "/topic/game-screen/" + room;
+                destinations.add(destination);
+                for (int i = 0; i < subscribersPerDestination; i++) {
+                    String sessionId = "session-" + room + "-" + i;
+                    clientInbound.send(frame(SimpMessageType.CONNECT, sessionId, null));
+                    clientInbound.send(frame(SimpMessageType.SUBSCRIBE, sessionId, destination));
+                }
+            }
+
+            template = new SimpMessagingTemplate(brokerChannel);
+            template.setMessageConverter(converter);
+            frameBroadcaster = new FrameBroadcaster(template, new SimpleMeterRegistry());
+        }
+
+        List<String> destinations() {
+            return destinations;
+        }
+
+        void reset() {
+            converter.encodes.set(0);
+            delivered.set(0);
+            payloads.clear();
+        }
+
+        private void onOutbound(Message<?> message) {
+            if (SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) != SimpMessageType.MESSAGE) {
+                return;
+            }
+            delivered.incrementAndGet();
+            payloads.add(message.getPayload());
+        }
+
+        private static Message<byte[]> frame(SimpMessageType type, String sessionId, String destination) {
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(type);
+            accessor.setSessionId(sessionId);
+            if (destination != null) {
+                accessor.setSubscriptionId("sub-0");
+                accessor.setDestination(destination);
+            }
+            return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.splendor.project.global.broadcast;
+
+import com.splendor.project.domain.game.dto.response.WebSocketResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.util.MimeTypeUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FrameBroadcasterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SimpMessagingTemplate messagingTemplate;
+    private List<Message<?>> sent;
+    private FrameBroadcaster frameBroadcaster;
+
+    @BeforeEach
+    void setUp() {
+        ExecutorSubscribableChannel brokerChannel = new ExecutorSubscribableChannel();
+        sent = new ArrayList<>();
+        brokerChannel.subscribe(sent::add);
+        messagingTemplate = new SimpMessagingTemplate(brokerChannel);
+        messagingTemplate.setMessageConverter(new MappingJackson2MessageConverter());
+        meterRegistry = new SimpleMeterRegistry();
+        frameBroadcaster = new FrameBroadcaster(messagingTemplate, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("같은 본문을 여러 목적지로 보내면 한 번만 인코딩하고, 모든 메시지가 같은 본문 byte[]를 공유해야 한다.")
+    void publish_ShouldEncodeOnceForAllDestinations() {
+        // Given
+        WebSocketResponse<Map<String, Integer>> payload = WebSocketResponse.success(Map.of("DIAMOND", 3));
+
+        // When
+        frameBroadcaster.publish(List.of("/topic/rooms", "/topic/room/1", "/topic/room/2"), payload);
+
+        // Then
+        assertThat(meterRegistry.counter("splendor.broadcast.frames", "stage", "encoded").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("splendor.broadcast.frames", "stage", "sent").count()).isEqualTo(3);
+        assertThat(sent).hasSize(3);
+        assertThat(sent).extracting(message -> SimpMessageHeaderAccessor.getDestination(message.getHeaders()))
+                .containsExactly("/topic/rooms", "/topic/room/1", "/topic/room/2");
+        Object body = sent.get(0).getPayload();
+        assertThat(sent).allSatisfy(message -> {
+            assertThat(message.getPayload()).isSameAs(body);
+            assertThat(SimpMessageHeaderAccessor.getMessageType(message.getHeaders())).isEqualTo(SimpMessageType.MESSAGE);
+            assertThat(SimpMessageHeaderAccessor.wrap(message).getContentType().isCompatibleWith(MimeTypeUtils.APPLICATION_JSON)).isTrue();
+        });
+    }
+
+    @Test
+    @DisplayName("프레임으로 보낸 본문은 convertAndSend로 보낸 본문과 같아야 한다.")
+    void publish_ShouldSendSameBodyAsConvertAndSend() {
+        // Given
+        WebSocketResponse<String> payload = WebSocketResponse.error("방을 찾을 수 없습니다.");
+
+        // When
+        messagingTemplate.convertAndSend("/topic/game-screen/1", payload);
+        frameBroadcaster.publish("/topic/game-screen/1", payload);
+
+        // Then
+        assertThat((byte[]) sent.get(1).getPayload()).isEqualTo((byte[]) sent.get(0).getPayload());
+    }
+
+    @Test
+    @DisplayName("세션 하나에 보내면 그 세션의 user destination으로, 세션 id와 프레임을 붙여 보내야 한다.")
+    void publishToSession_ShouldSendToUserDestinationOfSession() {
+        // Given
+        WebSocketResponse<Map<String, Integer>> payload = WebSocketResponse.success(Map.of("DIAMOND", 1));
+
+        // When
+        frameBroadcaster.publishToSession("session-1", "/queue/game-select-token", payload);
+
+        // Then
+        assertThat(sent).hasSize(1);
+        Message<?> message = sent.get(0);
+        assertThat(SimpMessageHeaderAccessor.getDestination(message.getHeaders())).isEqualTo("/user/session-1/queue/game-select-token");
+        assertThat(SimpMessageHeaderAccessor.getSessionId(message.getHeaders())).isEqualTo("session-1");
+        assertThat(message.getHeaders().get(BroadcastFrame.HEADER)).isInstanceOf(BroadcastFrame.class);
+    }
+}
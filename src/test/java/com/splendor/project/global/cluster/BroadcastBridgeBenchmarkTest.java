@@ -0,0 +1,90 @@
+package com.splendor.project.global.cluster;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 두 로컬 노드 사이의 브로드캐스트 지연 측정. (./gradlew benchmark 로 실행)
+ *
+ * node-a에서 ROOMS개 방에 /topic 메시지를 보내고, node-b의 brokerChannel에 도착하기까지 걸린 시간을 잽니다.
+ * Redis pub/sub 대신 구독 스레드 하나로 배치를 넘기는 프로세스 내 채널을 씁니다. (네트워크 왕복은 포함되지 않음)
+ */
+@Tag("benchmark")
+class BroadcastBridgeBenchmarkTest {
+
+    private static final int ROOMS = 1_000;
+    private static final int MESSAGES_PER_ROOM = 20;
+
+    @ParameterizedTest(name = "batch-window={0}ms")
+    @ValueSource(longs = {1, 2, 5})
+    @DisplayName("node-a에서 보낸 방 토픽 메시지는 빠짐없이 한 번씩 node-b에 전달되어야 한다.")
+    void latency(long batchWindowMillis) throws Exception {
+        int messages = ROOMS * MESSAGES_PER_ROOM;
+        AtomicLongArray latencies = new AtomicLongArray(messages);
+        AtomicInteger delivered = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(messages);
+
+        MessageChannel brokerB = (message, timeout) -> {
+            ByteBuffer payload = ByteBuffer.wrap((byte[]) message.getPayload());
+            int index = payload.getInt();
+            latencies.set(index, System.nanoTime() - payload.getLong());
+            delivered.incrementAndGet();
+            done.countDown();
+            return true;
+        };
+        ExecutorService subscriber = Executors.newSingleThreadExecutor();
+        SimpleMeterRegistry registryA = new SimpleMeterRegistry();
+        BroadcastBridge nodeB = new BroadcastBridge("node-b", batch -> { }, brokerB, batchWindowMillis, new SimpleMeterRegistry());
+        BroadcastBridge nodeA = new BroadcastBridge("node-a", batch -> subscriber.execute(() -> nodeB.receive(batch)),
+                (message, timeout) -> true, batchWindowMillis, registryA);
+
+        for (int round = 0; round < MESSAGES_PER_ROOM; round++) {
+            for (int room = 0; room < ROOMS; room++) {
+                int index = round * ROOMS + room;
+                SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+                accessor.setDestination("/topic/game-screen/" + room);
+                accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+                byte[] payload = ByteBuffer.allocate(512).putInt(index).putLong(System.nanoTime()).array();
+                nodeA.preSend(MessageBuilder.createMessage(payload, accessor.getMessageHeaders()), null);
+            }
+            // 방마다 한 라운드씩 상태가 바뀌는 간격
+            TimeUnit.MICROSECONDS.sleep(500);
+        }
+        assertThat(done.await(1, TimeUnit.MINUTES)).isTrue();
+
+        long[] sorted = new long[messages];
+        for (int i = 0; i < messages; i++) {
+            sorted[i] = latencies.get(i);
+        }
+        Arrays.sort(sorted);
+        double batches = registryA.counter("splendor.broadcast.bridge.batches").count();
+        System.out.printf("batch-window=%dms, messages=%d, batches=%.0f (%.1f msg/batch)%n",
+                batchWindowMillis, messages, batches, messages / batches);
+        System.out.printf("latency p50=%.2fms p99=%.2fms max=%.2fms%n",
+                sorted[messages / 2] / 1e6, sorted[messages * 99 / 100] / 1e6, sorted[messages - 1] / 1e6);
+
+        nodeA.shutdown();
+        nodeB.shutdown();
+        subscriber.shutdown();
+        assertThat(delivered.get()).isEqualTo(messages);
+    }
+}
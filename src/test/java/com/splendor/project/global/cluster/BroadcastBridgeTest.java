@@ -0,0 +1,137 @@
+package com.splendor.project.global.cluster;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 한 JVM 안에 node-a, node-b 두 브리지를 두고, Redis 발행 대신 발행된 배치를 모아 두었다가 상대 노드에 직접 넘깁니다.
+ * (배치 주기는 길게 잡고 flush()를 직접 호출)
+ */
+class BroadcastBridgeTest {
+
+    private final List<byte[]> published = new CopyOnWriteArrayList<>();
+    private final List<Message<?>> deliveredToA = new CopyOnWriteArrayList<>();
+    private final List<Message<?>> deliveredToB = new CopyOnWriteArrayList<>();
+
+    private BroadcastBridge nodeA;
+    private BroadcastBridge nodeB;
+
+    @BeforeEach
+    void setUp() {
+        MessageChannel brokerA = (message, timeout) -> deliveredToA.add(message);
+        MessageChannel brokerB = (message, timeout) -> deliveredToB.add(message);
+        nodeA = new BroadcastBridge("node-a", published::add, brokerA, 60_000, new SimpleMeterRegistry());
+        nodeB = new BroadcastBridge("node-b", batch -> { }, brokerB, 60_000, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        nodeA.shutdown();
+        nodeB.shutdown();
+    }
+
+    private static Message<byte[]> topicMessage(String destination, String body) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(destination);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        return MessageBuilder.createMessage(body.getBytes(StandardCharsets.UTF_8), accessor.getMessageHeaders());
+    }
+
+    private static String body(Message<?> message) {
+        return new String((byte[]) message.getPayload(), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    @DisplayName("방 토픽 메시지는 로컬 broker로 그대로 전달되고, 방마다 한 배치로 발행되어 다른 노드에서 같은 순서로 전달되어야 한다.")
+    void preSend_ShouldBatchPerRoomAndDeliverInOrderOnOtherNode() {
+        // Given
+        Message<byte[]> first = topicMessage("/topic/game-screen/1", "{\"v\":1}");
+        Message<byte[]> second = topicMessage("/topic/game-screen/1", "{\"v\":2}");
+        Message<byte[]> otherRoom = topicMessage("/topic/game-screen/2", "{\"v\":1}");
+
+        // When
+        assertThat(nodeA.preSend(first, null)).isSameAs(first);
+        assertThat(nodeA.preSend(second, null)).isSameAs(second);
+        assertThat(nodeA.preSend(otherRoom, null)).isSameAs(otherRoom);
+        nodeA.flush();
+        published.forEach(nodeB::receive);
+
+        // Then: 방 1, 방 2 각각 한 배치
+        assertThat(published).hasSize(2);
+        assertThat(deliveredToB).extracting(message -> SimpMessageHeaderAccessor.wrap(message).getDestination() + " " + body(message))
+                .containsExactlyInAnyOrder("/topic/game-screen/1 {\"v\":1}", "/topic/game-screen/1 {\"v\":2}", "/topic/game-screen/2 {\"v\":1}");
+        List<String> roomOne = deliveredToB.stream()
+                .filter(message -> "/topic/game-screen/1".equals(SimpMessageHeaderAccessor.wrap(message).getDestination()))
+                .map(BroadcastBridgeTest::body)
+                .toList();
+        assertThat(roomOne).containsExactly("{\"v\":1}", "{\"v\":2}");
+        assertThat(SimpMessageHeaderAccessor.wrap(deliveredToB.get(0)).getContentType()).isEqualTo(MimeTypeUtils.APPLICATION_JSON);
+
+        // Then: 브리지로 받은 메시지는 다시 발행하지 않음
+        nodeB.preSend(deliveredToB.get(0), null);
+        nodeB.flush();
+        assertThat(published).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("배치 안에서 같은 목적지로 같은 본문이 반복되면 로컬과 다른 노드 모두 한 번만 받고, 이미 받은 배치는 다시 전달하지 않아야 한다.")
+    void receive_ShouldDropRepeatedFramesAndDuplicateBatches() {
+        // Given
+        Message<byte[]> first = topicMessage("/topic/game-screen/1", "{\"v\":1}");
+        Message<byte[]> repeated = topicMessage("/topic/game-screen/1", "{\"v\":1}");
+        Message<byte[]> second = topicMessage("/topic/game-screen/1", "{\"v\":2}");
+        assertThat(nodeA.preSend(first, null)).isSameAs(first);
+        // 반복된 메시지는 로컬 simple broker로도 보내지 않음
+        assertThat(nodeA.preSend(repeated, null)).isNull();
+        assertThat(nodeA.preSend(second, null)).isSameAs(second);
+        nodeA.flush();
+
+        // When: 같은 배치를 두 번 받음 (재발행/중복 구독)
+        nodeB.receive(published.get(0));
+        nodeB.receive(published.get(0));
+
+        // Then
+        assertThat(deliveredToB).extracting(BroadcastBridgeTest::body).containsExactly("{\"v\":1}", "{\"v\":2}");
+    }
+
+    @Test
+    @DisplayName("자신이 발행한 배치와 /topic 이외의 메시지는 전달하거나 발행하지 않아야 한다.")
+    void receive_ShouldIgnoreOwnBatchesAndNonTopicMessages() {
+        // Given
+        nodeA.preSend(topicMessage("/queue/errors", "{}"), null);
+        nodeA.flush();
+        assertThat(published).isEmpty();
+
+        // When: 자신이 발행한 배치가 구독으로 되돌아옴
+        nodeA.preSend(topicMessage("/topic/game-screen/3", "{}"), null);
+        nodeA.flush();
+        nodeA.receive(published.get(0));
+
+        // Then: 로컬 구독자는 이미 simple broker로 받았으므로 다시 전달하지 않음
+        assertThat(published).hasSize(1);
+        assertThat(deliveredToA).isEmpty();
+    }
+
+    @Test
+    @DisplayName("방 토픽은 방 id로, 그 외 토픽은 공용 키로 배치되어야 한다.")
+    void roomKeyOf_ShouldParseRoomTopic() {
+        assertThat(BroadcastBridge.roomKeyOf("/topic/game-screen/42")).isEqualTo(42L);
+        assertThat(BroadcastBridge.roomKeyOf("/topic/game-choice-screen/7")).isEqualTo(7L);
+        assertThat(BroadcastBridge.roomKeyOf("/topic/lobby")).isEqualTo(-1L);
+    }
+}
@@ -0,0 +1,59 @@
+package com.splendor.project.global.cluster;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConsistentHashRingTest {
+
+    private static final int ROOMS = 30_000;
+
+    @Test
+    @DisplayName("멤버 목록 순서와 관계없이 모든 노드가 같은 소유자를 계산하고, 방이 노드마다 고르게 나뉘어야 한다.")
+    void ownerOf_ShouldBeDeterministicAndBalanced() {
+        // Given
+        ConsistentHashRing ring = new ConsistentHashRing(List.of("node-a", "node-b", "node-c"), 128);
+        ConsistentHashRing reordered = new ConsistentHashRing(List.of("node-c", "node-a", "node-b"), 128);
+
+        // When
+        Map<String, Integer> counts = new HashMap<>();
+        for (long roomId = 1; roomId <= ROOMS; roomId++) {
+            assertThat(reordered.ownerOf(roomId)).isEqualTo(ring.ownerOf(roomId));
+            counts.merge(ring.ownerOf(roomId), 1, Integer::sum);
+        }
+
+        // Then: 이상적인 몫(1/3)에서 크게 벗어나지 않음
+        assertThat(counts).containsOnlyKeys("node-a", "node-b", "node-c");
+        assertThat(counts.values()).allSatisfy(count -> assertThat(count).isBetween(ROOMS / 4, ROOMS / 2));
+    }
+
+    @Test
+    @DisplayName("노드가 합류하면 새 노드로 가는 방만 소유자가 바뀌고, 떠나면 그 노드의 방만 다른 노드로 옮겨져야 한다.")
+    void ownerOf_ShouldMoveOnlyAffectedRoomsOnMembershipChange() {
+        // Given
+        ConsistentHashRing before = new ConsistentHashRing(List.of("node-a", "node-b", "node-c"), 128);
+        ConsistentHashRing joined = new ConsistentHashRing(List.of("node-a", "node-b", "node-c", "node-d"), 128);
+        ConsistentHashRing left = new ConsistentHashRing(List.of("node-a", "node-c"), 128);
+
+        // When
+        int movedOnJoin = 0;
+        for (long roomId = 1; roomId <= ROOMS; roomId++) {
+            String owner = before.ownerOf(roomId);
+            if (!joined.ownerOf(roomId).equals(owner)) {
+                movedOnJoin++;
+                assertThat(joined.ownerOf(roomId)).isEqualTo("node-d");
+            }
+            if (!owner.equals("node-b")) {
+                assertThat(left.ownerOf(roomId)).isEqualTo(owner);
+            }
+        }
+
+        // Then: 약 1/4만 이동
+        assertThat(movedOnJoin).isBetween(ROOMS / 8, ROOMS * 3 / 8);
+    }
+}
@@ -0,0 +1,139 @@
+package com.splendor.project.global.cluster;
+
+import com.splendor.project.contants.StompConstants;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 한 JVM 안에 node-a, node-b 두 노드를 두고, Redis 발행 대신 캡처한 프레임을 상대 노드에 직접 넘겨 전달 경로를 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class RoomActionForwarderTest {
+
+    @Mock
+    private RedisTemplate<String, byte[]> redisA;
+    @Mock
+    private RedisTemplate<String, byte[]> redisB;
+    @Mock
+    private MessageChannel inboundA;
+    @Mock
+    private MessageChannel inboundB;
+
+    private RoomOwnership ownershipA;
+    private RoomActionForwarder nodeA;
+    private RoomActionForwarder nodeB;
+
+    @BeforeEach
+    void setUp() {
+        ownershipA = new RoomOwnership("node-a", 64);
+        RoomOwnership ownershipB = new RoomOwnership("node-b", 64);
+        ownershipA.update(List.of("node-a", "node-b"));
+        ownershipB.update(List.of("node-a", "node-b"));
+        nodeA = new RoomActionForwarder(ownershipA, redisA, inboundA, new SimpleMeterRegistry());
+        nodeB = new RoomActionForwarder(ownershipB, redisB, inboundB, new SimpleMeterRegistry());
+    }
+
+    private static Message<byte[]> stompMessage(String destination, String body) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(destination);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setSessionId("session-1");
+        return MessageBuilder.createMessage(body.getBytes(StandardCharsets.UTF_8), accessor.getMessageHeaders());
+    }
+
+    @Test
+    @DisplayName("다른 노드가 소유한 방의 액션은 로컬에서 처리하지 않고 소유 노드로 전달되어, 소유 노드에서 같은 목적지로 처리되어야 한다.")
+    void preSend_ShouldForwardRemoteRoomActionToOwner() {
+        // Given
+        long remoteRoom = LongStream.rangeClosed(1, 100).filter(roomId -> !ownershipA.isLocal(roomId)).findFirst().orElseThrow();
+        String destination = "/app/game-select-token/" + remoteRoom;
+        String body = "{\"roomId\":" + remoteRoom + ",\"playerId\":\"host-id\",\"token\":\"DIAMOND\",\"selectStatus\":\"IS_SELECT\"}";
+
+        // When: node-a가 받음
+        Message<?> passed = nodeA.preSend(stompMessage(destination, body), inboundA);
+
+        // Then: node-b 채널로 발행
+        assertThat(passed).isNull();
+        ArgumentCaptor<Object> frame = ArgumentCaptor.forClass(Object.class);
+        verify(redisA).convertAndSend(eq(RoomActionForwarder.channelOf("node-b")), frame.capture());
+
+        // When: node-b가 구독으로 받음
+        nodeB.onMessage(new DefaultMessage(RoomActionForwarder.channelOf("node-b").getBytes(StandardCharsets.UTF_8),
+                (byte[]) frame.getValue()), null);
+
+        // Then: node-b의 inbound 채널에 같은 목적지/본문으로 들어가고, 다시 전달되지 않음
+        ArgumentCaptor<Message<?>> delivered = ArgumentCaptor.forClass(Message.class);
+        verify(inboundB).send(delivered.capture());
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(delivered.getValue());
+        assertThat(accessor.getDestination()).isEqualTo(destination);
+        assertThat(accessor.getContentType()).isEqualTo(MimeTypeUtils.APPLICATION_JSON);
+        assertThat(accessor.getSessionAttributes()).isNotNull();
+        assertThat(new String((byte[]) delivered.getValue().getPayload(), StandardCharsets.UTF_8)).isEqualTo(body);
+        assertThat(nodeB.preSend(delivered.getValue(), inboundB)).isSameAs(delivered.getValue());
+        verify(redisB, never()).convertAndSend(any(), any());
+    }
+
+    @Test
+    @DisplayName("이 노드가 소유한 방의 액션과 방 액션이 아닌 메시지는 그대로 로컬에서 처리되어야 한다.")
+    void preSend_ShouldPassLocalRoomActionAndOtherDestinations() {
+        // Given
+        long localRoom = LongStream.rangeClosed(1, 100).filter(ownershipA::isLocal).findFirst().orElseThrow();
+        Message<byte[]> local = stompMessage("/app/game-end-turn/" + localRoom, "");
+        Message<byte[]> other = stompMessage("/app/room/create", "{}");
+
+        // When & Then
+        assertThat(nodeA.preSend(local, inboundA)).isSameAs(local);
+        assertThat(nodeA.preSend(other, inboundA)).isSameAs(other);
+        verify(redisA, never()).convertAndSend(any(), any());
+    }
+
+    @Test
+    @DisplayName("소유 노드로 전달된 액션에도 클라이언트의 action-id 헤더와 원래 세션을 구분하는 가상 세션 id가 붙어 있어야 한다.")
+    void onMessage_ShouldKeepActionIdHeader() {
+        // Given
+        long remoteRoom = LongStream.rangeClosed(1, 100).filter(roomId -> !ownershipA.isLocal(roomId)).findFirst().orElseThrow();
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination("/app/game-end-turn/" + remoteRoom);
+        accessor.setSessionId("session-1");
+        accessor.setNativeHeader(StompConstants.ACTION_ID_HEADER, "end-turn-7");
+        nodeA.preSend(MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()), inboundA);
+        ArgumentCaptor<Object> frame = ArgumentCaptor.forClass(Object.class);
+        verify(redisA).convertAndSend(eq(RoomActionForwarder.channelOf("node-b")), frame.capture());
+
+        // When
+        nodeB.onMessage(new DefaultMessage(RoomActionForwarder.channelOf("node-b").getBytes(StandardCharsets.UTF_8),
+                (byte[]) frame.getValue()), null);
+
+        // Then
+        ArgumentCaptor<Message<?>> delivered = ArgumentCaptor.forClass(Message.class);
+        verify(inboundB).send(delivered.capture());
+        assertThat(SimpMessageHeaderAccessor.wrap(delivered.getValue()).getFirstNativeHeader(StompConstants.ACTION_ID_HEADER))
+                .isEqualTo("end-turn-7");
+        assertThat(SimpMessageHeaderAccessor.wrap(delivered.getValue()).getSessionId()).isEqualTo("forwarded:node-a:session-1");
+        assertThat(RoomActionForwarder.isForwardedSession("forwarded:node-a:session-1")).isTrue();
+    }
+}
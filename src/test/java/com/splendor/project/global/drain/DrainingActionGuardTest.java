@@ -0,0 +1,61 @@
+package com.splendor.project.global.drain;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DrainingActionGuardTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private DrainingActionGuard guard;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        guard = new DrainingActionGuard(meterRegistry);
+    }
+
+    private static Message<byte[]> message(SimpMessageType type, String destination) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(type);
+        if (destination != null) {
+            accessor.setDestination(destination);
+        }
+        accessor.setSessionId("session-1");
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private boolean passes(SimpMessageType type, String destination) {
+        Message<byte[]> message = message(type, destination);
+        return guard.preSend(message, null) == message;
+    }
+
+    @Test
+    @DisplayName("drain 전에는 방 액션을 그대로 통과시켜야 한다.")
+    void preSend_ShouldPassRoomActionsWhileOpen() {
+        // When & Then
+        assertThat(passes(SimpMessageType.MESSAGE, "/app/game-end-turn/1")).isTrue();
+        assertThat(meterRegistry.counter("splendor.drain.rejected").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("close 이후에는 방 상태를 바꾸는 액션만 버리고, 게임 시작이나 구독 같은 다른 메시지는 통과시켜야 한다.")
+    void preSend_ShouldRejectOnlyRoomActionsAfterClose() {
+        // Given
+        guard.close();
+
+        // When & Then
+        assertThat(passes(SimpMessageType.MESSAGE, "/app/game-select-token/1")).isFalse();
+        assertThat(passes(SimpMessageType.MESSAGE, "/app/game-end-turn/1")).isFalse();
+        assertThat(passes(SimpMessageType.MESSAGE, "/app/game-screen/1")).isTrue();
+        assertThat(passes(SimpMessageType.SUBSCRIBE, "/topic/game-screen/1")).isTrue();
+        assertThat(passes(SimpMessageType.DISCONNECT, null)).isTrue();
+        assertThat(meterRegistry.counter("splendor.drain.rejected").count()).isEqualTo(2);
+    }
+}
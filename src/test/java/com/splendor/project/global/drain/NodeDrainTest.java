@@ -0,0 +1,158 @@
+package com.splendor.project.global.drain;
+
+import com.splendor.project.domain.game.dto.response.WebSocketResponse;
+import com.splendor.project.domain.game.executor.GameStartAdmission;
+import com.splendor.project.domain.game.executor.ReactiveRoomActionPipeline;
+import com.splendor.project.domain.game.executor.RoomActionExecutor;
+import com.splendor.project.domain.game.repository.GameStateCache;
+import com.splendor.project.global.broadcast.BroadcastFrame;
+import com.splendor.project.global.broadcast.FrameBroadcaster;
+import com.splendor.project.global.cluster.ClusterMembership;
+import com.splendor.project.global.drain.NodeDrain.DrainReport;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NodeDrainTest {
+
+    @Mock
+    private GameStartAdmission gameStartAdmission;
+    @Mock
+    private GameStateCache gameStateCache;
+    @Mock
+    private FrameBroadcaster frameBroadcaster;
+    @Mock
+    private WebSocketSessionRegistry sessionRegistry;
+    @Mock
+    private ObjectProvider<ClusterMembership> clusterMembership;
+    @Mock
+    private ObjectProvider<ReactiveRoomActionPipeline> reactiveRoomActionPipeline;
+
+    private SimpleMeterRegistry meterRegistry;
+    private RoomActionExecutor roomActionExecutor;
+    private DrainingActionGuard drainingActionGuard;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        roomActionExecutor = new RoomActionExecutor(2, 16, meterRegistry);
+        drainingActionGuard = new DrainingActionGuard(meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        roomActionExecutor.shutdown();
+    }
+
+    private NodeDrain nodeDrain(Duration timeout) {
+        return new NodeDrain(gameStartAdmission, roomActionExecutor, reactiveRoomActionPipeline, drainingActionGuard,
+                gameStateCache, frameBroadcaster, sessionRegistry, clusterMembership, timeout, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("drain은 새 게임 시작을 막고, 방마다 상태를 넘긴 뒤 재연결 안내를 보내고 세션을 닫아야 한다. (다시 호출해도 한 번만 실행)")
+    void drain_ShouldHandOffEveryRoomAndCloseSessions() {
+        // Given
+        NodeDrain nodeDrain = nodeDrain(Duration.ofSeconds(5));
+        when(gameStateCache.cachedRoomIds()).thenReturn(Set.of(1L, 2L));
+        when(sessionRegistry.closeAll()).thenReturn(4);
+        BroadcastFrame frame = mock(BroadcastFrame.class);
+        when(frameBroadcaster.encode(any())).thenReturn(frame);
+
+        // When
+        DrainReport report = nodeDrain.drain();
+        DrainReport again = nodeDrain.drain();
+
+        // Then
+        verify(gameStartAdmission).stopAccepting();
+        verify(clusterMembership).ifAvailable(any());
+        assertThat(drainingActionGuard.isOpen()).isFalse();
+        verify(gameStateCache).handOff(1L);
+        verify(gameStateCache).handOff(2L);
+        // 재연결 안내는 한 번만 인코딩해 모든 방에 같은 프레임으로 보냄
+        ArgumentCaptor<Object> notice = ArgumentCaptor.forClass(Object.class);
+        verify(frameBroadcaster, times(1)).encode(notice.capture());
+        verify(frameBroadcaster).publish("/topic/game-screen/1", frame);
+        verify(frameBroadcaster).publish("/topic/game-screen/2", frame);
+        assertThat(((WebSocketResponse<?>) notice.getValue()).getStatus()).isEqualTo("RECONNECT");
+        verify(sessionRegistry, times(1)).closeAll();
+
+        assertThat(report).isSameAs(again);
+        assertThat(report.rooms()).isEqualTo(2);
+        assertThat(report.handedOff()).isEqualTo(2);
+        assertThat(report.sessions()).isEqualTo(4);
+        assertThat(report.completed()).isTrue();
+        assertThat(nodeDrain.state()).isEqualTo(NodeDrain.State.DRAINED);
+        assertThat(meterRegistry.timer("splendor.drain.handoff").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("방 액션이 timeout 안에 끝나지 않아도 drain은 제한 시간 안에 세션을 닫고 끝나야 한다.")
+    void drain_ShouldFinishWithinTimeout() throws Exception {
+        // Given: 끝나지 않는 방 액션
+        CountDownLatch release = new CountDownLatch(1);
+        roomActionExecutor.execute(1L, () -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        NodeDrain nodeDrain = nodeDrain(Duration.ofMillis(100));
+        when(gameStateCache.cachedRoomIds()).thenReturn(Set.of(1L));
+
+        // When
+        long start = System.nanoTime();
+        DrainReport report = nodeDrain.drain();
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        release.countDown();
+
+        // Then
+        assertThat(elapsedMillis).isLessThan(2_000);
+        assertThat(report.completed()).isFalse();
+        assertThat(report.handedOff()).isZero();
+        verify(gameStateCache, never()).handOff(anyLong());
+        verify(frameBroadcaster, never()).publish(anyString(), any(BroadcastFrame.class));
+        verify(sessionRegistry).closeAll();
+    }
+
+    @Test
+    @DisplayName("reactive 파이프라인에서 진행 중인 액션이 끝나지 않으면 drain은 방을 넘기지 않고 timeout으로 끝나야 한다.")
+    void drain_ShouldWaitForReactivePipeline() {
+        // Given: 끝나지 않는 reactive 방 액션
+        ReactiveRoomActionPipeline pipeline = new ReactiveRoomActionPipeline(10, Duration.ofSeconds(5), meterRegistry);
+        pipeline.submit(1L, Mono::never);
+        when(reactiveRoomActionPipeline.getIfAvailable()).thenReturn(pipeline);
+        NodeDrain nodeDrain = nodeDrain(Duration.ofMillis(100));
+        when(gameStateCache.cachedRoomIds()).thenReturn(Set.of(1L));
+
+        // When
+        DrainReport report = nodeDrain.drain();
+
+        // Then
+        assertThat(pipeline.inFlight()).isEqualTo(1);
+        assertThat(report.completed()).isFalse();
+        verify(gameStateCache, never()).handOff(anyLong());
+        verify(sessionRegistry).closeAll();
+    }
+}
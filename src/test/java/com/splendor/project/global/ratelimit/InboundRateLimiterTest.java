@@ -0,0 +1,125 @@
+package com.splendor.project.global.ratelimit;
+
+import com.splendor.project.global.cluster.RoomActionForwarder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InboundRateLimiterTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private SimpleMeterRegistry meterRegistry;
+    private InboundRateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // 세션: 초당 1개, 최대 2개 / 방: 초당 2개, 최대 3개
+        limiter = new InboundRateLimiter(
+                Map.of("game-select-token", new RateBudget(1, 2)),
+                Map.of("game-select-token", new RateBudget(2, 3)),
+                meterRegistry, now::get);
+    }
+
+    private static Message<byte[]> message(SimpMessageType type, String destination, String sessionId) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(type);
+        if (destination != null) {
+            accessor.setDestination(destination);
+        }
+        accessor.setSessionId(sessionId);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private boolean passes(String destination, String sessionId) {
+        Message<byte[]> message = message(SimpMessageType.MESSAGE, destination, sessionId);
+        return limiter.preSend(message, null) == message;
+    }
+
+    private double rejected(String scope) {
+        return meterRegistry.counter("splendor.ratelimit.rejected", "destination", "game-select-token", "scope", scope).count();
+    }
+
+    @Test
+    @DisplayName("한 세션이 허용량을 넘겨 보낸 메시지는 버려지고, 시간이 지나 토큰이 채워지면 다시 통과해야 한다.")
+    void preSend_ShouldRejectSessionOverBudgetUntilRefilled() {
+        // When
+        boolean first = passes("/app/game-select-token/1", "session-1");
+        boolean second = passes("/app/game-select-token/1", "session-1");
+        boolean third = passes("/app/game-select-token/1", "session-1");
+
+        // Then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(third).isFalse();
+        assertThat(rejected("session")).isEqualTo(1);
+
+        // When: 1초 뒤
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+
+        // Then
+        assertThat(passes("/app/game-select-token/1", "session-1")).isTrue();
+    }
+
+    @Test
+    @DisplayName("한 방에 여러 세션이 보낸 메시지는 방 허용량을 함께 나눠 써야 한다.")
+    void preSend_ShouldShareRoomBudgetAcrossSessions() {
+        // When
+        int passed = 0;
+        for (String sessionId : new String[]{"session-1", "session-1", "session-2", "session-2"}) {
+            passed += passes("/app/game-select-token/7", sessionId) ? 1 : 0;
+        }
+
+        // Then
+        assertThat(passed).isEqualTo(3);
+        assertThat(rejected("room")).isEqualTo(1);
+        assertThat(passes("/app/game-select-token/8", "session-2")).isTrue();
+    }
+
+    @Test
+    @DisplayName("허용량이 없는 목적지, 다른 노드가 전달한 액션은 제한하지 않고, 연결이 끊긴 세션의 bucket은 정리되어야 한다.")
+    void preSend_ShouldSkipUnlimitedAndForwardedMessagesAndResetOnDisconnect() {
+        // Given
+        passes("/app/game-select-token/1", "session-1");
+        passes("/app/game-select-token/2", "session-1");
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination("/app/game-select-token/3");
+        accessor.setSessionId("forwarded:node-b");
+        accessor.setHeader(RoomActionForwarder.FORWARDED_HEADER, "node-b");
+        Message<byte[]> forwarded = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+
+        // When & Then
+        assertThat(passes("/app/game-end-turn/1", "session-1")).isTrue();
+        assertThat(limiter.preSend(forwarded, null)).isSameAs(forwarded);
+        assertThat(passes("/app/game-select-token/3", "session-1")).isFalse();
+
+        limiter.preSend(message(SimpMessageType.DISCONNECT, null, "session-1"), null);
+        assertThat(passes("/app/game-select-token/3", "session-1")).isTrue();
+    }
+
+    @Test
+    @DisplayName("한동안 메시지가 없어 가득 찬 방 bucket은 정리되어야 한다.")
+    void sweep_ShouldRemoveFullRoomBuckets() {
+        // Given
+        passes("/app/game-select-token/1", "session-1");
+        passes("/app/game-select-token/2", "session-2");
+        assertThat(limiter.trackedRooms()).isEqualTo(2);
+
+        // When
+        now.addAndGet(TimeUnit.SECONDS.toNanos(5));
+        limiter.sweep();
+
+        // Then
+        assertThat(limiter.trackedRooms()).isZero();
+    }
+}
@@ -0,0 +1,68 @@
+package com.splendor.project.global.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTest {
+
+    @Test
+    @DisplayName("여러 스레드가 같은 시각에 꺼내도 burst개만 통과해야 한다.")
+    void tryAcquire_ShouldAllowExactlyBurstConcurrently() throws Exception {
+        // Given
+        TokenBucket bucket = new TokenBucket(new RateBudget(10, 50), 0);
+        AtomicInteger acquired = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < 8; i++) {
+            threads.add(Thread.ofPlatform().start(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                for (int j = 0; j < 100; j++) {
+                    if (bucket.tryAcquire(0)) {
+                        acquired.incrementAndGet();
+                    }
+                }
+            }));
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // Then
+        assertThat(acquired.get()).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("초당 허용량만큼 다시 채워지고, burst를 넘겨 쌓이지 않아야 한다.")
+    void tryAcquire_ShouldRefillAtRateUpToBurst() {
+        // Given
+        TokenBucket bucket = new TokenBucket(new RateBudget(2, 2), 0);
+        long oneSecond = TimeUnit.SECONDS.toNanos(1);
+
+        // When & Then
+        assertThat(bucket.tryAcquire(0)).isTrue();
+        assertThat(bucket.tryAcquire(0)).isTrue();
+        assertThat(bucket.tryAcquire(0)).isFalse();
+        assertThat(bucket.tryAcquire(oneSecond / 2)).isTrue();
+        assertThat(bucket.tryAcquire(oneSecond / 2)).isFalse();
+
+        assertThat(bucket.isFull(10 * oneSecond)).isTrue();
+        assertThat(bucket.tryAcquire(10 * oneSecond)).isTrue();
+        assertThat(bucket.tryAcquire(10 * oneSecond)).isTrue();
+        assertThat(bucket.tryAcquire(10 * oneSecond)).isFalse();
+    }
+}
@@ -0,0 +1,151 @@
+package com.splendor.project.global.wire;
+
+import com.splendor.project.domain.game.codec.GameStateCodec;
+import com.splendor.project.domain.game.codec.GameWireCodec;
+import com.splendor.project.domain.game.dto.response.ResponseTokenDto;
+import com.splendor.project.domain.game.dto.response.WebSocketResponse;
+import com.splendor.project.domain.game.service.GameStaticDataLoader;
+import com.splendor.project.global.broadcast.FrameBroadcaster;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeTypeUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static com.splendor.project.contants.StompConstants.ACCEPT_CONTENT_TYPE_HEADER;
+import static com.splendor.project.domain.data.GemType.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WireFormatNegotiatorTest {
+
+    private static final String BINARY_SESSION = "binary-session";
+    private static final String JSON_SESSION = "json-session";
+
+    private SimpleMeterRegistry meterRegistry;
+    private GameWireCodec gameWireCodec;
+    private WireFormatNegotiator negotiator;
+    private List<Message<?>> sent;
+    private FrameBroadcaster frameBroadcaster;
+
+    @BeforeEach
+    void setUp() {
+        GameStaticDataLoader staticDataLoader = new GameStaticDataLoader();
+        staticDataLoader.loadData();
+        gameWireCodec = new GameWireCodec(new GameStateCodec(staticDataLoader));
+        meterRegistry = new SimpleMeterRegistry();
+        negotiator = new WireFormatNegotiator(gameWireCodec, meterRegistry);
+
+        ExecutorSubscribableChannel brokerChannel = new ExecutorSubscribableChannel();
+        sent = new ArrayList<>();
+        brokerChannel.subscribe(sent::add);
+        SimpMessagingTemplate messagingTemplate = new SimpMessagingTemplate(brokerChannel);
+        messagingTemplate.setMessageConverter(new MappingJackson2MessageConverter());
+        frameBroadcaster = new FrameBroadcaster(messagingTemplate, meterRegistry);
+
+        negotiator.preSend(connect(BINARY_SESSION, WireFormat.BINARY.toString()), null);
+        negotiator.preSend(connect(JSON_SESSION, null), null);
+    }
+
+    @Test
+    @DisplayName("CONNECT에서 바이너리를 고른 세션만 브로드캐스트를 바이너리로 받고, 바이너리 본문은 한 번만 인코딩해야 한다.")
+    void preSend_ShouldConvertBroadcastForBinarySessions() {
+        // Given
+        WebSocketResponse<ResponseTokenDto> payload = WebSocketResponse.success(new ResponseTokenDto(Map.of(DIAMOND, 2, GOLD, 1)));
+        frameBroadcaster.publish("/topic/game-screen/1", payload);
+        Message<?> broadcast = sent.get(0);
+
+        // When
+        Message<?> toBinary = negotiator.preSend(deliver(broadcast, BINARY_SESSION), null);
+        Message<?> toBinaryAgain = negotiator.preSend(deliver(broadcast, BINARY_SESSION), null);
+        Message<?> toJson = negotiator.preSend(deliver(broadcast, JSON_SESSION), null);
+
+        // Then
+        assertThat(SimpMessageHeaderAccessor.wrap(toBinary).getContentType()).isEqualTo(WireFormat.BINARY);
+        assertThat(gameWireCodec.decode((byte[]) toBinary.getPayload())).isEqualTo(payload);
+        assertThat(toBinaryAgain.getPayload()).isSameAs(toBinary.getPayload());
+        assertThat(toJson.getPayload()).isSameAs(broadcast.getPayload());
+        assertThat(SimpMessageHeaderAccessor.wrap(toJson).getContentType().isCompatibleWith(MimeTypeUtils.APPLICATION_JSON)).isTrue();
+        assertThat(meterRegistry.counter("splendor.wire.messages", "format", "binary").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("스키마가 없는 본문과 DISCONNECT 이후의 세션은 JSON 그대로 받아야 한다.")
+    void preSend_ShouldKeepJsonForUnsupportedPayloadAndClosedSession() {
+        // Given
+        frameBroadcaster.publish("/topic/rooms/1", WebSocketResponse.success(Map.of("DIAMOND", 1)));
+        frameBroadcaster.publish("/topic/game-screen/1", WebSocketResponse.success(1));
+
+        // When
+        Message<?> unsupported = negotiator.preSend(deliver(sent.get(0), BINARY_SESSION), null);
+        negotiator.preSend(message(SimpMessageType.DISCONNECT, BINARY_SESSION), null);
+        Message<?> afterDisconnect = negotiator.preSend(deliver(sent.get(1), BINARY_SESSION), null);
+
+        // Then
+        assertThat(unsupported.getPayload()).isSameAs(sent.get(0).getPayload());
+        assertThat(afterDisconnect.getPayload()).isSameAs(sent.get(1).getPayload());
+        assertThat(negotiator.prefersBinary(BINARY_SESSION)).isFalse();
+    }
+
+    @Test
+    @DisplayName("컨버터는 바이너리 세션 하나에만 보내는 응답만 바이너리로 변환하고, 브로드캐스트와 JSON 세션은 넘겨야 한다.")
+    void converter_ShouldEncodeOnlySessionRepliesForBinarySessions() {
+        // Given
+        BinaryWireMessageConverter converter = new BinaryWireMessageConverter(gameWireCodec, negotiator);
+        WebSocketResponse<Integer> payload = WebSocketResponse.queued(2, "게임 시작 대기 중입니다.");
+
+        // When
+        Message<?> reply = converter.toMessage(payload, reply(BINARY_SESSION, "sub-0").getMessageHeaders());
+        Message<?> broadcast = converter.toMessage(payload, reply(BINARY_SESSION, null).getMessageHeaders());
+        Message<?> jsonReply = converter.toMessage(payload, reply(JSON_SESSION, "sub-0").getMessageHeaders());
+
+        // Then
+        assertThat(reply).isNotNull();
+        assertThat(SimpMessageHeaderAccessor.wrap(reply).getContentType()).isEqualTo(WireFormat.BINARY);
+        assertThat(converter.fromMessage(reply, WebSocketResponse.class)).isEqualTo(payload);
+        assertThat(broadcast).isNull();
+        assertThat(jsonReply).isNull();
+    }
+
+    private static Message<byte[]> connect(String sessionId, String accept) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.CONNECT);
+        accessor.setSessionId(sessionId);
+        if (accept != null) {
+            accessor.setNativeHeader(ACCEPT_CONTENT_TYPE_HEADER, accept);
+        }
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private static Message<byte[]> message(SimpMessageType type, String sessionId) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(type);
+        accessor.setSessionId(sessionId);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    // simple broker가 구독자에게 보내는 메시지: 발행한 메시지의 헤더 + 구독자 세션
+    private static Message<?> deliver(Message<?> broadcast, String sessionId) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId("sub-0");
+        accessor.copyHeadersIfAbsent(broadcast.getHeaders());
+        return MessageBuilder.createMessage(broadcast.getPayload(), accessor.getMessageHeaders());
+    }
+
+    private static SimpMessageHeaderAccessor reply(String sessionId, String subscriptionId) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setLeaveMutable(true);
+        return accessor;
+    }
+}